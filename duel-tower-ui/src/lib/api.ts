@@ -218,8 +218,14 @@ export async function createSession(gmId: string): Promise<CreateSessionResponse
   return { ...raw, state: adaptSessionSnapshot(raw?.state ?? {}) }
 }
 
-export async function getSessionState(code: string): Promise<SessionSnapshot> {
-  const raw = await request<any>(`/api/sessions/${encodeURIComponent(code)}`)
+// 토큰에 따라 보이는 범위가 다르다(GM: 전부, 플레이어: 본인 손패, 없으면 관전)
+export async function getSessionState(code: string, gmToken?: string, playerToken?: string): Promise<SessionSnapshot> {
+  const raw = await request<any>(`/api/sessions/${encodeURIComponent(code)}`, undefined, {
+    gmToken,
+    playerToken,
+    includeGmToken: true,
+    includePlayerToken: true,
+  })
   return adaptSessionSnapshot(raw)
 }
 
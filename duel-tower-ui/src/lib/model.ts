@@ -32,8 +32,11 @@ export type PendingDecision = {
 
 export type PlayerState = {
   playerId: string
-  deck: string[]
-  hand: string[]
+  deck: string[] // GM에게만 채워진다
+  hand: string[] // GM/본인에게만 채워진다
+  deckCount: number
+  handCount: number
+  deckDefIds: string[] // 덱 구성(정렬, 순서 없음). GM/본인에게만 채워진다
   grave: string[]
   field: string[]
   excluded: string[]
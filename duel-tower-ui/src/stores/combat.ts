@@ -45,7 +45,7 @@ export async function refreshState() {
   const code = (s.code || '').trim()
   if (!code) return
   try {
-    const state = await getSessionState(code)
+    const state = await getSessionState(code, s.gmToken, s.playerToken)
     combat.update((c) => ({ ...c, state, lastError: undefined, lastSyncAt: new Date().toISOString() }))
   } catch (e) {
     combat.update((c) => ({ ...c, lastError: explainApiError(e) }))
@@ -73,8 +73,8 @@ export function error(title: string, message?: string) {
 export function pushEngineEvents(events: EngineEvent[]) {
   for (const ev of events) {
     if (ev.type === 'LOG_APPENDED') {
-      const line = String(ev.payload?.line ?? '')
-      info('LOG', line)
+      // 서버가 연속된 로그 줄을 줄바꿈으로 합쳐 보낸다
+      for (const line of String(ev.payload?.line ?? '').split('\n')) info('LOG', line)
     } else if (ev.type === 'PENDING_DECISION_SET') {
       const pid = String(ev.payload?.playerId ?? '')
       const reason = String(ev.payload?.reason ?? '')
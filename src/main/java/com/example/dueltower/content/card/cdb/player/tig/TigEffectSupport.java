@@ -1,11 +1,11 @@
 package com.example.dueltower.content.card.cdb.player.tig;
 
 import com.example.dueltower.common.util.DiceUtility;
-import com.example.dueltower.content.keyword.kdb.K003_Installed;
 import com.example.dueltower.content.status.sdb.player.tig.Tig201_Status;
 import com.example.dueltower.engine.core.ZoneOps;
 import com.example.dueltower.engine.core.effect.EffectContext;
 import com.example.dueltower.engine.core.effect.keyword.DiscardReason;
+import com.example.dueltower.engine.core.effect.keyword.KeywordCaps;
 import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
@@ -55,7 +55,7 @@ final class TigEffectSupport {
             for (Ids.CardInstId id : field) {
                 if (destroyed >= maxCount) return destroyed;
                 if (id.equals(ec.cardId())) continue;
-                if (!KeywordOps.hasKeyword(ec.state(), ec.ctx(), id, K003_Installed.ID)) continue;
+                if (!KeywordOps.hasCap(ec.state(), ec.ctx(), id, KeywordCaps.INSTALLED)) continue;
                 ZoneOps.moveToZoneOrVanishIfToken(ec.state(), ec.ctx(), ps, id, Zone.GRAVE, ec.out());
                 destroyed++;
             }
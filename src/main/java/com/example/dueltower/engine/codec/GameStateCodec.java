@@ -0,0 +1,579 @@
+package com.example.dueltower.engine.codec;
+
+import com.example.dueltower.content.card.model.OwnedCard;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * GameState 전용 바이너리 코덱(스냅샷/복제용).
+ *
+ * 포맷 규칙
+ * - 헤더: MAGIC(int) + FORMAT_VERSION(byte). 버전이 다르면 decode가 거부한다.
+ * - 정수는 zigzag varint, UUID는 long 2개, enum은 name 문자열.
+ * - 문자열은 인코딩 1회 동안 인터닝: 처음 등장 시 본문을 쓰고 이후에는 인덱스만 쓴다.
+ * - HashMap 기반 컬렉션(cardInstances, summons)은 UUID 순으로 써서 같은 상태면 같은 바이트가 나온다.
+ *
+ * 필드를 추가/변경하면 FORMAT_VERSION을 올리고 decode에 이전 버전 분기를 둔다.
+ */
+public final class GameStateCodec {
+    private GameStateCodec() {}
+
+    public static final int MAGIC = 0x44544753; // "DTGS"
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte PD_NONE = 0;
+    private static final byte PD_DISCARD = 1;
+    private static final byte PD_SEARCH_PICK = 2;
+    private static final byte PD_INITIATIVE_TIE = 3;
+
+    private static final byte REF_PLAYER = 0;
+    private static final byte REF_ENEMY = 1;
+    private static final byte REF_SUMMON = 2;
+
+    private static final Comparator<CardInstId> CARD_ID_ORDER = Comparator.comparing(CardInstId::value);
+    private static final Comparator<SummonInstId> SUMMON_ID_ORDER = Comparator.comparing(SummonInstId::value);
+
+    // =========================
+    // encode
+    // =========================
+
+    public static byte[] encode(GameState state) {
+        Objects.requireNonNull(state, "state");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (Writer w = new Writer(new DataOutputStream(bytes))) {
+            w.out.writeInt(MAGIC);
+            w.out.writeByte(FORMAT_VERSION);
+
+            w.uuid(state.sessionId().value());
+            w.out.writeLong(state.seed());
+            w.out.writeLong(state.version());
+            w.string(state.nodeState().name());
+
+            w.varint(state.players().size());
+            for (PlayerState ps : state.players().values()) writePlayer(w, ps);
+
+            w.varint(state.enemies().size());
+            for (EnemyState es : state.enemies().values()) writeEnemy(w, es);
+
+            List<CardInstId> cardIds = new ArrayList<>(state.cardInstances().keySet());
+            cardIds.sort(CARD_ID_ORDER);
+            w.varint(cardIds.size());
+            for (CardInstId id : cardIds) writeCard(w, state.cardInstances().get(id));
+
+            List<SummonInstId> summonIds = new ArrayList<>(state.summons().keySet());
+            summonIds.sort(SUMMON_ID_ORDER);
+            w.varint(summonIds.size());
+            for (SummonInstId id : summonIds) writeSummon(w, state.summons().get(id));
+
+            w.out.writeBoolean(state.combat() != null);
+            if (state.combat() != null) writeCombat(w, state.combat());
+        } catch (IOException e) {
+            // ByteArrayOutputStream 기반이라 실제로는 발생하지 않는다.
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writePlayer(Writer w, PlayerState ps) throws IOException {
+        w.string(ps.playerId().value());
+
+        w.varint(ps.deck().size());
+        for (CardInstId id : ps.deck()) w.uuid(id.value());
+        w.cardIds(ps.hand());
+        w.cardIds(ps.grave());
+        w.cardIds(ps.field());
+        w.cardIds(ps.excluded());
+
+        w.varint(ps.activeSummons().size());
+        for (SummonInstId id : ps.activeSummons()) w.uuid(id.value());
+        w.varint(ps.summonByCard().size());
+        for (Map.Entry<CardInstId, SummonInstId> e : ps.summonByCard().entrySet()) {
+            w.uuid(e.getKey().value());
+            w.uuid(e.getValue().value());
+        }
+
+        w.nullableUuid(ps.exCard() == null ? null : ps.exCard().value());
+        w.varint(ps.exCooldownUntilRound());
+        w.out.writeBoolean(ps.exActivatable());
+
+        w.out.writeBoolean(ps.swappedThisTurn());
+        w.varint(ps.cardsPlayedThisTurn());
+        w.out.writeBoolean(ps.usedExThisTurn());
+        w.out.writeBoolean(ps.usedTenacityThisTurn());
+        w.varint(ps.tenacityDebtThisTurn());
+
+        writePendingDecision(w, ps.pendingDecision());
+
+        w.varint(ps.body());
+        w.varint(ps.skill());
+        w.varint(ps.sense());
+        w.varint(ps.will());
+        w.varint(ps.hp());
+        w.varint(ps.ap());
+
+        w.counters(ps.statusValues());
+
+        w.varint(ps.passiveIds().size());
+        for (String id : ps.passiveIds()) w.string(id);
+
+        w.varint(ps.ownedCards().size());
+        for (OwnedCard c : ps.ownedCards()) {
+            w.string(c.cardId());
+            w.out.writeByte((c.strengthened() ? 1 : 0) | (c.weakened() ? 2 : 0) | (c.lockedInDeck() ? 4 : 0));
+        }
+    }
+
+    private static void writePendingDecision(Writer w, PendingDecision pd) throws IOException {
+        if (pd == null) {
+            w.out.writeByte(PD_NONE);
+        } else if (pd instanceof PendingDecision.DiscardToHandLimit d) {
+            w.out.writeByte(PD_DISCARD);
+            w.string(d.reason());
+            w.varint(d.limit());
+        } else if (pd instanceof PendingDecision.SearchPick sp) {
+            w.out.writeByte(PD_SEARCH_PICK);
+            w.string(sp.reason());
+            w.cardIds(sp.candidateIds());
+            w.varint(sp.pickCount());
+            w.string(sp.destination().name());
+            w.out.writeBoolean(sp.shuffleAfterPick());
+            w.nullableUuid(sp.correlationId());
+        } else if (pd instanceof PendingDecision.InitiativeTieOrder it) {
+            w.out.writeByte(PD_INITIATIVE_TIE);
+            w.string(it.reason());
+            w.varint(it.groupIndex());
+            w.strings(it.actorKeys());
+        } else {
+            throw new IllegalArgumentException("unknown pending decision: " + pd);
+        }
+    }
+
+    private static void writeEnemy(Writer w, EnemyState es) throws IOException {
+        w.string(es.enemyId().value());
+        w.varint(es.maxHp());
+        w.varint(es.hp());
+        w.varint(es.ap());
+        w.varint(es.attackPower());
+        w.varint(es.healPower());
+        w.nullableUuid(es.exCard() == null ? null : es.exCard().value());
+        w.varint(es.exCooldownUntilRound());
+        w.out.writeBoolean(es.exActivatable());
+        w.out.writeBoolean(es.usedExThisTurn());
+        w.counters(es.statusValues());
+    }
+
+    private static void writeCard(Writer w, CardInstance ci) throws IOException {
+        w.uuid(ci.instanceId().value());
+        w.string(ci.defId().value());
+        w.string(ci.ownerId() == null ? null : ci.ownerId().value());
+        w.string(ci.zone().name());
+        w.counters(ci.counters());
+        w.out.writeByte((ci.fieldEffectActive() ? 1 : 0) | (ci.fieldEffectTransitioning() ? 2 : 0));
+    }
+
+    private static void writeSummon(Writer w, SummonState s) throws IOException {
+        w.uuid(s.id().value());
+        w.string(s.owner().value());
+        w.nullableUuid(s.sourceCardId() == null ? null : s.sourceCardId().value());
+        w.varint(s.hp());
+        w.varint(s.maxHp());
+        w.varint(s.atk());
+        w.varint(s.heal());
+        w.varint(s.actionCost());
+        w.out.writeBoolean(s.actionUsedThisTurn());
+        w.counters(s.statusValues());
+    }
+
+    private static void writeCombat(Writer w, CombatState cs) throws IOException {
+        w.varint(cs.round());
+        w.varint(cs.currentTurnIndex());
+        w.string(cs.phase().name());
+
+        w.varint(cs.turnOrder().size());
+        for (TargetRef ref : cs.turnOrder()) writeTargetRef(w, ref);
+
+        for (CombatState.FactionId f : CombatState.FactionId.values()) {
+            w.counters(cs.factionStatusValues(f));
+        }
+
+        w.counters(cs.initiatives());
+
+        w.varint(cs.initiativeTieGroups().size());
+        for (List<String> group : cs.initiativeTieGroups()) w.strings(group);
+    }
+
+    private static void writeTargetRef(Writer w, TargetRef ref) throws IOException {
+        if (ref instanceof TargetRef.Player p) {
+            w.out.writeByte(REF_PLAYER);
+            w.string(p.id().value());
+        } else if (ref instanceof TargetRef.Enemy e) {
+            w.out.writeByte(REF_ENEMY);
+            w.string(e.id().value());
+        } else if (ref instanceof TargetRef.Summon s) {
+            w.out.writeByte(REF_SUMMON);
+            w.string(s.ownerId().value());
+            w.uuid(s.summonId().value());
+        } else {
+            throw new IllegalArgumentException("unknown TargetRef: " + ref);
+        }
+    }
+
+    // =========================
+    // decode
+    // =========================
+
+    public static GameState decode(byte[] data) {
+        Objects.requireNonNull(data, "data");
+        try (Reader r = new Reader(new DataInputStream(new ByteArrayInputStream(data)))) {
+            if (r.in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("not a game state snapshot");
+            }
+            byte formatVersion = r.in.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("unsupported game state format version: " + formatVersion);
+            }
+
+            GameState state = new GameState(new SessionId(r.uuid()), r.in.readLong());
+            state.restoreVersion(r.in.readLong());
+            NodeState nodeState = NodeState.valueOf(r.string());
+
+            int players = r.count();
+            for (int i = 0; i < players; i++) {
+                PlayerState ps = readPlayer(r);
+                state.players().put(ps.playerId(), ps);
+            }
+
+            int enemies = r.count();
+            for (int i = 0; i < enemies; i++) {
+                EnemyState es = readEnemy(r);
+                state.enemies().put(es.enemyId(), es);
+            }
+
+            int cards = r.count();
+            for (int i = 0; i < cards; i++) {
+                CardInstance ci = readCard(r);
+                state.cardInstances().put(ci.instanceId(), ci);
+            }
+
+            int summons = r.count();
+            for (int i = 0; i < summons; i++) {
+                SummonState s = readSummon(r);
+                state.summons().put(s.id(), s);
+            }
+
+            if (r.in.readBoolean()) state.combat(readCombat(r));
+            // combat(...)가 nodeState를 덮어쓰므로 마지막에 복원
+            state.nodeState(nodeState);
+
+            if (r.in.available() > 0) {
+                throw new IllegalArgumentException("trailing bytes after game state");
+            }
+            return state;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("truncated game state snapshot", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PlayerState readPlayer(Reader r) throws IOException {
+        PlayerState ps = new PlayerState(new PlayerId(r.string()));
+
+        int deck = r.count();
+        for (int i = 0; i < deck; i++) ps.deck().addLast(new CardInstId(r.uuid()));
+        r.cardIds(ps.hand());
+        r.cardIds(ps.grave());
+        r.cardIds(ps.field());
+        r.cardIds(ps.excluded());
+
+        int active = r.count();
+        for (int i = 0; i < active; i++) ps.activeSummons().add(new SummonInstId(r.uuid()));
+        int byCard = r.count();
+        for (int i = 0; i < byCard; i++) {
+            ps.bindSummon(new CardInstId(r.uuid()), new SummonInstId(r.uuid()));
+        }
+
+        UUID ex = r.nullableUuid();
+        ps.exCard(ex == null ? null : new CardInstId(ex));
+        ps.exCooldownUntilRound(r.varint());
+        ps.exActivatable(r.in.readBoolean());
+
+        ps.swappedThisTurn(r.in.readBoolean());
+        ps.cardsPlayedThisTurn(r.varint());
+        ps.usedExThisTurn(r.in.readBoolean());
+        ps.usedTenacityThisTurn(r.in.readBoolean());
+        ps.tenacityDebtThisTurn(r.varint());
+
+        ps.pendingDecision(readPendingDecision(r));
+
+        // maxHp/maxAp가 스탯에서 파생되므로 스탯을 먼저 복원한 뒤 hp/ap를 넣는다.
+        ps.body(r.varint());
+        ps.skill(r.varint());
+        ps.sense(r.varint());
+        ps.will(r.varint());
+        ps.hp(r.varint());
+        ps.ap(r.varint());
+
+        r.counters(ps.statusValues());
+
+        List<String> passives = new ArrayList<>();
+        r.strings(passives);
+        ps.passiveIds(passives);
+
+        int owned = r.count();
+        List<OwnedCard> ownedCards = new ArrayList<>(owned);
+        for (int i = 0; i < owned; i++) {
+            String cardId = r.string();
+            int flags = r.in.readUnsignedByte();
+            ownedCards.add(new OwnedCard(cardId, (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0));
+        }
+        ps.ownedCards(ownedCards);
+        return ps;
+    }
+
+    private static PendingDecision readPendingDecision(Reader r) throws IOException {
+        byte tag = r.in.readByte();
+        return switch (tag) {
+            case PD_NONE -> null;
+            case PD_DISCARD -> new PendingDecision.DiscardToHandLimit(r.string(), r.varint());
+            case PD_SEARCH_PICK -> {
+                String reason = r.string();
+                List<CardInstId> candidates = new ArrayList<>();
+                r.cardIds(candidates);
+                int pickCount = r.varint();
+                Zone destination = Zone.valueOf(r.string());
+                boolean shuffle = r.in.readBoolean();
+                yield new PendingDecision.SearchPick(reason, candidates, pickCount, destination, shuffle, r.nullableUuid());
+            }
+            case PD_INITIATIVE_TIE -> {
+                String reason = r.string();
+                int groupIndex = r.varint();
+                List<String> keys = new ArrayList<>();
+                r.strings(keys);
+                yield new PendingDecision.InitiativeTieOrder(reason, groupIndex, List.copyOf(keys));
+            }
+            default -> throw new IllegalArgumentException("unknown pending decision tag: " + tag);
+        };
+    }
+
+    private static EnemyState readEnemy(Reader r) throws IOException {
+        EnemyState es = new EnemyState(new EnemyId(r.string()), r.varint());
+        es.hp(r.varint());
+        es.ap(r.varint());
+        es.attackPower(r.varint());
+        es.healPower(r.varint());
+        UUID ex = r.nullableUuid();
+        es.exCard(ex == null ? null : new CardInstId(ex));
+        es.exCooldownUntilRound(r.varint());
+        es.exActivatable(r.in.readBoolean());
+        es.usedExThisTurn(r.in.readBoolean());
+        r.counters(es.statusValues());
+        return es;
+    }
+
+    private static CardInstance readCard(Reader r) throws IOException {
+        CardInstId id = new CardInstId(r.uuid());
+        CardDefId defId = new CardDefId(r.string());
+        String owner = r.string();
+        Zone zone = Zone.valueOf(r.string());
+        CardInstance ci = new CardInstance(id, defId, owner == null ? null : new PlayerId(owner), zone);
+        r.counters(ci.counters());
+        int flags = r.in.readUnsignedByte();
+        ci.fieldEffectActive((flags & 1) != 0);
+        ci.fieldEffectTransitioning((flags & 2) != 0);
+        return ci;
+    }
+
+    private static SummonState readSummon(Reader r) throws IOException {
+        SummonInstId id = new SummonInstId(r.uuid());
+        PlayerId owner = new PlayerId(r.string());
+        UUID source = r.nullableUuid();
+        int hp = r.varint();
+        int maxHp = r.varint();
+        SummonState s = new SummonState(
+                id,
+                owner,
+                source == null ? null : new CardInstId(source),
+                hp,
+                maxHp,
+                r.varint(),
+                r.varint(),
+                r.varint(),
+                r.in.readBoolean()
+        );
+        r.counters(s.statusValues());
+        return s;
+    }
+
+    private static CombatState readCombat(Reader r) throws IOException {
+        CombatState cs = new CombatState();
+        cs.round(r.varint());
+        cs.currentTurnIndex(r.varint());
+        cs.phase(CombatPhase.valueOf(r.string()));
+
+        int order = r.count();
+        for (int i = 0; i < order; i++) cs.turnOrder().add(readTargetRef(r));
+
+        for (CombatState.FactionId f : CombatState.FactionId.values()) {
+            r.counters(cs.factionStatusValues(f));
+        }
+
+        r.counters(cs.initiatives());
+
+        int groups = r.count();
+        for (int i = 0; i < groups; i++) {
+            List<String> group = new ArrayList<>();
+            r.strings(group);
+            cs.initiativeTieGroups().add(group);
+        }
+        return cs;
+    }
+
+    private static TargetRef readTargetRef(Reader r) throws IOException {
+        byte tag = r.in.readByte();
+        return switch (tag) {
+            case REF_PLAYER -> TargetRef.ofPlayer(new PlayerId(r.string()));
+            case REF_ENEMY -> TargetRef.ofEnemy(new EnemyId(r.string()));
+            case REF_SUMMON -> TargetRef.ofSummon(new PlayerId(r.string()), new SummonInstId(r.uuid()));
+            default -> throw new IllegalArgumentException("unknown TargetRef tag: " + tag);
+        };
+    }
+
+    // =========================
+    // primitives
+    // =========================
+
+    /**
+     * 문자열 인터닝 규칙: 0=null, 1=새 문자열(UTF 본문 뒤따름), n>=2 → 테이블[n-2].
+     */
+    private static final class Writer implements Closeable {
+        final DataOutputStream out;
+        private final Map<String, Integer> table = new HashMap<>();
+
+        Writer(DataOutputStream out) { this.out = out; }
+
+        void varint(int v) throws IOException {
+            int z = (v << 1) ^ (v >> 31);
+            while ((z & ~0x7F) != 0) {
+                out.writeByte((z & 0x7F) | 0x80);
+                z >>>= 7;
+            }
+            out.writeByte(z);
+        }
+
+        void uuid(UUID id) throws IOException {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+
+        void nullableUuid(UUID id) throws IOException {
+            out.writeBoolean(id != null);
+            if (id != null) uuid(id);
+        }
+
+        void string(String s) throws IOException {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+            Integer idx = table.get(s);
+            if (idx != null) {
+                varint(idx + 2);
+                return;
+            }
+            table.put(s, table.size());
+            varint(1);
+            out.writeUTF(s);
+        }
+
+        void strings(List<String> values) throws IOException {
+            varint(values.size());
+            for (String s : values) string(s);
+        }
+
+        void cardIds(List<CardInstId> ids) throws IOException {
+            varint(ids.size());
+            for (CardInstId id : ids) uuid(id.value());
+        }
+
+        void counters(Map<String, Integer> values) throws IOException {
+            varint(values.size());
+            for (Map.Entry<String, Integer> e : values.entrySet()) {
+                string(e.getKey());
+                varint(e.getValue());
+            }
+        }
+
+        @Override
+        public void close() throws IOException { out.flush(); }
+    }
+
+    private static final class Reader implements Closeable {
+        final DataInputStream in;
+        private final List<String> table = new ArrayList<>();
+
+        Reader(DataInputStream in) { this.in = in; }
+
+        int varint() throws IOException {
+            int z = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                z |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return (z >>> 1) ^ -(z & 1);
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        int count() throws IOException {
+            int n = varint();
+            if (n < 0 || n > in.available()) {
+                throw new IllegalArgumentException("invalid element count: " + n);
+            }
+            return n;
+        }
+
+        UUID uuid() throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+
+        UUID nullableUuid() throws IOException {
+            return in.readBoolean() ? uuid() : null;
+        }
+
+        String string() throws IOException {
+            int ref = varint();
+            if (ref == 0) return null;
+            if (ref == 1) {
+                String s = in.readUTF();
+                table.add(s);
+                return s;
+            }
+            int idx = ref - 2;
+            if (idx < 0 || idx >= table.size()) {
+                throw new IllegalArgumentException("invalid string reference: " + ref);
+            }
+            return table.get(idx);
+        }
+
+        void strings(List<String> out) throws IOException {
+            int n = count();
+            for (int i = 0; i < n; i++) out.add(string());
+        }
+
+        void cardIds(List<CardInstId> out) throws IOException {
+            int n = count();
+            for (int i = 0; i < n; i++) out.add(new CardInstId(uuid()));
+        }
+
+        void counters(Map<String, Integer> out) throws IOException {
+            int n = count();
+            for (int i = 0; i < n; i++) out.put(string(), varint());
+        }
+
+        @Override
+        public void close() throws IOException { in.close(); }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.dueltower.engine.command;
 
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.EffectContext;
 import com.example.dueltower.engine.core.effect.card.CardEffect;
@@ -35,7 +36,12 @@ public final class EnemyPlayCardCommand implements GameCommand {
 
     @Override
     public List<String> validate(GameState state, EngineContext ctx) {
-        List<String> errors = new ArrayList<>();
+        return validate(state, ctx, new CommandScratch());
+    }
+
+    @Override
+    public List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        List<String> errors = scratch.errors();
         EnemyState es = CommandValidation.validateEnemyMainTurn(state, enemyId, errors);
         if (es == null) return errors;
 
@@ -48,13 +54,13 @@ public final class EnemyPlayCardCommand implements GameCommand {
 
         CardDefinition def = ctx.def(ci.defId());
 
-        PassiveOps.validatePlayCard(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, errors);
-        StatusOps.validatePlayCard(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, errors);
+        PassiveOps.validatePlayCard(scratch.passiveHooks(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, errors);
+        StatusOps.validatePlayCard(scratch.statusHooks(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, errors);
 
-        List<GameEvent> dummyOut = new ArrayList<>();
+        List<GameEvent> dummyOut = scratch.events();
         int needBase = def.cost();
-        int needPassive = PassiveOps.modifiedCost(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, needBase, dummyOut, "VALIDATE");
-        int need = StatusOps.modifiedCost(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, needPassive, dummyOut, "VALIDATE");
+        int needPassive = PassiveOps.modifiedCost(scratch.passiveCost(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, needBase);
+        int need = StatusOps.modifiedCost(scratch.statusCost(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, needPassive);
         int have = es.ap();
         if (have < need) {
             errors.add("not enough ap (need=" + need + ", have=" + have + ")");
@@ -1,5 +1,6 @@
 package com.example.dueltower.engine.command;
 
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.EffectContext;
 import com.example.dueltower.engine.core.effect.card.CardEffect;
@@ -34,7 +35,12 @@ public final class EnemyUseExCommand implements GameCommand {
 
     @Override
     public List<String> validate(GameState state, EngineContext ctx) {
-        List<String> errors = new ArrayList<>();
+        return validate(state, ctx, new CommandScratch());
+    }
+
+    @Override
+    public List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        List<String> errors = scratch.errors();
         EnemyState es = CommandValidation.validateEnemyMainTurn(state, enemyId, errors);
         if (es == null) return errors;
         if (es.exCard() == null) {
@@ -63,12 +69,12 @@ public final class EnemyUseExCommand implements GameCommand {
         CardDefinition def = ctx.def(ci.defId());
         if (def.type() != CardType.EX) errors.add("not an EX card: " + def.id().value());
 
-        StatusOps.validateUseEx(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, errors);
+        StatusOps.validateUseEx(scratch.statusHooks(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, errors);
 
-        List<GameEvent> dummyOut = new ArrayList<>();
+        List<GameEvent> dummyOut = scratch.events();
         int needBase = def.cost();
-        int needPassive = PassiveOps.modifiedCost(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, needBase, dummyOut, "VALIDATE");
-        int need = StatusOps.modifiedCost(state, ctx, TargetRef.ofEnemy(enemyId), ci, def, needPassive, dummyOut, "VALIDATE");
+        int needPassive = PassiveOps.modifiedCost(scratch.passiveCost(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, needBase);
+        int need = StatusOps.modifiedCost(scratch.statusCost(state, ctx), TargetRef.ofEnemy(enemyId), ci, def, needPassive);
         int have = es.ap();
         if (have < need) errors.add("not enough ap (need=" + need + ", have=" + have + ")");
 
@@ -2,6 +2,7 @@ package com.example.dueltower.engine.command;
 
 import java.util.List;
 import java.util.UUID;
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.GameState;
@@ -12,5 +13,13 @@ public interface GameCommand {
 
     List<String> validate(GameState state, EngineContext ctx);
 
+    /**
+     * GameEngine이 세션 작업 공간과 함께 부르는 검증. 버퍼를 재사용할 커맨드만 다시 정의한다.
+     * 돌려준 목록은 scratch 것일 수 있어 다음 커맨드 전까지만 유효하다.
+     */
+    default List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        return validate(state, ctx);
+    }
+
     List<GameEvent> handle(GameState state, EngineContext ctx);
 }
\ No newline at end of file
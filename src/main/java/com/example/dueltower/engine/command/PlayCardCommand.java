@@ -1,5 +1,6 @@
 package com.example.dueltower.engine.command;
 
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.SummonOps;
 import com.example.dueltower.engine.core.ZoneOps;
@@ -39,7 +40,12 @@ public final class PlayCardCommand implements GameCommand {
 
     @Override
     public List<String> validate(GameState state, EngineContext ctx) {
-        List<String> errors = new ArrayList<>();
+        return validate(state, ctx, new CommandScratch());
+    }
+
+    @Override
+    public List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        List<String> errors = scratch.errors();
         PlayerState ps = CommandValidation.validateMainTurn(state, playerId, errors);
         if (ps == null) return errors;
 
@@ -54,16 +60,16 @@ public final class PlayCardCommand implements GameCommand {
         Zone to = KeywordOps.overrideMoveDestination(state, ctx, ps, cardId, Zone.HAND, toBase, MoveReason.PLAY);
 
         // 훅 순서: passive -> status -> keyword
-        PassiveOps.validatePlayCard(state, ctx, TargetRef.ofPlayer(playerId), ci, def, errors);
+        PassiveOps.validatePlayCard(scratch.passiveHooks(state, ctx), TargetRef.ofPlayer(playerId), ci, def, errors);
 
         // 상태에 의한 카드 사용 제한(예: 기절)
-        StatusOps.validatePlayCard(state, ctx, TargetRef.ofPlayer(playerId), ci, def, errors);
+        StatusOps.validatePlayCard(scratch.statusHooks(state, ctx), TargetRef.ofPlayer(playerId), ci, def, errors);
 
         // 코스트/AP 체크 (passive -> status 순으로 코스트 변형 적용)
-        List<GameEvent> dummyOut = new ArrayList<>();
+        List<GameEvent> dummyOut = scratch.events();
         int needBase = def.cost();
-        int needPassive = PassiveOps.modifiedCost(state, ctx, TargetRef.ofPlayer(playerId), ci, def, needBase, dummyOut, "VALIDATE");
-        int need = StatusOps.modifiedCost(state, ctx, TargetRef.ofPlayer(playerId), ci, def, needPassive, dummyOut, "VALIDATE");
+        int needPassive = PassiveOps.modifiedCost(scratch.passiveCost(state, ctx), TargetRef.ofPlayer(playerId), ci, def, needBase);
+        int need = StatusOps.modifiedCost(scratch.statusCost(state, ctx), TargetRef.ofPlayer(playerId), ci, def, needPassive);
         int have = ps.ap();
 
         // 키워드에 의한 코스트 규칙(집념 등)
@@ -258,6 +258,6 @@ public final class StartCombatCommand implements GameCommand {
             state.summons().remove(summonId);
         }
         ps.activeSummons().clear();
-        ps.summonByCard().clear();
+        ps.clearSummonBindings();
     }
 }
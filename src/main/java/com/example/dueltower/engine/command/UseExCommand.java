@@ -1,5 +1,6 @@
 package com.example.dueltower.engine.command;
 
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.HandLimitOps;
 import com.example.dueltower.engine.core.effect.EffectContext;
@@ -42,7 +43,12 @@ public final class UseExCommand implements GameCommand {
 
     @Override
     public List<String> validate(GameState state, EngineContext ctx) {
-        List<String> errors = new ArrayList<>();
+        return validate(state, ctx, new CommandScratch());
+    }
+
+    @Override
+    public List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        List<String> errors = scratch.errors();
         PlayerState ps = CommandValidation.validateMainTurn(state, playerId, errors);
         if (ps == null) return errors;
         if (ps.exCard() == null) {
@@ -75,13 +81,13 @@ public final class UseExCommand implements GameCommand {
         // EX 훅 순서: passive -> status
 
         // 상태에 의한 EX 사용 제한(예: 기절)
-        StatusOps.validateUseEx(state, ctx, TargetRef.ofPlayer(playerId), ci, def, errors);
+        StatusOps.validateUseEx(scratch.statusHooks(state, ctx), TargetRef.ofPlayer(playerId), ci, def, errors);
 
         // 코스트/AP 체크 (passive -> status 순으로 코스트 변형 적용)
-        List<GameEvent> dummyOut = new ArrayList<>();
+        List<GameEvent> dummyOut = scratch.events();
         int needBase = def.cost();
-        int needPassive = PassiveOps.modifiedCost(state, ctx, TargetRef.ofPlayer(playerId), ci, def, needBase, dummyOut, "VALIDATE");
-        int need = StatusOps.modifiedCost(state, ctx, TargetRef.ofPlayer(playerId), ci, def, needPassive, dummyOut, "VALIDATE");
+        int needPassive = PassiveOps.modifiedCost(scratch.passiveCost(state, ctx), TargetRef.ofPlayer(playerId), ci, def, needBase);
+        int need = StatusOps.modifiedCost(scratch.statusCost(state, ctx), TargetRef.ofPlayer(playerId), ci, def, needPassive);
         int have = ps.ap();
         if (have < need) errors.add("not enough ap (need=" + need + ", have=" + have + ")");
 
@@ -1,5 +1,6 @@
 package com.example.dueltower.engine.command;
 
+import com.example.dueltower.engine.core.CommandScratch;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.EffectContext;
 import com.example.dueltower.engine.core.effect.card.CardEffect;
@@ -34,7 +35,12 @@ public final class UseSummonActionCommand implements GameCommand {
 
     @Override
     public List<String> validate(GameState state, EngineContext ctx) {
-        List<String> errors = new ArrayList<>();
+        return validate(state, ctx, new CommandScratch());
+    }
+
+    @Override
+    public List<String> validate(GameState state, EngineContext ctx, CommandScratch scratch) {
+        List<String> errors = scratch.errors();
         PlayerState ps = CommandValidation.validateMainTurn(state, playerId, errors);
         if (ps == null) return errors;
 
@@ -59,7 +65,7 @@ public final class UseSummonActionCommand implements GameCommand {
         }
 
         CardEffect effect = ctx.effect(source.defId());
-        List<GameEvent> dummyOut = new ArrayList<>();
+        List<GameEvent> dummyOut = scratch.events();
         EffectContext ec = new EffectContext(state, ctx, playerId, sourceCardId, selection, dummyOut);
         errors.addAll(effect.validate(ec));
 
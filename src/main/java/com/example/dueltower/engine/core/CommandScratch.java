@@ -0,0 +1,76 @@
+package com.example.dueltower.engine.core;
+
+import com.example.dueltower.engine.core.effect.passive.PassiveRuntime;
+import com.example.dueltower.engine.core.effect.status.StatusRuntime;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커맨드 검증 때마다 새로 만들던 버퍼/런타임을 GameEngine 하나가 들고 재사용하는 작업 공간.
+ * 세션 락 아래 한 스레드만 쓰므로 동기화하지 않고, 커맨드 시작 때 {@link #begin()}으로 비운다.
+ * 검증 결과 이벤트는 버려지므로 validate 단계에서만 쓴다(handle은 실제 이벤트를 남기니 그대로 새로 만든다).
+ */
+public final class CommandScratch {
+    static final String SOURCE = "VALIDATE";
+
+    private final List<String> errors = new ArrayList<>();
+    private final List<GameEvent> events = new ArrayList<>();
+    private final List<GameEvent> sink = new ArrayList<>();
+
+    private StatusRuntime statusHooks;
+    private PassiveRuntime passiveHooks;
+    private StatusRuntime statusCost;
+    private PassiveRuntime passiveCost;
+
+    /** 다음 커맨드 검증 전에 버퍼를 비운다. */
+    public void begin() {
+        errors.clear();
+        events.clear();
+        sink.clear();
+    }
+
+    /** validate가 채워 돌려줄 오류 목록. 다음 커맨드에서 비워지니 보관하려면 복사한다. */
+    public List<String> errors() { return errors; }
+
+    /** 코스트 계산/카드 validate가 함께 쓰는 버려지는 이벤트 목록(커맨드마다 빈 상태로 시작) */
+    public List<GameEvent> events() { return events; }
+
+    /** 검증 훅(validatePlayCard 등) 한 번에 쓰는 런타임. 부를 때마다 출력이 비워진다. */
+    public StatusRuntime statusHooks(GameState state, EngineContext ctx) {
+        sink.clear();
+        StatusRuntime rt = statusHooks;
+        if (rt == null || rt.state() != state || rt.ctx() != ctx) {
+            statusHooks = rt = new StatusRuntime(state, ctx, sink, SOURCE);
+        }
+        return rt;
+    }
+
+    public PassiveRuntime passiveHooks(GameState state, EngineContext ctx) {
+        sink.clear();
+        PassiveRuntime rt = passiveHooks;
+        if (rt == null || rt.state() != state || rt.ctx() != ctx) {
+            passiveHooks = rt = new PassiveRuntime(state, ctx, sink, SOURCE);
+        }
+        return rt;
+    }
+
+    /** 검증 중 코스트 훅용 런타임. 출력은 {@link #events()}로 간다. */
+    public StatusRuntime statusCost(GameState state, EngineContext ctx) {
+        StatusRuntime rt = statusCost;
+        if (rt == null || rt.state() != state || rt.ctx() != ctx) {
+            statusCost = rt = new StatusRuntime(state, ctx, events, SOURCE);
+        }
+        return rt;
+    }
+
+    public PassiveRuntime passiveCost(GameState state, EngineContext ctx) {
+        PassiveRuntime rt = passiveCost;
+        if (rt == null || rt.state() != state || rt.ctx() != ctx) {
+            passiveCost = rt = new PassiveRuntime(state, ctx, events, SOURCE);
+        }
+        return rt;
+    }
+}
@@ -1,22 +1,33 @@
 package com.example.dueltower.engine.core;
 
+import com.example.dueltower.engine.core.effect.HookRegistry;
 import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.keyword.KeywordBinding;
+import com.example.dueltower.engine.core.effect.keyword.KeywordCaps;
 import com.example.dueltower.engine.core.effect.keyword.KeywordEffect;
 import com.example.dueltower.engine.core.effect.passive.PassiveEffect;
+import com.example.dueltower.engine.core.effect.passive.PassiveHook;
 import com.example.dueltower.engine.core.effect.status.StatusEffect;
+import com.example.dueltower.engine.core.effect.status.StatusHook;
 import com.example.dueltower.engine.model.CardDefinition;
 import com.example.dueltower.engine.model.Ids.CardDefId;
 import com.example.dueltower.engine.model.KeywordDefinition;
 import com.example.dueltower.engine.model.PassiveDefinition;
 import com.example.dueltower.engine.model.StatusDefinition;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Engine-wide immutable lookup context for a session.
+ * Engine-wide immutable lookup context, shared by every session on the node.
  * - card definitions/effects (cdb)
  * - status definitions/effects (sdb)
  * - keyword definitions/effects (kdb)
+ * - 카드 정의별 키워드 바인딩/보유 비트(생성 시 한 번 컴파일)
+ * - 상태/패시브 훅별로 그 훅을 재정의한 효과 id(생성 시 한 번 스캔)
+ *
+ * 생성 비용(컴파일/리플렉션 스캔)이 크므로 세션마다 만들지 않는다.
+ * 서버에서는 EngineContextFactory가 콘텐츠 로드 때 한 번 만든 것을 나눠 쓴다.
  */
 public final class EngineContext {
     private final Map<CardDefId, CardDefinition> definitions;
@@ -31,6 +42,11 @@ public final class EngineContext {
     private final Map<String, PassiveDefinition> passiveDefs;
     private final Map<String, PassiveEffect> passiveEffects;
 
+    private final Map<CardDefId, KeywordBinding[]> keywordBindings;
+    private final Map<CardDefId, KeywordCaps> keywordCaps;
+    private final HookRegistry<StatusHook> statusHooks;
+    private final HookRegistry<PassiveHook> passiveHooks;
+
     public EngineContext(Map<CardDefId, CardDefinition> definitions, Map<CardDefId, CardEffect> effects) {
         this(definitions, effects, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
     }
@@ -73,6 +89,54 @@ public final class EngineContext {
         this.keywordEffects = Map.copyOf(keywordEffects);
         this.passiveDefs = Map.copyOf(passiveDefs);
         this.passiveEffects = Map.copyOf(passiveEffects);
+
+        Map<CardDefId, KeywordBinding[]> bindings = new HashMap<>();
+        Map<CardDefId, KeywordCaps> caps = new HashMap<>();
+        for (Map.Entry<CardDefId, CardDefinition> e : this.definitions.entrySet()) {
+            bindings.put(e.getKey(), KeywordBinding.compile(e.getValue().keywords(), this.keywordEffects));
+            caps.put(e.getKey(), KeywordCaps.compile(e.getValue().keywords(), this.keywordEffects));
+        }
+        this.keywordBindings = Map.copyOf(bindings);
+        this.keywordCaps = Map.copyOf(caps);
+        this.statusHooks = HookRegistry.scan(StatusHook.class, StatusEffect.class, this.statusEffects);
+        this.passiveHooks = HookRegistry.scan(PassiveHook.class, PassiveEffect.class, this.passiveEffects);
+    }
+
+    /**
+     * 카드 정의/효과를 덧붙인(같은 id면 덮어쓴) 새 컨텍스트.
+     * 키워드 테이블은 덧붙인 정의만 컴파일하고, 나머지 조회 테이블과 훅 스캔 결과는 그대로 쓴다.
+     */
+    public EngineContext withCards(Map<CardDefId, CardDefinition> extraDefinitions, Map<CardDefId, CardEffect> extraEffects) {
+        Map<CardDefId, CardDefinition> defs = new HashMap<>(definitions);
+        defs.putAll(extraDefinitions);
+        Map<CardDefId, CardEffect> effs = new HashMap<>(effects);
+        effs.putAll(extraEffects);
+        Map<CardDefId, KeywordBinding[]> bindings = new HashMap<>(keywordBindings);
+        Map<CardDefId, KeywordCaps> caps = new HashMap<>(keywordCaps);
+        for (Map.Entry<CardDefId, CardDefinition> e : extraDefinitions.entrySet()) {
+            bindings.put(e.getKey(), KeywordBinding.compile(e.getValue().keywords(), keywordEffects));
+            caps.put(e.getKey(), KeywordCaps.compile(e.getValue().keywords(), keywordEffects));
+        }
+        return new EngineContext(this, defs, effs, bindings, caps);
+    }
+
+    private EngineContext(EngineContext base,
+                          Map<CardDefId, CardDefinition> definitions,
+                          Map<CardDefId, CardEffect> effects,
+                          Map<CardDefId, KeywordBinding[]> keywordBindings,
+                          Map<CardDefId, KeywordCaps> keywordCaps) {
+        this.definitions = Map.copyOf(definitions);
+        this.effects = Map.copyOf(effects);
+        this.statusDefs = base.statusDefs;
+        this.statusEffects = base.statusEffects;
+        this.keywordDefs = base.keywordDefs;
+        this.keywordEffects = base.keywordEffects;
+        this.passiveDefs = base.passiveDefs;
+        this.passiveEffects = base.passiveEffects;
+        this.keywordBindings = Map.copyOf(keywordBindings);
+        this.keywordCaps = Map.copyOf(keywordCaps);
+        this.statusHooks = base.statusHooks;
+        this.passiveHooks = base.passiveHooks;
     }
 
     public CardDefinition def(CardDefId id) {
@@ -81,6 +145,20 @@ public final class EngineContext {
         return d;
     }
 
+    /** 카드 정의의 키워드 바인딩(효과 구현이 있는 키워드만, 정의 순서). 배열은 공유되므로 수정하지 않는다. */
+    public KeywordBinding[] keywordBindings(CardDefId id) {
+        KeywordBinding[] b = keywordBindings.get(id);
+        if (b == null) throw new IllegalArgumentException("missing card definition: " + id.value());
+        return b;
+    }
+
+    /** 카드 정의의 키워드 보유 비트와 소환/치명 수치 */
+    public KeywordCaps keywordCaps(CardDefId id) {
+        KeywordCaps c = keywordCaps.get(id);
+        if (c == null) throw new IllegalArgumentException("missing card definition: " + id.value());
+        return c;
+    }
+
     public boolean hasEffect(CardDefId defId) {
         return effects.containsKey(defId);
     }
@@ -101,6 +179,11 @@ public final class EngineContext {
         return d;
     }
 
+    /** 상태 훅별로 그 훅을 재정의한 상태 id */
+    public HookRegistry<StatusHook> statusHooks() {
+        return statusHooks;
+    }
+
     public boolean hasStatusEffect(String id) {
         return statusEffects.containsKey(id);
     }
@@ -141,6 +224,11 @@ public final class EngineContext {
         return d;
     }
 
+    /** 패시브 훅별로 그 훅을 재정의한 패시브 id */
+    public HookRegistry<PassiveHook> passiveHooks() {
+        return passiveHooks;
+    }
+
     public boolean hasPassiveEffect(String id) {
         return passiveEffects.containsKey(id);
     }
@@ -1,20 +1,27 @@
 package com.example.dueltower.engine.core;
 
 import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.ChangeSet;
 import com.example.dueltower.engine.model.GameState;
 
 import java.util.List;
 
+/**
+ * @param stateHash 처리 후 GameState.stateHash()(거부면 처리 전과 같은 값). 재적용/복제 결과 비교용.
+ * @param changes   이 커맨드(와 그 전 엔진 밖 변경)로 바뀐 엔티티. 거부면 NONE, 추적하지 않는 상태면 FULL.
+ */
 public record EngineResult(
         boolean accepted,
         List<String> errors,
         List<GameEvent> events,
-        GameState state
+        GameState state,
+        long stateHash,
+        ChangeSet changes
 ) {
     public static EngineResult rejected(List<String> errors, GameState state) {
-        return new EngineResult(false, List.copyOf(errors), List.of(), state);
+        return new EngineResult(false, List.copyOf(errors), List.of(), state, state.stateHash(), ChangeSet.NONE);
     }
-    public static EngineResult accepted(List<GameEvent> events, GameState state) {
-        return new EngineResult(true, List.of(), List.copyOf(events), state);
+    public static EngineResult accepted(List<GameEvent> events, GameState state, ChangeSet changes) {
+        return new EngineResult(true, List.of(), List.copyOf(events), state, state.stateHash(), changes);
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,14 @@ package com.example.dueltower.engine.core;
 
 import com.example.dueltower.engine.command.GameCommand;
 import com.example.dueltower.engine.core.combat.VictoryOps;
+import com.example.dueltower.engine.core.trace.CommandProcessEvent;
 import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.ChangeSet;
 import com.example.dueltower.engine.model.GameState;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
@@ -28,6 +31,7 @@ public final class GameEngine {
     private final Map<UUID, Long> processedCommandIdsFirstSeenAt = new HashMap<>();
     private final long processedCommandIdTtlMs;
     private final LongSupplier nowMsSupplier;
+    private final CommandScratch scratch = new CommandScratch();
 
     public GameEngine() {
         this(DEDUPE_TTL_DISABLED, System::currentTimeMillis);
@@ -38,38 +42,72 @@ public final class GameEngine {
         this.nowMsSupplier = nowMsSupplier;
     }
 
+    /** dedupe 저장소에 남아 있는 commandId 수 */
+    public int processedCommandCount() { return processedCommandIdsFirstSeenAt.size(); }
+
+    /** 되돌리기로 취소된 커맨드 id를 dedupe에서 뺀다(같은 id로 다시 보낼 수 있게). */
+    public void forgetCommandIds(Collection<UUID> commandIds) {
+        for (UUID id : commandIds) processedCommandIdsFirstSeenAt.remove(id);
+    }
+
     public EngineResult process(GameState state, EngineContext ctx, GameCommand cmd) {
         long startNs = System.nanoTime();
         long beforeVersion = state.version();
         String cmdType = (cmd == null) ? "null" : cmd.getClass().getSimpleName();
         long nowMs = nowMsSupplier.getAsLong();
 
+        // JFR: 꺼져 있으면 단계별 nanoTime 측정도 건너뛴다
+        CommandProcessEvent jfr = new CommandProcessEvent();
+        boolean traced = jfr.isEnabled();
+        if (traced) {
+            jfr.begin();
+            jfr.commandType = cmdType;
+            jfr.commandId = String.valueOf(cmd.commandId());
+            jfr.stateVersion = beforeVersion;
+        }
+
         cleanupExpiredProcessedCommandIds(nowMs);
 
         if (processedCommandIdsFirstSeenAt.containsKey(cmd.commandId())) {
             log.debug("engine reject {} cmdId={} type={} stateVersion={}",
                     DUPLICATE_COMMAND, cmd.commandId(), cmdType, beforeVersion);
+            if (traced) commitRejected(jfr, DUPLICATE_COMMAND);
             return EngineResult.rejected(List.of("duplicate command"), state);
         }
 
         if (cmd.expectedVersion() != state.version()) {
             log.debug("engine reject {} cmdId={} type={} expectedVersion={} stateVersion={}",
                     VERSION_MISMATCH, cmd.commandId(), cmdType, cmd.expectedVersion(), beforeVersion);
+            if (traced) commitRejected(jfr, VERSION_MISMATCH);
             return EngineResult.rejected(List.of("version mismatch"), state);
         }
 
-        List<String> errors = cmd.validate(state, ctx);
+        long phaseNs = traced ? System.nanoTime() : 0L;
+        scratch.begin();
+        List<String> errors = cmd.validate(state, ctx, scratch);
+        if (traced) {
+            long now = System.nanoTime();
+            jfr.validateNanos = now - phaseNs;
+            phaseNs = now;
+        }
         if (!errors.isEmpty()) {
             log.debug("engine reject validation cmdId={} type={} errors={} stateVersion={}",
                     cmd.commandId(), cmdType, errors, beforeVersion);
+            if (traced) commitRejected(jfr, "validation");
             return EngineResult.rejected(errors, state);
         }
 
         // Collect events (copy to ensure mutability for post-processing)
         List<GameEvent> events = new ArrayList<>(cmd.handle(state, ctx));
+        if (traced) {
+            long now = System.nanoTime();
+            jfr.handleNanos = now - phaseNs;
+            phaseNs = now;
+        }
 
         // Post-processing: victory/defeat check after ANY command
         VictoryOps.postHandleCheck(state, events);
+        if (traced) jfr.victoryCheckNanos = System.nanoTime() - phaseNs;
 
         // Debug safety net: detect zone/list inconsistencies as early as possible.
         if (log.isDebugEnabled()) {
@@ -77,6 +115,7 @@ public final class GameEngine {
         }
 
         state.bumpVersion();
+        ChangeSet changes = state.publishChanges();
         processedCommandIdsFirstSeenAt.put(cmd.commandId(), nowMs);
 
         // Human-friendly log lines are useful even at DEBUG.
@@ -98,7 +137,21 @@ public final class GameEngine {
         log.debug("engine accepted cmdId={} type={} version {}->{} events={} ({}ms)",
                 cmd.commandId(), cmdType, beforeVersion, state.version(), events.size(), tookMs);
 
-        return EngineResult.accepted(events, state);
+        if (traced) {
+            jfr.end();
+            jfr.accepted = true;
+            jfr.eventCount = events.size();
+            jfr.commit();
+        }
+
+        return EngineResult.accepted(events, state, changes);
+    }
+
+    private static void commitRejected(CommandProcessEvent jfr, String reason) {
+        jfr.end();
+        jfr.accepted = false;
+        jfr.rejectReason = reason;
+        jfr.commit();
     }
 
     private void cleanupExpiredProcessedCommandIds(long nowMs) {
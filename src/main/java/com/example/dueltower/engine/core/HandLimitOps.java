@@ -1,8 +1,7 @@
 package com.example.dueltower.engine.core;
 
 import com.example.dueltower.engine.event.GameEvent;
-import com.example.dueltower.engine.core.effect.keyword.DiscardReason;
-import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
+import com.example.dueltower.engine.core.effect.keyword.KeywordCaps;
 import com.example.dueltower.engine.model.*;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 
@@ -37,13 +36,11 @@ public final class HandLimitOps {
     }
 
     public static boolean isImmovable(GameState state, EngineContext ctx, CardInstId id) {
-        // 'immovable' means: cannot be discarded even in HAND_LIMIT context.
+        // 'immovable' means: cannot be discarded even in HAND_LIMIT context (precompiled keyword bit).
         if (id == null) return false;
         CardInstance ci = state.card(id);
         if (ci == null) return false;
-        PlayerState owner = state.player(ci.ownerId());
-        if (owner == null) return false;
-        return KeywordOps.blocksDiscard(state, ctx, owner, id, DiscardReason.HAND_LIMIT);
+        return ctx.keywordCaps(ci.defId()).has(KeywordCaps.IMMOVABLE);
     }
 
     /**
@@ -1,11 +1,6 @@
 package com.example.dueltower.engine.core;
 
-import com.example.dueltower.content.keyword.kdb.K004_Summon;
-import com.example.dueltower.content.keyword.kdb.K901_SummonHp;
-import com.example.dueltower.content.keyword.kdb.K902_SummonAttackPower;
-import com.example.dueltower.content.keyword.kdb.K903_SummonHealingPower;
-import com.example.dueltower.content.keyword.kdb.K904_Action;
-import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
+import com.example.dueltower.engine.core.effect.keyword.KeywordCaps;
 import com.example.dueltower.engine.model.*;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.SummonInstId;
@@ -17,13 +12,14 @@ public final class SummonOps {
         if (state == null || ctx == null || owner == null || sourceCardId == null) return null;
         CardInstance ci = state.card(sourceCardId);
         if (ci == null || ci.zone() != Zone.FIELD) return null;
-        if (!KeywordOps.hasKeyword(state, ctx, sourceCardId, K004_Summon.ID)) return null;
+        KeywordCaps caps = ctx.keywordCaps(ci.defId());
+        if (!caps.has(KeywordCaps.SUMMON)) return null;
 
         SummonInstId summonId = new SummonInstId(sourceCardId.value());
-        int hp = Math.max(1, KeywordOps.keywordValue(state, ctx, sourceCardId, K901_SummonHp.ID));
-        int atk = Math.max(0, KeywordOps.keywordValue(state, ctx, sourceCardId, K902_SummonAttackPower.ID));
-        int heal = Math.max(0, KeywordOps.keywordValue(state, ctx, sourceCardId, K903_SummonHealingPower.ID));
-        int actionCost = Math.max(0, KeywordOps.keywordValue(state, ctx, sourceCardId, K904_Action.ID));
+        int hp = caps.summonHp();
+        int atk = caps.summonAttack();
+        int heal = caps.summonHeal();
+        int actionCost = caps.summonActionCost();
 
         SummonState summon = new SummonState(
                 summonId,
@@ -37,7 +33,7 @@ public final class SummonOps {
                 false
         );
         state.summons().put(summonId, summon);
-        owner.summonByCard().put(sourceCardId, summonId);
+        owner.bindSummon(sourceCardId, summonId);
         if (!owner.activeSummons().contains(summonId)) {
             owner.activeSummons().add(summonId);
         }
@@ -46,7 +42,7 @@ public final class SummonOps {
 
     public static void destroySummonForCard(GameState state, PlayerState owner, CardInstId sourceCardId) {
         if (state == null || owner == null || sourceCardId == null) return;
-        SummonInstId summonId = owner.summonByCard().remove(sourceCardId);
+        SummonInstId summonId = owner.unbindSummon(sourceCardId);
         if (summonId == null) return;
         owner.activeSummons().remove(summonId);
         state.summons().remove(summonId);
@@ -5,6 +5,7 @@ import com.example.dueltower.engine.core.combat.CombatStatuses;
 import com.example.dueltower.engine.core.effect.card.FieldEffectOps;
 import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
 import com.example.dueltower.engine.core.effect.keyword.MoveReason;
+import com.example.dueltower.engine.core.trace.DrawEvent;
 import com.example.dueltower.engine.model.*;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.EnemyId;
@@ -171,20 +172,33 @@ public final class ZoneOps {
             List<GameEvent> events,
             boolean applyDeckOutIncapacitated
     ) {
+        DrawEvent jfr = new DrawEvent();
+        jfr.begin();
+        int drawn = 0;
+        int refills = 0;
         for (int i = 0; i < count; i++) {
             if (ps.deck().isEmpty()) {
                 refillDeckFromGrave(state, ps, events);
                 shuffleDeck(state, ps, events, deriveShuffleRandom(state, ps));
+                refills++;
             }
             if (ps.deck().isEmpty()) {
                 if (applyDeckOutIncapacitated) {
                     applyBattleIncapacitatedOnDeckOut(state, ps, events);
                 }
-                return;
+                break;
             }
             CardInstId top = ps.deck().removeFirst();
             ps.hand().add(top);
             state.card(top).zone(Zone.HAND);
+            drawn++;
+        }
+        if (jfr.shouldCommit()) {
+            jfr.player = ps.playerId().value();
+            jfr.requested = count;
+            jfr.drawn = drawn;
+            jfr.refills = refills;
+            jfr.commit();
         }
     }
 
@@ -0,0 +1,107 @@
+package com.example.dueltower.engine.core.action;
+
+import com.example.dueltower.engine.command.*;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SummonInstId;
+import com.example.dueltower.engine.model.TargetSelection;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지금 상태에서 actor가 할 수 있는 행동 1개(LegalActionGenerator 결과).
+ * toCommand로 바로 엔진 커맨드를 만들 수 있다.
+ *
+ * 선택형 결정(손패 제한 버리기/서치 선택)은 조합을 펼치지 않고
+ * 고를 수 있는 후보와 개수만 담는다. 기본 toCommand는 앞에서부터 고른다.
+ */
+public sealed interface LegalAction {
+
+    PlayerId actor();
+
+    GameCommand toCommand(UUID commandId, long expectedVersion);
+
+    /** apCost: passive/status 변형 후 코스트, apDebt: AP 부족분을 집념 등으로 빚지는 경우 */
+    record PlayCard(PlayerId actor, CardInstId cardId, TargetSelection selection, int apCost, boolean apDebt) implements LegalAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return new PlayCardCommand(commandId, expectedVersion, actor, cardId, selection);
+        }
+    }
+
+    record UseEx(PlayerId actor, CardInstId exCardId, TargetSelection selection, int apCost) implements LegalAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return new UseExCommand(commandId, expectedVersion, actor, selection);
+        }
+    }
+
+    record UseSummonAction(PlayerId actor, SummonInstId summonId, TargetSelection selection) implements LegalAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return new UseSummonActionCommand(commandId, expectedVersion, actor, summonId, selection);
+        }
+    }
+
+    record HandSwap(PlayerId actor, CardInstId cardId) implements LegalAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return new HandSwapCommand(commandId, expectedVersion, actor, cardId);
+        }
+    }
+
+    record EndTurn(PlayerId actor) implements LegalAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return new EndTurnCommand(commandId, expectedVersion, actor);
+        }
+    }
+
+    /** discardable 중 discardCount장을 골라 버린다('부동' 카드는 후보에서 빠진다). */
+    record DiscardToHandLimit(PlayerId actor, int discardCount, List<CardInstId> discardable) implements LegalAction {
+        public DiscardToHandLimit {
+            discardable = List.copyOf(discardable);
+        }
+
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return toCommand(commandId, expectedVersion, discardable.subList(0, discardCount));
+        }
+
+        public GameCommand toCommand(UUID commandId, long expectedVersion, List<CardInstId> chosen) {
+            return new DiscardToHandLimitCommand(commandId, expectedVersion, actor, List.copyOf(chosen));
+        }
+    }
+
+    record SearchPick(PlayerId actor, int pickCount, List<CardInstId> candidates) implements LegalAction {
+        public SearchPick {
+            candidates = List.copyOf(candidates);
+        }
+
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return toCommand(commandId, expectedVersion, candidates.subList(0, pickCount));
+        }
+
+        public GameCommand toCommand(UUID commandId, long expectedVersion, List<CardInstId> chosen) {
+            return new ResolveSearchPickCommand(commandId, expectedVersion, actor, List.copyOf(chosen));
+        }
+    }
+
+    /** actorKeys의 어떤 순서든 합법이다. 기본 toCommand는 현재 순서를 그대로 제출한다. */
+    record InitiativeTieOrder(PlayerId actor, int groupIndex, List<String> actorKeys) implements LegalAction {
+        public InitiativeTieOrder {
+            actorKeys = List.copyOf(actorKeys);
+        }
+
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion) {
+            return toCommand(commandId, expectedVersion, actorKeys);
+        }
+
+        public GameCommand toCommand(UUID commandId, long expectedVersion, List<String> ordered) {
+            return new ResolveInitiativeTieCommand(commandId, expectedVersion, actor, groupIndex, List.copyOf(ordered));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.dueltower.engine.core.action;
+
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.HandLimitOps;
+import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.keyword.DiscardReason;
+import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
+import com.example.dueltower.engine.core.effect.keyword.MoveReason;
+import com.example.dueltower.engine.core.effect.passive.PassiveOps;
+import com.example.dueltower.engine.core.effect.status.StatusOps;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "지금 이 플레이어가 할 수 있는 것"을 나열한다(UI 하이라이트, 부하 테스트, 시뮬레이션용).
+ *
+ * 커맨드 validate와 같은 규칙을 따르지만 후보마다 전체 validate를 돌리지 않는다.
+ * - 턴/페이즈/전투 불능/pending 체크는 actor당 1번
+ * - passive/status 사용 제한, 코스트 변형, 집념(AP 빚) 판정은 카드당 1번
+ * - 대상 후보별로는 카드 효과 validate(도발 등 대상 규칙 포함)만 돌린다
+ * - 대상 없이 통과하는 카드는 대상 무관으로 보고 빈 선택 1개만 낸다
+ *
+ * 결과의 각 행동은 같은 상태에서 해당 커맨드 validate를 통과한다.
+ */
+public final class LegalActionGenerator {
+    private LegalActionGenerator() {}
+
+    /** 모든 플레이어의 행동(pending 해소 + 현재 턴 플레이어의 행동) */
+    public static List<LegalAction> forAll(GameState state, EngineContext ctx) {
+        List<LegalAction> out = new ArrayList<>();
+        for (PlayerId pid : state.players().keySet()) {
+            collect(state, ctx, pid, out);
+        }
+        return out;
+    }
+
+    public static List<LegalAction> forPlayer(GameState state, EngineContext ctx, PlayerId playerId) {
+        List<LegalAction> out = new ArrayList<>();
+        collect(state, ctx, playerId, out);
+        return out;
+    }
+
+    private static void collect(GameState state, EngineContext ctx, PlayerId pid, List<LegalAction> out) {
+        PlayerState ps = state.player(pid);
+        if (ps == null) return;
+
+        // pending decision이 있으면 그 해소만 가능하다
+        if (ps.pendingDecision() != null) {
+            decisionActions(state, ctx, ps, out);
+            return;
+        }
+
+        CombatState cs = state.combat();
+        if (cs == null || cs.phase() != CombatPhase.MAIN) return;
+        if (!(cs.currentTurnActor() instanceof TargetRef.Player cur) || !cur.id().equals(pid)) return;
+
+        // END_TURN만 전투 불능 상태에서도 허용
+        out.add(new LegalAction.EndTurn(pid));
+        if (CombatStatuses.isBattleIncapacitated(ps) || ps.hp() <= 0) return;
+
+        List<TargetSelection> selections = targetSelections(state);
+        List<GameEvent> dummyOut = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        TargetRef actor = TargetRef.ofPlayer(pid);
+
+        playCardActions(state, ctx, ps, actor, selections, dummyOut, errors, out);
+        useExActions(state, ctx, ps, actor, selections, dummyOut, errors, out);
+        summonActions(state, ctx, ps, selections, dummyOut, out);
+
+        if (!ps.swappedThisTurn()) {
+            for (CardInstId id : ps.hand()) {
+                if (state.card(id) == null) continue;
+                errors.clear();
+                KeywordOps.validateDiscard(state, ctx, ps, id, DiscardReason.HAND_SWAP, errors);
+                if (errors.isEmpty()) out.add(new LegalAction.HandSwap(pid, id));
+            }
+        }
+    }
+
+    private static void playCardActions(
+            GameState state,
+            EngineContext ctx,
+            PlayerState ps,
+            TargetRef actor,
+            List<TargetSelection> selections,
+            List<GameEvent> dummyOut,
+            List<String> errors,
+            List<LegalAction> out
+    ) {
+        PlayerId pid = ps.playerId();
+        for (CardInstId cardId : ps.hand()) {
+            CardInstance ci = state.card(cardId);
+            if (ci == null || !ci.ownerId().equals(pid)) continue;
+            CardDefinition def = ctx.def(ci.defId());
+
+            errors.clear();
+            PassiveOps.validatePlayCard(state, ctx, actor, ci, def, errors);
+            StatusOps.validatePlayCard(state, ctx, actor, ci, def, errors);
+            if (!errors.isEmpty()) continue;
+
+            int needPassive = PassiveOps.modifiedCost(state, ctx, actor, ci, def, def.cost(), dummyOut, "VALIDATE");
+            int need = StatusOps.modifiedCost(state, ctx, actor, ci, def, needPassive, dummyOut, "VALIDATE");
+            int have = ps.ap();
+
+            KeywordOps.validateApDebtPayment(state, ctx, ps, cardId, need, have, errors);
+            if (!errors.isEmpty()) continue;
+            boolean debt = have < need;
+            if (debt && !KeywordOps.allowsApDebtPayment(state, ctx, ps, cardId, need, have)) continue;
+
+            Zone toBase = def.resolveTo() == null ? Zone.GRAVE : def.resolveTo();
+            Zone to = KeywordOps.overrideMoveDestination(state, ctx, ps, cardId, Zone.HAND, toBase, MoveReason.PLAY);
+            if (to == Zone.FIELD && ps.field().size() >= ps.fieldLimit()) continue;
+
+            for (TargetSelection sel : validSelections(state, ctx, pid, cardId, ci, selections, dummyOut)) {
+                out.add(new LegalAction.PlayCard(pid, cardId, sel, need, debt));
+            }
+        }
+    }
+
+    private static void useExActions(
+            GameState state,
+            EngineContext ctx,
+            PlayerState ps,
+            TargetRef actor,
+            List<TargetSelection> selections,
+            List<GameEvent> dummyOut,
+            List<String> errors,
+            List<LegalAction> out
+    ) {
+        CardInstId exId = ps.exCard();
+        if (exId == null || !ps.exActivatable()) return;
+        CombatState cs = state.combat();
+        if (cs != null && ps.exOnCooldown(cs.round())) return;
+
+        CardInstance ci = state.card(exId);
+        if (ci == null || !ci.ownerId().equals(ps.playerId())) return;
+        CardDefinition def = ctx.def(ci.defId());
+        if (def.type() != CardType.EX) return;
+
+        errors.clear();
+        StatusOps.validateUseEx(state, ctx, actor, ci, def, errors);
+        if (!errors.isEmpty()) return;
+
+        int needPassive = PassiveOps.modifiedCost(state, ctx, actor, ci, def, def.cost(), dummyOut, "VALIDATE");
+        int need = StatusOps.modifiedCost(state, ctx, actor, ci, def, needPassive, dummyOut, "VALIDATE");
+        if (ps.ap() < need) return;
+
+        for (TargetSelection sel : validSelections(state, ctx, ps.playerId(), exId, ci, selections, dummyOut)) {
+            out.add(new LegalAction.UseEx(ps.playerId(), exId, sel, need));
+        }
+    }
+
+    private static void summonActions(
+            GameState state,
+            EngineContext ctx,
+            PlayerState ps,
+            List<TargetSelection> selections,
+            List<GameEvent> dummyOut,
+            List<LegalAction> out
+    ) {
+        PlayerId pid = ps.playerId();
+        for (SummonState summon : state.summons().values()) {
+            if (!pid.equals(summon.owner())) continue;
+            if (summon.hp() <= 0 || summon.actionUsedThisTurn()) continue;
+            if (ps.ap() < summon.actionCost()) continue;
+
+            CardInstance source = state.card(summon.sourceCardId());
+            if (source == null) continue;
+
+            for (TargetSelection sel : validSelections(state, ctx, pid, summon.sourceCardId(), source, selections, dummyOut)) {
+                out.add(new LegalAction.UseSummonAction(pid, summon.id(), sel));
+            }
+        }
+    }
+
+    /** 카드 효과 validate만 대상 후보별로 돌린다. 빈 선택이 통과하면 대상 무관 카드로 본다. */
+    private static List<TargetSelection> validSelections(
+            GameState state,
+            EngineContext ctx,
+            PlayerId pid,
+            CardInstId cardId,
+            CardInstance ci,
+            List<TargetSelection> selections,
+            List<GameEvent> dummyOut
+    ) {
+        var effect = ctx.effect(ci.defId());
+        List<TargetSelection> ok = new ArrayList<>(2);
+        for (TargetSelection sel : selections) {
+            EffectContext ec = new EffectContext(state, ctx, pid, cardId, sel, dummyOut);
+            if (!effect.validate(ec).isEmpty()) continue;
+            ok.add(sel);
+            if (sel.targets().isEmpty()) break;
+        }
+        return ok;
+    }
+
+    /** 빈 선택 + 살아 있는 플레이어/적/소환체 1명씩. 빈 선택이 항상 맨 앞. */
+    public static List<TargetSelection> targetSelections(GameState state) {
+        List<TargetSelection> out = new ArrayList<>();
+        out.add(TargetSelection.empty());
+        for (PlayerState p : state.players().values()) {
+            if (p.hp() > 0) out.add(new TargetSelection(List.of(TargetRef.ofPlayer(p.playerId()))));
+        }
+        for (EnemyState e : state.enemies().values()) {
+            if (e.hp() > 0) out.add(new TargetSelection(List.of(TargetRef.ofEnemy(e.enemyId()))));
+        }
+        for (SummonState s : state.summons().values()) {
+            if (s.hp() > 0) out.add(new TargetSelection(List.of(TargetRef.ofSummon(s.owner(), s.id()))));
+        }
+        return out;
+    }
+
+    private static void decisionActions(GameState state, EngineContext ctx, PlayerState ps, List<LegalAction> out) {
+        PlayerId pid = ps.playerId();
+        PendingDecision pd = ps.pendingDecision();
+
+        if (pd instanceof PendingDecision.DiscardToHandLimit dt) {
+            int effectiveLimit = Math.max(dt.limit(), HandLimitOps.immovableCountInHand(state, ctx, ps));
+            int need = Math.max(0, ps.hand().size() - effectiveLimit);
+            List<CardInstId> discardable = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+            for (CardInstId id : ps.hand()) {
+                errors.clear();
+                KeywordOps.validateDiscard(state, ctx, ps, id, DiscardReason.HAND_LIMIT, errors);
+                if (errors.isEmpty()) discardable.add(id);
+            }
+            if (discardable.size() >= need) out.add(new LegalAction.DiscardToHandLimit(pid, need, discardable));
+        } else if (pd instanceof PendingDecision.SearchPick sp) {
+            out.add(new LegalAction.SearchPick(pid, sp.pickCount(), sp.candidateIds()));
+        } else if (pd instanceof PendingDecision.InitiativeTieOrder tie) {
+            CombatState cs = state.combat();
+            if (cs == null || cs.phase() != CombatPhase.INITIATIVE_TIE_DECISION) return;
+            if (tie.groupIndex() < 0 || tie.groupIndex() >= cs.initiativeTieGroups().size()) return;
+            List<String> group = cs.initiativeTieGroups().get(tie.groupIndex());
+            if (!group.contains(CombatState.actorKey(TargetRef.ofPlayer(pid)))) return;
+            out.add(new LegalAction.InitiativeTieOrder(pid, tie.groupIndex(), group));
+        }
+    }
+}
@@ -80,7 +80,7 @@ public final class CombatEntityOps {
             ZoneOps.moveToZoneOrVanishIfToken(state, ctx, owner, summon.sourceCardId(), Zone.GRAVE, out, MoveReason.DESTROY);
         } else {
             owner.activeSummons().remove(s.summonId());
-            owner.summonByCard().entrySet().removeIf(e -> e.getValue().equals(s.summonId()));
+            owner.unbindSummonId(s.summonId());
             state.summons().remove(s.summonId());
         }
 
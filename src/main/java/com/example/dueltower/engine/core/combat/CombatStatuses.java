@@ -6,9 +6,9 @@ public final class CombatStatuses {
     private CombatStatuses() {}
 
     /** 전투 중 덱/묘지 고갈로 인한 [전투 불능] (전투 한정). */
-    public static final String BATTLE_INCAPACITATED = "BATTLE_INCAPACITATED";
+    public static final String BATTLE_INCAPACITATED = PlayerState.BATTLE_INCAPACITATED;
     /** HP 0 도달로 인한 [전투 불능] (전투 간 지속). */
-    public static final String BATTLE_INCAPACITATED_PERSISTENT = "BATTLE_INCAPACITATED_PERSISTENT";
+    public static final String BATTLE_INCAPACITATED_PERSISTENT = PlayerState.BATTLE_INCAPACITATED_PERSISTENT;
 
     /** 현재 전투 기준 행동 불가 여부(전투 한정 + 지속형 모두 포함). */
     public static boolean isBattleIncapacitated(PlayerState ps) {
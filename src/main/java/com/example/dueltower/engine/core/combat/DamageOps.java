@@ -2,7 +2,10 @@ package com.example.dueltower.engine.core.combat;
 
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.passive.PassiveOps;
+import com.example.dueltower.engine.core.effect.status.StatusHook;
 import com.example.dueltower.engine.core.effect.status.StatusRuntime;
+import com.example.dueltower.engine.core.trace.DamageEvent;
+import com.example.dueltower.engine.core.trace.StatusHookEvent;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
 
@@ -33,6 +36,29 @@ public final class DamageOps {
 
         DamageFlags f = (flags == null) ? DamageFlags.NONE : flags;
 
+        DamageEvent jfr = new DamageEvent();
+        jfr.begin();
+        int dealt = applyModified(state, ctx, out, sourceRef, source, target, amount, f);
+        if (jfr.shouldCommit()) {
+            jfr.source = source;
+            jfr.target = CombatEntityOps.targetLabel(target);
+            jfr.requested = amount;
+            jfr.dealt = dealt;
+            jfr.commit();
+        }
+    }
+
+    /** 변형 후 실제로 HP에 적용한 피해량을 돌려준다. */
+    private static int applyModified(
+            GameState state,
+            EngineContext ctx,
+            List<GameEvent> out,
+            TargetRef sourceRef,
+            String source,
+            TargetRef target,
+            int amount,
+            DamageFlags f
+    ) {
         StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
         int remaining = amount;
 
@@ -41,12 +67,12 @@ public final class DamageOps {
             remaining = PassiveOps.onOutgoingDamage(state, ctx, out, sourceRef, target, remaining, source);
             remaining = applyOutgoing(state, ctx, rt, sourceRef, target, remaining);
         }
-        if (remaining <= 0) return;
+        if (remaining <= 0) return 0;
 
         // 1) '받는 피해' 변형 순서: passive -> status(대상 상태 + 대상 진영 상태)
         remaining = PassiveOps.onIncomingDamage(state, ctx, out, sourceRef, target, remaining, source);
         remaining = applyIncoming(state, ctx, rt, sourceRef, target, remaining, f);
-        if (remaining <= 0) return;
+        if (remaining <= 0) return 0;
 
         // 2) HP 적용
         CombatEntityOps.adjustHp(state, ctx, out, target, -remaining);
@@ -54,16 +80,20 @@ public final class DamageOps {
                 source + " deals " + remaining + " to " + CombatEntityOps.targetLabel(target)
                         + " (hp=" + CombatEntityOps.hpText(state, target) + ")"
         ));
+        return remaining;
     }
 
     private record HookEntry(StatusOwnerRef owner, String statusId, int priority) {}
 
     private static int applyOutgoing(GameState state, EngineContext ctx, StatusRuntime rt, TargetRef source, TargetRef target, int amount) {
+        Set<String> hooked = ctx.statusHooks().ids(StatusHook.OUTGOING_DAMAGE);
+        if (hooked.isEmpty()) return Math.max(amount, 0);
         int cur = amount;
         List<HookEntry> entries = new ArrayList<>();
 
         var ownerChar = StatusOwnerRef.of(source);
         for (String k : rt.statusMap(ownerChar).keySet()) {
+            if (!hooked.contains(k)) continue;
             entries.add(new HookEntry(ownerChar, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
         }
 
@@ -71,6 +101,7 @@ public final class DamageOps {
         if (cs != null) {
             var ownerFaction = StatusOwnerRef.of(CombatState.factionOf(source));
             for (String k : rt.statusMap(ownerFaction).keySet()) {
+                if (!hooked.contains(k)) continue;
                 entries.add(new HookEntry(ownerFaction, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
             }
         }
@@ -80,10 +111,11 @@ public final class DamageOps {
         for (HookEntry it : entries) {
             if (cur <= 0) { cur = 0; break; }
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onOutgoingDamage", k, it.owner(), stacks);
             cur = ctx.statusEffect(k).onOutgoingDamage(rt, it.owner(), source, target, cur);
+            jfr.commit();
         }
         return Math.max(cur, 0);
     }
@@ -97,11 +129,14 @@ public final class DamageOps {
             int amount,
             DamageFlags flags
     ) {
+        Set<String> hooked = ctx.statusHooks().ids(StatusHook.INCOMING_DAMAGE);
+        if (hooked.isEmpty()) return Math.max(amount, 0);
         int cur = amount;
         List<HookEntry> entries = new ArrayList<>();
 
         var ownerChar = StatusOwnerRef.of(target);
         for (String k : rt.statusMap(ownerChar).keySet()) {
+            if (!hooked.contains(k)) continue;
             entries.add(new HookEntry(ownerChar, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
         }
 
@@ -109,6 +144,7 @@ public final class DamageOps {
         if (cs != null) {
             var ownerFaction = StatusOwnerRef.of(CombatState.factionOf(target));
             for (String k : rt.statusMap(ownerFaction).keySet()) {
+                if (!hooked.contains(k)) continue;
                 entries.add(new HookEntry(ownerFaction, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
             }
         }
@@ -127,10 +163,11 @@ public final class DamageOps {
                 if (flags.ignoreBarrier() && def.hasTag(StatusTag.BARRIER)) continue;
             }
 
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onIncomingDamage", k, it.owner(), stacks);
             cur = ctx.statusEffect(k).onIncomingDamage(rt, it.owner(), sourceRef, target, cur);
+            jfr.commit();
         }
         return Math.max(cur, 0);
     }
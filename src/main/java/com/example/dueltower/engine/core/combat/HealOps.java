@@ -2,6 +2,7 @@ package com.example.dueltower.engine.core.combat;
 
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.passive.PassiveOps;
+import com.example.dueltower.engine.core.effect.status.StatusHook;
 import com.example.dueltower.engine.core.effect.status.StatusRuntime;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.CombatState;
@@ -12,6 +13,7 @@ import com.example.dueltower.engine.model.TargetRef;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 public final class HealOps {
     private HealOps() {}
@@ -58,11 +60,10 @@ public final class HealOps {
 
     private static int applyOutgoing(GameState state, EngineContext ctx, StatusRuntime rt, TargetRef source, TargetRef target, int amount) {
         int cur = amount;
-        List<HookEntry> entries = collectStatusEntries(state, ctx, rt, source);
+        List<HookEntry> entries = collectStatusEntries(state, ctx, rt, source, StatusHook.OUTGOING_HEAL);
         for (HookEntry it : entries) {
             if (cur <= 0) return 0;
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
             cur = ctx.statusEffect(k).onOutgoingHeal(rt, it.owner(), source, target, cur);
@@ -72,11 +73,10 @@ public final class HealOps {
 
     private static int applyIncoming(GameState state, EngineContext ctx, StatusRuntime rt, TargetRef sourceRef, TargetRef target, int amount) {
         int cur = amount;
-        List<HookEntry> entries = collectStatusEntries(state, ctx, rt, target);
+        List<HookEntry> entries = collectStatusEntries(state, ctx, rt, target, StatusHook.INCOMING_HEAL);
         for (HookEntry it : entries) {
             if (cur <= 0) return 0;
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
             cur = ctx.statusEffect(k).onIncomingHeal(rt, it.owner(), sourceRef, target, cur);
@@ -84,10 +84,13 @@ public final class HealOps {
         return Math.max(cur, 0);
     }
 
-    private static List<HookEntry> collectStatusEntries(GameState state, EngineContext ctx, StatusRuntime rt, TargetRef owner) {
+    private static List<HookEntry> collectStatusEntries(GameState state, EngineContext ctx, StatusRuntime rt, TargetRef owner, StatusHook hook) {
+        Set<String> hooked = ctx.statusHooks().ids(hook);
+        if (hooked.isEmpty()) return List.of();
         List<HookEntry> entries = new ArrayList<>();
         var ownerChar = StatusOwnerRef.of(owner);
         for (String k : rt.statusMap(ownerChar).keySet()) {
+            if (!hooked.contains(k)) continue;
             entries.add(new HookEntry(ownerChar, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
         }
 
@@ -95,6 +98,7 @@ public final class HealOps {
         if (cs != null) {
             var ownerFaction = StatusOwnerRef.of(CombatState.factionOf(owner));
             for (String k : rt.statusMap(ownerFaction).keySet()) {
+                if (!hooked.contains(k)) continue;
                 entries.add(new HookEntry(ownerFaction, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
             }
         }
@@ -47,7 +47,7 @@ public final class TurnPhases {
             if (ps == null) throw new IllegalStateException("missing player: " + p.id().value());
 
             // 우선순위 규칙: 동일 우선순위에서는 카드 정의 ID 오름차순, 그다음 인스턴스 ID 오름차순
-            // (구현은 FieldEffectOps.orderedActiveCards 참고)
+            // (FieldEffectOps가 PlayerState.activeFieldCards를 이 순서로 유지한다)
             FieldEffectOps.onTurnStart(state, ctx, ps, out, source);
 
             ps.swappedThisTurn(false);
@@ -10,6 +10,8 @@ import java.util.List;
  *
  * Goal: after ANY command resolves (card, EX, status ticks, end turn, etc.),
  * ensure combat ends immediately if either side has no living units.
+ * Reads the live per-faction counters kept by GameState (AliveCounts), so a check is O(1)
+ * and can also be used mid-effect to stop resolving hits once the outcome is decided.
  */
 public final class VictoryOps {
     private VictoryOps() {}
@@ -22,15 +24,18 @@ public final class VictoryOps {
 
     public static Outcome check(GameState state) {
         // 승패 주체는 플레이어/적 본체만이며, 소환체는 포함하지 않는다.
-        boolean anyPlayerPrincipalAlive = state.players().values().stream()
-                .anyMatch(ps -> ps.hp() > 0 && !CombatStatuses.isBattleIncapacitated(ps));
-        boolean anyEnemyPrincipalAlive = state.enemies().values().stream().anyMatch(es -> es.hp() > 0);
-
-        if (!anyPlayerPrincipalAlive) return Outcome.PLAYERS_LOSE;
-        if (!anyEnemyPrincipalAlive) return Outcome.PLAYERS_WIN;
+        AliveCounts alive = state.alive();
+        if (alive.players() == 0) return Outcome.PLAYERS_LOSE;
+        if (alive.enemies() == 0) return Outcome.PLAYERS_WIN;
         return Outcome.NONE;
     }
 
+    /** 전투 중이고 승패가 이미 갈렸는지(효과 도중 남은 타격을 건너뛸 때 쓴다) */
+    public static boolean decided(GameState state) {
+        CombatState cs = state.combat();
+        return cs != null && cs.phase() != CombatPhase.END && check(state) != Outcome.NONE;
+    }
+
     /**
      * Run a check and, if ended, set combat phase to END and clear pending decisions.
      *
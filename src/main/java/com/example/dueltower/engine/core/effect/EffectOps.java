@@ -3,7 +3,7 @@ package com.example.dueltower.engine.core.effect;
 import com.example.dueltower.engine.core.combat.DamageFlags;
 import com.example.dueltower.engine.core.combat.DamageOps;
 import com.example.dueltower.engine.core.combat.HealOps;
-import com.example.dueltower.content.keyword.kdb.K011_Critical;
+import com.example.dueltower.engine.core.combat.VictoryOps;
 import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
 import com.example.dueltower.engine.core.effect.status.StatusRuntime;
 import com.example.dueltower.engine.core.effect.status.StatusOps;
@@ -73,6 +73,7 @@ public final class EffectOps {
             );
             DamageFlags flags = KeywordOps.damageFlags(ec.state(), ec.ctx(), src, ec.cardId(), resolved);
             for (int i = 0; i < hits; i++) {
+                if (VictoryOps.decided(ec.state())) return; // 승패가 갈렸으면 남은 타격은 의미 없음
                 DamageOps.apply(ec.state(), ec.ctx(), ec.out(), src, ec.actor().value(), resolved, amount, flags);
             }
         }
@@ -205,7 +206,7 @@ public final class EffectOps {
     }
 
     private boolean isCritical(TargetRef target, String kind) {
-        int crit = KeywordOps.keywordValue(ec.state(), ec.ctx(), ec.cardId(), K011_Critical.ID);
+        int crit = KeywordOps.caps(ec.state(), ec.ctx(), ec.cardId()).critical();
         if (crit <= 0) return false;
 
         int chance = Math.max(0, Math.min(100, crit * 10));
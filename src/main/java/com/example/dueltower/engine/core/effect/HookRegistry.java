@@ -0,0 +1,71 @@
+package com.example.dueltower.engine.core.effect;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 훅별로 "그 훅을 실제로 재정의한 효과 id" 집합을 시작 시 한 번 만들어 둔 것.
+ *
+ * - 효과 인터페이스의 훅은 대부분 기본(no-op) 구현이라, 재정의하지 않은 효과는 부를 필요가 없다.
+ * - 구현 클래스에서 찾은 메서드가 효과 인터페이스의 default 메서드 그대로면 미재정의로 본다.
+ *   (하위 인터페이스/프록시가 덮어쓴 경우나 조회에 실패한 경우는 재정의로 보고 그대로 부른다)
+ * - 세션마다 컨텍스트를 새로 만들므로 검사 결과는 구현 클래스별로 캐시한다.
+ */
+public final class HookRegistry<H extends Enum<H> & HookRegistry.Hook> {
+
+    /** 효과 인터페이스의 훅 메서드 1개(이름 + 파라미터 타입) */
+    public interface Hook {
+        String method();
+
+        Class<?>[] params();
+    }
+
+    private static final ClassValue<Map<Hook, Boolean>> OVERRIDES = new ClassValue<>() {
+        @Override
+        protected Map<Hook, Boolean> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final EnumMap<H, Set<String>> byHook;
+
+    private HookRegistry(EnumMap<H, Set<String>> byHook) {
+        this.byHook = byHook;
+    }
+
+    public static <H extends Enum<H> & Hook> HookRegistry<H> scan(Class<H> hooks, Class<?> iface, Map<String, ?> effects) {
+        EnumMap<H, Set<String>> byHook = new EnumMap<>(hooks);
+        for (H h : hooks.getEnumConstants()) {
+            Set<String> ids = new HashSet<>();
+            for (var e : effects.entrySet()) {
+                Class<?> impl = e.getValue().getClass();
+                if (OVERRIDES.get(impl).computeIfAbsent(h, k -> overrides(impl, iface, k))) ids.add(e.getKey());
+            }
+            byHook.put(h, Set.copyOf(ids));
+        }
+        return new HookRegistry<>(byHook);
+    }
+
+    static boolean overrides(Class<?> impl, Class<?> iface, Hook hook) {
+        try {
+            Method m = impl.getMethod(hook.method(), hook.params());
+            return !(m.isDefault() && m.getDeclaringClass() == iface);
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /** 이 훅을 재정의한 효과가 하나라도 있는지(없으면 수집/순회 자체를 건너뛴다) */
+    public boolean any(H hook) {
+        return !byHook.get(hook).isEmpty();
+    }
+
+    public boolean has(H hook, String id) {
+        return byHook.get(hook).contains(id);
+    }
+
+    public Set<String> ids(H hook) {
+        return byHook.get(hook);
+    }
+}
@@ -1,25 +1,34 @@
 package com.example.dueltower.engine.core.effect.card;
 
-import com.example.dueltower.content.keyword.kdb.K003_Installed;
-import com.example.dueltower.content.keyword.kdb.K004_Summon;
 import com.example.dueltower.content.status.sdb.S901_InstalledFieldBuff;
 import com.example.dueltower.content.status.sdb.S902_SummonFieldAura;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.keyword.KeywordCaps;
 import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
 import com.example.dueltower.engine.core.effect.status.StatusRuntime;
+import com.example.dueltower.engine.core.trace.FieldEffectHookEvent;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 
+/**
+ * 필드 카드의 지속 효과 훅(진입/이탈/턴 시작/턴 종료).
+ *
+ * - 활성 카드 목록은 PlayerState.activeFieldCards에 정렬된 채로 두고 진입/이탈 때만 고친다(턴마다 정렬하지 않음).
+ * - 목록이 없으면(디코드/직접 만든 상태) 필드와 소환 카드에서 한 번 다시 만든다.
+ */
 public final class FieldEffectOps {
     private FieldEffectOps() {}
 
+    private static final CardInstId[] NONE = new CardInstId[0];
+
     public static void onEnterField(GameState state, EngineContext ctx, PlayerState owner, CardInstId cardId, List<GameEvent> out, String source) {
         withActiveTransition(state, ctx, owner, cardId, out, source, true, (ec, effect, sourceCardId) -> {
             applyKeywordAura(ec, sourceCardId, +1);
@@ -35,20 +44,24 @@ public final class FieldEffectOps {
     }
 
     public static void onTurnStart(GameState state, EngineContext ctx, PlayerState owner, List<GameEvent> out, String source) {
-        for (CardInstId sourceCardId : orderedActiveCards(state, owner)) {
+        for (CardInstId sourceCardId : activeCards(state, owner)) { // 배열은 불변이라 훅 도중 진입/이탈해도 이번 순회는 그대로
             CardInstance ci = state.card(sourceCardId);
             if (ci == null || !ci.fieldEffectActive()) continue;
             EffectContext ec = new EffectContext(state, ctx, owner.playerId(), sourceCardId, TargetSelection.empty(), out);
+            FieldEffectHookEvent jfr = FieldEffectHookEvent.begin("onTurnStart", ci.defId().value(), sourceCardId.value().toString(), owner.playerId().value());
             ctx.effect(ci.defId()).onTurnStart(ec, sourceCardId);
+            jfr.commit();
         }
     }
 
     public static void onTurnEnd(GameState state, EngineContext ctx, PlayerState owner, List<GameEvent> out, String source) {
-        for (CardInstId sourceCardId : orderedActiveCards(state, owner)) {
+        for (CardInstId sourceCardId : activeCards(state, owner)) { // 배열은 불변이라 훅 도중 진입/이탈해도 이번 순회는 그대로
             CardInstance ci = state.card(sourceCardId);
             if (ci == null || !ci.fieldEffectActive()) continue;
             EffectContext ec = new EffectContext(state, ctx, owner.playerId(), sourceCardId, TargetSelection.empty(), out);
+            FieldEffectHookEvent jfr = FieldEffectHookEvent.begin("onTurnEnd", ci.defId().value(), sourceCardId.value().toString(), owner.playerId().value());
             ctx.effect(ci.defId()).onTurnEnd(ec, sourceCardId);
+            jfr.commit();
         }
     }
 
@@ -58,11 +71,12 @@ public final class FieldEffectOps {
         EngineContext ctx = ec.ctx();
 
         StatusRuntime rt = new StatusRuntime(state, ctx, ec.out(), "FIELD_EFFECT");
-        if (KeywordOps.hasKeyword(state, ctx, sourceCardId, K003_Installed.ID)) {
+        KeywordCaps caps = KeywordOps.caps(state, ctx, sourceCardId);
+        if (caps.has(KeywordCaps.INSTALLED)) {
             rt.stacksAdd(TargetRef.ofPlayer(ec.actor()), S901_InstalledFieldBuff.ID, delta);
         }
 
-        if (KeywordOps.hasKeyword(state, ctx, sourceCardId, K004_Summon.ID)) {
+        if (caps.has(KeywordCaps.SUMMON)) {
             if (state.combat() == null) return;
             rt.stacksAdd(StatusOwnerRef.of(CombatState.FactionId.PLAYERS), S902_SummonFieldAura.ID, delta);
         }
@@ -94,23 +108,65 @@ public final class FieldEffectOps {
             EffectContext ec = new EffectContext(state, ctx, owner.playerId(), cardId, TargetSelection.empty(), out);
             CardEffect effect = ctx.effect(ci.defId());
             action.run(ec, effect, cardId);
+            CardInstId[] active = activeCards(state, owner);
             ci.fieldEffectActive(entering);
+            owner.activeFieldCards(entering ? insert(state, active, cardId) : remove(active, cardId));
         } finally {
             ci.fieldEffectTransitioning(false);
         }
     }
 
-    private static List<CardInstId> orderedActiveCards(GameState state, PlayerState owner) {
-        LinkedHashSet<CardInstId> ids = new LinkedHashSet<>(owner.field());
-        ids.addAll(owner.summonByCard().keySet());
-
-        List<CardInstId> ordered = new ArrayList<>(ids);
-        ordered.sort(Comparator
+    /** 턴 훅 순서: 정의 id, 같으면 인스턴스 id */
+    private static Comparator<CardInstId> order(GameState state) {
+        return Comparator
                 .comparing((CardInstId id) -> {
                     CardInstance ci = state.card(id);
                     return (ci == null) ? "~" : ci.defId().value();
                 })
-                .thenComparing(id -> id.value().toString()));
-        return ordered;
+                .thenComparing(id -> id.value().toString());
+    }
+
+    private static CardInstId[] activeCards(GameState state, PlayerState owner) {
+        CardInstId[] active = owner.activeFieldCards();
+        if (active != null) return active;
+
+        LinkedHashSet<CardInstId> ids = new LinkedHashSet<>(owner.field());
+        ids.addAll(owner.summonByCard().keySet());
+
+        List<CardInstId> ordered = new ArrayList<>(ids.size());
+        for (CardInstId id : ids) {
+            CardInstance ci = state.card(id);
+            if (ci != null && ci.fieldEffectActive()) ordered.add(id);
+        }
+        ordered.sort(order(state));
+        active = ordered.isEmpty() ? NONE : ordered.toArray(NONE);
+        owner.activeFieldCards(active);
+        return active;
+    }
+
+    private static CardInstId[] insert(GameState state, CardInstId[] active, CardInstId id) {
+        for (CardInstId it : active) {
+            if (it.equals(id)) return active;
+        }
+        int at = Arrays.binarySearch(active, id, order(state));
+        if (at < 0) at = -at - 1;
+
+        CardInstId[] next = new CardInstId[active.length + 1];
+        System.arraycopy(active, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(active, at, next, at + 1, active.length - at);
+        return next;
+    }
+
+    private static CardInstId[] remove(CardInstId[] active, CardInstId id) {
+        for (int i = 0; i < active.length; i++) {
+            if (!active[i].equals(id)) continue;
+            if (active.length == 1) return NONE;
+            CardInstId[] next = new CardInstId[active.length - 1];
+            System.arraycopy(active, 0, next, 0, i);
+            System.arraycopy(active, i + 1, next, i, active.length - i - 1);
+            return next;
+        }
+        return active;
     }
 }
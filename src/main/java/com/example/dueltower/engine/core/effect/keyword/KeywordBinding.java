@@ -0,0 +1,33 @@
+package com.example.dueltower.engine.core.effect.keyword;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 정의 1개에 붙은 키워드 1개를 효과 구현체와 미리 묶어 둔 것.
+ * EngineContext가 카드 정의마다 한 번 만들고, KeywordOps는 이 배열만 돈다(호출마다 trim/조회/할당 없음).
+ */
+public record KeywordBinding(KeywordEffect effect, KeywordRuntime runtime) {
+
+    static final KeywordBinding[] NONE = new KeywordBinding[0];
+
+    /**
+     * keywords 순서대로, 값이 0이 아니고 효과 구현이 있는 키워드만 묶는다(모르는 키워드는 동작 없음).
+     * 값이 null이면 플래그 키워드로 보고 1을 쓴다.
+     */
+    public static KeywordBinding[] compile(Map<String, Integer> keywords, Map<String, KeywordEffect> effects) {
+        if (keywords == null || keywords.isEmpty()) return NONE;
+
+        List<KeywordBinding> out = new ArrayList<>(keywords.size());
+        for (var e : keywords.entrySet()) {
+            KeywordRuntime rt = new KeywordRuntime(e.getKey(), e.getValue() == null ? 1 : e.getValue());
+            if (!rt.present()) continue;
+
+            KeywordEffect eff = effects.get(rt.id());
+            if (eff == null) continue;
+            out.add(new KeywordBinding(eff, rt));
+        }
+        return out.isEmpty() ? NONE : out.toArray(NONE);
+    }
+}
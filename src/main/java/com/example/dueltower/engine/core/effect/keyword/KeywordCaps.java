@@ -0,0 +1,78 @@
+package com.example.dueltower.engine.core.effect.keyword;
+
+import com.example.dueltower.content.keyword.kdb.*;
+
+import java.util.Map;
+
+/**
+ * 카드 정의 1개의 키워드 보유 여부(비트)와 소환/치명 수치를 미리 뽑아 둔 것.
+ * EngineContext가 카드 정의마다 한 번 만들고, 손패 제한/필드/소환 판정은 맵 조회 대신 비트 검사만 한다.
+ *
+ * - 비트는 정의에 값이 0이 아닌 키워드가 있으면 선다(hasKeyword와 같은 기준).
+ * - 부동은 효과 구현이 등록된 경우에만 선다(손패 제한 판정이 blocksDiscard 훅을 거치던 동작 유지).
+ * - 소환 수치는 SummonOps가 쓰던 하한을 미리 적용해 둔다(체력 1 이상, 나머지 0 이상).
+ */
+public record KeywordCaps(
+        long bits,
+        int summonHp,
+        int summonAttack,
+        int summonHeal,
+        int summonActionCost,
+        int critical
+) {
+    public static final long INSTALLED = 1L;
+    public static final long SUMMON = 1L << 1;
+    public static final long EXCLUDED = 1L << 2;
+    public static final long IMMOVABLE = 1L << 3;
+    public static final long CLEAR_MIND = 1L << 4;
+    public static final long ACCURATE = 1L << 5;
+    public static final long PENETRATION = 1L << 6;
+    public static final long TENACITY = 1L << 7;
+    public static final long CRITICAL = 1L << 8;
+    public static final long AMPLIFY = 1L << 9;
+    public static final long CHARGE = 1L << 10;
+
+    public static final KeywordCaps NONE = new KeywordCaps(0L, 1, 0, 0, 0, 0);
+
+    private static final Map<String, Long> BITS = Map.ofEntries(
+            Map.entry(K003_Installed.ID, INSTALLED),
+            Map.entry(K004_Summon.ID, SUMMON),
+            Map.entry(K005_Excluded.ID, EXCLUDED),
+            Map.entry(K006_Immovable.ID, IMMOVABLE),
+            Map.entry(K007_ClearMind.ID, CLEAR_MIND),
+            Map.entry(K008_Accurate.ID, ACCURATE),
+            Map.entry(K009_Penetration.ID, PENETRATION),
+            Map.entry(K010_Tenacity.ID, TENACITY),
+            Map.entry(K011_Critical.ID, CRITICAL),
+            Map.entry(K012_Amplify.ID, AMPLIFY),
+            Map.entry(K013_Charge.ID, CHARGE)
+    );
+
+    public boolean has(long cap) {
+        return (bits & cap) != 0;
+    }
+
+    public static KeywordCaps compile(Map<String, Integer> keywords, Map<String, KeywordEffect> effects) {
+        if (keywords == null || keywords.isEmpty()) return NONE;
+
+        long bits = 0L;
+        for (var e : BITS.entrySet()) {
+            if (value(keywords, e.getKey()) != 0) bits |= e.getValue();
+        }
+        if (!effects.containsKey(K006_Immovable.ID)) bits &= ~IMMOVABLE;
+
+        return new KeywordCaps(
+                bits,
+                Math.max(1, value(keywords, K901_SummonHp.ID)),
+                Math.max(0, value(keywords, K902_SummonAttackPower.ID)),
+                Math.max(0, value(keywords, K903_SummonHealingPower.ID)),
+                Math.max(0, value(keywords, K904_Action.ID)),
+                value(keywords, K011_Critical.ID)
+        );
+    }
+
+    private static int value(Map<String, Integer> keywords, String id) {
+        Integer v = keywords.get(id);
+        return v == null ? 0 : v;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 
 /**
  * Helper methods to run keyword hooks for a card instance.
+ * Hooks iterate the per-definition bindings precompiled by EngineContext (no per-call parsing or lookups).
  */
 public final class KeywordOps {
     private KeywordOps() {}
@@ -34,6 +35,21 @@ public final class KeywordOps {
         return keywordValue(state, ctx, cardId, keywordId) != 0;
     }
 
+    /**
+     * Precompiled keyword capabilities of a card instance ({@link KeywordCaps#NONE} if the instance is missing).
+     * Prefer this over {@link #hasKeyword} for the built-in keywords.
+     */
+    public static KeywordCaps caps(GameState state, EngineContext ctx, Ids.CardInstId cardId) {
+        if (cardId == null) return KeywordCaps.NONE;
+        CardInstance ci = state.card(cardId);
+        if (ci == null) return KeywordCaps.NONE;
+        return ctx.keywordCaps(ci.defId());
+    }
+
+    public static boolean hasCap(GameState state, EngineContext ctx, Ids.CardInstId cardId, long cap) {
+        return caps(state, ctx, cardId).has(cap);
+    }
+
     public static boolean blocksDiscard(
             GameState state, EngineContext ctx, PlayerState ps, CardInstId id, DiscardReason reason
     ) {
@@ -41,21 +57,13 @@ public final class KeywordOps {
         CardInstance ci = state.card(id);
         if (ci == null) return false;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return false;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return false;
 
         DiscardCtx dc = new DiscardCtx(ps, id, reason);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-
-            if (!ctx.hasKeywordEffect(rt.id())) continue; // unknown keyword: no behavior
-            if (ctx.keywordEffect(rt.id()).blocksDiscard(rt, dc)) return true;
+        for (KeywordBinding b : kbs) {
+            if (b.effect().blocksDiscard(b.runtime(), dc)) return true;
         }
         return false;
     }
@@ -81,21 +89,13 @@ public final class KeywordOps {
             return;
         }
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return;
 
         DiscardCtx dc = new DiscardCtx(ps, id, reason);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-
-            if (!ctx.hasKeywordEffect(rt.id())) continue; // unknown keyword: no behavior
-            ctx.keywordEffect(rt.id()).validateDiscard(rt, dc, errors);
+        for (KeywordBinding b : kbs) {
+            b.effect().validateDiscard(b.runtime(), dc, errors);
         }
     }
 
@@ -111,22 +111,14 @@ public final class KeywordOps {
         CardInstance ci = state.card(id);
         if (ci == null) return to;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return to;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return to;
 
         MoveCtx mc = new MoveCtx(ps, id, from, to, reason == null ? MoveReason.OTHER : reason);
         Zone current = to;
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-
-            if (!ctx.hasKeywordEffect(rt.id())) continue; // unknown keyword: no behavior
-            Zone next = ctx.keywordEffect(rt.id()).overrideMoveDestination(rt, mc, current);
+        for (KeywordBinding b : kbs) {
+            Zone next = b.effect().overrideMoveDestination(b.runtime(), mc, current);
             current = (next == null) ? current : next;
         }
         return current;
@@ -151,11 +143,10 @@ public final class KeywordOps {
         CardInstance ci = state.card(exId);
         if (ci == null) return current;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return current;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return current;
 
-        boolean isExCard = (def.type() == CardType.EX);
+        boolean isExCard = (ctx.def(ci.defId()).type() == CardType.EX);
 
         ExActivationCtx ac = new ExActivationCtx(
                 ps,
@@ -167,15 +158,8 @@ public final class KeywordOps {
 
         boolean cur = current;
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-
-            if (!ctx.hasKeywordEffect(rt.id())) continue; // unknown keyword: no behavior
-            cur = ctx.keywordEffect(rt.id()).overrideExActivatable(rt, ac, cur);
+        for (KeywordBinding b : kbs) {
+            cur = b.effect().overrideExActivatable(b.runtime(), ac, cur);
         }
 
         return cur;
@@ -195,21 +179,13 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return false;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return false;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return false;
 
         EnemyOneTargetCtx tc = new EnemyOneTargetCtx(actor, cardId, chosenEnemy);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            if (ctx.keywordEffect(rt.id()).ignoresTaunt(rt, tc)) return true;
+        for (KeywordBinding b : kbs) {
+            if (b.effect().ignoresTaunt(b.runtime(), tc)) return true;
         }
         return false;
     }
@@ -230,21 +206,13 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return;
 
         ApDebtCtx ac = new ApDebtCtx(ps, cardId);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            ctx.keywordEffect(rt.id()).validateApDebtPayment(rt, ac, cost, have, errors);
+        for (KeywordBinding b : kbs) {
+            b.effect().validateApDebtPayment(b.runtime(), ac, cost, have, errors);
         }
     }
 
@@ -263,21 +231,13 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return false;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return false;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return false;
 
         ApDebtCtx ac = new ApDebtCtx(ps, cardId);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            if (ctx.keywordEffect(rt.id()).allowsApDebtPayment(rt, ac, cost, have)) return true;
+        for (KeywordBinding b : kbs) {
+            if (b.effect().allowsApDebtPayment(b.runtime(), ac, cost, have)) return true;
         }
         return false;
     }
@@ -297,22 +257,14 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return 0;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return 0;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return 0;
 
         ApDebtCtx ac = new ApDebtCtx(ps, cardId);
         int best = 0;
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            int d = ctx.keywordEffect(rt.id()).apDebtAmount(rt, ac, cost, have);
+        for (KeywordBinding b : kbs) {
+            int d = b.effect().apDebtAmount(b.runtime(), ac, cost, have);
             if (d > best) best = d;
         }
         return Math.max(0, best);
@@ -338,9 +290,8 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return DamageFlags.NONE;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return DamageFlags.NONE;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return DamageFlags.NONE;
 
         DamageKeywordCtx dc = new DamageKeywordCtx(source, cardId, target);
 
@@ -348,15 +299,9 @@ public final class KeywordOps {
         boolean ignoreShield = false;
         boolean ignoreBarrier = false;
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            var eff = ctx.keywordEffect(rt.id());
+        for (KeywordBinding b : kbs) {
+            KeywordEffect eff = b.effect();
+            KeywordRuntime rt = b.runtime();
             if (eff.ignoresEvasion(rt, dc)) ignoreEvasion = true;
             if (eff.ignoresShield(rt, dc)) ignoreShield = true;
             if (eff.ignoresBarrier(rt, dc)) ignoreBarrier = true;
@@ -382,21 +327,13 @@ public final class KeywordOps {
         CardInstance ci = state.card(cardId);
         if (ci == null) return;
 
-        CardDefinition def = ctx.def(ci.defId());
-        Map<String, Integer> kws = def.keywords();
-        if (kws == null || kws.isEmpty()) return;
+        KeywordBinding[] kbs = ctx.keywordBindings(ci.defId());
+        if (kbs.length == 0) return;
 
         AfterPlayCardCtx pc = new AfterPlayCardCtx(ps, cardId, cost, haveBeforePay, debt);
 
-        for (var e : kws.entrySet()) {
-            String kid = (e.getKey() == null) ? "" : e.getKey().trim();
-            int val = (e.getValue() == null) ? 1 : e.getValue();
-
-            KeywordRuntime rt = new KeywordRuntime(kid, val);
-            if (!rt.present()) continue;
-            if (!ctx.hasKeywordEffect(rt.id())) continue;
-
-            ctx.keywordEffect(rt.id()).onAfterPlayCard(rt, pc);
+        for (KeywordBinding b : kbs) {
+            b.effect().onAfterPlayCard(b.runtime(), pc);
         }
     }
 }
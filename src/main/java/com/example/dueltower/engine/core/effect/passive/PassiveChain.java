@@ -0,0 +1,57 @@
+package com.example.dueltower.engine.core.effect.passive;
+
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.model.PassiveChainCache;
+import com.example.dueltower.engine.model.PlayerState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * 플레이어 1명의 패시브를 우선순위(동률이면 id) 순으로 정렬해, 훅별로 그 훅을 재정의한 효과만 담아 둔 것.
+ *
+ * - 패시브는 첫 참가 때 정해지고 바뀌지 않으므로 PlayerState에 한 번 만들어 두고 모든 훅 호출이 재사용한다.
+ * - passiveIds가 바뀌면 PlayerState가 캐시를 비우고, 다른 컨텍스트로 부르면 다시 만든다.
+ * - fork한 상태는 같은 체인을 공유한다(불변).
+ */
+final class PassiveChain implements PassiveChainCache {
+    private static final PassiveEffect[] NONE = new PassiveEffect[0];
+
+    private final EngineContext ctx;
+    private final EnumMap<PassiveHook, PassiveEffect[]> byHook;
+
+    private PassiveChain(EngineContext ctx, EnumMap<PassiveHook, PassiveEffect[]> byHook) {
+        this.ctx = ctx;
+        this.byHook = byHook;
+    }
+
+    static PassiveChain of(EngineContext ctx, PlayerState ps) {
+        if (ps.passiveChainCache() instanceof PassiveChain c && c.ctx == ctx) return c;
+        PassiveChain c = build(ctx, ps.passiveIds());
+        ps.passiveChainCache(c);
+        return c;
+    }
+
+    PassiveEffect[] effects(PassiveHook hook) {
+        return byHook.get(hook);
+    }
+
+    private static PassiveChain build(EngineContext ctx, List<String> passiveIds) {
+        List<String> ordered = new ArrayList<>(passiveIds);
+        ordered.sort(Comparator
+                .comparingInt((String id) -> ctx.hasPassiveDef(id) ? ctx.passiveDef(id).priority() : Integer.MAX_VALUE)
+                .thenComparing(Comparator.naturalOrder()));
+
+        EnumMap<PassiveHook, PassiveEffect[]> byHook = new EnumMap<>(PassiveHook.class);
+        for (PassiveHook hook : PassiveHook.values()) {
+            List<PassiveEffect> effects = new ArrayList<>();
+            for (String id : ordered) {
+                if (ctx.passiveHooks().has(hook, id)) effects.add(ctx.passiveEffect(id));
+            }
+            byHook.put(hook, effects.isEmpty() ? NONE : effects.toArray(NONE));
+        }
+        return new PassiveChain(ctx, byHook);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.dueltower.engine.core.effect.passive;
+
+import com.example.dueltower.engine.core.effect.HookRegistry;
+import com.example.dueltower.engine.model.CardDefinition;
+import com.example.dueltower.engine.model.CardInstance;
+import com.example.dueltower.engine.model.TargetRef;
+
+import java.util.List;
+
+/** PassiveEffect 훅 목록(HookRegistry 스캔용) */
+public enum PassiveHook implements HookRegistry.Hook {
+    INCOMING_DAMAGE("onIncomingDamage", PassiveRuntime.class, TargetRef.class, TargetRef.class, int.class),
+    OUTGOING_DAMAGE("onOutgoingDamage", PassiveRuntime.class, TargetRef.class, TargetRef.class, int.class),
+    INCOMING_HEAL("onIncomingHeal", PassiveRuntime.class, TargetRef.class, TargetRef.class, int.class),
+    OUTGOING_HEAL("onOutgoingHeal", PassiveRuntime.class, TargetRef.class, TargetRef.class, int.class),
+    COST("onCost", PassiveRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class, int.class),
+    VALIDATE_PLAY_CARD("validatePlayCard", PassiveRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class, List.class),
+    AFTER_PLAY_CARD("onAfterPlayCard", PassiveRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class),
+    TURN_END("onTurnEnd", PassiveRuntime.class, TargetRef.class),
+    TURN_START("onTurnStart", PassiveRuntime.class, TargetRef.class);
+
+    private final String method;
+    private final Class<?>[] params;
+
+    PassiveHook(String method, Class<?>... params) {
+        this.method = method;
+        this.params = params;
+    }
+
+    @Override
+    public String method() {
+        return method;
+    }
+
+    @Override
+    public Class<?>[] params() {
+        return params.clone();
+    }
+}
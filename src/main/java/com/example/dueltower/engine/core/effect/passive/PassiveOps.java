@@ -5,26 +5,21 @@ import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 public final class PassiveOps {
     private PassiveOps() {}
 
-    private record HookEntry(String passiveId, int priority) {}
+    private static final PassiveEffect[] NONE = new PassiveEffect[0];
 
-    private static List<HookEntry> collectEntries(GameState state, EngineContext ctx, TargetRef actor) {
-        if (!(actor instanceof TargetRef.Player p)) return List.of();
+    /** 이 훅을 재정의한 패시브 효과를 우선순위 순으로(플레이어별 캐시된 체인, 플레이어가 아니면 빈 배열) */
+    private static PassiveEffect[] chain(GameState state, EngineContext ctx, TargetRef actor, PassiveHook hook) {
+        if (!(actor instanceof TargetRef.Player p)) return NONE;
+        if (!ctx.passiveHooks().any(hook)) return NONE;
 
         PlayerState ps = state.player(p.id());
-        if (ps == null) return List.of();
-
-        List<HookEntry> entries = new ArrayList<>();
-        for (String id : ps.passiveIds()) {
-            entries.add(new HookEntry(id, ctx.hasPassiveDef(id) ? ctx.passiveDef(id).priority() : Integer.MAX_VALUE));
-        }
-        entries.sort(Comparator.comparingInt(HookEntry::priority).thenComparing(HookEntry::passiveId));
-        return entries;
+        if (ps == null) return NONE;
+        return PassiveChain.of(ctx, ps).effects(hook);
     }
 
     public static int modifiedCost(
@@ -37,11 +32,14 @@ public final class PassiveOps {
             List<GameEvent> out,
             String source
     ) {
-        PassiveRuntime rt = new PassiveRuntime(state, ctx, out, source);
+        return modifiedCost(new PassiveRuntime(state, ctx, out, source), actor, ci, def, baseCost);
+    }
+
+    /** 이미 만든 런타임으로 코스트 훅을 돈다(검증용 런타임을 CommandScratch에서 재사용할 때). */
+    public static int modifiedCost(PassiveRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, int baseCost) {
         int cur = baseCost;
-        for (HookEntry it : collectEntries(state, ctx, actor)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            cur = ctx.passiveEffect(it.passiveId()).onCost(rt, actor, ci, def, cur);
+        for (PassiveEffect e : chain(rt.state(), rt.ctx(), actor, PassiveHook.COST)) {
+            cur = e.onCost(rt, actor, ci, def, cur);
         }
         return Math.max(0, cur);
     }
@@ -54,10 +52,12 @@ public final class PassiveOps {
             CardDefinition def,
             List<String> errors
     ) {
-        PassiveRuntime rt = new PassiveRuntime(state, ctx, new ArrayList<>(), "VALIDATE");
-        for (HookEntry it : collectEntries(state, ctx, actor)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            ctx.passiveEffect(it.passiveId()).validatePlayCard(rt, actor, ci, def, errors);
+        validatePlayCard(new PassiveRuntime(state, ctx, new ArrayList<>(), "VALIDATE"), actor, ci, def, errors);
+    }
+
+    public static void validatePlayCard(PassiveRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, List<String> errors) {
+        for (PassiveEffect e : chain(rt.state(), rt.ctx(), actor, PassiveHook.VALIDATE_PLAY_CARD)) {
+            e.validatePlayCard(rt, actor, ci, def, errors);
         }
     }
 
@@ -71,9 +71,8 @@ public final class PassiveOps {
             String source
     ) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, source);
-        for (HookEntry it : collectEntries(state, ctx, actor)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            ctx.passiveEffect(it.passiveId()).onAfterPlayCard(rt, actor, ci, def);
+        for (PassiveEffect e : chain(state, ctx, actor, PassiveHook.AFTER_PLAY_CARD)) {
+            e.onAfterPlayCard(rt, actor, ci, def);
         }
     }
 
@@ -88,9 +87,8 @@ public final class PassiveOps {
     ) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, hookSource);
         int cur = amount;
-        for (HookEntry it : collectEntries(state, ctx, source)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            cur = ctx.passiveEffect(it.passiveId()).onOutgoingDamage(rt, source, target, cur);
+        for (PassiveEffect e : chain(state, ctx, source, PassiveHook.OUTGOING_DAMAGE)) {
+            cur = e.onOutgoingDamage(rt, source, target, cur);
             if (cur <= 0) return 0;
         }
         return Math.max(cur, 0);
@@ -107,9 +105,8 @@ public final class PassiveOps {
     ) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, hookSource);
         int cur = amount;
-        for (HookEntry it : collectEntries(state, ctx, target)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            cur = ctx.passiveEffect(it.passiveId()).onIncomingDamage(rt, source, target, cur);
+        for (PassiveEffect e : chain(state, ctx, target, PassiveHook.INCOMING_DAMAGE)) {
+            cur = e.onIncomingDamage(rt, source, target, cur);
             if (cur <= 0) return 0;
         }
         return Math.max(cur, 0);
@@ -127,9 +124,8 @@ public final class PassiveOps {
     ) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, hookSource);
         int cur = amount;
-        for (HookEntry it : collectEntries(state, ctx, source)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            cur = ctx.passiveEffect(it.passiveId()).onOutgoingHeal(rt, source, target, cur);
+        for (PassiveEffect e : chain(state, ctx, source, PassiveHook.OUTGOING_HEAL)) {
+            cur = e.onOutgoingHeal(rt, source, target, cur);
             if (cur <= 0) return 0;
         }
         return Math.max(cur, 0);
@@ -146,9 +142,8 @@ public final class PassiveOps {
     ) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, hookSource);
         int cur = amount;
-        for (HookEntry it : collectEntries(state, ctx, target)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            cur = ctx.passiveEffect(it.passiveId()).onIncomingHeal(rt, source, target, cur);
+        for (PassiveEffect e : chain(state, ctx, target, PassiveHook.INCOMING_HEAL)) {
+            cur = e.onIncomingHeal(rt, source, target, cur);
             if (cur <= 0) return 0;
         }
         return Math.max(cur, 0);
@@ -156,17 +151,15 @@ public final class PassiveOps {
 
     public static void turnStart(GameState state, EngineContext ctx, TargetRef owner, List<GameEvent> out, String source) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, source);
-        for (HookEntry it : collectEntries(state, ctx, owner)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            ctx.passiveEffect(it.passiveId()).onTurnStart(rt, owner);
+        for (PassiveEffect e : chain(state, ctx, owner, PassiveHook.TURN_START)) {
+            e.onTurnStart(rt, owner);
         }
     }
 
     public static void turnEnd(GameState state, EngineContext ctx, TargetRef owner, List<GameEvent> out, String source) {
         PassiveRuntime rt = new PassiveRuntime(state, ctx, out, source);
-        for (HookEntry it : collectEntries(state, ctx, owner)) {
-            if (!ctx.hasPassiveEffect(it.passiveId())) continue;
-            ctx.passiveEffect(it.passiveId()).onTurnEnd(rt, owner);
+        for (PassiveEffect e : chain(state, ctx, owner, PassiveHook.TURN_END)) {
+            e.onTurnEnd(rt, owner);
         }
     }
 }
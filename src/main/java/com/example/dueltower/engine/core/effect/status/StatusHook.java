@@ -0,0 +1,47 @@
+package com.example.dueltower.engine.core.effect.status;
+
+import com.example.dueltower.engine.core.effect.HookRegistry;
+import com.example.dueltower.engine.model.CardDefinition;
+import com.example.dueltower.engine.model.CardInstance;
+import com.example.dueltower.engine.model.Ids;
+import com.example.dueltower.engine.model.StatusOwnerRef;
+import com.example.dueltower.engine.model.TargetRef;
+
+import java.util.List;
+
+/** StatusEffect 훅 목록(HookRegistry 스캔용) */
+public enum StatusHook implements HookRegistry.Hook {
+    INCOMING_DAMAGE("onIncomingDamage", StatusRuntime.class, StatusOwnerRef.class, TargetRef.class, TargetRef.class, int.class),
+    OUTGOING_DAMAGE("onOutgoingDamage", StatusRuntime.class, StatusOwnerRef.class, TargetRef.class, TargetRef.class, int.class),
+    INCOMING_HEAL("onIncomingHeal", StatusRuntime.class, StatusOwnerRef.class, TargetRef.class, TargetRef.class, int.class),
+    OUTGOING_HEAL("onOutgoingHeal", StatusRuntime.class, StatusOwnerRef.class, TargetRef.class, TargetRef.class, int.class),
+    COST("onCost", StatusRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class, int.class),
+    VALIDATE_PLAY_CARD("validatePlayCard", StatusRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class, List.class),
+    AFTER_PLAY_CARD("onAfterPlayCard", StatusRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class),
+    VALIDATE_USE_EX("validateUseEx", StatusRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class, List.class),
+    AFTER_USE_EX("onAfterUseEx", StatusRuntime.class, TargetRef.class, CardInstance.class, CardDefinition.class),
+    VALIDATE_ENEMY_ONE_TARGET("validateEnemyOneTarget",
+            StatusRuntime.class, TargetRef.class, Ids.CardInstId.class, TargetRef.class, List.class, List.class),
+    RESOLVE_ENEMY_ONE_TARGET("onResolveEnemyOneTarget",
+            StatusRuntime.class, TargetRef.class, Ids.CardInstId.class, TargetRef.class, List.class),
+    TURN_END("onTurnEnd", StatusRuntime.class, TargetRef.class, int.class),
+    TURN_START("onTurnStart", StatusRuntime.class, TargetRef.class, int.class);
+
+    private final String method;
+    private final Class<?>[] params;
+
+    StatusHook(String method, Class<?>... params) {
+        this.method = method;
+        this.params = params;
+    }
+
+    @Override
+    public String method() {
+        return method;
+    }
+
+    @Override
+    public Class<?>[] params() {
+        return params.clone();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.dueltower.engine.core.effect.status;
 
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.effect.keyword.KeywordOps;
+import com.example.dueltower.engine.core.trace.StatusHookEvent;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
 
@@ -14,17 +15,23 @@ import java.util.Set;
 /**
  * Card/command level status hooks (cost, validations, after-use hooks).
  * Keeps the orchestration in one place while letting each StatusEffect own its logic.
+ * Only statuses that override the hook (EngineContext.statusHooks) are collected and called.
  */
 public final class StatusOps {
     private StatusOps() {}
 
     private record HookEntry(StatusOwnerRef owner, String statusId, int priority) {}
 
-    private static List<HookEntry> collectActorAndFactionEntries(StatusRuntime rt, GameState state, EngineContext ctx, TargetRef actor) {
+    private static List<HookEntry> collectActorAndFactionEntries(
+            StatusRuntime rt, GameState state, EngineContext ctx, TargetRef actor, StatusHook hook
+    ) {
+        if (!ctx.statusHooks().any(hook)) return List.of();
+        Set<String> hooked = ctx.statusHooks().ids(hook);
         List<HookEntry> entries = new ArrayList<>();
 
         var ownerChar = StatusOwnerRef.of(actor);
         for (String k : rt.statusMap(ownerChar).keySet()) {
+            if (!hooked.contains(k)) continue;
             entries.add(new HookEntry(ownerChar, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
         }
 
@@ -32,6 +39,7 @@ public final class StatusOps {
         if (cs != null) {
             var ownerFaction = StatusOwnerRef.of(CombatState.factionOf(actor));
             for (String k : rt.statusMap(ownerFaction).keySet()) {
+                if (!hooked.contains(k)) continue;
                 entries.add(new HookEntry(ownerFaction, k, ctx.hasStatusDef(k) ? ctx.statusDef(k).priority() : Integer.MAX_VALUE));
             }
         }
@@ -50,15 +58,22 @@ public final class StatusOps {
             List<GameEvent> out,
             String source
     ) {
-        StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
+        return modifiedCost(new StatusRuntime(state, ctx, out, source), actor, ci, def, baseCost);
+    }
+
+    /** 이미 만든 런타임으로 코스트 훅을 돈다(검증용 런타임을 CommandScratch에서 재사용할 때). */
+    public static int modifiedCost(StatusRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, int baseCost) {
+        GameState state = rt.state();
+        EngineContext ctx = rt.ctx();
         int cur = baseCost;
 
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.COST)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onCost", k, it.owner(), stacks);
             cur = ctx.statusEffect(k).onCost(rt, actor, ci, def, cur);
+            jfr.commit();
         }
 
         return Math.max(0, cur);
@@ -72,14 +87,20 @@ public final class StatusOps {
             CardDefinition def,
             List<String> errors
     ) {
-        StatusRuntime rt = new StatusRuntime(state, ctx, new ArrayList<>(), "VALIDATE");
+        validatePlayCard(new StatusRuntime(state, ctx, new ArrayList<>(), "VALIDATE"), actor, ci, def, errors);
+    }
 
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+    public static void validatePlayCard(StatusRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, List<String> errors) {
+        GameState state = rt.state();
+        EngineContext ctx = rt.ctx();
+
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.VALIDATE_PLAY_CARD)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("validatePlayCard", k, it.owner(), stacks);
             ctx.statusEffect(k).validatePlayCard(rt, actor, ci, def, errors);
+            jfr.commit();
         }
     }
 
@@ -94,12 +115,13 @@ public final class StatusOps {
     ) {
         StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
 
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.AFTER_PLAY_CARD)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onAfterPlayCard", k, it.owner(), stacks);
             ctx.statusEffect(k).onAfterPlayCard(rt, actor, ci, def);
+            jfr.commit();
         }
     }
 
@@ -111,14 +133,20 @@ public final class StatusOps {
             CardDefinition def,
             List<String> errors
     ) {
-        StatusRuntime rt = new StatusRuntime(state, ctx, new ArrayList<>(), "VALIDATE");
+        validateUseEx(new StatusRuntime(state, ctx, new ArrayList<>(), "VALIDATE"), actor, ci, def, errors);
+    }
 
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+    public static void validateUseEx(StatusRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, List<String> errors) {
+        GameState state = rt.state();
+        EngineContext ctx = rt.ctx();
+
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.VALIDATE_USE_EX)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("validateUseEx", k, it.owner(), stacks);
             ctx.statusEffect(k).validateUseEx(rt, actor, ci, def, errors);
+            jfr.commit();
         }
     }
 
@@ -133,12 +161,13 @@ public final class StatusOps {
     ) {
         StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
 
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.AFTER_USE_EX)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onAfterUseEx", k, it.owner(), stacks);
             ctx.statusEffect(k).onAfterUseEx(rt, actor, ci, def);
+            jfr.commit();
         }
     }
 
@@ -172,7 +201,7 @@ public final class StatusOps {
 
         // Run global targeting constraints for statuses present on opponents that have TAUNT tag.
         for (String statusId : statusIdsWithTagOnTargets(rt, ctx, enemyCandidates, StatusTag.TAUNT)) {
-            if (!ctx.hasStatusEffect(statusId)) continue;
+            if (!ctx.statusHooks().has(StatusHook.VALIDATE_ENEMY_ONE_TARGET, statusId)) continue;
             ctx.statusEffect(statusId).validateEnemyOneTarget(rt, actor, cardId, chosenEnemy, enemyCandidates, errors);
         }
     }
@@ -203,13 +232,14 @@ public final class StatusOps {
         TargetRef cur = chosenEnemy;
 
         // 1) actor-side overrides (scan only actor/faction statuses)
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
+        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor, StatusHook.RESOLVE_ENEMY_ONE_TARGET)) {
             String k = it.statusId();
-            if (!ctx.hasStatusEffect(k)) continue;
             int stacks = rt.stacks(it.owner(), k);
             if (stacks <= 0) continue;
 
+            StatusHookEvent jfr = StatusHookEvent.begin("onResolveEnemyOneTarget", k, it.owner(), stacks);
             TargetRef next = ctx.statusEffect(k).onResolveEnemyOneTarget(rt, actor, cardId, cur, allCandidates);
+            jfr.commit();
             if (next != null) cur = next;
         }
 
@@ -230,7 +260,7 @@ public final class StatusOps {
         List<TargetRef> enemyCandidates = enemyOneCandidates(state, ctx, actor, cur);
 
         for (String statusId : statusIdsWithTagOnTargets(rt, ctx, enemyCandidates, StatusTag.TAUNT)) {
-            if (!ctx.hasStatusEffect(statusId)) continue;
+            if (!ctx.statusHooks().has(StatusHook.RESOLVE_ENEMY_ONE_TARGET, statusId)) continue;
             TargetRef next = ctx.statusEffect(statusId).onResolveEnemyOneTarget(rt, actor, cardId, cur, enemyCandidates);
             if (next != null) cur = next;
         }
@@ -245,11 +275,15 @@ public final class StatusOps {
             TargetRef actor,
             StatusTag tag
     ) {
-        for (HookEntry it : collectActorAndFactionEntries(rt, state, ctx, actor)) {
-            String id = it.statusId();
+        if (hasTag(rt, ctx, StatusOwnerRef.of(actor), tag)) return true;
+        return state.combat() != null && hasTag(rt, ctx, StatusOwnerRef.of(CombatState.factionOf(actor)), tag);
+    }
+
+    private static boolean hasTag(StatusRuntime rt, EngineContext ctx, StatusOwnerRef owner, StatusTag tag) {
+        for (String id : rt.statusMap(owner).keySet()) {
             if (!ctx.hasStatusDef(id)) continue;
             if (!ctx.statusDef(id).hasTag(tag)) continue;
-            if (rt.stacks(it.owner(), id) > 0) return true;
+            if (rt.stacks(owner, id) > 0) return true;
         }
         return false;
     }
@@ -2,6 +2,7 @@ package com.example.dueltower.engine.core.effect.status;
 
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.core.trace.StatusHookEvent;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.GameState;
 import com.example.dueltower.engine.model.Ids;
@@ -15,27 +16,33 @@ public final class StatusPhases {
 
     /** 특정 대상(owner)의 '턴 시작'에 상태 효과를 실행 */
     public static void turnStart(GameState state, EngineContext ctx, TargetRef owner, List<GameEvent> out, String source) {
+        if (!ctx.statusHooks().any(StatusHook.TURN_START)) return;
         StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
 
         var keys = new ArrayList<>(rt.statusMap(owner).keySet()); // 도중 수정 대비 스냅샷
         for (String key : keys) {
+            if (!ctx.statusHooks().has(StatusHook.TURN_START, key)) continue;
             int stacks = rt.stacks(owner, key);
             if (stacks <= 0) continue;
-            if (!ctx.hasStatusEffect(key)) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onTurnStart", key, owner, stacks);
             ctx.statusEffect(key).onTurnStart(rt, owner, stacks);
+            jfr.commit();
         }
     }
 
     /** 특정 대상(owner)의 '턴 종료'에 상태 효과를 실행 */
     public static void turnEnd(GameState state, EngineContext ctx, TargetRef owner, List<GameEvent> out, String source) {
+        if (!ctx.statusHooks().any(StatusHook.TURN_END)) return;
         StatusRuntime rt = new StatusRuntime(state, ctx, out, source);
 
         var keys = new ArrayList<>(rt.statusMap(owner).keySet()); // 도중 수정 대비 스냅샷
         for (String key : keys) {
+            if (!ctx.statusHooks().has(StatusHook.TURN_END, key)) continue;
             int stacks = rt.stacks(owner, key);
             if (stacks <= 0) continue;
-            if (!ctx.hasStatusEffect(key)) continue;
+            StatusHookEvent jfr = StatusHookEvent.begin("onTurnEnd", key, owner, stacks);
             ctx.statusEffect(key).onTurnEnd(rt, owner, stacks);
+            jfr.commit();
         }
     }
 
@@ -0,0 +1,32 @@
+package com.example.dueltower.engine.core.plan;
+
+import com.example.dueltower.engine.command.EnemyPlayCardCommand;
+import com.example.dueltower.engine.command.EnemyUseExCommand;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.engine.model.TargetSelection;
+
+import java.util.UUID;
+
+/**
+ * 적 턴 플래너가 고르는 행동 1개. 턴 종료는 계획 끝에 따로 붙는다.
+ */
+public sealed interface EnemyAction {
+
+    GameCommand toCommand(UUID commandId, long expectedVersion, EnemyId enemyId);
+
+    record PlayCard(CardInstId cardId, TargetSelection selection) implements EnemyAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion, EnemyId enemyId) {
+            return new EnemyPlayCardCommand(commandId, expectedVersion, enemyId, cardId, selection);
+        }
+    }
+
+    record UseEx(TargetSelection selection) implements EnemyAction {
+        @Override
+        public GameCommand toCommand(UUID commandId, long expectedVersion, EnemyId enemyId) {
+            return new EnemyUseExCommand(commandId, expectedVersion, enemyId, selection);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.dueltower.engine.core.plan;
+
+import com.example.dueltower.engine.command.EnemyEndTurnCommand;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 적 턴 탐색 결과.
+ *
+ * @param baseVersion   탐색을 시작한 상태 버전(커맨드 expectedVersion이 여기서부터 1씩 오른다)
+ * @param actions       고른 행동 순서
+ * @param endsTurn      행동 뒤에도 적 턴이 남아 있어 ENEMY_END_TURN을 붙이는지(전투가 끝나면 false)
+ * @param depthReached  끝까지 다 본 탐색 깊이
+ * @param timedOut      시간 예산을 다 써서 탐색을 끊었는지
+ */
+public record EnemyTurnPlan(
+        EnemyId enemyId,
+        long baseVersion,
+        List<EnemyAction> actions,
+        boolean endsTurn,
+        double score,
+        int depthReached,
+        long nodesSearched,
+        boolean timedOut
+) {
+    public EnemyTurnPlan {
+        actions = List.copyOf(actions);
+    }
+
+    /** 세션에 그대로 제출할 커맨드 목록(새 commandId). */
+    public List<GameCommand> toCommands() {
+        List<GameCommand> out = new ArrayList<>(actions.size() + 1);
+        long v = baseVersion;
+        for (EnemyAction a : actions) {
+            out.add(a.toCommand(UUID.randomUUID(), v++, enemyId));
+        }
+        if (endsTurn) out.add(new EnemyEndTurnCommand(UUID.randomUUID(), v, enemyId));
+        return out;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.dueltower.engine.core.plan;
+
+import com.example.dueltower.engine.command.CommandValidation;
+import com.example.dueltower.engine.command.EnemyPlayCardCommand;
+import com.example.dueltower.engine.command.EnemyUseExCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.core.combat.VictoryOps;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 적 MAIN 턴 자동 진행용 탐색.
+ *
+ * - base는 읽기만 한다. 루트에서 한 번 fork하고, 후보 행동마다 부모 상태를 fork해 일회용 GameEngine으로 적용한다.
+ * - 깊이 1부터 maxDepth까지 반복 심화(DFS)하고, 시간 예산이 끝나면 그때까지 본 노드 중 최고 점수를 고른다.
+ * - 모든 노드가 "여기서 턴 종료" 후보다. 점수가 같으면 먼저(짧게) 찾은 순서를 쓴다.
+ *   전투가 끝났거나 pending decision이 생긴 노드는 턴 종료를 붙이지 않고 거기서 멈춘다.
+ * - 같은 깊이에서 같은 상태(stateHash)에 도달한 순서 바꾸기는 한 번만 펼친다.
+ * - 손패의 같은 카드 정의 여러 장은 1장만 후보로 본다.
+ *
+ * 평가는 적 진영 기준: 적 HP 합 - 플레이어/소환수 HP 합, 쓰러진 플레이어 가산, 상태 종류(BUFF/DEBUFF) 스택 보정.
+ */
+public final class EnemyTurnPlanner {
+    private EnemyTurnPlanner() {}
+
+    static final double WIN_SCORE = 1_000_000d;
+    static final double DOWN_SCORE = 50d;
+    static final double STATUS_STACK_SCORE = 1d;
+
+    /**
+     * @throws IllegalArgumentException 적의 MAIN 턴이 아니거나 처리할 pending decision이 남아 있는 경우
+     */
+    public static EnemyTurnPlan plan(GameState base, EngineContext ctx, Duration budget, int maxDepth) {
+        EnemyId enemyId = currentEnemy(base);
+        if (enemyId == null || !canAct(base, enemyId)) throw new IllegalArgumentException("not enemy main turn");
+
+        Search search = new Search(ctx, enemyId, System.nanoTime() + Math.max(0, budget.toNanos()));
+        GameState root = base.fork();
+        search.best = List.of();
+        search.bestScore = evaluate(root, ctx);
+        search.bestEndsTurn = true;
+
+        int depthReached = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            search.seen.clear();
+            search.cutoff = false;
+            search.dfs(root, depth);
+            if (search.timedOut) break;
+            depthReached = depth;
+            if (!search.cutoff) break; // 더 깊이 갈 수 있는 노드가 없었다
+        }
+
+        return new EnemyTurnPlan(enemyId, base.version(), search.best, search.bestEndsTurn, search.bestScore,
+                depthReached, search.nodes, search.timedOut);
+    }
+
+    /** 적 진영 기준 점수(클수록 적에게 유리). */
+    static double evaluate(GameState state, EngineContext ctx) {
+        VictoryOps.Outcome oc = VictoryOps.check(state);
+        if (oc == VictoryOps.Outcome.PLAYERS_LOSE) return WIN_SCORE;
+        if (oc == VictoryOps.Outcome.PLAYERS_WIN) return -WIN_SCORE;
+
+        double score = 0;
+        for (PlayerState ps : state.players().values()) {
+            if (ps.hp() <= 0 || CombatStatuses.isBattleIncapacitated(ps)) {
+                score += DOWN_SCORE;
+                continue;
+            }
+            score -= ps.hp();
+            score -= statusBalance(ctx, ps.statusValues());
+        }
+        for (SummonState s : state.summons().values()) {
+            if (s.hp() > 0) score -= s.hp();
+        }
+        for (EnemyState es : state.enemies().values()) {
+            if (es.hp() <= 0) {
+                score -= DOWN_SCORE;
+                continue;
+            }
+            score += es.hp();
+            score += statusBalance(ctx, es.statusValues());
+        }
+        return score;
+    }
+
+    /** 보유자 기준 BUFF 스택은 +, DEBUFF 스택은 -. 정의가 없거나 NEUTRAL이면 0. */
+    private static double statusBalance(EngineContext ctx, Map<String, Integer> statuses) {
+        double sum = 0;
+        for (Map.Entry<String, Integer> e : statuses.entrySet()) {
+            int stacks = e.getValue() == null ? 0 : e.getValue();
+            if (stacks <= 0 || !ctx.hasStatusDef(e.getKey())) continue;
+            StatusKind kind = ctx.statusDef(e.getKey()).kind();
+            if (kind == StatusKind.BUFF) sum += stacks * STATUS_STACK_SCORE;
+            else if (kind == StatusKind.DEBUFF) sum -= stacks * STATUS_STACK_SCORE;
+        }
+        return sum;
+    }
+
+    /** 지금 상태에서 적이 낼 수 있는 카드/EX 사용(턴 종료 제외). 각 행동은 해당 커맨드 validate를 통과한다. */
+    static List<EnemyAction> actions(GameState state, EngineContext ctx, EnemyId enemyId) {
+        List<EnemyAction> out = new ArrayList<>();
+        List<TargetSelection> selections = LegalActionGenerator.targetSelections(state);
+        UUID probeId = new UUID(0L, 0L);
+
+        Set<CardDefId> seenDefs = new HashSet<>();
+        for (CardInstance ci : state.cardInstances().values()) {
+            if (ci == null || ci.zone() != Zone.HAND || !ci.ownerId().value().equals(enemyId.value())) continue;
+            if (!seenDefs.add(ci.defId())) continue;
+            for (TargetSelection sel : selections) {
+                EnemyPlayCardCommand cmd = new EnemyPlayCardCommand(probeId, state.version(), enemyId, ci.instanceId(), sel);
+                if (!cmd.validate(state, ctx).isEmpty()) continue;
+                out.add(new EnemyAction.PlayCard(ci.instanceId(), sel));
+                if (sel.targets().isEmpty()) break;
+            }
+        }
+
+        EnemyState es = state.enemy(enemyId);
+        if (es != null && es.exCard() != null) {
+            for (TargetSelection sel : selections) {
+                EnemyUseExCommand cmd = new EnemyUseExCommand(probeId, state.version(), enemyId, sel);
+                if (!cmd.validate(state, ctx).isEmpty()) continue;
+                out.add(new EnemyAction.UseEx(sel));
+                if (sel.targets().isEmpty()) break;
+            }
+        }
+        return out;
+    }
+
+    /** ENEMY_END_TURN을 낼 수 있는 상태(이 적의 MAIN 턴, pending decision 없음) */
+    private static boolean canAct(GameState state, EnemyId enemyId) {
+        List<String> errors = new ArrayList<>(2);
+        CommandValidation.validateEnemyMainTurn(state, enemyId, errors);
+        return errors.isEmpty();
+    }
+
+    private static EnemyId currentEnemy(GameState state) {
+        CombatState cs = state.combat();
+        if (cs == null || cs.phase() != CombatPhase.MAIN) return null;
+        return (cs.currentTurnActor() instanceof TargetRef.Enemy e) ? e.id() : null;
+    }
+
+    private static final class Search {
+        final EngineContext ctx;
+        final EnemyId enemyId;
+        final long deadlineNs;
+        final GameEngine engine = new GameEngine();
+        final List<EnemyAction> path = new ArrayList<>();
+        /** 이번 반복에서 펼친 (stateHash, version) */
+        final Set<Long> seen = new HashSet<>();
+
+        long nodes;
+        long nextId;
+        boolean timedOut;
+        boolean cutoff;
+
+        List<EnemyAction> best;
+        double bestScore;
+        boolean bestEndsTurn;
+
+        Search(EngineContext ctx, EnemyId enemyId, long deadlineNs) {
+            this.ctx = ctx;
+            this.enemyId = enemyId;
+            this.deadlineNs = deadlineNs;
+        }
+
+        void dfs(GameState state, int remaining) {
+            nodes++;
+            boolean stillOurTurn = canAct(state, enemyId);
+            double score = evaluate(state, ctx);
+            if (score > bestScore) {
+                bestScore = score;
+                best = List.copyOf(path);
+                bestEndsTurn = stillOurTurn;
+            }
+            if (!stillOurTurn) return;
+            if (remaining == 0) {
+                cutoff = true;
+                return;
+            }
+            if (!seen.add(StateHash.mix(state.stateHash() ^ StateHash.mix(state.version())))) return;
+
+            for (EnemyAction a : actions(state, ctx, enemyId)) {
+                if (System.nanoTime() >= deadlineNs) {
+                    timedOut = true;
+                    return;
+                }
+                GameState child = state.fork();
+                EngineResult res = engine.process(child, ctx, a.toCommand(new UUID(0L, ++nextId), child.version(), enemyId));
+                if (!res.accepted()) continue;
+
+                path.add(a);
+                dfs(child, remaining - 1);
+                path.remove(path.size() - 1);
+                if (timedOut) return;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dueltower.engine.core.preview;
+
+import com.example.dueltower.engine.event.GameEvent;
+
+import java.util.List;
+
+/**
+ * 커맨드를 fork 상태에 적용해 본 예상 결과.
+ * 실제 세션 상태/버전/dedupe 저장소에는 아무 영향이 없다.
+ *
+ * @param baseVersion 미리보기 기준이 된 상태 버전
+ * @param vitals      HP/AP 변화 (actorKey 기준)
+ * @param statuses    상태 스택 변화 (actorKey 기준, 진영 상태는 "F:PLAYERS"/"F:ENEMIES")
+ * @param zones       카드 존 이동 (생성이면 from=null, 제거면 to=null)
+ */
+public record OutcomePreview(
+        boolean accepted,
+        List<String> errors,
+        List<GameEvent> events,
+        long baseVersion,
+        List<VitalChange> vitals,
+        List<StatusChange> statuses,
+        List<ZoneChange> zones
+) {
+    public static final String HP = "HP";
+    public static final String AP = "AP";
+
+    public record VitalChange(String actorKey, String stat, int before, int after) {}
+
+    public record StatusChange(String actorKey, String statusId, int before, int after) {}
+
+    public record ZoneChange(String cardId, String defId, String ownerId, String from, String to) {}
+
+    static OutcomePreview rejected(List<String> errors, long baseVersion) {
+        return new OutcomePreview(false, List.copyOf(errors), List.of(), baseVersion, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.dueltower.engine.core.preview;
+
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.preview.OutcomePreview.StatusChange;
+import com.example.dueltower.engine.core.preview.OutcomePreview.VitalChange;
+import com.example.dueltower.engine.core.preview.OutcomePreview.ZoneChange;
+import com.example.dueltower.engine.model.*;
+
+import java.util.*;
+
+/**
+ * 카드/EX 결과 미리보기.
+ * - base는 읽기만 한다. 호출자가 넘긴 상태(보통 세션 락 안에서 뜬 fork)를 한 번 더 fork해서 적용한다.
+ * - 일회용 GameEngine으로 처리하므로 세션 엔진의 dedupe 저장소와 버전은 그대로다.
+ * - 결과는 이벤트 + base 대비 HP/AP, 상태 스택, 카드 존 변화로 돌려준다.
+ */
+public final class PreviewOps {
+    private PreviewOps() {}
+
+    public static OutcomePreview preview(GameState base, EngineContext ctx, GameCommand cmd) {
+        GameState after = base.fork();
+        EngineResult res = new GameEngine().process(after, ctx, cmd);
+        if (!res.accepted()) return OutcomePreview.rejected(res.errors(), base.version());
+
+        List<VitalChange> vitals = new ArrayList<>();
+        List<StatusChange> statuses = new ArrayList<>();
+        diffActors(base, after, vitals, statuses);
+        diffFactionStatuses(base.combat(), after.combat(), statuses);
+
+        return new OutcomePreview(
+                true,
+                List.of(),
+                res.events(),
+                base.version(),
+                List.copyOf(vitals),
+                List.copyOf(statuses),
+                diffZones(base, after)
+        );
+    }
+
+    private static void diffActors(GameState base, GameState after, List<VitalChange> vitals, List<StatusChange> statuses) {
+        for (PlayerState b : base.players().values()) {
+            PlayerState a = after.player(b.playerId());
+            String key = CombatState.actorKey(TargetRef.ofPlayer(b.playerId()));
+            vital(vitals, key, OutcomePreview.HP, b.hp(), a == null ? 0 : a.hp());
+            vital(vitals, key, OutcomePreview.AP, b.ap(), a == null ? 0 : a.ap());
+            diffStatuses(key, b.statusValues(), a == null ? Map.of() : a.statusValues(), statuses);
+        }
+        for (EnemyState b : base.enemies().values()) {
+            EnemyState a = after.enemy(b.enemyId());
+            String key = CombatState.actorKey(TargetRef.ofEnemy(b.enemyId()));
+            vital(vitals, key, OutcomePreview.HP, b.hp(), a == null ? 0 : a.hp());
+            diffStatuses(key, b.statusValues(), a == null ? Map.of() : a.statusValues(), statuses);
+        }
+
+        // 소환수는 이번 커맨드로 생기거나 사라질 수 있다(없으면 HP 0으로 본다)
+        Set<Ids.SummonInstId> summonIds = new LinkedHashSet<>(base.summons().keySet());
+        summonIds.addAll(after.summons().keySet());
+        for (Ids.SummonInstId id : summonIds) {
+            SummonState b = base.summon(id);
+            SummonState a = after.summon(id);
+            SummonState any = (b != null) ? b : a;
+            String key = CombatState.actorKey(TargetRef.ofSummon(any.owner(), id));
+            vital(vitals, key, OutcomePreview.HP, b == null ? 0 : b.hp(), a == null ? 0 : a.hp());
+            diffStatuses(key, b == null ? Map.of() : b.statusValues(), a == null ? Map.of() : a.statusValues(), statuses);
+        }
+    }
+
+    private static void diffFactionStatuses(CombatState base, CombatState after, List<StatusChange> out) {
+        for (CombatState.FactionId f : CombatState.FactionId.values()) {
+            Map<String, Integer> b = (base == null) ? Map.of() : base.factionStatusValues(f);
+            Map<String, Integer> a = (after == null) ? Map.of() : after.factionStatusValues(f);
+            diffStatuses("F:" + f.name(), b, a, out);
+        }
+    }
+
+    private static void diffStatuses(String key, Map<String, Integer> before, Map<String, Integer> after, List<StatusChange> out) {
+        for (Map.Entry<String, Integer> e : before.entrySet()) {
+            int a = after.getOrDefault(e.getKey(), 0);
+            if (a != e.getValue()) out.add(new StatusChange(key, e.getKey(), e.getValue(), a));
+        }
+        for (Map.Entry<String, Integer> e : after.entrySet()) {
+            if (!before.containsKey(e.getKey())) out.add(new StatusChange(key, e.getKey(), 0, e.getValue()));
+        }
+    }
+
+    private static List<ZoneChange> diffZones(GameState base, GameState after) {
+        List<ZoneChange> out = new ArrayList<>();
+        for (CardInstance b : base.cardInstances().values()) {
+            CardInstance a = after.card(b.instanceId());
+            Zone to = (a == null) ? null : a.zone();
+            if (to != b.zone()) out.add(zoneChange(b, b.zone(), to));
+        }
+        for (CardInstance a : after.cardInstances().values()) {
+            if (base.card(a.instanceId()) == null) out.add(zoneChange(a, null, a.zone()));
+        }
+        return List.copyOf(out);
+    }
+
+    private static ZoneChange zoneChange(CardInstance ci, Zone from, Zone to) {
+        return new ZoneChange(
+                ci.instanceId().value().toString(),
+                ci.defId().value(),
+                ci.ownerId().value(),
+                from == null ? null : from.name(),
+                to == null ? null : to.name()
+        );
+    }
+
+    private static void vital(List<VitalChange> out, String key, String stat, int before, int after) {
+        if (before != after) out.add(new VitalChange(key, stat, before, after));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.engine.core.sim.BalanceSweep.Candidate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 밸런스 비교 결과. 행은 (후보, 기준 덱)마다 1개이고, 기준 전투 행(BASELINE)이 앞에 온다.
+ */
+public record BalanceReport(
+        List<Row> rows,
+        Map<String, SimulationReport> baselines,
+        Duration elapsed
+) {
+    /**
+     * (후보, 기준 덱) 1개의 결과. delta는 같은 기준 덱의 기준 전투 대비 차이.
+     *
+     * @param deltaStdErr   승률 차이의 표준오차(두 승률 표준오차의 제곱합 근)
+     * @param plays         후보 카드가 쓰인 횟수(패시브는 0)
+     * @param error         변형 실행이 실패했으면 사유, 아니면 null
+     */
+    public record Row(
+            Candidate.Kind kind,
+            String id,
+            String deck,
+            long combats,
+            double winRate,
+            double winRateStdErr,
+            double winRateDelta,
+            double deltaStdErr,
+            double avgMargin,
+            double marginStdDev,
+            double marginDelta,
+            long plays,
+            double damagePerPlay,
+            String error
+    ) {
+        static Row of(Candidate c, String deck, SimulationReport r, SimulationReport baseline) {
+            SimulationReport.CardStat stat = (c.kind() == Candidate.Kind.PASSIVE) ? null : r.cards().get(c.id());
+            return new Row(
+                    c.kind(), c.id(), deck, r.combats(),
+                    r.winRate(), r.winRateStdErr(),
+                    r.winRate() - baseline.winRate(),
+                    Math.hypot(r.winRateStdErr(), baseline.winRateStdErr()),
+                    r.avgMargin(), r.marginStdDev(),
+                    r.avgMargin() - baseline.avgMargin(),
+                    stat == null ? 0 : stat.plays(),
+                    stat == null ? 0 : stat.damagePerPlay(),
+                    null
+            );
+        }
+
+        static Row failed(Candidate c, String deck, String error) {
+            return new Row(c.kind(), c.id(), deck, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, error);
+        }
+
+        public static final String CSV_HEADER =
+                "kind,id,deck,combats,winRate,winRateStdErr,winRateDelta,deltaStdErr,avgMargin,marginStdDev,marginDelta,plays,damagePerPlay,error";
+
+        public String csv() {
+            return String.format(Locale.ROOT, "%s,%s,%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%d,%.3f,%s",
+                    kind, id, deck, combats, winRate, winRateStdErr, winRateDelta, deltaStdErr,
+                    avgMargin, marginStdDev, marginDelta, plays, damagePerPlay,
+                    error == null ? "" : "\"" + error.replace("\"", "'") + "\"");
+        }
+    }
+
+    /**
+     * 후보 1개를 기준 덱 전체에 걸쳐 모은 값.
+     *
+     * @param winRateDeltaSpread 덱별 승률 차이의 표준편차(덱에 따라 세기가 달라지는 정도)
+     */
+    public record Summary(
+            Candidate.Kind kind,
+            String id,
+            int decks,
+            double meanWinRateDelta,
+            double winRateDeltaSpread,
+            double meanDeltaStdErr,
+            double meanMarginDelta,
+            int failures
+    ) {}
+
+    /** 후보별 요약, 평균 승률 차이가 큰 순서(실패한 행은 평균에서 뺀다) */
+    public List<Summary> byCandidate() {
+        Map<String, List<Row>> grouped = new LinkedHashMap<>();
+        for (Row r : rows) {
+            if (r.kind() == Candidate.Kind.BASELINE) continue;
+            grouped.computeIfAbsent(r.kind() + ":" + r.id(), k -> new ArrayList<>()).add(r);
+        }
+
+        List<Summary> out = new ArrayList<>(grouped.size());
+        for (List<Row> group : grouped.values()) {
+            int n = 0, failures = 0;
+            double sum = 0, sq = 0, se = 0, margin = 0;
+            for (Row r : group) {
+                if (r.error() != null) {
+                    failures++;
+                    continue;
+                }
+                n++;
+                sum += r.winRateDelta();
+                sq += r.winRateDelta() * r.winRateDelta();
+                se += r.deltaStdErr();
+                margin += r.marginDelta();
+            }
+            double mean = n == 0 ? 0 : sum / n;
+            double spread = n < 2 ? 0 : Math.sqrt(Math.max(0, (sq - n * mean * mean) / (n - 1)));
+            Row first = group.get(0);
+            out.add(new Summary(first.kind(), first.id(), group.size(), mean, spread,
+                    n == 0 ? 0 : se / n, n == 0 ? 0 : margin / n, failures));
+        }
+        out.sort(Comparator.comparingDouble(Summary::meanWinRateDelta).reversed());
+        return out;
+    }
+
+    public String table() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "balance report rows=%d decks=%d elapsed=%.1fs", rows.size(), baselines.size(), elapsed.toNanos() / 1e9));
+        new TreeMap<>(baselines).forEach((deck, r) -> sb.append(String.format(Locale.ROOT,
+                "%n  baseline %s winRate=%.3f±%.3f margin=%.3f", deck, r.winRate(), r.winRateStdErr(), r.avgMargin())));
+        for (Summary s : byCandidate()) {
+            sb.append(String.format(Locale.ROOT, "%n  %-7s %-12s dWin=%+.3f±%.3f spread=%.3f dMargin=%+.3f%s",
+                    s.kind(), s.id(), s.meanWinRateDelta(), s.meanDeltaStdErr(), s.winRateDeltaSpread(),
+                    s.meanMarginDelta(), s.failures() == 0 ? "" : " failures=" + s.failures()));
+        }
+        return sb.toString();
+    }
+}
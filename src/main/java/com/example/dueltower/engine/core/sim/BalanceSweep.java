@@ -0,0 +1,116 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.sim.BalanceReport.Row;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * 콘텐츠 풀 전체 밸런스 비교.
+ *
+ * - 기준 덱마다 기준 전투를 먼저 돌리고(JIT 예열 겸), 후보(카드/EX/패시브)를 기준 덱에 끼운 변형을 돌려 차이를 잰다.
+ * - 모든 변형이 같은 seed를 쓰므로 덱 구성 외의 무작위 요소가 같아 차이의 분산이 줄어든다.
+ * - 컨텍스트는 한 번 prepare해서 모든 작업이 공유하고, 풀 1개에서 변형 단위 + 전투 구간 단위로 나눠 돌린다.
+ * - 변형 1개가 끝날 때마다 sink로 결과 행을 넘긴다(완료 순서, sink 호출은 직렬화된다).
+ * - 변형 하나가 예외로 실패해도 나머지는 계속 돌리고, 그 행에 error를 남긴다.
+ */
+public final class BalanceSweep {
+    private BalanceSweep() {}
+
+    /**
+     * @param copies CARD일 때 기준 덱 끝에서부터 바꿔 끼울 장 수(EX/PASSIVE는 무시)
+     */
+    public record Candidate(Kind kind, String id, int copies) {
+        public enum Kind { BASELINE, CARD, EX, PASSIVE }
+
+        public Candidate {
+            Objects.requireNonNull(kind, "kind");
+            Objects.requireNonNull(id, "id");
+        }
+    }
+
+    /** 비교 기준 덱(exCardId는 null이면 EX 없음) */
+    public record ReferenceDeck(String name, List<String> cards, String exCardId) {
+        public ReferenceDeck {
+            cards = List.copyOf(cards);
+            if (cards.isEmpty()) throw new IllegalArgumentException("reference deck is empty: " + name);
+        }
+    }
+
+    public static BalanceReport run(
+            EngineContext content,
+            SimulationConfig base,
+            List<ReferenceDeck> decks,
+            List<Candidate> candidates,
+            Consumer<Row> sink
+    ) {
+        if (decks.isEmpty()) throw new IllegalArgumentException("at least one reference deck is required");
+        EngineContext ctx = CombatSimulator.prepare(content);
+        Object sinkLock = new Object();
+        Consumer<Row> emit = row -> {
+            synchronized (sinkLock) {
+                sink.accept(row);
+            }
+        };
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(base.parallelism());
+        try {
+            Map<String, SimulationReport> baselines = new LinkedHashMap<>();
+            List<Row> rows = new ArrayList<>();
+            for (ReferenceDeck deck : decks) {
+                SimulationConfig cfg = base.withDeck(deck.cards(), deck.exCardId());
+                SimulationReport r = pool.invoke(ForkJoinTask.adapt(() -> CombatSimulator.runPrepared(ctx, cfg)));
+                baselines.put(deck.name(), r);
+                Row row = Row.of(new Candidate(Candidate.Kind.BASELINE, "-", 0), deck.name(), r, r);
+                rows.add(row);
+                emit.accept(row);
+            }
+
+            List<ForkJoinTask<Row>> tasks = new ArrayList<>(decks.size() * candidates.size());
+            for (Candidate c : candidates) {
+                for (ReferenceDeck deck : decks) {
+                    SimulationReport baseline = baselines.get(deck.name());
+                    tasks.add(pool.submit(() -> {
+                        Row row = evaluate(ctx, base, deck, c, baseline);
+                        emit.accept(row);
+                        return row;
+                    }));
+                }
+            }
+            for (ForkJoinTask<Row> t : tasks) rows.add(t.join());
+
+            return new BalanceReport(List.copyOf(rows), Map.copyOf(baselines), Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Row evaluate(EngineContext ctx, SimulationConfig base, ReferenceDeck deck, Candidate c, SimulationReport baseline) {
+        try {
+            SimulationConfig cfg = variant(base, deck, c);
+            return Row.of(c, deck.name(), CombatSimulator.runPrepared(ctx, cfg), baseline);
+        } catch (RuntimeException e) {
+            return Row.failed(c, deck.name(), e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /** 후보를 기준 덱에 끼운 설정 */
+    static SimulationConfig variant(SimulationConfig base, ReferenceDeck deck, Candidate c) {
+        return switch (c.kind()) {
+            case BASELINE -> base.withDeck(deck.cards(), deck.exCardId());
+            case CARD -> {
+                List<String> cards = new ArrayList<>(deck.cards());
+                int n = Math.min(Math.max(1, c.copies()), cards.size());
+                for (int i = cards.size() - n; i < cards.size(); i++) cards.set(i, c.id());
+                yield base.withDeck(cards, deck.exCardId());
+            }
+            case EX -> base.withDeck(deck.cards(), c.id());
+            case PASSIVE -> base.withDeck(deck.cards(), deck.exCardId()).withPassives(List.of(c.id()));
+        };
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.engine.command.*;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.action.LegalAction;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.core.combat.VictoryOps;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 밸런스 확인용 몬테카를로 전투 시뮬레이터(세션/락 없이 엔진만 돌린다).
+ *
+ * - 전투마다 GameState/GameEngine을 새로 만들고 seed = mix(config.seed, 전투 번호)로 덱 셔플/정책/엔진 RNG를 고정한다.
+ * - EngineContext(콘텐츠)는 불변이라 모든 워커가 공유한다.
+ * - ForkJoin으로 전투 구간을 나눠 돌리고, 워커별 SimTally를 합친다.
+ *
+ * 적은 손패의 EnemyStrike를 1회 쓰고 턴을 넘긴다. 승패는 VictoryOps 결과이고, maxRounds를 넘기면 시간 초과로 센다.
+ */
+public final class CombatSimulator {
+    private CombatSimulator() {}
+
+    /** 한 작업이 쪼개지지 않고 직접 돌리는 전투 수 */
+    private static final int LEAF_COMBATS = 16;
+
+    /** 정책이 턴을 끝내지 못하는 경우를 막는 라운드당 커맨드 상한(참가자 1명 기준) */
+    private static final int MAX_COMMANDS_PER_ACTOR_ROUND = 64;
+
+    public static SimulationReport run(EngineContext content, SimulationConfig config) {
+        EngineContext ctx = prepare(content);
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            SimTally tally = pool.invoke(new Batch(ctx, config, 0, config.combats()));
+            return SimulationReport.from(tally, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 시뮬레이션용 컨텍스트(콘텐츠 + EnemyStrike). 여러 번 돌릴 때는 한 번 만들어 공유한다.
+     * 이미 준비된 컨텍스트면 그대로 돌려준다.
+     */
+    public static EngineContext prepare(EngineContext content) {
+        return content.hasEffect(EnemyStrike.ID) ? content : content.withCards(
+                Map.of(EnemyStrike.ID, EnemyStrike.definition()),
+                Map.of(EnemyStrike.ID, new EnemyStrike()));
+    }
+
+    /**
+     * prepare된 컨텍스트로 전투를 돌린다. ForkJoin 워커에서 부르면 그 풀에서 나눠 돌린다
+     * (config.parallelism은 보지 않는다).
+     */
+    static SimulationReport runPrepared(EngineContext prepared, SimulationConfig config) {
+        long start = System.nanoTime();
+        SimTally tally = new Batch(prepared, config, 0, config.combats()).invoke();
+        return SimulationReport.from(tally, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /** 전투 1판(테스트/재현용). content에 EnemyStrike가 없으면 덧붙인다. */
+    static SimTally runOne(EngineContext content, SimulationConfig config, int index) {
+        EngineContext ctx = prepare(content);
+        SimTally t = new SimTally();
+        simulate(ctx, config, index, t);
+        return t;
+    }
+
+    private static final class Batch extends RecursiveTask<SimTally> {
+        private final EngineContext ctx;
+        private final SimulationConfig config;
+        private final int from;
+        private final int to;
+
+        Batch(EngineContext ctx, SimulationConfig config, int from, int to) {
+            this.ctx = ctx;
+            this.config = config;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimTally compute() {
+            if (to - from <= LEAF_COMBATS) {
+                SimTally t = new SimTally();
+                for (int i = from; i < to; i++) simulate(ctx, config, i, t);
+                return t;
+            }
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(ctx, config, from, mid);
+            left.fork();
+            SimTally right = new Batch(ctx, config, mid, to).compute();
+            SimTally merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+
+    private static void simulate(EngineContext ctx, SimulationConfig config, int index, SimTally t) {
+        long seed = mix(config.seed() + index * 0x9E3779B97F4A7C15L);
+        Random rnd = new Random(seed);
+        GameState state = setup(config, seed, rnd);
+        GameEngine engine = new GameEngine();
+
+        PlayerId gm = state.players().keySet().iterator().next();
+        EngineResult started = engine.process(state, ctx, new StartCombatCommand(nextId(rnd), state.version(), gm));
+        if (!started.accepted()) throw new IllegalStateException("start combat rejected: " + started.errors());
+        sampleStatuses(state, t);
+
+        int maxCommands = config.maxRounds() * MAX_COMMANDS_PER_ACTOR_ROUND * (config.players() + config.enemies());
+        int commands = 0;
+        String lastStrikeTurn = null;
+
+        while (commands < maxCommands) {
+            CombatState cs = state.combat();
+            if (cs.phase() == CombatPhase.END || cs.round() > config.maxRounds()) break;
+
+            GameCommand cmd;
+            String playedDef = null;
+            boolean playerSide = true;
+
+            List<LegalAction> actions = LegalActionGenerator.forAll(state, ctx);
+            if (!actions.isEmpty()) {
+                LegalAction a = config.policy().choose(actions, rnd);
+                cmd = a.toCommand(nextId(rnd), state.version());
+                if (a instanceof LegalAction.PlayCard pc) playedDef = state.card(pc.cardId()).defId().value();
+                else if (a instanceof LegalAction.UseEx) playedDef = state.card(state.player(a.actor()).exCard()).defId().value();
+            } else if (cs.phase() == CombatPhase.MAIN && cs.currentTurnActor() instanceof TargetRef.Enemy e) {
+                // 적 턴: 일격 1회 -> 턴 종료
+                String turnKey = cs.round() + ":" + cs.currentTurnIndex();
+                PlayerId target = turnKey.equals(lastStrikeTurn) ? null : strikeTarget(state, rnd);
+                if (target != null) {
+                    lastStrikeTurn = turnKey;
+                    cmd = new EnemyPlayCardCommand(nextId(rnd), state.version(), e.id(), strikeCard(e.id()),
+                            new TargetSelection(List.of(TargetRef.ofPlayer(target))));
+                    playedDef = EnemyStrike.ID.value();
+                    playerSide = false;
+                } else {
+                    cmd = new EnemyEndTurnCommand(nextId(rnd), state.version(), e.id());
+                }
+            } else {
+                break;
+            }
+
+            int opposingHpBefore = playedDef == null ? 0 : principalHp(state, playerSide);
+            EngineResult res = engine.process(state, ctx, cmd);
+            commands++;
+            if (!res.accepted()) {
+                // 적 일격이 상태(기절 등)로 막힌 경우는 턴 종료로 넘어간다
+                if (!playerSide) continue;
+                throw new IllegalStateException("simulated command rejected: " + res.errors());
+            }
+            if (playedDef != null) {
+                t.cardPlayed(playedDef, Math.max(0, opposingHpBefore - principalHp(state, playerSide)));
+            }
+            for (GameEvent ev : res.events()) {
+                if (ev instanceof GameEvent.TurnAdvanced) {
+                    sampleStatuses(state, t);
+                    break;
+                }
+            }
+        }
+
+        t.combats++;
+        t.commands += commands;
+        t.roundsSum += state.combat().round();
+        t.margin(hpRatio(state, false) - hpRatio(state, true));
+        switch (VictoryOps.check(state)) {
+            case PLAYERS_WIN -> t.wins++;
+            case PLAYERS_LOSE -> t.losses++;
+            case NONE -> t.timeouts++;
+        }
+    }
+
+    private static GameState setup(SimulationConfig config, long seed, Random rnd) {
+        GameState state = new GameState(new SessionId(new UUID(seed, ~seed)), seed);
+        for (int i = 1; i <= config.players(); i++) {
+            PlayerId pid = new PlayerId("P" + i);
+            PlayerState ps = new PlayerState(pid);
+            ps.body(config.body());
+            ps.skill(config.skill());
+            ps.sense(config.sense());
+            ps.will(config.will());
+            ps.hp(ps.maxHp());
+            ps.ap(ps.maxAp());
+            if (!config.playerPassives().isEmpty()) ps.passiveIds(config.playerPassives());
+            state.players().put(pid, ps);
+
+            List<CardInstId> deck = new ArrayList<>(config.playerDeck().size());
+            for (String def : config.playerDeck()) {
+                deck.add(addCard(state, rnd, new CardDefId(def), pid, Zone.DECK));
+            }
+            Collections.shuffle(deck, rnd);
+            ps.deck().addAll(deck);
+            if (config.exCardId() != null) {
+                ps.exCard(addCard(state, rnd, new CardDefId(config.exCardId()), pid, Zone.EX));
+            }
+        }
+        for (int i = 1; i <= config.enemies(); i++) {
+            EnemyId eid = new EnemyId("E" + i);
+            EnemyState es = new EnemyState(eid, config.enemyHp());
+            es.attackPower(config.enemyAttack());
+            state.enemies().put(eid, es);
+            // 적 카드는 enemyId value를 owner 키로 쓴다(EnemyPlayCardCommand 규칙)
+            CardInstId strike = strikeCard(eid);
+            state.cardInstances().put(strike, new CardInstance(strike, EnemyStrike.ID, new PlayerId(eid.value()), Zone.HAND));
+        }
+        return state;
+    }
+
+    private static CardInstId addCard(GameState state, Random rnd, CardDefId defId, PlayerId owner, Zone zone) {
+        CardInstId id = new CardInstId(nextId(rnd));
+        state.cardInstances().put(id, new CardInstance(id, defId, owner, zone));
+        return id;
+    }
+
+    /** 적 일격 카드 id는 적 id에서 정해진다(상태를 뒤지지 않고 찾기 위해). */
+    private static CardInstId strikeCard(EnemyId eid) {
+        return new CardInstId(UUID.nameUUIDFromBytes(("sim-strike:" + eid.value()).getBytes()));
+    }
+
+    private static PlayerId strikeTarget(GameState state, Random rnd) {
+        List<PlayerId> alive = new ArrayList<>(state.players().size());
+        for (PlayerState ps : state.players().values()) {
+            if (ps.hp() > 0 && !CombatStatuses.isBattleIncapacitated(ps)) alive.add(ps.playerId());
+        }
+        return alive.isEmpty() ? null : alive.get(rnd.nextInt(alive.size()));
+    }
+
+    /** enemies=true면 적 본체 HP 합, 아니면 플레이어 HP 합 */
+    private static int principalHp(GameState state, boolean enemies) {
+        int sum = 0;
+        if (enemies) {
+            for (EnemyState es : state.enemies().values()) sum += es.hp();
+        } else {
+            for (PlayerState ps : state.players().values()) sum += ps.hp();
+        }
+        return sum;
+    }
+
+    /** enemies=true면 적 본체, 아니면 플레이어의 HP 합 / 최대 HP 합 */
+    private static double hpRatio(GameState state, boolean enemies) {
+        long hp = 0, max = 0;
+        if (enemies) {
+            for (EnemyState es : state.enemies().values()) {
+                hp += es.hp();
+                max += es.maxHp();
+            }
+        } else {
+            for (PlayerState ps : state.players().values()) {
+                hp += ps.hp();
+                max += ps.maxHp();
+            }
+        }
+        return max == 0 ? 0 : (double) hp / max;
+    }
+
+    private static void sampleStatuses(GameState state, SimTally t) {
+        for (PlayerState ps : state.players().values()) {
+            if (ps.hp() <= 0) continue;
+            t.playerSamples++;
+            count(ps.statusValues(), t.playerStatusSamples);
+        }
+        for (EnemyState es : state.enemies().values()) {
+            if (es.hp() <= 0) continue;
+            t.enemySamples++;
+            count(es.statusValues(), t.enemyStatusSamples);
+        }
+    }
+
+    private static void count(Map<String, Integer> statuses, Map<String, Long> into) {
+        for (Map.Entry<String, Integer> e : statuses.entrySet()) {
+            if (e.getValue() > 0) into.merge(e.getKey(), 1L, Long::sum);
+        }
+    }
+
+    /** UUID.randomUUID는 SecureRandom을 공유하므로 워커마다 전투 RNG에서 뽑는다. */
+    private static UUID nextId(Random rnd) {
+        return new UUID(rnd.nextLong(), rnd.nextLong());
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
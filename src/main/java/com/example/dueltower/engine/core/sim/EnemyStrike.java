@@ -0,0 +1,54 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.core.combat.DamageOps;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 전용 적 카드: 플레이어 1명에게 적 공격력만큼 피해.
+ *
+ * 콘텐츠 카드 효과는 플레이어 시점으로 대상을 검사하므로(ENEMY_ONE = 적/소환수) 적이 그대로 쓸 수 없다.
+ * 코스트 0, 사용 후 손패로 돌아오므로 적 손패에 1장만 두면 매 턴 쓸 수 있다.
+ */
+final class EnemyStrike implements CardEffect {
+
+    static final CardDefId ID = new CardDefId("SIM_ENEMY_STRIKE");
+
+    static CardDefinition definition() {
+        return new CardDefinition(ID, "적 일격(시뮬레이션)", CardType.SKILL, 0, Map.of(), Zone.HAND, false,
+                "플레이어 1명에게 {공격력} 만큼의 대미지를 준다.");
+    }
+
+    @Override public String id() { return ID.value(); }
+
+    @Override
+    public List<String> validate(EffectContext ec) {
+        List<TargetRef> targets = ec.selection().targets();
+        if (targets == null || targets.size() != 1 || !(targets.get(0) instanceof TargetRef.Player p)) {
+            return List.of("exactly one player target required");
+        }
+        PlayerState ps = ec.state().player(p.id());
+        if (ps == null || ps.hp() <= 0 || CombatStatuses.isBattleIncapacitated(ps)) {
+            return List.of("target player not alive");
+        }
+        return List.of();
+    }
+
+    @Override
+    public void resolve(EffectContext ec) {
+        // EnemyPlayCardCommand는 적 id value를 PlayerId로 넘긴다
+        EnemyId enemyId = new EnemyId(ec.actor().value());
+        EnemyState es = ec.state().enemy(enemyId);
+        PlayerId target = ec.selection().requireOnePlayer();
+        DamageOps.apply(ec.state(), ec.ctx(), ec.out(), TargetRef.ofEnemy(enemyId), enemyId.value(),
+                TargetRef.ofPlayer(target), es == null ? 0 : es.attackPower());
+    }
+}
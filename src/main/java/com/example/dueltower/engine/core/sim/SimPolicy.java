@@ -0,0 +1,70 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.engine.core.action.LegalAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시뮬레이션에서 플레이어 쪽 행동을 고르는 방식.
+ * 후보는 LegalActionGenerator 결과이며, pending 해소(버리기/서치/동률 순서)는 항상 먼저 처리한다.
+ */
+public enum SimPolicy {
+
+    /** 무작위(END_TURN은 일정 확률로 먼저 골라 턴이 계속 돌게 한다) */
+    RANDOM {
+        @Override
+        LegalAction chooseAction(List<LegalAction> actions, Random rnd) {
+            LegalAction endTurn = null;
+            List<LegalAction> others = new ArrayList<>();
+            for (LegalAction a : actions) {
+                if (a instanceof LegalAction.EndTurn) endTurn = a;
+                else others.add(a);
+            }
+            if (endTurn != null && (others.isEmpty() || rnd.nextDouble() < END_TURN_BIAS)) return endTurn;
+            return others.get(rnd.nextInt(others.size()));
+        }
+    },
+
+    /** 정해진 우선순위: 카드(코스트 높은 것부터) -> EX -> 소환수 행동 -> 턴 종료. 손패 교체는 하지 않는다. */
+    SCRIPTED {
+        @Override
+        LegalAction chooseAction(List<LegalAction> actions, Random rnd) {
+            LegalAction.PlayCard bestCard = null;
+            LegalAction ex = null;
+            LegalAction summon = null;
+            LegalAction endTurn = null;
+            for (LegalAction a : actions) {
+                if (a instanceof LegalAction.PlayCard pc) {
+                    if (pc.apDebt()) continue;
+                    if (bestCard == null || pc.apCost() > bestCard.apCost()) bestCard = pc;
+                } else if (a instanceof LegalAction.UseEx && ex == null) {
+                    ex = a;
+                } else if (a instanceof LegalAction.UseSummonAction && summon == null) {
+                    summon = a;
+                } else if (a instanceof LegalAction.EndTurn) {
+                    endTurn = a;
+                }
+            }
+            if (bestCard != null) return bestCard;
+            if (ex != null) return ex;
+            if (summon != null) return summon;
+            if (endTurn != null) return endTurn;
+            return actions.get(0);
+        }
+    };
+
+    private static final double END_TURN_BIAS = 0.15;
+
+    public LegalAction choose(List<LegalAction> actions, Random rnd) {
+        for (LegalAction a : actions) {
+            if (a instanceof LegalAction.DiscardToHandLimit
+                    || a instanceof LegalAction.SearchPick
+                    || a instanceof LegalAction.InitiativeTieOrder) return a;
+        }
+        return chooseAction(actions, rnd);
+    }
+
+    abstract LegalAction chooseAction(List<LegalAction> actions, Random rnd);
+}
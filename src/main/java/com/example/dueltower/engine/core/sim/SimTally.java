@@ -0,0 +1,59 @@
+package com.example.dueltower.engine.core.sim;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 전투 결과 누적기(워커 1개가 단독으로 쓰고, 끝나면 merge로 합친다).
+ * 상태 유지율은 "턴이 넘어갈 때 살아 있는 본체 1명"을 1 표본으로 센다.
+ */
+final class SimTally {
+    long combats;
+    long wins;
+    long losses;
+    long timeouts;
+    long roundsSum;
+    long commands;
+    /** 전투별 우세 폭(플레이어 HP 비율 - 적 HP 비율)의 합/제곱합 */
+    double marginSum;
+    double marginSqSum;
+
+    /** 카드 정의 id -> {사용 횟수, 상대 진영 HP 감소 합} */
+    final Map<String, long[]> cards = new HashMap<>();
+
+    long playerSamples;
+    long enemySamples;
+    final Map<String, Long> playerStatusSamples = new HashMap<>();
+    final Map<String, Long> enemyStatusSamples = new HashMap<>();
+
+    void cardPlayed(String defId, int damage) {
+        long[] c = cards.computeIfAbsent(defId, k -> new long[2]);
+        c[0]++;
+        c[1] += damage;
+    }
+
+    void margin(double m) {
+        marginSum += m;
+        marginSqSum += m * m;
+    }
+
+    void merge(SimTally o) {
+        combats += o.combats;
+        wins += o.wins;
+        losses += o.losses;
+        timeouts += o.timeouts;
+        roundsSum += o.roundsSum;
+        commands += o.commands;
+        marginSum += o.marginSum;
+        marginSqSum += o.marginSqSum;
+        for (Map.Entry<String, long[]> e : o.cards.entrySet()) {
+            long[] c = cards.computeIfAbsent(e.getKey(), k -> new long[2]);
+            c[0] += e.getValue()[0];
+            c[1] += e.getValue()[1];
+        }
+        playerSamples += o.playerSamples;
+        enemySamples += o.enemySamples;
+        o.playerStatusSamples.forEach((k, v) -> playerStatusSamples.merge(k, v, Long::sum));
+        o.enemyStatusSamples.forEach((k, v) -> enemyStatusSamples.merge(k, v, Long::sum));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.dueltower.engine.core.sim;
+
+import java.util.List;
+
+/**
+ * 전투 시뮬레이션 설정.
+ *
+ * @param playerDeck   플레이어마다 같은 덱(카드 정의 id)을 쓴다
+ * @param exCardId     null이면 EX 없음
+ * @param playerPassives 플레이어마다 같은 패시브(최대 2개, 비우면 없음)
+ * @param body         플레이어 생활 스탯(공격력/체력/AP 파생값의 기준)
+ * @param enemyAttack  적 기본 일격(EnemyStrike) 피해량
+ * @param maxRounds    이 라운드를 넘기면 무승부(시간 초과)로 센다
+ * @param parallelism  ForkJoinPool 워커 수(0 이하면 가용 코어 수)
+ */
+public record SimulationConfig(
+        int combats,
+        int players,
+        int enemies,
+        List<String> playerDeck,
+        String exCardId,
+        List<String> playerPassives,
+        int body,
+        int skill,
+        int sense,
+        int will,
+        int enemyHp,
+        int enemyAttack,
+        int maxRounds,
+        SimPolicy policy,
+        long seed,
+        int parallelism
+) {
+    public SimulationConfig {
+        if (combats <= 0) throw new IllegalArgumentException("combats must be > 0");
+        if (players <= 0) throw new IllegalArgumentException("players must be > 0");
+        if (enemies <= 0) throw new IllegalArgumentException("enemies must be > 0");
+        if (enemyHp <= 0) throw new IllegalArgumentException("enemyHp must be > 0");
+        if (maxRounds <= 0) throw new IllegalArgumentException("maxRounds must be > 0");
+        playerDeck = (playerDeck == null) ? List.of() : List.copyOf(playerDeck);
+        if (playerDeck.isEmpty()) throw new IllegalArgumentException("playerDeck must not be empty");
+        playerPassives = (playerPassives == null) ? List.of() : List.copyOf(playerPassives);
+        if (policy == null) policy = SimPolicy.RANDOM;
+        if (parallelism <= 0) parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /** 같은 설정에서 덱/EX만 바꾼 설정(카드별 밸런스 비교용) */
+    public SimulationConfig withDeck(List<String> deck, String exCard) {
+        return new SimulationConfig(combats, players, enemies, deck, exCard, playerPassives, body, skill, sense, will,
+                enemyHp, enemyAttack, maxRounds, policy, seed, parallelism);
+    }
+
+    /** 같은 설정에서 패시브만 바꾼 설정 */
+    public SimulationConfig withPassives(List<String> passives) {
+        return new SimulationConfig(combats, players, enemies, playerDeck, exCardId, passives, body, skill, sense, will,
+                enemyHp, enemyAttack, maxRounds, policy, seed, parallelism);
+    }
+
+    /** 같은 설정에서 전투 수만 바꾼 설정 */
+    public SimulationConfig withCombats(int n) {
+        return new SimulationConfig(n, players, enemies, playerDeck, exCardId, playerPassives, body, skill, sense, will,
+                enemyHp, enemyAttack, maxRounds, policy, seed, parallelism);
+    }
+}
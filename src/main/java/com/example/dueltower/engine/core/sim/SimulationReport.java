@@ -0,0 +1,99 @@
+package com.example.dueltower.engine.core.sim;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 전투 시뮬레이션 결과.
+ *
+ * @param avgMargin      전투 종료 시 (플레이어 HP 합/최대 HP 합) - (적 HP 합/최대 HP 합)의 평균(-1~1)
+ * @param marginStdDev   그 표준편차
+ * @param cards          카드 정의 id별 사용 횟수/피해(사용 직후 상대 진영 본체 HP 감소 합)
+ * @param playerStatusUptime 상태 id -> 턴 전환 시점에 그 상태를 가진 플레이어 비율
+ * @param enemyStatusUptime  상태 id -> 턴 전환 시점에 그 상태를 가진 적 비율
+ */
+public record SimulationReport(
+        long combats,
+        long wins,
+        long losses,
+        long timeouts,
+        double avgRounds,
+        double avgCommands,
+        double avgMargin,
+        double marginStdDev,
+        Map<String, CardStat> cards,
+        Map<String, Double> playerStatusUptime,
+        Map<String, Double> enemyStatusUptime,
+        Duration elapsed
+) {
+    public record CardStat(long plays, long damage) {
+        public double damagePerPlay() {
+            return plays == 0 ? 0 : (double) damage / plays;
+        }
+    }
+
+    public double winRate() {
+        return combats == 0 ? 0 : (double) wins / combats;
+    }
+
+    /** 승률의 표준오차(이항 분포 근사) */
+    public double winRateStdErr() {
+        if (combats == 0) return 0;
+        double p = winRate();
+        return Math.sqrt(p * (1 - p) / combats);
+    }
+
+    public double combatsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : combats * 1_000_000_000.0 / nanos;
+    }
+
+    static SimulationReport from(SimTally t, Duration elapsed) {
+        Map<String, CardStat> cards = new TreeMap<>();
+        t.cards.forEach((k, v) -> cards.put(k, new CardStat(v[0], v[1])));
+        return new SimulationReport(
+                t.combats,
+                t.wins,
+                t.losses,
+                t.timeouts,
+                t.combats == 0 ? 0 : (double) t.roundsSum / t.combats,
+                t.combats == 0 ? 0 : (double) t.commands / t.combats,
+                mean(t.marginSum, t.combats),
+                stdDev(t.marginSum, t.marginSqSum, t.combats),
+                Map.copyOf(cards),
+                uptime(t.playerStatusSamples, t.playerSamples),
+                uptime(t.enemyStatusSamples, t.enemySamples),
+                elapsed
+        );
+    }
+
+    private static double mean(double sum, long n) {
+        return n == 0 ? 0 : sum / n;
+    }
+
+    private static double stdDev(double sum, double sqSum, long n) {
+        if (n < 2) return 0;
+        double m = sum / n;
+        return Math.sqrt(Math.max(0, (sqSum - n * m * m) / (n - 1)));
+    }
+
+    private static Map<String, Double> uptime(Map<String, Long> samples, long total) {
+        Map<String, Double> out = new TreeMap<>();
+        if (total > 0) samples.forEach((k, v) -> out.put(k, (double) v / total));
+        return Map.copyOf(out);
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "sim report combats=%d elapsed=%.2fs (%.0f combats/s)%n"
+                        + "  winRate=%.3f±%.3f (wins=%d losses=%d timeouts=%d) avgRounds=%.2f avgCommands=%.1f margin=%.3f(sd %.3f)",
+                combats, elapsed.toNanos() / 1e9, combatsPerSecond(),
+                winRate(), winRateStdErr(), wins, losses, timeouts, avgRounds, avgCommands, avgMargin, marginStdDev));
+        new TreeMap<>(cards).forEach((id, c) -> sb.append(String.format(
+                "%n  card %s plays=%d damage=%d perPlay=%.2f", id, c.plays(), c.damage(), c.damagePerPlay())));
+        new TreeMap<>(playerStatusUptime).forEach((id, u) -> sb.append(String.format("%n  status P %s uptime=%.3f", id, u)));
+        new TreeMap<>(enemyStatusUptime).forEach((id, u) -> sb.append(String.format("%n  status E %s uptime=%.3f", id, u)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.dueltower.engine.core.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * GameEngine.process 1회. 단계별(validate/handle/victory) 소요 시간을 함께 남긴다.
+ * 거절된 커맨드는 rejectReason이 채워지고 도달하지 못한 단계 시간은 0.
+ */
+@Name("dueltower.engine.Command")
+@Label("Engine Command")
+@Category({"Duel Tower", "Engine"})
+@Description("GameEngine.process single command")
+@StackTrace(false)
+public class CommandProcessEvent extends jdk.jfr.Event {
+
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Command Id")
+    public String commandId;
+
+    @Label("State Version")
+    public long stateVersion;
+
+    @Label("Accepted")
+    public boolean accepted;
+
+    @Label("Reject Reason")
+    public String rejectReason;
+
+    @Label("Validate")
+    @Timespan(Timespan.NANOSECONDS)
+    public long validateNanos;
+
+    @Label("Handle")
+    @Timespan(Timespan.NANOSECONDS)
+    public long handleNanos;
+
+    @Label("Victory Check")
+    @Timespan(Timespan.NANOSECONDS)
+    public long victoryCheckNanos;
+
+    @Label("Events")
+    public int eventCount;
+}
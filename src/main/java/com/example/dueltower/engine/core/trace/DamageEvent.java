@@ -0,0 +1,28 @@
+package com.example.dueltower.engine.core.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** DamageOps.apply 1회(패시브/상태 변형 포함). */
+@Name("dueltower.engine.Damage")
+@Label("Damage")
+@Category({"Duel Tower", "Engine"})
+@Description("DamageOps.apply including passive/status modifiers")
+@StackTrace(false)
+public class DamageEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Dealt")
+    public int dealt;
+}
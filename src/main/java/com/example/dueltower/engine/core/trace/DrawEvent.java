@@ -0,0 +1,28 @@
+package com.example.dueltower.engine.core.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** ZoneOps.drawWithRefill 1회(묘지 리필/셔플 포함). */
+@Name("dueltower.engine.Draw")
+@Label("Draw")
+@Category({"Duel Tower", "Engine"})
+@Description("ZoneOps.drawWithRefill including grave refill and shuffle")
+@StackTrace(false)
+public class DrawEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Drawn")
+    public int drawn;
+
+    @Label("Refills")
+    public int refills;
+}
@@ -0,0 +1,40 @@
+package com.example.dueltower.engine.core.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 필드 카드 턴 훅(onTurnStart/onTurnEnd) 1회 호출. */
+@Name("dueltower.engine.FieldEffectHook")
+@Label("Field Effect Hook")
+@Category({"Duel Tower", "Engine", "Hooks"})
+@Description("Single field card turn hook invocation")
+@StackTrace(false)
+public class FieldEffectHookEvent extends jdk.jfr.Event {
+
+    @Label("Hook")
+    public String hook;
+
+    @Label("Card Def Id")
+    public String cardDefId;
+
+    @Label("Card Instance Id")
+    public String cardInstId;
+
+    @Label("Owner")
+    public String owner;
+
+    public static FieldEffectHookEvent begin(String hook, String cardDefId, String cardInstId, String owner) {
+        FieldEffectHookEvent ev = new FieldEffectHookEvent();
+        if (ev.isEnabled()) {
+            ev.hook = hook;
+            ev.cardDefId = cardDefId;
+            ev.cardInstId = cardInstId;
+            ev.owner = owner;
+            ev.begin();
+        }
+        return ev;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.dueltower.engine.core.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** StatusEffect 훅 1회 호출(StatusOps/StatusPhases 디스패치). */
+@Name("dueltower.engine.StatusHook")
+@Label("Status Hook")
+@Category({"Duel Tower", "Engine", "Hooks"})
+@Description("Single StatusEffect hook invocation")
+@StackTrace(false)
+public class StatusHookEvent extends jdk.jfr.Event {
+
+    @Label("Hook")
+    public String hook;
+
+    @Label("Status Id")
+    public String statusId;
+
+    @Label("Owner")
+    public String owner;
+
+    @Label("Stacks")
+    public int stacks;
+
+    public static StatusHookEvent begin(String hook, String statusId, Object owner, int stacks) {
+        StatusHookEvent ev = new StatusHookEvent();
+        if (ev.isEnabled()) {
+            ev.hook = hook;
+            ev.statusId = statusId;
+            ev.owner = String.valueOf(owner);
+            ev.stacks = stacks;
+            ev.begin();
+        }
+        return ev;
+    }
+}
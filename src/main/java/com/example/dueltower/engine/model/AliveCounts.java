@@ -0,0 +1,17 @@
+package com.example.dueltower.engine.model;
+
+/**
+ * 진영별로 살아 있는 승패 주체(플레이어/적 본체) 수. 소환체는 세지 않는다.
+ *
+ * GameState가 하나 갖고, players/enemies 맵에 들어간 엔티티가 hp나 [전투 불능]이 바뀔 때마다 직접 고친다.
+ * 승패 판정은 엔티티를 훑지 않고 이 값만 읽는다(효과 도중에도 O(1)).
+ * - 플레이어: hp > 0 이고 [전투 불능](전투 한정/지속) 스택이 없음
+ * - 적: hp > 0
+ */
+public final class AliveCounts {
+    int players;
+    int enemies;
+
+    public int players() { return players; }
+    public int enemies() { return enemies; }
+}
@@ -0,0 +1,116 @@
+package com.example.dueltower.engine.model;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 값이 들어오고 나갈 때 attach/detach를 부르는 맵(GameState의 엔티티 맵 전용).
+ * put/remove/clear와 entrySet 반복자의 remove, 엔트리 setValue가 모두 여기를 거친다.
+ * 순회 순서는 바탕 맵을 따른다(기본은 삽입 순서, cardInstances/summons는 기존대로 HashMap).
+ */
+final class AttachedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> m;
+    private final Consumer<V> attach;
+    private final Consumer<V> detach;
+    private final EntrySet entries = new EntrySet();
+
+    AttachedMap(Consumer<V> attach, Consumer<V> detach) {
+        this(new LinkedHashMap<>(), attach, detach);
+    }
+
+    /** 빈 바탕 맵을 받는다(순회 순서/초기 용량을 호출자가 정한다). */
+    AttachedMap(Map<K, V> backing, Consumer<V> attach, Consumer<V> detach) {
+        this.m = backing;
+        this.attach = attach;
+        this.detach = detach;
+    }
+
+    @Override public int size() { return m.size(); }
+    @Override public boolean isEmpty() { return m.isEmpty(); }
+    @Override public boolean containsKey(Object key) { return m.containsKey(key); }
+    @Override public V get(Object key) { return m.get(key); }
+
+    @Override
+    public V put(K key, V value) {
+        V prev = m.put(key, value);
+        swap(prev, value);
+        return prev;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V prev = m.remove(key);
+        if (prev != null) detach.accept(prev);
+        return prev;
+    }
+
+    @Override
+    public void clear() {
+        for (V v : m.values()) {
+            if (v != null) detach.accept(v);
+        }
+        m.clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() { return entries; }
+
+    private void swap(V prev, V next) {
+        if (prev == next) return;
+        if (prev != null) detach.accept(prev);
+        if (next != null) attach.accept(next);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override public int size() { return m.size(); }
+        @Override public void clear() { AttachedMap.this.clear(); }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            Iterator<Entry<K, V>> it = m.entrySet().iterator();
+            return new Iterator<>() {
+                private Entry<K, V> last;
+
+                @Override public boolean hasNext() { return it.hasNext(); }
+
+                @Override
+                public Entry<K, V> next() {
+                    last = it.next();
+                    return new AttachedEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) throw new IllegalStateException();
+                    V prev = last.getValue();
+                    it.remove();
+                    if (prev != null) detach.accept(prev);
+                    last = null;
+                }
+            };
+        }
+    }
+
+    private final class AttachedEntry implements Entry<K, V> {
+        private final Entry<K, V> e;
+
+        AttachedEntry(Entry<K, V> e) { this.e = e; }
+
+        @Override public K getKey() { return e.getKey(); }
+        @Override public V getValue() { return e.getValue(); }
+
+        @Override
+        public V setValue(V value) {
+            V prev = e.setValue(value);
+            swap(prev, value);
+            return prev;
+        }
+
+        @Override public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> other && Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+        @Override public int hashCode() { return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue()); }
+        @Override public String toString() { return getKey() + "=" + getValue(); }
+    }
+}
@@ -4,7 +4,6 @@ import com.example.dueltower.engine.model.Ids.CardDefId;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.PlayerId;
 
-import java.util.HashMap;
 import java.util.Map;
 
 public final class CardInstance {
@@ -13,28 +12,75 @@ public final class CardInstance {
     private final PlayerId ownerId;
 
     private Zone zone;
-    private final Map<String, Integer> counters = new HashMap<>();
+    private final HashedCounterMap counters = new HashedCounterMap(null, (b, a) -> touch(H_COUNTERS, b, a));
     private boolean fieldEffectActive;
     private boolean fieldEffectTransitioning;
 
+    // ===== 상태 해시(StateHash) =====
+    private static final int H_IDENTITY = 1, H_ZONE = 2, H_FIELD_ACTIVE = 3, H_FIELD_TRANSITIONING = 4, H_COUNTERS = 5;
+    private final long salt;
+    private long hash;
+    /** GameState.cardInstances에 들어가 있으면 그 상태의 해시 합, 아니면 null */
+    private StateJournal journal;
+
     public CardInstance(CardInstId instanceId, CardDefId defId, PlayerId ownerId, Zone zone) {
         this.instanceId = instanceId;
         this.defId = defId;
         this.ownerId = ownerId;
         this.zone = zone;
+        this.salt = StateHash.of(instanceId.value());
+        this.hash = key(H_IDENTITY, StateHash.of(defId.value()) ^ StateHash.mix(StateHash.of(ownerId.value())))
+                ^ key(H_ZONE, StateHash.of(zone)) ^ key(H_FIELD_ACTIVE, 0) ^ key(H_FIELD_TRANSITIONING, 0) ^ key(H_COUNTERS, 0);
+    }
+
+    /** fork 전용: 같은 인스턴스 ID/정의/소유자로 가변 필드만 새로 복사한다. */
+    public CardInstance copy() {
+        CardInstance c = new CardInstance(instanceId, defId, ownerId, zone);
+        c.counters.putAll(counters);
+        c.fieldEffectActive = fieldEffectActive;
+        c.fieldEffectTransitioning = fieldEffectTransitioning;
+        c.hash = hash;
+        return c;
     }
 
     public CardInstId instanceId() { return instanceId; }
     public CardDefId defId() { return defId; }
     public PlayerId ownerId() { return ownerId; }
     public Zone zone() { return zone; }
-    public void zone(Zone z) { this.zone = z; }
+    public void zone(Zone z) { touch(H_ZONE, StateHash.of(zone), StateHash.of(zone = z)); }
 
     public Map<String, Integer> counters() { return counters; }
 
     public boolean fieldEffectActive() { return fieldEffectActive; }
-    public void fieldEffectActive(boolean v) { this.fieldEffectActive = v; }
+    public void fieldEffectActive(boolean v) {
+        touch(H_FIELD_ACTIVE, StateHash.of(fieldEffectActive), StateHash.of(fieldEffectActive = v));
+    }
 
     public boolean fieldEffectTransitioning() { return fieldEffectTransitioning; }
-    public void fieldEffectTransitioning(boolean v) { this.fieldEffectTransitioning = v; }
+    public void fieldEffectTransitioning(boolean v) {
+        touch(H_FIELD_TRANSITIONING, StateHash.of(fieldEffectTransitioning), StateHash.of(fieldEffectTransitioning = v));
+    }
+
+    /** 정의/소유자/존/필드 플래그 + counters 해시(O(1)). */
+    public long stateHash() {
+        return hash;
+    }
+
+    /** GameState.cardInstances 맵이 넣고 뺄 때 부른다(null이면 해시 합/id 지문에서 빠짐). */
+    void journal(StateJournal j) {
+        if (journal != null) journal.detached(this);
+        journal = j;
+        if (journal != null) journal.attached(this);
+    }
+
+    private long key(int field, long value) {
+        return StateHash.key(salt, field, value);
+    }
+
+    private void touch(int field, long before, long after) {
+        if (before == after) return;
+        long delta = key(field, before) ^ key(field, after);
+        hash ^= delta;
+        if (journal != null) journal.changed(this, delta);
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SummonInstId;
+
+import java.util.Set;
+
+/**
+ * 직전 {@link GameState#publishChanges()} 이후 추가/변경/삭제된 엔티티 id.
+ * 받는 쪽(DTO 매핑, 스냅샷, 푸시)은 여기 들어 있는 부분만 다시 만들면 된다.
+ *
+ * @param full   비교할 기준이 없어(추적 꺼짐, 첫 publish) 전부 바뀐 것으로 봐야 한다. 이때 id 집합은 비어 있다.
+ * @param combat CombatState가 생기거나 사라졌거나 내용이 바뀌었다
+ * @param node   NodeState가 바뀌었다
+ */
+public record ChangeSet(
+        boolean full,
+        Set<PlayerId> players,
+        Set<EnemyId> enemies,
+        Set<CardInstId> cards,
+        Set<SummonInstId> summons,
+        boolean combat,
+        boolean node
+) {
+    public static final ChangeSet NONE = new ChangeSet(false, Set.of(), Set.of(), Set.of(), Set.of(), false, false);
+    public static final ChangeSet FULL = new ChangeSet(true, Set.of(), Set.of(), Set.of(), Set.of(), true, true);
+
+    public ChangeSet {
+        players = Set.copyOf(players);
+        enemies = Set.copyOf(enemies);
+        cards = Set.copyOf(cards);
+        summons = Set.copyOf(summons);
+    }
+
+    public boolean isEmpty() {
+        return !full && !combat && !node
+                && players.isEmpty() && enemies.isEmpty() && cards.isEmpty() && summons.isEmpty();
+    }
+
+    public boolean player(PlayerId id) { return full || players.contains(id); }
+    public boolean enemy(EnemyId id) { return full || enemies.contains(id); }
+    public boolean card(CardInstId id) { return full || cards.contains(id); }
+    public boolean summon(SummonInstId id) { return full || summons.contains(id); }
+}
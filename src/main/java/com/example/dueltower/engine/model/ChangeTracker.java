@@ -0,0 +1,35 @@
+package com.example.dueltower.engine.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * GameState 변경 추적기. 엔티티가 바뀌거나 붙고 떨어질 때 {@link StateJournal}이 그 id를 여기 표시해 두고,
+ * publish가 표시된 것만 변경분으로 내보낸 뒤 비운다(상태 전체를 훑지 않는다).
+ * 존 리스트/상태 맵을 직접 고쳐도 컬렉션이 소유 엔티티 해시를 갱신하는 자리에서 함께 표시된다.
+ */
+final class ChangeTracker {
+
+    final Set<Ids.PlayerId> players = new HashSet<>();
+    final Set<Ids.EnemyId> enemies = new HashSet<>();
+    final Set<Ids.CardInstId> cards = new HashSet<>();
+    final Set<Ids.SummonInstId> summons = new HashSet<>();
+    boolean combat;
+    private NodeState node;
+    private boolean started;
+
+    ChangeSet publish(NodeState current) {
+        boolean nodeChanged = current != node;
+        node = current;
+        ChangeSet out = started
+                ? new ChangeSet(false, players, enemies, cards, summons, combat, nodeChanged)
+                : ChangeSet.FULL;
+        started = true;
+        players.clear();
+        enemies.clear();
+        cards.clear();
+        summons.clear();
+        combat = false;
+        return out;
+    }
+}
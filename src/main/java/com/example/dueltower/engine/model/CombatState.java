@@ -6,28 +6,53 @@ public final class CombatState {
     private int round = 1;
     private int currentTurnIndex = 0;
     private CombatPhase phase = CombatPhase.INIT;
-    private final List<TargetRef> turnOrder = new ArrayList<>();
-    private final Map<FactionId, Map<String,Integer>> factionStatusValues = new EnumMap<>(FactionId.class);
+    private final HashedList<TargetRef> turnOrder = new HashedList<>((b, a) -> touch(H_TURN_ORDER, b, a));
+    private final Map<FactionId, HashedCounterMap> factionStatusValues = new EnumMap<>(FactionId.class);
 
     // 전투 시작 시 굴린 이니셔티브 (actorKey -> 1..100)
-    private final Map<String, Integer> initiatives = new LinkedHashMap<>();
+    private final HashedCounterMap initiatives = new HashedCounterMap(null, (b, a) -> touch(H_INITIATIVES, b, a));
 
     // 플레이어끼리 이니셔티브가 동률인 그룹(협의 필요 표시용)
-    private final List<List<String>> initiativeTieGroups = new ArrayList<>();
+    // (그룹 리스트는 넣은 뒤 고치지 않는다: 넣을 때의 순서 해시로 접힌다)
+    private final HashedList<List<String>> initiativeTieGroups = new HashedList<>((b, a) -> touch(H_TIE_GROUPS, b, a));
+
+    // ===== 상태 해시(StateHash) =====
+    private static final long SALT = StateHash.of("COMBAT");
+    private static final int H_ROUND = 1, H_TURN_INDEX = 2, H_PHASE = 3, H_TURN_ORDER = 4,
+            H_FACTION_PLAYERS = 5, H_FACTION_ENEMIES = 6, H_INITIATIVES = 7, H_TIE_GROUPS = 8;
+    private long hash = key(H_ROUND, 1) ^ key(H_TURN_INDEX, 0) ^ key(H_PHASE, StateHash.of(CombatPhase.INIT))
+            ^ key(H_TURN_ORDER, 0) ^ key(H_FACTION_PLAYERS, 0) ^ key(H_FACTION_ENEMIES, 0) ^ key(H_INITIATIVES, 0)
+            ^ key(H_TIE_GROUPS, 0);
+    /** GameState.combat으로 붙어 있으면 그 상태의 해시 합, 아니면 null */
+    private StateJournal journal;
 
     public CombatState() {
-        factionStatusValues.put(FactionId.PLAYERS, new LinkedHashMap<>());
-        factionStatusValues.put(FactionId.ENEMIES, new LinkedHashMap<>());
+        factionStatusValues.put(FactionId.PLAYERS, new HashedCounterMap(null, (b, a) -> touch(H_FACTION_PLAYERS, b, a)));
+        factionStatusValues.put(FactionId.ENEMIES, new HashedCounterMap(null, (b, a) -> touch(H_FACTION_ENEMIES, b, a)));
+    }
+
+    /** fork 전용 깊은 복사. TargetRef는 불변 record라 그대로 공유한다. */
+    public CombatState copy() {
+        CombatState c = new CombatState();
+        c.round = round;
+        c.currentTurnIndex = currentTurnIndex;
+        c.phase = phase;
+        c.turnOrder.addAll(turnOrder);
+        for (FactionId f : FactionId.values()) c.factionStatusValues.get(f).putAll(factionStatusValues.get(f));
+        c.initiatives.putAll(initiatives);
+        for (List<String> group : initiativeTieGroups) c.initiativeTieGroups.add(new ArrayList<>(group));
+        c.hash = hash;
+        return c;
     }
 
     public CombatPhase phase() { return phase; }
-    public void phase(CombatPhase p) { this.phase = (p == null) ? CombatPhase.INIT : p; }
+    public void phase(CombatPhase p) { touch(H_PHASE, StateHash.of(phase), StateHash.of(phase = (p == null) ? CombatPhase.INIT : p)); }
 
     public int round() { return round; }
-    public void round(int r) { this.round = r; }
+    public void round(int r) { touch(H_ROUND, round, round = r); }
 
     public int currentTurnIndex() { return currentTurnIndex; }
-    public void currentTurnIndex(int idx) { this.currentTurnIndex = idx; }
+    public void currentTurnIndex(int idx) { touch(H_TURN_INDEX, currentTurnIndex, currentTurnIndex = idx); }
 
     public List<TargetRef> turnOrder() { return turnOrder; }
 
@@ -45,6 +70,29 @@ public final class CombatState {
     public Map<String, Integer> initiatives() { return initiatives; }
     public List<List<String>> initiativeTieGroups() { return initiativeTieGroups; }
 
+    /** 라운드/턴/페이즈 + 진영 상태/이니셔티브 + 턴 순서/동률 그룹 해시. 바뀔 때 갱신해 두므로 O(1)이다. */
+    public long stateHash() {
+        return hash;
+    }
+
+    /** GameState.combat(c)로 붙이고 뗄 때 부른다(null이면 해시 합에서 빠짐). */
+    void journal(StateJournal j) {
+        if (journal != null) journal.detached(this);
+        journal = j;
+        if (journal != null) journal.attached(this);
+    }
+
+    private static long key(int field, long value) {
+        return StateHash.key(SALT, field, value);
+    }
+
+    private void touch(int field, long before, long after) {
+        if (before == after) return;
+        long delta = key(field, before) ^ key(field, after);
+        hash ^= delta;
+        if (journal != null) journal.changed(this, delta);
+    }
+
     public static FactionId factionOf(TargetRef ref) {
         if (ref instanceof TargetRef.Player) return FactionId.PLAYERS;
         if (ref instanceof TargetRef.Enemy)  return FactionId.ENEMIES;
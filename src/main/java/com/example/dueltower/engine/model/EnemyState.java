@@ -3,7 +3,6 @@ package com.example.dueltower.engine.model;
 import com.example.dueltower.engine.model.Ids.EnemyId;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 public final class EnemyState {
@@ -17,7 +16,19 @@ public final class EnemyState {
     private int exCooldownUntilRound;
     private boolean exActivatable;
     private boolean usedExThisTurn;
-    private final Map<String, Integer> statusValues = new LinkedHashMap<>();
+    private final HashedCounterMap statusValues = new HashedCounterMap(null, (b, a) -> touch(H_STATUS, b, a));
+
+    // ===== 상태 해시(StateHash) =====
+    private static final int H_MAX_HP = 1, H_HP = 2, H_AP = 3, H_ATK = 4, H_HEAL = 5,
+            H_EX_CARD = 6, H_EX_COOLDOWN = 7, H_EX_ACTIVATABLE = 8, H_USED_EX = 9, H_STATUS = 10;
+    private final long salt;
+    private long hash;
+    /** GameState.enemies에 들어가 있으면 그 상태의 해시 합, 아니면 null */
+    private StateJournal journal;
+
+    // ===== 생존 집계(AliveCounts) =====
+    private AliveCounts aliveCounts;
+    private boolean countedAlive;
 
     public EnemyState(EnemyId enemyId, int maxHp) {
         this.enemyId = enemyId;
@@ -28,36 +39,66 @@ public final class EnemyState {
         this.healPower = 0;
         this.exActivatable = false;
         this.usedExThisTurn = false;
+        this.salt = StateHash.of("E:" + enemyId.value());
+        this.hash = key(H_MAX_HP, this.maxHp) ^ key(H_HP, hp) ^ key(H_AP, 0) ^ key(H_ATK, 0) ^ key(H_HEAL, 0)
+                ^ key(H_EX_CARD, 0) ^ key(H_EX_COOLDOWN, 0) ^ key(H_EX_ACTIVATABLE, 0) ^ key(H_USED_EX, 0) ^ key(H_STATUS, 0);
+    }
+
+    /** fork 전용 깊은 복사. */
+    public EnemyState copy() {
+        EnemyState c = new EnemyState(enemyId, maxHp);
+        c.hp = hp;
+        c.ap = ap;
+        c.attackPower = attackPower;
+        c.healPower = healPower;
+        c.exCard = exCard;
+        c.exCooldownUntilRound = exCooldownUntilRound;
+        c.exActivatable = exActivatable;
+        c.usedExThisTurn = usedExThisTurn;
+        c.statusValues.putAll(statusValues);
+        c.hash = hash;
+        return c;
     }
 
     public EnemyId enemyId() { return enemyId; }
 
     public int maxHp() { return maxHp; }
-    public void maxHp(int v) { this.maxHp = Math.max(1, v); this.hp = clamp(this.hp, 0, this.maxHp); }
+    public void maxHp(int v) {
+        int prevHp = hp;
+        touch(H_MAX_HP, maxHp, maxHp = Math.max(1, v));
+        touch(H_HP, prevHp, hp = clamp(prevHp, 0, maxHp));
+        refreshAlive();
+    }
 
     public int hp() { return hp; }
-    public void hp(int v) { this.hp = clamp(v, 0, maxHp); }
+    public void hp(int v) {
+        touch(H_HP, hp, hp = clamp(v, 0, maxHp));
+        refreshAlive();
+    }
 
     public int ap() { return ap; }
-    public void ap(int v) { this.ap = Math.max(0, v); }
+    public void ap(int v) { touch(H_AP, ap, ap = Math.max(0, v)); }
 
     public int attackPower() { return attackPower; }
-    public void attackPower(int v) { this.attackPower = Math.max(0, v); }
+    public void attackPower(int v) { touch(H_ATK, attackPower, attackPower = Math.max(0, v)); }
 
     public int healPower() { return healPower; }
-    public void healPower(int v) { this.healPower = Math.max(0, v); }
+    public void healPower(int v) { touch(H_HEAL, healPower, healPower = Math.max(0, v)); }
 
     public CardInstId exCard() { return exCard; }
-    public void exCard(CardInstId id) { this.exCard = id; }
+    public void exCard(CardInstId id) {
+        touch(H_EX_CARD, exCard == null ? 0L : StateHash.of(exCard.value()), id == null ? 0L : StateHash.of(id.value()));
+        this.exCard = id;
+    }
 
     public int exCooldownUntilRound() { return exCooldownUntilRound; }
-    public void exCooldownUntilRound(int v) { this.exCooldownUntilRound = Math.max(0, v); }
+    public void exCooldownUntilRound(int v) { touch(H_EX_COOLDOWN, exCooldownUntilRound, exCooldownUntilRound = Math.max(0, v)); }
 
     public boolean exActivatable() { return exActivatable; }
-    public void exActivatable(boolean v) { this.exActivatable = v; }
+    public void exActivatable(boolean v) { touch(H_EX_ACTIVATABLE, StateHash.of(exActivatable), StateHash.of(exActivatable = v)); }
 
     public boolean usedExThisTurn() { return usedExThisTurn; }
-    public void usedExThisTurn(boolean v) { this.usedExThisTurn = v; }
+    public void usedExThisTurn(boolean v) { touch(H_USED_EX, StateHash.of(usedExThisTurn), StateHash.of(usedExThisTurn = v)); }
 
     public boolean exOnCooldown(int currentRound) {
         return exCooldownUntilRound > 0 && currentRound <= exCooldownUntilRound;
@@ -72,6 +113,45 @@ public final class EnemyState {
     }
     public void statusAdd(String key, int delta) { statusSet(key, status(key) + delta); }
 
+    /** GameState.enemies 맵이 넣고 뺄 때 부른다(null이면 집계에서 빠짐). */
+    void aliveCounts(AliveCounts counts) {
+        if (aliveCounts != null && countedAlive) aliveCounts.enemies--;
+        aliveCounts = counts;
+        countedAlive = hp > 0;
+        if (aliveCounts != null && countedAlive) aliveCounts.enemies++;
+    }
+
+    /** GameState.enemies 맵이 넣고 뺄 때 부른다(null이면 해시 합에서 빠짐). */
+    void journal(StateJournal j) {
+        if (journal != null) journal.detached(this);
+        journal = j;
+        if (journal != null) journal.attached(this);
+    }
+
+    private void refreshAlive() {
+        if (aliveCounts == null) return;
+        boolean now = hp > 0;
+        if (now == countedAlive) return;
+        countedAlive = now;
+        aliveCounts.enemies += now ? 1 : -1;
+    }
+
+    /** 필드 해시 + 상태 스택 해시. 갱신은 setter/맵에서 이미 끝나 있어 O(1)이다. */
+    public long stateHash() {
+        return hash;
+    }
+
+    private long key(int field, long value) {
+        return StateHash.key(salt, field, value);
+    }
+
+    private void touch(int field, long before, long after) {
+        if (before == after) return;
+        long delta = key(field, before) ^ key(field, after);
+        hash ^= delta;
+        if (journal != null) journal.changed(this, delta);
+    }
+
     private static int clamp(int v, int min, int max) {
         if (v < min) return min;
         if (v > max) return max;
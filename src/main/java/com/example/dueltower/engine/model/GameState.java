@@ -6,7 +6,6 @@ import com.example.dueltower.engine.model.Ids.SessionId;
 import com.example.dueltower.engine.model.Ids.SummonInstId;
 
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 public final class GameState {
@@ -14,17 +13,67 @@ public final class GameState {
     private long version = 0;
     private final long seed;
 
-    private final Map<PlayerId, PlayerState> players = new LinkedHashMap<>();
-    private final Map<Ids.EnemyId, EnemyState> enemies = new LinkedHashMap<>();
-    private final Map<CardInstId, CardInstance> cardInstances = new HashMap<>();
-    private final Map<SummonInstId, SummonState> summons = new HashMap<>();
+    private final Map<PlayerId, PlayerState> players;
+    private final Map<Ids.EnemyId, EnemyState> enemies;
+    private final Map<CardInstId, CardInstance> cardInstances;
+    private final Map<SummonInstId, SummonState> summons;
 
     private CombatState combat;
     private NodeState nodeState = NodeState.NON_COMBAT;
 
+    /** players/enemies 맵에 넣고 뺄 때 엔티티를 붙이고 떼어 진영별 생존 수를 유지한다. */
+    private final AliveCounts alive = new AliveCounts();
+    /**
+     * 엔티티 맵/combat에 넣고 뺄 때 붙이고 떼어 해시 합과 인스턴스 id 지문, 변경 추적을 유지한다
+     * (상태 아님: 해시/코덱/fork 대상 아님).
+     */
+    private final StateJournal journal = new StateJournal();
+
     public GameState(SessionId sessionId, long seed) {
+        this(sessionId, seed, new HashMap<>(), new HashMap<>());
+    }
+
+    private GameState(SessionId sessionId, long seed, Map<CardInstId, CardInstance> cards, Map<SummonInstId, SummonState> summons) {
         this.sessionId = sessionId;
         this.seed = seed;
+        this.players = new AttachedMap<>(
+                ps -> { ps.aliveCounts(alive); ps.journal(journal); },
+                ps -> { ps.aliveCounts(null); ps.journal(null); });
+        this.enemies = new AttachedMap<>(
+                es -> { es.aliveCounts(alive); es.journal(journal); },
+                es -> { es.aliveCounts(null); es.journal(null); });
+        this.cardInstances = new AttachedMap<>(cards, ci -> ci.journal(journal), ci -> ci.journal(null));
+        this.summons = new AttachedMap<>(summons, s -> s.journal(journal), s -> s.journal(null));
+    }
+
+    /**
+     * fork 전용: 엔티티 사본을 같은 순서로 넣는다(생존 집계/해시 합도 사본 기준으로 다시 센다).
+     * cardInstances/summons는 HashMap.putAll과 같은 초기 용량으로 잡아 원본과 순회 순서가 같게 한다.
+     */
+    private GameState(GameState src) {
+        this(src.sessionId, src.seed, presized(src.cardInstances.size()), presized(src.summons.size()));
+        this.version = src.version;
+        src.players.forEach((id, ps) -> this.players.put(id, ps.copy()));
+        src.enemies.forEach((id, es) -> this.enemies.put(id, es.copy()));
+        src.cardInstances.forEach((id, ci) -> this.cardInstances.put(id, ci == null ? null : ci.copy()));
+        src.summons.forEach((id, s) -> this.summons.put(id, s.copy()));
+        combat((src.combat == null) ? null : src.combat.copy());
+        this.nodeState = src.nodeState;
+    }
+
+    /** 빈 HashMap에 n개를 putAll할 때와 같은 용량의 빈 맵(n == 0이면 기본 용량) */
+    private static <K, V> Map<K, V> presized(int n) {
+        return (n == 0) ? new HashMap<>() : new HashMap<>((int) (n / 0.75f + 1.0f));
+    }
+
+    /**
+     * 미리보기/시뮬레이션용 독립 사본.
+     * 엔진이 엔티티와 그 컬렉션을 직접 고치므로 엔티티 단위로 깊은 복사하고,
+     * 불변 값(ID, TargetRef, PendingDecision, OwnedCard)만 원본과 공유한다.
+     * 사본을 아무리 바꿔도 원본에는 영향이 없고, version/seed도 그대로라 같은 커맨드를 같은 결과로 처리한다.
+     */
+    public GameState fork() {
+        return new GameState(this);
     }
 
     public SessionId sessionId() { return sessionId; }
@@ -32,11 +81,16 @@ public final class GameState {
 
     public long version() { return version; }
     public void bumpVersion() { this.version++; }
+    /** 스냅샷 복원(codec) 전용. 엔진 처리 중에는 bumpVersion만 사용한다. */
+    public void restoreVersion(long v) { this.version = v; }
 
     public Map<PlayerId, PlayerState> players() { return players; }
     public PlayerState player(PlayerId id) { return players.get(id); }
 
     public Map<Ids.EnemyId, EnemyState> enemies() { return enemies; }
+
+    /** 진영별 살아 있는 승패 주체 수(맵/엔티티 변경 때마다 갱신되어 있음) */
+    public AliveCounts alive() { return alive; }
     public EnemyState enemy(Ids.EnemyId id) { return enemies.get(id); }
 
     public Map<CardInstId, CardInstance> cardInstances() { return cardInstances; }
@@ -55,10 +109,46 @@ public final class GameState {
 
     public CombatState combat() { return combat; }
     public void combat(CombatState c) {
+        if (combat != null && combat != c) combat.journal(null);
+        if (c != null) c.journal(journal);
         this.combat = c;
         this.nodeState = (c == null) ? NodeState.NON_COMBAT : NodeState.COMBAT;
     }
 
+    /**
+     * 상태 해시(StateHash, 64비트). 버전은 넣지 않는다(같은 내용이면 같은 값).
+     * 엔티티가 바뀔 때마다 갱신해 둔 해시 합을 읽으므로 O(1)이다(깊은 비교/인코딩 없음).
+     * 재적용/복제/되돌리기 결과가 원본과 같은지 확인하는 용도다.
+     */
+    public long stateHash() {
+        return StateHash.key(seed, 0, StateHash.of(nodeState)) ^ journal.hash();
+    }
+
+    /**
+     * 카드/소환수 인스턴스 id 집합의 지문(O(1)). 넣고 뺄 때 갱신해 둔다.
+     * 새 인스턴스 id는 랜덤 UUID라 커맨드 재적용으로 재현되지 않으므로,
+     * 커맨드 로그를 쓰는 쪽(복제/되돌리기 이력)은 지문이 바뀌면 스냅샷을 남긴다.
+     */
+    public long idFingerprint() {
+        return journal.idFingerprint();
+    }
+
+    /** publishChanges가 실제 변경분을 돌려주게 한다(세션 상태 전용, fork/시뮬레이션은 켜지 않는다). */
+    public void trackChanges() {
+        if (journal.changes() == null) journal.changes(new ChangeTracker());
+    }
+
+    public boolean tracksChanges() { return journal.changes() != null; }
+
+    /**
+     * 직전 호출 이후 바뀐 엔티티 id를 돌려주고 기준을 지금 상태로 옮긴다.
+     * 추적이 꺼져 있거나 첫 호출이면 {@link ChangeSet#FULL}.
+     */
+    public ChangeSet publishChanges() {
+        ChangeTracker changes = journal.changes();
+        return (changes == null) ? ChangeSet.FULL : changes.publish(nodeState);
+    }
+
     public NodeState nodeState() { return nodeState; }
     public void nodeState(NodeState nodeState) { this.nodeState = nodeState; }
 }
@@ -0,0 +1,7 @@
+package com.example.dueltower.engine.model;
+
+/** 해시를 들고 있는 컬렉션이 값이 바뀔 때 소유 엔티티에 알리는 콜백(이전 값, 새 값). */
+@FunctionalInterface
+interface HashListener {
+    void changed(long before, long after);
+}
@@ -0,0 +1,139 @@
+package com.example.dueltower.engine.model;
+
+import java.util.*;
+
+/**
+ * 상태 스택/카운터용 Map&lt;String,Integer&gt;. 삽입 순서를 지키고, 항목을 바꿀 때마다 해시를 O(1)로 갱신한다.
+ *
+ * 엔진이 statusValues()/counters()로 받은 맵을 직접 고치므로(StatusRuntime 등) 맵 자체가 해시를 들고 있어야 한다.
+ * put/remove/clear, entrySet/keySet/values 뷰의 remove/removeIf, Entry.setValue가 모두 해시에 반영된다.
+ * 같은 경로로 onChange(바뀐 키, clear면 null)도 불러 소유 엔티티가 파생값(생존 여부 등)을 갱신할 수 있고,
+ * 해시가 바뀌면 hashListener로 알려 소유 엔티티가 자기 해시에 바로 접는다.
+ */
+public final class HashedCounterMap extends AbstractMap<String, Integer> {
+
+    private final LinkedHashMap<String, Integer> m = new LinkedHashMap<>();
+    private final EntrySet entries = new EntrySet();
+    private final java.util.function.Consumer<String> onChange;
+    private final HashListener hashListener;
+    private long hash;
+
+    public HashedCounterMap() {
+        this(null);
+    }
+
+    public HashedCounterMap(java.util.function.Consumer<String> onChange) {
+        this(onChange, null);
+    }
+
+    HashedCounterMap(java.util.function.Consumer<String> onChange, HashListener hashListener) {
+        this.onChange = onChange;
+        this.hashListener = hashListener;
+    }
+
+    private void changed(String key, long before) {
+        if (hashListener != null && before != hash) hashListener.changed(before, hash);
+        if (onChange != null) onChange.accept(key);
+    }
+
+    /** 항목별 키의 XOR(빈 맵이면 0) */
+    public long hash() { return hash; }
+
+    @Override public int size() { return m.size(); }
+    @Override public boolean isEmpty() { return m.isEmpty(); }
+    @Override public boolean containsKey(Object key) { return m.containsKey(key); }
+    @Override public Integer get(Object key) { return m.get(key); }
+    @Override public Integer getOrDefault(Object key, Integer defaultValue) { return m.getOrDefault(key, defaultValue); }
+
+    @Override
+    public Integer put(String key, Integer value) {
+        long before = hash;
+        Integer prev = m.put(key, value);
+        if (prev != null) hash ^= entryHash(key, prev);
+        if (value != null) hash ^= entryHash(key, value);
+        changed(key, before);
+        return prev;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        long before = hash;
+        Integer prev = m.remove(key);
+        if (prev != null) {
+            hash ^= entryHash((String) key, prev);
+            changed((String) key, before);
+        }
+        return prev;
+    }
+
+    @Override
+    public void clear() {
+        long before = hash;
+        m.clear();
+        hash = 0L;
+        changed(null, before);
+    }
+
+    @Override
+    public Set<Entry<String, Integer>> entrySet() { return entries; }
+
+    private static long entryHash(String key, int value) {
+        return StateHash.mix(StateHash.of(key) ^ StateHash.mix(value));
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Integer>> {
+        @Override public int size() { return m.size(); }
+        @Override public void clear() { HashedCounterMap.this.clear(); }
+
+        @Override
+        public Iterator<Entry<String, Integer>> iterator() {
+            Iterator<Entry<String, Integer>> it = m.entrySet().iterator();
+            return new Iterator<>() {
+                private Entry<String, Integer> last;
+
+                @Override public boolean hasNext() { return it.hasNext(); }
+
+                @Override
+                public Entry<String, Integer> next() {
+                    last = it.next();
+                    return new HashedEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) throw new IllegalStateException();
+                    long before = hash;
+                    if (last.getValue() != null) hash ^= entryHash(last.getKey(), last.getValue());
+                    it.remove();
+                    changed(last.getKey(), before);
+                    last = null;
+                }
+            };
+        }
+    }
+
+    private final class HashedEntry implements Entry<String, Integer> {
+        private final Entry<String, Integer> e;
+
+        HashedEntry(Entry<String, Integer> e) { this.e = e; }
+
+        @Override public String getKey() { return e.getKey(); }
+        @Override public Integer getValue() { return e.getValue(); }
+
+        @Override
+        public Integer setValue(Integer value) {
+            long before = hash;
+            Integer prev = e.setValue(value);
+            if (prev != null) hash ^= entryHash(e.getKey(), prev);
+            if (value != null) hash ^= entryHash(e.getKey(), value);
+            changed(e.getKey(), before);
+            return prev;
+        }
+
+        @Override public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> other && Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+        @Override public int hashCode() { return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue()); }
+        @Override public String toString() { return getKey() + "=" + getValue(); }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.dueltower.engine.model;
+
+import java.util.*;
+
+/**
+ * 순서 해시({@link OrderedHash})를 들고 있는 덱(Deque). 드로우/맨 위·맨 아래 넣기는 O(1)로 해시를 갱신하고,
+ * 가운데 원소를 빼면(remove(Object)/반복자 remove) 그 연산과 같은 O(n)으로 다시 접는다.
+ * 값이 바뀌면 listener로 소유 엔티티에 알린다. {@link HashedList}와 같은 규칙이다.
+ */
+final class HashedDeque<T> extends AbstractCollection<T> implements Deque<T> {
+
+    private final ArrayDeque<T> d = new ArrayDeque<>();
+    private final OrderedHash h = new OrderedHash();
+    private final HashListener listener;
+
+    HashedDeque(HashListener listener) {
+        this.listener = listener;
+    }
+
+    long hash() { return h.value(); }
+
+    @Override public int size() { return d.size(); }
+    @Override public boolean isEmpty() { return d.isEmpty(); }
+    @Override public boolean contains(Object o) { return d.contains(o); }
+
+    // ===== 추가 =====
+    @Override
+    public void addFirst(T t) {
+        long before = h.value();
+        d.addFirst(t);
+        h.addFirst(StateHash.value(t));
+        fire(before);
+    }
+
+    @Override
+    public void addLast(T t) {
+        long before = h.value();
+        d.addLast(t);
+        h.addLast(StateHash.value(t));
+        fire(before);
+    }
+
+    @Override public boolean offerFirst(T t) { addFirst(t); return true; }
+    @Override public boolean offerLast(T t) { addLast(t); return true; }
+    @Override public boolean add(T t) { addLast(t); return true; }
+    @Override public boolean offer(T t) { addLast(t); return true; }
+    @Override public void push(T t) { addFirst(t); }
+
+    // ===== 제거 =====
+    @Override
+    public T pollFirst() {
+        if (d.isEmpty()) return null;
+        long before = h.value();
+        T t = d.pollFirst();
+        h.removeFirst(StateHash.value(t));
+        fire(before);
+        return t;
+    }
+
+    @Override
+    public T pollLast() {
+        if (d.isEmpty()) return null;
+        long before = h.value();
+        T t = d.pollLast();
+        h.removeLast(StateHash.value(t));
+        fire(before);
+        return t;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (d.isEmpty()) throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    @Override
+    public T removeLast() {
+        if (d.isEmpty()) throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    @Override public T poll() { return pollFirst(); }
+    @Override public T remove() { return removeFirst(); }
+    @Override public T pop() { return removeFirst(); }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        long before = h.value();
+        if (!d.removeFirstOccurrence(o)) return false;
+        refold(before);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        long before = h.value();
+        if (!d.removeLastOccurrence(o)) return false;
+        refold(before);
+        return true;
+    }
+
+    @Override public boolean remove(Object o) { return removeFirstOccurrence(o); }
+
+    @Override
+    public void clear() {
+        if (d.isEmpty()) return;
+        long before = h.value();
+        d.clear();
+        h.reset();
+        fire(before);
+    }
+
+    // ===== 조회 =====
+    @Override public T getFirst() { return d.getFirst(); }
+    @Override public T getLast() { return d.getLast(); }
+    @Override public T peekFirst() { return d.peekFirst(); }
+    @Override public T peekLast() { return d.peekLast(); }
+    @Override public T element() { return d.element(); }
+    @Override public T peek() { return d.peek(); }
+
+    @Override public Iterator<T> iterator() { return new Refolding(d.iterator()); }
+    @Override public Iterator<T> descendingIterator() { return new Refolding(d.descendingIterator()); }
+
+    private void refold(long before) {
+        h.reset();
+        for (T t : d) h.addLast(StateHash.value(t));
+        fire(before);
+    }
+
+    private void fire(long before) {
+        long after = h.value();
+        if (before != after && listener != null) listener.changed(before, after);
+    }
+
+    /** 반복자 remove도 해시에 반영한다 */
+    private final class Refolding implements Iterator<T> {
+        private final Iterator<T> it;
+
+        Refolding(Iterator<T> it) { this.it = it; }
+
+        @Override public boolean hasNext() { return it.hasNext(); }
+        @Override public T next() { return it.next(); }
+
+        @Override
+        public void remove() {
+            long before = h.value();
+            it.remove();
+            refold(before);
+        }
+    }
+}
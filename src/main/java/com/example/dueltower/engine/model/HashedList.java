@@ -0,0 +1,79 @@
+package com.example.dueltower.engine.model;
+
+import java.util.*;
+
+/**
+ * 순서 해시({@link OrderedHash})를 들고 있는 리스트(패/묘지/필드/제외/소환수 목록, 턴 순서 등).
+ *
+ * 엔진이 리스트를 직접 고치므로 리스트 자체가 해시를 갱신하고, 값이 바뀌면 listener로 소유 엔티티에 알린다.
+ * 양 끝 add/remove는 O(1), 가운데 add/remove/set은 그 연산과 같은 O(n)으로 다시 접는다.
+ * 원소는 넣은 뒤 바뀌지 않는 값(ID, TargetRef, 불변 리스트 등)이어야 한다.
+ */
+final class HashedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final ArrayList<T> a = new ArrayList<>();
+    private final OrderedHash h = new OrderedHash();
+    private final HashListener listener;
+
+    HashedList(HashListener listener) {
+        this.listener = listener;
+    }
+
+    long hash() { return h.value(); }
+
+    @Override public int size() { return a.size(); }
+    @Override public T get(int index) { return a.get(index); }
+
+    @Override
+    public void add(int index, T element) {
+        long before = h.value();
+        int n = a.size();
+        a.add(index, element);
+        if (index == n) h.addLast(StateHash.value(element));
+        else if (index == 0) h.addFirst(StateHash.value(element));
+        else refold();
+        modCount++;
+        fire(before);
+    }
+
+    @Override
+    public T remove(int index) {
+        long before = h.value();
+        T prev = a.remove(index);
+        if (index == 0) h.removeFirst(StateHash.value(prev));
+        else if (index == a.size()) h.removeLast(StateHash.value(prev));
+        else refold();
+        modCount++;
+        fire(before);
+        return prev;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        long before = h.value();
+        T prev = a.set(index, element);
+        refold();
+        fire(before);
+        return prev;
+    }
+
+    @Override
+    public void clear() {
+        if (a.isEmpty()) return;
+        long before = h.value();
+        a.clear();
+        h.reset();
+        modCount++;
+        fire(before);
+    }
+
+    private void refold() {
+        h.reset();
+        for (T t : a) h.addLast(StateHash.value(t));
+    }
+
+    private void fire(long before) {
+        long after = h.value();
+        if (before != after && listener != null) listener.changed(before, after);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.dueltower.engine.model;
+
+/**
+ * 순서 있는 목록의 해시 Σ v_i·B^i (mod 2^64, i는 맨 앞부터의 위치).
+ *
+ * 맨 앞/맨 뒤 추가·삭제는 O(1)로 갱신하고, 가운데를 고치면 소유 컬렉션이 {@link #reset()} 후 다시 접는다.
+ * B가 홀수라 역원이 있으므로 맨 앞에서 넣고 빼도 위치 기준을 옮기기만 하면 된다.
+ * 만든 경로와 상관없이 내용과 순서가 같으면 같은 값이고, 빈 목록은 0이다.
+ */
+final class OrderedHash {
+    private static final long B = 0x9E3779B97F4A7C15L;
+    private static final long B_INV = inverse(B);
+
+    /** 맨 앞 원소의 절대 위치를 p라 할 때 Σ v·B^p */
+    private long raw;
+    private long headPow = 1L;    // B^head
+    private long headPowInv = 1L; // B^-head
+    private long tailPow = 1L;    // B^tail (다음에 뒤로 붙일 위치)
+    private int size;
+
+    long value() {
+        return size == 0 ? 0L : StateHash.mix(raw * headPowInv + size);
+    }
+
+    void addLast(long v) {
+        raw += v * tailPow;
+        tailPow *= B;
+        size++;
+    }
+
+    void addFirst(long v) {
+        headPow *= B_INV;
+        headPowInv *= B;
+        raw += v * headPow;
+        size++;
+    }
+
+    void removeFirst(long v) {
+        raw -= v * headPow;
+        headPow *= B;
+        headPowInv *= B_INV;
+        size--;
+    }
+
+    void removeLast(long v) {
+        tailPow *= B_INV;
+        raw -= v * tailPow;
+        size--;
+    }
+
+    void reset() {
+        raw = 0L;
+        headPow = headPowInv = tailPow = 1L;
+        size = 0;
+    }
+
+    /** 홀수 b의 mod 2^64 역원(뉴턴 반복: 맞는 비트 수가 매번 두 배) */
+    private static long inverse(long b) {
+        long x = b;
+        for (int i = 0; i < 5; i++) x *= 2 - b * x;
+        return x;
+    }
+}
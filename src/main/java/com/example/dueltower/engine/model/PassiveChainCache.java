@@ -0,0 +1,9 @@
+package com.example.dueltower.engine.model;
+
+/**
+ * 엔진이 PlayerState.passiveIds에서 만들어 PlayerState에 붙여 두는 불변 파생값(정렬된 패시브 체인).
+ * 상태가 아니라 해시/코덱 대상이 아니고, passiveIds가 바뀌면 PlayerState가 비운다.
+ * 구현은 engine.core의 패시브 체인 하나뿐이다(모델이 엔진 타입을 알지 않도록 여기엔 표시만 둔다).
+ */
+public interface PassiveChainCache {
+}
@@ -12,17 +12,25 @@ public final class PlayerState {
     public static final int MAX_PASSIVES = 2;
     public static final int MAX_OWNED_CARDS = 20;
 
+    /** 전투 중 덱/묘지 고갈로 인한 [전투 불능] 스택 키(전투 한정) */
+    public static final String BATTLE_INCAPACITATED = "BATTLE_INCAPACITATED";
+    /** HP 0 도달로 인한 [전투 불능] 스택 키(전투 간 지속) */
+    public static final String BATTLE_INCAPACITATED_PERSISTENT = "BATTLE_INCAPACITATED_PERSISTENT";
+
     private final PlayerId playerId;
 
     // ===== 카드 존 =====
-    private final Deque<CardInstId> deck = new ArrayDeque<>();
-    private final List<CardInstId> hand = new ArrayList<>();
-    private final List<CardInstId> grave = new ArrayList<>();
-    private final List<CardInstId> field = new ArrayList<>();
-    private final List<CardInstId> excluded = new ArrayList<>();
-
-    private final List<SummonInstId> activeSummons = new ArrayList<>();
+    // 존마다 순서 해시를 들고 있어, 카드가 옮겨질 때 바로 이 엔티티의 해시에 접힌다.
+    private final HashedDeque<CardInstId> deck = new HashedDeque<>((b, a) -> touch(H_DECK, b, a));
+    private final HashedList<CardInstId> hand = new HashedList<>((b, a) -> touch(H_HAND, b, a));
+    private final HashedList<CardInstId> grave = new HashedList<>((b, a) -> touch(H_GRAVE, b, a));
+    private final HashedList<CardInstId> field = new HashedList<>((b, a) -> touch(H_FIELD, b, a));
+    private final HashedList<CardInstId> excluded = new HashedList<>((b, a) -> touch(H_EXCLUDED, b, a));
+
+    private final HashedList<SummonInstId> activeSummons = new HashedList<>((b, a) -> touch(H_SUMMONS, b, a));
     private final Map<CardInstId, SummonInstId> summonByCard = new LinkedHashMap<>();
+    /** summonByCard 항목 키의 XOR(빈 맵이면 0) */
+    private long summonByCardHash;
 
     // ===== EX/턴 플래그 =====
     private CardInstId exCard;
@@ -59,15 +67,91 @@ public final class PlayerState {
 
     // ===== 상태/수치(스택) =====
     // 예: "취약"=2, "보호막"=5, "공격력증가"=3 ...
-    private final Map<String, Integer> statusValues = new LinkedHashMap<>();
+    private final HashedCounterMap statusValues = new HashedCounterMap(this::statusChanged, (b, a) -> touch(H_STATUS, b, a));
     private final List<String> passiveIds = new ArrayList<>();
     private final List<OwnedCard> ownedCards = new ArrayList<>();
 
+    // ===== 상태 해시(StateHash) =====
+    // 스칼라 필드는 setter에서, 상태 맵/존 리스트는 컬렉션이 바뀔 때마다 갱신한다(읽을 때 다시 접지 않음).
+    private static final int H_EX_CARD = 1, H_EX_COOLDOWN = 2, H_EX_ACTIVATABLE = 3, H_SWAPPED = 4,
+            H_CARDS_PLAYED = 5, H_USED_EX = 6, H_USED_TENACITY = 7, H_TENACITY_DEBT = 8, H_PENDING = 9,
+            H_BODY = 10, H_SKILL = 11, H_SENSE = 12, H_WILL = 13, H_HP = 14, H_AP = 15, H_PASSIVES = 16,
+            H_STATUS = 17, H_DECK = 18, H_HAND = 19, H_GRAVE = 20, H_FIELD = 21, H_EXCLUDED = 22, H_SUMMONS = 23,
+            H_OWNED = 24, H_SUMMON_BY_CARD = 25;
+    private final long salt;
+    private long hash;
+    /** GameState.players에 들어가 있으면 그 상태의 해시 합, 아니면 null */
+    private StateJournal journal;
+
+    // ===== 파생 캐시(상태 아님: 해시/코덱 대상 아님) =====
+    /** 엔진이 passiveIds에서 만든 불변 파생값(정렬된 패시브 체인). passiveIds가 바뀌면 비운다. */
+    private PassiveChainCache passiveChainCache;
+    /**
+     * 필드 효과가 활성인 카드를 턴 훅 실행 순서(정의 id → 인스턴스 id)로 둔 배열. null이면 아직 안 만든 것.
+     * FieldEffectOps만 고치며, 진입/이탈 때마다 새 배열로 바꾸므로(배열 자체는 불변) 순회 중 스냅샷으로 그대로 쓴다.
+     */
+    private CardInstId[] activeFieldCards;
+
+    // ===== 생존 집계(AliveCounts) =====
+    /** GameState.players에 들어가 있으면 그 상태의 집계, 아니면 null */
+    private AliveCounts aliveCounts;
+    /** aliveCounts에 살아 있는 것으로 세어 둔 상태인지 */
+    private boolean countedAlive;
+
     public PlayerState(PlayerId playerId) {
         this.playerId = playerId;
         // 기본 스탯 0 기준으로도 maxHp>=20이므로 안전
         this.hp = maxHp();
         this.ap = maxAp();
+        this.salt = StateHash.of("P:" + playerId.value());
+        this.hash = key(H_EX_CARD, 0) ^ key(H_EX_COOLDOWN, 0) ^ key(H_EX_ACTIVATABLE, StateHash.of(true))
+                ^ key(H_SWAPPED, 0) ^ key(H_CARDS_PLAYED, 0) ^ key(H_USED_EX, 0) ^ key(H_USED_TENACITY, 0)
+                ^ key(H_TENACITY_DEBT, 0) ^ key(H_PENDING, 0) ^ key(H_BODY, 0) ^ key(H_SKILL, 0) ^ key(H_SENSE, 0)
+                ^ key(H_WILL, 0) ^ key(H_HP, hp) ^ key(H_AP, ap) ^ key(H_PASSIVES, StateHash.ordered(passiveIds))
+                ^ key(H_OWNED, StateHash.ordered(ownedCards)) ^ key(H_STATUS, 0) ^ key(H_DECK, 0) ^ key(H_HAND, 0)
+                ^ key(H_GRAVE, 0) ^ key(H_FIELD, 0) ^ key(H_EXCLUDED, 0) ^ key(H_SUMMONS, 0) ^ key(H_SUMMON_BY_CARD, 0);
+    }
+
+    /**
+     * fork 전용 깊은 복사.
+     * ID/PendingDecision/OwnedCard는 불변 값이라 참조만 공유하고, 존 리스트와 상태 맵은 새로 만든다.
+     */
+    public PlayerState copy() {
+        PlayerState c = new PlayerState(playerId);
+        c.deck.addAll(deck);
+        c.hand.addAll(hand);
+        c.grave.addAll(grave);
+        c.field.addAll(field);
+        c.excluded.addAll(excluded);
+        c.activeSummons.addAll(activeSummons);
+        c.summonByCard.putAll(summonByCard);
+        c.summonByCardHash = summonByCardHash;
+
+        c.exCard = exCard;
+        c.exCooldownUntilRound = exCooldownUntilRound;
+        c.exActivatable = exActivatable;
+        c.swappedThisTurn = swappedThisTurn;
+        c.cardsPlayedThisTurn = cardsPlayedThisTurn;
+        c.usedExThisTurn = usedExThisTurn;
+        c.usedTenacityThisTurn = usedTenacityThisTurn;
+        c.tenacityDebtThisTurn = tenacityDebtThisTurn;
+        c.pendingDecision = pendingDecision;
+
+        // setter는 clamp가 걸려 있어 필드를 직접 옮긴다
+        c.body = body;
+        c.skill = skill;
+        c.sense = sense;
+        c.will = will;
+        c.hp = hp;
+        c.ap = ap;
+
+        c.statusValues.putAll(statusValues);
+        c.passiveIds.addAll(passiveIds);
+        c.ownedCards.addAll(ownedCards);
+        c.hash = hash; // 컬렉션을 옮기며 쌓인 갱신을 원본 값으로 덮는다
+        c.passiveChainCache = passiveChainCache; // 같은 passiveIds에서 만든 불변값이라 공유해도 된다
+        c.activeFieldCards = activeFieldCards;   // 바꿀 때 새 배열로 교체하므로 공유해도 된다
+        return c;
     }
 
     public PlayerId playerId() { return playerId; }
@@ -79,17 +163,58 @@ public final class PlayerState {
     public List<CardInstId> field() { return field; }
     public List<CardInstId> excluded() { return excluded; }
     public List<SummonInstId> activeSummons() { return activeSummons; }
-    public Map<CardInstId, SummonInstId> summonByCard() { return summonByCard; }
+    /** 카드→소환수 연결(읽기 전용 뷰). 바꿀 때는 bindSummon/unbindSummon을 쓴다. */
+    public Map<CardInstId, SummonInstId> summonByCard() { return Collections.unmodifiableMap(summonByCard); }
+
+    public void bindSummon(CardInstId card, SummonInstId summon) {
+        long before = summonByCardHash;
+        SummonInstId prev = summonByCard.put(card, summon);
+        if (prev != null) summonByCardHash ^= StateHash.entry(card, prev);
+        summonByCardHash ^= StateHash.entry(card, summon);
+        touch(H_SUMMON_BY_CARD, before, summonByCardHash);
+    }
+
+    /** 카드에 연결된 소환수를 떼고 그 id를 돌려준다(없으면 null) */
+    public SummonInstId unbindSummon(CardInstId card) {
+        SummonInstId prev = summonByCard.remove(card);
+        if (prev != null) {
+            long before = summonByCardHash;
+            summonByCardHash ^= StateHash.entry(card, prev);
+            touch(H_SUMMON_BY_CARD, before, summonByCardHash);
+        }
+        return prev;
+    }
+
+    /** 이 소환수로 이어진 연결을 모두 뗀다 */
+    public void unbindSummonId(SummonInstId summon) {
+        long before = summonByCardHash;
+        Iterator<Map.Entry<CardInstId, SummonInstId>> it = summonByCard.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<CardInstId, SummonInstId> e = it.next();
+            if (!e.getValue().equals(summon)) continue;
+            summonByCardHash ^= StateHash.entry(e.getKey(), e.getValue());
+            it.remove();
+        }
+        touch(H_SUMMON_BY_CARD, before, summonByCardHash);
+    }
+
+    public void clearSummonBindings() {
+        summonByCard.clear();
+        touch(H_SUMMON_BY_CARD, summonByCardHash, summonByCardHash = 0L);
+    }
 
     // ===== EX =====
     public CardInstId exCard() { return exCard; }
-    public void exCard(CardInstId id) { this.exCard = id; }
+    public void exCard(CardInstId id) {
+        touch(H_EX_CARD, exCard == null ? 0L : StateHash.of(exCard.value()), id == null ? 0L : StateHash.of(id.value()));
+        this.exCard = id;
+    }
 
     public int exCooldownUntilRound() { return exCooldownUntilRound; }
-    public void exCooldownUntilRound(int v) { this.exCooldownUntilRound = v; }
+    public void exCooldownUntilRound(int v) { touch(H_EX_COOLDOWN, exCooldownUntilRound, exCooldownUntilRound = v); }
 
     public boolean exActivatable() { return exActivatable; }
-    public void exActivatable(boolean v) { this.exActivatable = v; }
+    public void exActivatable(boolean v) { touch(H_EX_ACTIVATABLE, StateHash.of(exActivatable), StateHash.of(exActivatable = v)); }
 
     public boolean exOnCooldown(int currentRound) {
         return exCooldownUntilRound > 0 && currentRound <= exCooldownUntilRound;
@@ -97,48 +222,53 @@ public final class PlayerState {
 
     // ===== 턴 플래그 =====
     public boolean swappedThisTurn() { return swappedThisTurn; }
-    public void swappedThisTurn(boolean v) { this.swappedThisTurn = v; }
+    public void swappedThisTurn(boolean v) { touch(H_SWAPPED, StateHash.of(swappedThisTurn), StateHash.of(swappedThisTurn = v)); }
 
     public int cardsPlayedThisTurn() { return cardsPlayedThisTurn; }
-    public void cardsPlayedThisTurn(int v) { this.cardsPlayedThisTurn = Math.max(0, v); }
-    public void incCardsPlayedThisTurn() { this.cardsPlayedThisTurn++; }
+    public void cardsPlayedThisTurn(int v) { touch(H_CARDS_PLAYED, cardsPlayedThisTurn, cardsPlayedThisTurn = Math.max(0, v)); }
+    public void incCardsPlayedThisTurn() { cardsPlayedThisTurn(cardsPlayedThisTurn + 1); }
 
     public boolean usedExThisTurn() { return usedExThisTurn; }
-    public void usedExThisTurn(boolean v) { this.usedExThisTurn = v; }
+    public void usedExThisTurn(boolean v) { touch(H_USED_EX, StateHash.of(usedExThisTurn), StateHash.of(usedExThisTurn = v)); }
 
     public boolean usedTenacityThisTurn() { return usedTenacityThisTurn; }
-    public void usedTenacityThisTurn(boolean v) { this.usedTenacityThisTurn = v; }
+    public void usedTenacityThisTurn(boolean v) {
+        touch(H_USED_TENACITY, StateHash.of(usedTenacityThisTurn), StateHash.of(usedTenacityThisTurn = v));
+    }
 
     public int tenacityDebtThisTurn() { return tenacityDebtThisTurn; }
-    public void tenacityDebtThisTurn(int v) { this.tenacityDebtThisTurn = Math.max(0, v); }
+    public void tenacityDebtThisTurn(int v) { touch(H_TENACITY_DEBT, tenacityDebtThisTurn, tenacityDebtThisTurn = Math.max(0, v)); }
 
     public PendingDecision pendingDecision() { return pendingDecision; }
-    public void pendingDecision(PendingDecision d) { this.pendingDecision = d; }
+    public void pendingDecision(PendingDecision d) { touch(H_PENDING, StateHash.of(pendingDecision), StateHash.of(pendingDecision = d)); }
 
     // ===== 생활 스탯 =====
     public int body() { return body; }
-    public void body(int v) { this.body = clampNonNegative(v); clampVitals(); }
+    public void body(int v) { touch(H_BODY, body, body = clampNonNegative(v)); clampVitals(); }
 
     public int skill() { return skill; }
-    public void skill(int v) { this.skill = clampNonNegative(v); clampVitals(); }
+    public void skill(int v) { touch(H_SKILL, skill, skill = clampNonNegative(v)); clampVitals(); }
 
     public int sense() { return sense; }
-    public void sense(int v) { this.sense = clampNonNegative(v); clampVitals(); }
+    public void sense(int v) { touch(H_SENSE, sense, sense = clampNonNegative(v)); clampVitals(); }
 
     public int will() { return will; }
-    public void will(int v) { this.will = clampNonNegative(v); clampVitals(); }
+    public void will(int v) { touch(H_WILL, will, will = clampNonNegative(v)); clampVitals(); }
 
     // ===== 전투 현재값 =====
     public int hp() { return hp; }
-    public void hp(int v) { this.hp = clamp(v, 0, maxHp()); }
+    public void hp(int v) {
+        touch(H_HP, hp, hp = clamp(v, 0, maxHp()));
+        refreshAlive();
+    }
 
     public int ap() { return ap; }
-    public void ap(int v) { this.ap = clamp(v, 0, maxAp()); }
+    public void ap(int v) { touch(H_AP, ap, ap = clamp(v, 0, maxAp())); }
 
     /** 전투 시작/라운드 시작 등에 쓰기 좋음 */
     public void refillToMax() {
-        this.hp = maxHp();
-        this.ap = maxAp();
+        hp(maxHp());
+        ap(maxAp());
     }
 
     // ===== 파생 전투 스탯(공식 그대로) =====
@@ -198,10 +328,19 @@ public final class PlayerState {
             throw new IllegalArgumentException("passiveIds supports up to " + MAX_PASSIVES);
         }
 
+        long before = StateHash.ordered(passiveIds);
         passiveIds.clear();
         passiveIds.addAll(normalized);
+        touch(H_PASSIVES, before, StateHash.ordered(passiveIds));
+        passiveChainCache = null;
     }
 
+    public PassiveChainCache passiveChainCache() { return passiveChainCache; }
+    public void passiveChainCache(PassiveChainCache value) { this.passiveChainCache = value; }
+
+    public CardInstId[] activeFieldCards() { return activeFieldCards; }
+    public void activeFieldCards(CardInstId[] value) { this.activeFieldCards = value; }
+
 
     /**
      * 보유 카드 슬롯 목록(최대 20).
@@ -211,6 +350,7 @@ public final class PlayerState {
     public void ownedCards(Collection<OwnedCard> value) {
         Objects.requireNonNull(value, "ownedCards is required");
 
+        long before = StateHash.ordered(ownedCards);
         ownedCards.clear();
         for (OwnedCard card : value) {
             if (card == null || card.cardId() == null || card.cardId().isBlank()) {
@@ -218,6 +358,7 @@ public final class PlayerState {
             }
             ownedCards.add(new OwnedCard(card.cardId().trim(), card.strengthened(), card.weakened(), card.lockedInDeck()));
         }
+        touch(H_OWNED, before, StateHash.ordered(ownedCards));
     }
 
     public int ownedCardCount() {
@@ -247,6 +388,38 @@ public final class PlayerState {
         statusSet(key, status(key) + delta);
     }
 
+    /** 승패 주체로서 살아 있는지(hp > 0 이고 [전투 불능]이 아님) */
+    public boolean alivePrincipal() {
+        return hp > 0 && status(BATTLE_INCAPACITATED) <= 0 && status(BATTLE_INCAPACITATED_PERSISTENT) <= 0;
+    }
+
+    /** GameState.players 맵이 넣고 뺄 때 부른다(null이면 집계에서 빠짐). */
+    void aliveCounts(AliveCounts counts) {
+        if (aliveCounts != null && countedAlive) aliveCounts.players--;
+        aliveCounts = counts;
+        countedAlive = alivePrincipal();
+        if (aliveCounts != null && countedAlive) aliveCounts.players++;
+    }
+
+    /** GameState.players 맵이 넣고 뺄 때 부른다(null이면 해시 합에서 빠짐). */
+    void journal(StateJournal j) {
+        if (journal != null) journal.detached(this);
+        journal = j;
+        if (journal != null) journal.attached(this);
+    }
+
+    private void statusChanged(String key) {
+        if (key == null || BATTLE_INCAPACITATED.equals(key) || BATTLE_INCAPACITATED_PERSISTENT.equals(key)) refreshAlive();
+    }
+
+    private void refreshAlive() {
+        if (aliveCounts == null) return;
+        boolean now = alivePrincipal();
+        if (now == countedAlive) return;
+        countedAlive = now;
+        aliveCounts.players += now ? 1 : -1;
+    }
+
     // ===== 제한 =====
     public int handLimit() { return 6; }
     public int fieldLimit() { return 5; }
@@ -254,8 +427,27 @@ public final class PlayerState {
     // ===== 내부 유틸 =====
     private void clampVitals() {
         // 생활 스탯이 바뀌면 maxHp/maxAp도 바뀌니까 현재값을 안전하게 클램프
-        this.hp = clamp(this.hp, 0, maxHp());
-        this.ap = clamp(this.ap, 0, maxAp());
+        hp(this.hp);
+        ap(this.ap);
+    }
+
+    /**
+     * 필드 + 상태 스택 + 존 리스트 순서(덱 순서 포함) + 카드→소환수 맵 해시.
+     * 모두 바뀔 때 갱신해 두므로 O(1)이다.
+     */
+    public long stateHash() {
+        return hash;
+    }
+
+    private long key(int field, long value) {
+        return StateHash.key(salt, field, value);
+    }
+
+    private void touch(int field, long before, long after) {
+        if (before == after) return;
+        long delta = key(field, before) ^ key(field, after);
+        hash ^= delta;
+        if (journal != null) journal.changed(this, delta);
     }
 
     private static int softCapInt(int s, int cap) {
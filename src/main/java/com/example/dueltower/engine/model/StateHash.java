@@ -0,0 +1,102 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.content.card.model.OwnedCard;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * GameState 해시(Zobrist 방식) 공통 함수.
+ *
+ * 각 엔티티는 (엔티티 salt, 필드, 값)마다 64비트 키를 XOR해 둔 값을 들고 있다가,
+ * setter에서 이전 값의 키를 빼고(XOR) 새 값의 키를 넣는다. 그래서 해시는 "값의 함수"다:
+ * 어떤 경로(엔진 처리/fork/디코딩)로 만들었든 필드 값이 같으면 해시도 같다.
+ *
+ * JVM이 달라도(standby 노드) 같아야 하므로 enum은 ordinal, 문자열은 FNV-1a로 키를 만든다(identity hashCode 금지).
+ */
+public final class StateHash {
+    private StateHash() {}
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    /** splitmix64 마무리 단계 */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** (salt, field, value) 키 1개 */
+    public static long key(long salt, int field, long value) {
+        return mix(mix(salt + field * GOLDEN) ^ value);
+    }
+
+    public static long of(String s) {
+        if (s == null) return 0L;
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    public static long of(UUID id) {
+        if (id == null) return 0L;
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    public static long of(boolean v) {
+        return v ? 1L : 0L;
+    }
+
+    public static long of(Enum<?> e) {
+        return e == null ? -1L : e.ordinal();
+    }
+
+    /** 순서가 있는 목록(덱 순서 등) */
+    public static long ordered(Collection<?> values) {
+        long h = values.size();
+        for (Object v : values) h = mix(h * GOLDEN + value(v));
+        return h;
+    }
+
+    /** 순서가 의미 없는 맵의 항목 1개(카드→소환수 등). 항목 키를 XOR해 두면 삽입 순서와 상관없이 같은 값 */
+    static long entry(Object key, Object value) {
+        return mix(value(key) * GOLDEN + value(value));
+    }
+
+    /**
+     * pending decision. SearchPick의 correlationId는 매번 무작위라 재적용 결과와 비교할 수 없으므로 뺀다.
+     */
+    public static long of(PendingDecision pd) {
+        if (pd == null) return 0L;
+        if (pd instanceof PendingDecision.DiscardToHandLimit d) {
+            return mix(1L ^ of(d.reason()) ^ mix(d.limit()));
+        }
+        if (pd instanceof PendingDecision.SearchPick s) {
+            return mix(2L ^ of(s.reason()) ^ ordered(s.candidateIds()) ^ mix(s.pickCount() * GOLDEN + of(s.destination()))
+                    ^ mix(of(s.shuffleAfterPick()) + 7));
+        }
+        if (pd instanceof PendingDecision.InitiativeTieOrder t) {
+            return mix(3L ^ of(t.reason()) ^ mix(t.groupIndex()) ^ ordered(t.actorKeys()));
+        }
+        throw new IllegalArgumentException("unknown PendingDecision: " + pd);
+    }
+
+    static long value(Object v) {
+        if (v == null) return 0L;
+        if (v instanceof String s) return of(s);
+        if (v instanceof Ids.CardInstId c) return of(c.value());
+        if (v instanceof Ids.SummonInstId s) return of(s.value());
+        if (v instanceof Ids.PlayerId p) return of(p.value());
+        if (v instanceof Ids.EnemyId e) return of(e.value());
+        if (v instanceof TargetRef t) return of(CombatState.actorKey(t));
+        if (v instanceof Collection<?> c) return ordered(c);
+        if (v instanceof Integer i) return mix(i);
+        if (v instanceof OwnedCard o) {
+            return mix(of(o.cardId()) ^ (of(o.strengthened()) | of(o.weakened()) << 1 | of(o.lockedInDeck()) << 2));
+        }
+        throw new IllegalArgumentException("unhashable value: " + v.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.dueltower.engine.model;
+
+/**
+ * GameState에 붙어 있는 엔티티 해시의 XOR 합과 카드/소환수 인스턴스 id 지문(상태 아님: 엔티티에서 다시 만들 수 있는 값).
+ *
+ * 엔티티는 GameState 맵(또는 combat)에 들어갈 때 붙고 나갈 때 떨어지며, 붙어 있는 동안 해시가 바뀌면 변화량을 알린다.
+ * 그래서 GameState.stateHash()/idFingerprint()는 엔티티 수와 상관없이 O(1)이다.
+ * 변경 추적이 켜져 있으면 같은 자리에서 바뀐 엔티티 id도 표시해 둔다.
+ */
+final class StateJournal {
+    private long hash;
+    private long idFingerprint;
+    /** null이면 변경 추적 꺼짐 */
+    private ChangeTracker changes;
+
+    long hash() { return hash; }
+    long idFingerprint() { return idFingerprint; }
+
+    ChangeTracker changes() { return changes; }
+    void changes(ChangeTracker tracker) { this.changes = tracker; }
+
+    // ===== 붙이기/떼기(XOR이라 해시는 둘 다 같다) =====
+    void attached(PlayerState ps) { detached(ps); }
+    void detached(PlayerState ps) {
+        hash ^= ps.stateHash();
+        if (changes != null) changes.players.add(ps.playerId());
+    }
+
+    void attached(EnemyState es) { detached(es); }
+    void detached(EnemyState es) {
+        hash ^= es.stateHash();
+        if (changes != null) changes.enemies.add(es.enemyId());
+    }
+
+    void attached(CardInstance ci) {
+        hash ^= ci.stateHash();
+        idFingerprint += cardIdHash(ci);
+        if (changes != null) changes.cards.add(ci.instanceId());
+    }
+    void detached(CardInstance ci) {
+        hash ^= ci.stateHash();
+        idFingerprint -= cardIdHash(ci);
+        if (changes != null) changes.cards.add(ci.instanceId());
+    }
+
+    void attached(SummonState s) {
+        hash ^= s.stateHash();
+        idFingerprint += summonIdHash(s);
+        if (changes != null) changes.summons.add(s.id());
+    }
+    void detached(SummonState s) {
+        hash ^= s.stateHash();
+        idFingerprint -= summonIdHash(s);
+        if (changes != null) changes.summons.add(s.id());
+    }
+
+    void attached(CombatState cs) { detached(cs); }
+    void detached(CombatState cs) {
+        hash ^= cs.stateHash();
+        if (changes != null) changes.combat = true;
+    }
+
+    // ===== 붙어 있는 엔티티의 해시 변화량 =====
+    void changed(PlayerState ps, long delta) {
+        hash ^= delta;
+        if (changes != null) changes.players.add(ps.playerId());
+    }
+
+    void changed(EnemyState es, long delta) {
+        hash ^= delta;
+        if (changes != null) changes.enemies.add(es.enemyId());
+    }
+
+    void changed(CardInstance ci, long delta) {
+        hash ^= delta;
+        if (changes != null) changes.cards.add(ci.instanceId());
+    }
+
+    void changed(SummonState s, long delta) {
+        hash ^= delta;
+        if (changes != null) changes.summons.add(s.id());
+    }
+
+    void changed(CombatState cs, long delta) {
+        hash ^= delta;
+        if (changes != null) changes.combat = true;
+    }
+
+    private static long cardIdHash(CardInstance ci) {
+        return StateHash.of(ci.instanceId().value());
+    }
+
+    /** 카드 id와 겹치지 않게 한 번 더 섞는다 */
+    private static long summonIdHash(SummonState s) {
+        return StateHash.mix(StateHash.of(s.id().value()));
+    }
+}
@@ -4,7 +4,6 @@ import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.PlayerId;
 import com.example.dueltower.engine.model.Ids.SummonInstId;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 public final class SummonState {
@@ -18,7 +17,15 @@ public final class SummonState {
     private int heal;
     private int actionCost;
     private boolean actionUsedThisTurn;
-    private final Map<String, Integer> statusValues = new LinkedHashMap<>();
+    private final HashedCounterMap statusValues = new HashedCounterMap(null, (b, a) -> touch(H_STATUS, b, a));
+
+    // ===== 상태 해시(StateHash) =====
+    private static final int H_IDENTITY = 1, H_HP = 2, H_MAX_HP = 3, H_ATK = 4, H_HEAL = 5,
+            H_ACTION_COST = 6, H_ACTION_USED = 7, H_STATUS = 8;
+    private final long salt;
+    private long hash;
+    /** GameState.summons에 들어가 있으면 그 상태의 해시 합, 아니면 null */
+    private StateJournal journal;
 
     public SummonState(
             SummonInstId id,
@@ -40,6 +47,18 @@ public final class SummonState {
         this.heal = Math.max(0, heal);
         this.actionCost = Math.max(0, actionCost);
         this.actionUsedThisTurn = actionUsedThisTurn;
+        this.salt = StateHash.of(id.value());
+        this.hash = key(H_IDENTITY, StateHash.of(owner.value()) ^ StateHash.of(sourceCardId == null ? null : sourceCardId.value()))
+                ^ key(H_HP, this.hp) ^ key(H_MAX_HP, this.maxHp) ^ key(H_ATK, this.atk) ^ key(H_HEAL, this.heal)
+                ^ key(H_ACTION_COST, this.actionCost) ^ key(H_ACTION_USED, StateHash.of(actionUsedThisTurn))
+                ^ key(H_STATUS, 0);
+    }
+
+    /** fork 전용 깊은 복사. */
+    public SummonState copy() {
+        SummonState c = new SummonState(id, owner, sourceCardId, hp, maxHp, atk, heal, actionCost, actionUsedThisTurn);
+        c.statusValues.putAll(statusValues);
+        return c;
     }
 
     public SummonInstId id() { return id; }
@@ -47,25 +66,28 @@ public final class SummonState {
     public CardInstId sourceCardId() { return sourceCardId; }
 
     public int hp() { return hp; }
-    public void hp(int v) { this.hp = clamp(v, 0, maxHp); }
+    public void hp(int v) { touch(H_HP, hp, hp = clamp(v, 0, maxHp)); }
 
     public int maxHp() { return maxHp; }
     public void maxHp(int v) {
-        this.maxHp = Math.max(1, v);
-        this.hp = clamp(this.hp, 0, this.maxHp);
+        int prevHp = hp;
+        touch(H_MAX_HP, maxHp, maxHp = Math.max(1, v));
+        touch(H_HP, prevHp, hp = clamp(prevHp, 0, maxHp));
     }
 
     public int atk() { return atk; }
-    public void atk(int v) { this.atk = Math.max(0, v); }
+    public void atk(int v) { touch(H_ATK, atk, atk = Math.max(0, v)); }
 
     public int heal() { return heal; }
-    public void heal(int v) { this.heal = Math.max(0, v); }
+    public void heal(int v) { touch(H_HEAL, heal, heal = Math.max(0, v)); }
 
     public int actionCost() { return actionCost; }
-    public void actionCost(int v) { this.actionCost = Math.max(0, v); }
+    public void actionCost(int v) { touch(H_ACTION_COST, actionCost, actionCost = Math.max(0, v)); }
 
     public boolean actionUsedThisTurn() { return actionUsedThisTurn; }
-    public void actionUsedThisTurn(boolean v) { this.actionUsedThisTurn = v; }
+    public void actionUsedThisTurn(boolean v) {
+        touch(H_ACTION_USED, StateHash.of(actionUsedThisTurn), StateHash.of(actionUsedThisTurn = v));
+    }
 
     public Map<String, Integer> statusValues() { return statusValues; }
 
@@ -82,6 +104,29 @@ public final class SummonState {
         else statusValues.put(key, next);
     }
 
+    /** 필드 해시 + 상태 스택 해시(O(1)). */
+    public long stateHash() {
+        return hash;
+    }
+
+    /** GameState.summons 맵이 넣고 뺄 때 부른다(null이면 해시 합/id 지문에서 빠짐). */
+    void journal(StateJournal j) {
+        if (journal != null) journal.detached(this);
+        journal = j;
+        if (journal != null) journal.attached(this);
+    }
+
+    private long key(int field, long value) {
+        return StateHash.key(salt, field, value);
+    }
+
+    private void touch(int field, long before, long after) {
+        if (before == after) return;
+        long delta = key(field, before) ^ key(field, after);
+        hash ^= delta;
+        if (journal != null) journal.changed(this, delta);
+    }
+
     private static int clamp(int v, int min, int max) {
         if (v < min) return min;
         if (v > max) return max;
@@ -44,6 +44,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/sessions", "/api/sessions/*/join").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/sessions/*").permitAll()
                         .requestMatchers("/api/sessions/*/command").permitAll()
+                        .requestMatchers("/api/sessions/*/preview").permitAll()
+                        .requestMatchers("/api/sessions/*/rollback").permitAll()
+                        .requestMatchers("/api/sessions/*/enemy-turn").permitAll()
                         .requestMatchers("/api/sessions/*/players/*/deck").permitAll()
                         .requestMatchers("/api/sessions/*/players/*/forget").permitAll()
                         .requestMatchers("/api/**").authenticated()
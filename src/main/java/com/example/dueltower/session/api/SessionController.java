@@ -2,20 +2,31 @@ package com.example.dueltower.session.api;
 
 import com.example.dueltower.engine.command.*;
 import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.plan.EnemyTurnPlan;
+import com.example.dueltower.engine.core.plan.EnemyTurnPlanner;
+import com.example.dueltower.engine.core.preview.OutcomePreview;
+import com.example.dueltower.engine.core.preview.PreviewOps;
 import com.example.dueltower.engine.model.Ids;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.PlayerId;
 import com.example.dueltower.engine.model.TargetRef;
 import com.example.dueltower.engine.model.TargetSelection;
+import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.session.service.CommandAdmission;
+import com.example.dueltower.session.service.SessionBusyException;
+import com.example.dueltower.session.service.SessionMetrics;
 import com.example.dueltower.session.service.SessionService;
 import com.example.dueltower.session.dto.*;
 import com.example.dueltower.session.runtime.SessionRuntime;
 import com.example.dueltower.session.runtime.StateMapper;
+import com.example.dueltower.session.runtime.Viewer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -23,6 +34,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
@@ -50,10 +62,28 @@ public class SessionController {
             "ENEMY_END_TURN"
     );
 
-    private final SessionService sessionService;
+    // 결과 미리보기를 허용하는 커맨드(플레이어가 고를 수 있는 카드/EX 사용만)
+    private static final Set<String> PREVIEWABLE_TYPES = Set.of(
+            "PLAY_CARD",
+            "USE_EX"
+    );
 
-    public SessionController(SessionService sessionService) {
+    private final SessionService sessionService;
+    private final CommandAdmission admission;
+    private final SessionMetrics metrics;
+    private final Duration enemyPlannerBudget;
+    private final int enemyPlannerMaxDepth;
+
+    public SessionController(SessionService sessionService,
+                             CommandAdmission admission,
+                             SessionMetrics metrics,
+                             @Value("${duel.enemy-planner.budget:200ms}") Duration enemyPlannerBudget,
+                             @Value("${duel.enemy-planner.max-depth:6}") int enemyPlannerMaxDepth) {
         this.sessionService = sessionService;
+        this.admission = admission;
+        this.metrics = metrics;
+        this.enemyPlannerBudget = enemyPlannerBudget;
+        this.enemyPlannerMaxDepth = Math.max(1, enemyPlannerMaxDepth);
     }
 
     @PostMapping
@@ -73,15 +103,20 @@ public class SessionController {
                 rt.state().seed()
         );
 
-        SessionStateDto state = rt.withLock(() -> StateMapper.toDto(rt.code(), rt.state()));
+        SessionStateDto state = rt.withLock(() -> toStateDto(rt, Viewer.GM));
         return new CreateSessionResponse(rt.code(), rt.gmId(), rt.gmToken(), state);
     }
 
+    /** 헤더의 GM/플레이어 토큰으로 보는 쪽을 정한다(없거나 맞지 않으면 관전 시점). */
     @GetMapping("/{code}")
-    public SessionStateDto state(@PathVariable String code) {
-        return sessionService.withSessionLock(code, rt -> {
-            log.debug("session state requested code={} version={}", code, rt.state().version());
-            return StateMapper.toDto(rt.code(), rt.state());
+    public SessionStateDto state(@PathVariable String code,
+                                 @RequestHeader(value = "X-GM-Token", required = false) String gmTokenHeader,
+                                 @RequestHeader(value = "X-Player-Token", required = false) String playerTokenHeader) {
+        SessionRuntime rt = sessionService.get(code);
+        return admission.admit(rt, () -> {
+            Viewer viewer = resolveViewer(rt, gmTokenHeader, playerTokenHeader);
+            log.debug("session state requested code={} version={} viewer={}", code, rt.state().version(), viewer.role());
+            return toStateDto(rt, viewer);
         });
     }
 
@@ -98,16 +133,16 @@ public class SessionController {
             throw new ResponseStatusException(FORBIDDEN, "playerId must match the authenticated user");
         }
         List<String> requestedPassiveIds = (req.passiveIds() == null) ? List.of() : req.passiveIds();
-        sessionService.join(code, requestedPlayerId, requestedPassiveIds, req.presetDeckCardIds(), req.presetExCardId(), req.ownedCards());
-
-        SessionStateDto state = sessionService.withSessionLock(code, rt -> {
+        SessionRuntime rt = sessionService.get(code);
+        SessionStateDto state = admission.admit(rt, () -> {
+            sessionService.join(code, requestedPlayerId, requestedPassiveIds, req.presetDeckCardIds(), req.presetExCardId(), req.ownedCards());
             log.info("session join code={} playerId={} requestedPassiveIds={} playersNow={}",
                     code,
                     requestedPlayerId,
                     requestedPassiveIds,
                     rt.state().players().size()
             );
-            return StateMapper.toDto(rt.code(), rt.state());
+            return toStateDto(rt, Viewer.player(requestedPlayerId));
         });
 
         String playerToken = sessionService.issuePlayerToken(code, requestedPlayerId);
@@ -131,8 +166,11 @@ public class SessionController {
             throw new ResponseStatusException(FORBIDDEN, "players may only forget their own cards");
         }
 
-        sessionService.forgetOwnedCard(code, actorPlayerId, playerId, req.ownedCardIndex());
-        return sessionService.withSessionLock(code, rt -> StateMapper.toDto(rt.code(), rt.state()));
+        SessionRuntime rt = sessionService.get(code);
+        return admission.admit(rt, () -> {
+            sessionService.forgetOwnedCard(code, actorPlayerId, playerId, req.ownedCardIndex());
+            return toStateDto(rt, Viewer.player(actorPlayerId));
+        });
     }
 
     @PostMapping("/{code}/players/{playerId}/deck")
@@ -148,8 +186,11 @@ public class SessionController {
         if (!playerId.equals(actorPlayerId)) {
             throw new ResponseStatusException(FORBIDDEN, "players may only edit their own deck");
         }
-        sessionService.updateDeck(code, actorPlayerId, playerId, req.deckCardIds());
-        return sessionService.withSessionLock(code, rt -> StateMapper.toDto(rt.code(), rt.state()));
+        SessionRuntime rt = sessionService.get(code);
+        return admission.admit(rt, () -> {
+            sessionService.updateDeck(code, actorPlayerId, playerId, req.deckCardIds());
+            return toStateDto(rt, Viewer.player(actorPlayerId));
+        });
     }
     @PostMapping("/{code}/command")
     public EngineResponseDto command(@PathVariable String code,
@@ -165,24 +206,7 @@ public class SessionController {
             throw new ResponseStatusException(BAD_REQUEST, "expectedVersion is required");
         }
         SessionRuntime rt = sessionService.get(code);
-
-        String t = req.type().trim().toUpperCase(Locale.ROOT);
-        if ("START_COMBAT".equals(t)) {
-            requirePlayer(req.playerId());
-            validateStartCombatAuthority(rt, gmTokenHeader);
-        }
-
-        if (PLAYER_AUTH_REQUIRED_TYPES.contains(t)) {
-            requirePlayer(req.playerId());
-            String actorPlayerId = resolveActorPlayerId(code, playerTokenHeader);
-            if (!req.playerId().trim().equals(actorPlayerId)) {
-                throw new ResponseStatusException(FORBIDDEN, "playerId mismatch");
-            }
-        }
-
-        if (GM_AUTH_REQUIRED_TYPES.contains(t)) {
-            validateStartCombatAuthority(rt, gmTokenHeader);
-        }
+        authorizeCommand(rt, req, gmTokenHeader, playerTokenHeader);
 
         UUID commandId = parseOrNewUuid(req.commandId());
 
@@ -201,12 +225,27 @@ public class SessionController {
                 (req.targets() == null) ? 0 : req.targets().size()
         );
 
-        final EngineResult res = rt.withLock(() -> {
-            GameCommand cmd = toCommand(req, commandId, req.expectedVersion());
-            return rt.apply(cmd);
-        });
-
-        long tookMs = java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+        GameCommand cmd = toCommand(req, commandId, req.expectedVersion());
+        String cmdType = cmd.getClass().getSimpleName();
+        record Applied(EngineResult res, SessionStateDto state) {}
+        Applied applied;
+        try {
+            applied = admission.admit(rt, () -> {
+                EngineResult r = rt.apply(cmd);
+                return new Applied(r, toStateDto(rt, resolveViewer(rt, gmTokenHeader, playerTokenHeader)));
+            });
+        } catch (SessionBusyException e) {
+            metrics.recordCommand(cmdType, SessionMetrics.OUTCOME_BUSY, System.nanoTime() - startNs, 0);
+            throw e;
+        }
+        final EngineResult res = applied.res();
+
+        long tookNs = System.nanoTime() - startNs;
+        metrics.recordCommand(cmdType,
+                res.accepted() ? SessionMetrics.OUTCOME_ACCEPTED : SessionMetrics.OUTCOME_REJECTED,
+                tookNs,
+                res.events().size());
+        long tookMs = java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(tookNs);
         if (res.accepted()) {
             log.debug("command accepted code={} type={} commandId={} events={} newVersion={} ({}ms)",
                     code, req.type(), commandId, res.events().size(), res.state().version(), tookMs);
@@ -215,18 +254,141 @@ public class SessionController {
                     code, req.type(), commandId, res.errors(), res.state().version(), tookMs);
         }
 
-        SessionStateDto state = rt.withLock(() -> StateMapper.toDto(rt.code(), res.state()));
-
         return new EngineResponseDto(
                 res.accepted(),
                 res.errors(),
                 StateMapper.toEventDtos(res.events()),
-                state
+                applied.state()
         );
     }
 
 
 
+    /**
+     * GM 되돌리기: 이력에 남아 있는 version 시점으로 상태를 되돌린다.
+     * 그 뒤에 수락됐던 커맨드 id는 dedupe에서 빠지므로 같은 commandId로 다시 보낼 수 있다.
+     */
+    @PostMapping("/{code}/rollback")
+    public SessionStateDto rollback(@PathVariable String code,
+                                    @RequestHeader(value = "X-GM-Token", required = false) String gmTokenHeader,
+                                    @RequestBody RollbackRequest req) {
+        if (req == null || req.version() == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "version is required");
+        }
+        SessionRuntime rt = sessionService.get(code);
+        validateStartCombatAuthority(rt, gmTokenHeader);
+
+        return admission.admit(rt, () -> sessionService.rollback(code, req.version(), locked -> toStateDto(locked, Viewer.GM)));
+    }
+
+    /**
+     * PLAY_CARD/USE_EX를 세션 상태의 fork에 적용해 본 예상 결과.
+     * 세션 락은 fork를 뜨는 동안만 잡고, 버전/dedupe/복제에는 아무 영향이 없다.
+     */
+    @PostMapping("/{code}/preview")
+    public PreviewResponseDto preview(@PathVariable String code,
+                                      @RequestHeader(value = "X-Player-Token", required = false) String playerTokenHeader,
+                                      @RequestBody CommandRequest req) {
+        if (req == null || req.type() == null || req.type().isBlank()) {
+            throw new ResponseStatusException(BAD_REQUEST, "type is required");
+        }
+        if (req.expectedVersion() == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "expectedVersion is required");
+        }
+        String t = req.type().trim().toUpperCase(Locale.ROOT);
+        if (!PREVIEWABLE_TYPES.contains(t)) {
+            throw new ResponseStatusException(BAD_REQUEST, "preview supports PLAY_CARD/USE_EX only: " + req.type());
+        }
+        SessionRuntime rt = sessionService.get(code);
+        authorizeCommand(rt, req, null, playerTokenHeader);
+
+        GameCommand cmd = toCommand(req, UUID.randomUUID(), req.expectedVersion());
+        GameState base = admission.admit(rt, () -> rt.state().fork());
+        OutcomePreview preview = PreviewOps.preview(base, rt.ctx(), cmd);
+
+        log.debug("command preview code={} type={} playerId={} accepted={} baseVersion={} vitals={} zones={}",
+                code, t, req.playerId().trim(), preview.accepted(), preview.baseVersion(),
+                preview.vitals().size(), preview.zones().size());
+        return StateMapper.toPreviewDto(preview, Viewer.player(req.playerId().trim()));
+    }
+
+    /**
+     * 현재 적의 MAIN 턴을 자동으로 진행한다.
+     * 세션 상태의 fork에서 시간 예산(duel.enemy-planner.*) 안에 행동 순서를 찾고(락 밖),
+     * ENEMY_PLAY_CARD/ENEMY_USE_EX/ENEMY_END_TURN 커맨드 묶음을 락 한 번으로 제출한다.
+     */
+    @PostMapping("/{code}/enemy-turn")
+    public EnemyTurnResponseDto autoEnemyTurn(@PathVariable String code,
+                                              @RequestHeader(value = "X-GM-Token", required = false) String gmTokenHeader,
+                                              @RequestBody EnemyTurnRequest req) {
+        long startNs = System.nanoTime();
+        if (req == null || req.expectedVersion() == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "expectedVersion is required");
+        }
+        SessionRuntime rt = sessionService.get(code);
+        validateStartCombatAuthority(rt, gmTokenHeader);
+
+        GameState base = admission.admit(rt, () -> rt.state().fork());
+        if (base.version() != req.expectedVersion()) {
+            return new EnemyTurnResponseDto(false, List.of("version mismatch"), List.of(),
+                    metrics.project(() -> StateMapper.toDto(rt.code(), base, Viewer.GM)), null, 0, 0, 0, false);
+        }
+
+        EnemyTurnPlan plan;
+        try {
+            plan = EnemyTurnPlanner.plan(base, rt.ctx(), enemyPlannerBudget, enemyPlannerMaxDepth);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(CONFLICT, e.getMessage());
+        }
+
+        List<GameCommand> commands = plan.toCommands();
+        record Applied(List<EngineResult> results, SessionStateDto state) {}
+        Applied applied = admission.admit(rt, () -> {
+            List<EngineResult> r = rt.applyBatch(commands);
+            return new Applied(r, toStateDto(rt, Viewer.GM));
+        });
+
+        List<String> errors = List.of();
+        List<EventDto> events = new ArrayList<>();
+        int accepted = 0;
+        for (EngineResult r : applied.results()) {
+            if (!r.accepted()) {
+                errors = r.errors();
+                break;
+            }
+            accepted++;
+            events.addAll(StateMapper.toEventDtos(r.events()));
+        }
+        boolean ok = accepted == commands.size();
+
+        long tookNs = System.nanoTime() - startNs;
+        metrics.recordCommand("AutoEnemyTurn",
+                ok ? SessionMetrics.OUTCOME_ACCEPTED : SessionMetrics.OUTCOME_REJECTED,
+                tookNs,
+                events.size());
+        log.info("enemy turn planned code={} enemyId={} baseVersion={} commands={} applied={} depth={} nodes={} timedOut={} ({}ms)",
+                code, plan.enemyId().value(), plan.baseVersion(), commands.size(), accepted,
+                plan.depthReached(), plan.nodesSearched(), plan.timedOut(),
+                java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(tookNs));
+
+        return new EnemyTurnResponseDto(ok, errors, events, applied.state(), plan.enemyId().value(),
+                accepted, plan.depthReached(), plan.nodesSearched(), plan.timedOut());
+    }
+
+    /** 세션 락 안에서 부른다. 같은 버전/같은 viewer면 SessionRuntime에 캐시된 DTO를 돌려준다. */
+    private SessionStateDto toStateDto(SessionRuntime rt, Viewer viewer) {
+        return rt.projection(viewer, () -> metrics.project(() -> StateMapper.toDto(rt.code(), rt.state(), viewer)));
+    }
+
+    private static Viewer resolveViewer(SessionRuntime rt, String gmTokenHeader, String playerTokenHeader) {
+        String gmToken = (gmTokenHeader == null) ? "" : gmTokenHeader.trim();
+        if (!gmToken.isEmpty() && rt.gmToken().equals(gmToken)) return Viewer.GM;
+
+        String playerToken = (playerTokenHeader == null) ? "" : playerTokenHeader.trim();
+        String playerId = playerToken.isEmpty() ? null : rt.findPlayerIdByToken(playerToken);
+        return (playerId == null) ? Viewer.SPECTATOR : Viewer.player(playerId);
+    }
+
     private static String requireAuthenticatedUsername(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
             throw new ResponseStatusException(UNAUTHORIZED, "authentication required");
@@ -243,6 +405,26 @@ public class SessionController {
         throw new ResponseStatusException(UNAUTHORIZED, "player authorization required");
     }
 
+    private void authorizeCommand(SessionRuntime rt, CommandRequest req, String gmTokenHeader, String playerTokenHeader) {
+        String t = req.type().trim().toUpperCase(Locale.ROOT);
+        if ("START_COMBAT".equals(t)) {
+            requirePlayer(req.playerId());
+            validateStartCombatAuthority(rt, gmTokenHeader);
+        }
+
+        if (PLAYER_AUTH_REQUIRED_TYPES.contains(t)) {
+            requirePlayer(req.playerId());
+            String actorPlayerId = resolveActorPlayerId(rt.code(), playerTokenHeader);
+            if (!req.playerId().trim().equals(actorPlayerId)) {
+                throw new ResponseStatusException(FORBIDDEN, "playerId mismatch");
+            }
+        }
+
+        if (GM_AUTH_REQUIRED_TYPES.contains(t)) {
+            validateStartCombatAuthority(rt, gmTokenHeader);
+        }
+    }
+
     private static void validateStartCombatAuthority(SessionRuntime rt, String gmTokenHeader) {
         String token = (gmTokenHeader == null) ? "" : gmTokenHeader.trim();
         if (!token.isEmpty() && rt.gmToken().equals(token)) {
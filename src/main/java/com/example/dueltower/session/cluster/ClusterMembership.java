@@ -0,0 +1,15 @@
+package com.example.dueltower.session.cluster;
+
+import java.util.List;
+
+/**
+ * 클러스터 멤버십 추상화.
+ * - 지금은 정적 노드 목록(StaticClusterMembership)만 있지만,
+ *   디스커버리/헬스체크 기반 구현으로 교체할 수 있게 인터페이스로 둔다.
+ * - nodes()는 현재 살아있는 노드 목록. 변경되면 라우터가 링을 다시 만든다.
+ */
+public interface ClusterMembership {
+    boolean enabled();
+    String selfId();
+    List<ClusterNode> nodes();
+}
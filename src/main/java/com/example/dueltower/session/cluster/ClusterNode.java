@@ -0,0 +1,16 @@
+package com.example.dueltower.session.cluster;
+
+import java.util.Objects;
+
+/**
+ * 클러스터 노드 1개.
+ * baseUrl은 다른 노드가 요청을 프록시/리다이렉트할 때 쓰는 주소(예: http://10.0.0.2:9009).
+ */
+public record ClusterNode(String id, String baseUrl) {
+    public ClusterNode {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(baseUrl, "baseUrl");
+        if (id.isBlank()) throw new IllegalArgumentException("node id is blank");
+        baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.dueltower.session.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 세션 코드 -> 소유 노드 매핑용 consistent hash 링(불변).
+ * - 노드마다 virtualNodes개의 점을 링에 배치해서 분포를 고르게 한다.
+ * - 노드가 추가/제거되면 해당 노드 구간의 키만 이동한다.
+ * - 해시는 JVM/프로세스와 무관하게 같아야 하므로 String.hashCode 대신 고정 알고리즘(FNV-1a + fmix64)을 쓴다.
+ */
+public final class ConsistentHashRing {
+
+    private final TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final List<ClusterNode> nodes;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        if (nodes == null || nodes.isEmpty()) throw new IllegalArgumentException("ring requires at least one node");
+        if (virtualNodes <= 0) throw new IllegalArgumentException("virtualNodes must be positive");
+        this.nodes = List.copyOf(nodes);
+        for (ClusterNode node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.id() + "#" + i), node);
+            }
+        }
+    }
+
+    public List<ClusterNode> nodes() { return nodes; }
+
+    public ClusterNode ownerOf(String key) {
+        Map.Entry<Long, ClusterNode> e = ring.ceilingEntry(hash(key));
+        return (e != null) ? e.getValue() : ring.firstEntry().getValue();
+    }
+
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        // fmix64: 짧은 키(세션 코드 8자)에서도 비트가 고르게 퍼지도록
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.dueltower.session.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * /api/sessions/{code}/** 요청을 세션 소유 노드로 보낸다.
+ * - 소유 노드가 자신이면 그대로 통과.
+ * - forward-mode=proxy(기본): 요청을 소유 노드로 그대로 중계하고 응답을 돌려준다.
+ * - forward-mode=redirect: 307 + Location으로 클라이언트가 직접 다시 보내게 한다.
+ *
+ * 참고: 토큰 헤더(X-GM-Token/X-Player-Token) 기반 API는 그대로 동작하지만,
+ * 로그인 세션(쿠키) 기반 API(join 등)는 노드 간 세션 저장소 공유 또는 sticky 라우팅이 필요하다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class SessionForwardingFilter extends OncePerRequestFilter {
+
+    static final String HEADER_FORWARDED_BY = "X-Duel-Forwarded-By";
+    private static final String SESSIONS_PREFIX = "/api/sessions/";
+
+    // java.net.http가 직접 설정을 막는 헤더 + hop-by-hop 헤더
+    private static final Set<String> SKIPPED_REQUEST_HEADERS = Set.of(
+            "host", "connection", "content-length", "expect", "upgrade", "keep-alive",
+            "transfer-encoding", "te", "trailer", "proxy-connection"
+    );
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of(
+            "connection", "content-length", "transfer-encoding", "keep-alive", ":status"
+    );
+
+    private final SessionRouter router;
+    private final boolean redirect;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public SessionForwardingFilter(SessionRouter router,
+                                   @Value("${duel.cluster.forward-mode:proxy}") String forwardMode,
+                                   @Value("${duel.cluster.forward-timeout:5s}") Duration timeout) {
+        this.router = router;
+        this.redirect = "redirect".equalsIgnoreCase(forwardMode.trim());
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !router.clusterEnabled() || sessionCodeOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String code = sessionCodeOf(request.getRequestURI());
+        if (router.isLocal(code)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ClusterNode owner = router.ownerOf(code);
+        if (request.getHeader(HEADER_FORWARDED_BY) != null) {
+            // 이미 다른 노드가 보낸 요청인데 여기도 소유자가 아니면 멤버십이 어긋난 상태
+            log.warn("session routing loop code={} self={} owner={} forwardedBy={}",
+                    code, router.selfId(), owner.id(), request.getHeader(HEADER_FORWARDED_BY));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "session routing mismatch");
+            return;
+        }
+
+        URI target = URI.create(owner.baseUrl() + request.getRequestURI()
+                + (request.getQueryString() == null ? "" : "?" + request.getQueryString()));
+
+        if (redirect) {
+            log.debug("session redirect code={} owner={} target={}", code, owner.id(), target);
+            response.setStatus(307);
+            response.setHeader("Location", target.toString());
+            return;
+        }
+
+        proxy(request, response, code, owner, target);
+    }
+
+    private void proxy(HttpServletRequest request, HttpServletResponse response,
+                       String code, ClusterNode owner, URI target) throws IOException {
+        long startNs = System.nanoTime();
+
+        HttpRequest.Builder out = HttpRequest.newBuilder(target).timeout(timeout);
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (SKIPPED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) continue;
+            for (String value : Collections.list(request.getHeaders(name))) {
+                out.header(name, value);
+            }
+        }
+        out.header(HEADER_FORWARDED_BY, router.selfId());
+
+        byte[] body = request.getInputStream().readAllBytes();
+        out.method(request.getMethod(), body.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body));
+
+        HttpResponse<InputStream> res;
+        try {
+            res = client.send(out.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "session owner unavailable");
+            return;
+        } catch (IOException e) {
+            log.warn("session proxy failed code={} owner={} target={} error={}", code, owner.id(), target, e.toString());
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY, "session owner unreachable");
+            return;
+        }
+
+        response.setStatus(res.statusCode());
+        for (Map.Entry<String, List<String>> h : res.headers().map().entrySet()) {
+            if (SKIPPED_RESPONSE_HEADERS.contains(h.getKey().toLowerCase(Locale.ROOT))) continue;
+            for (String value : h.getValue()) response.addHeader(h.getKey(), value);
+        }
+        try (InputStream in = res.body(); OutputStream os = response.getOutputStream()) {
+            in.transferTo(os);
+        }
+
+        log.debug("session proxied code={} owner={} status={} ({}ms)",
+                code, owner.id(), res.statusCode(), (System.nanoTime() - startNs) / 1_000_000L);
+    }
+
+    /** /api/sessions/{code} 또는 /api/sessions/{code}/... 에서 code를 뽑는다. 그 외 경로는 null. */
+    static String sessionCodeOf(String uri) {
+        if (uri == null || !uri.startsWith(SESSIONS_PREFIX)) return null;
+        int start = SESSIONS_PREFIX.length();
+        int end = uri.indexOf('/', start);
+        String code = (end < 0) ? uri.substring(start) : uri.substring(start, end);
+        return code.isBlank() ? null : code;
+    }
+}
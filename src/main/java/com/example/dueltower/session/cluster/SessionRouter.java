@@ -0,0 +1,47 @@
+package com.example.dueltower.session.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 세션 코드의 소유 노드를 결정한다.
+ * - 클러스터 모드가 꺼져 있으면 모든 세션이 로컬.
+ * - 멤버십의 노드 목록이 바뀌면 다음 조회 때 링을 다시 만든다.
+ */
+@Component
+public class SessionRouter {
+
+    private final ClusterMembership membership;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+
+    public SessionRouter(ClusterMembership membership,
+                         @Value("${duel.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.membership = membership;
+        this.virtualNodes = virtualNodes;
+    }
+
+    public boolean clusterEnabled() { return membership.enabled(); }
+    public String selfId() { return membership.selfId(); }
+
+    public ClusterNode ownerOf(String code) {
+        return currentRing().ownerOf(code);
+    }
+
+    public boolean isLocal(String code) {
+        if (!membership.enabled()) return true;
+        return ownerOf(code).id().equals(membership.selfId());
+    }
+
+    private ConsistentHashRing currentRing() {
+        List<ClusterNode> nodes = membership.nodes();
+        ConsistentHashRing r = ring;
+        if (r == null || !r.nodes().equals(nodes)) {
+            r = new ConsistentHashRing(nodes, virtualNodes);
+            ring = r;
+        }
+        return r;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dueltower.session.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 설정 파일의 고정 노드 목록 기반 멤버십.
+ * duel.cluster.nodes 형식: "node-1=http://localhost:9009,node-2=http://localhost:9010"
+ * 로컬 멀티 프로세스 테스트용으로 충분하며, 클러스터 모드가 꺼져 있으면 self만 가진 단일 노드로 동작한다.
+ */
+@Component
+public class StaticClusterMembership implements ClusterMembership {
+
+    private final boolean enabled;
+    private final String selfId;
+    private final List<ClusterNode> nodes;
+
+    public StaticClusterMembership(@Value("${duel.cluster.enabled:false}") boolean enabled,
+                                   @Value("${duel.cluster.self-id:local}") String selfId,
+                                   @Value("${duel.cluster.nodes:}") String nodesRaw) {
+        this.enabled = enabled;
+        this.selfId = selfId.trim();
+        this.nodes = enabled ? parseNodes(nodesRaw) : List.of(new ClusterNode(this.selfId, ""));
+
+        if (enabled && nodes.stream().noneMatch(n -> n.id().equals(this.selfId))) {
+            throw new IllegalStateException("duel.cluster.nodes must contain self-id: " + this.selfId);
+        }
+    }
+
+    @Override public boolean enabled() { return enabled; }
+    @Override public String selfId() { return selfId; }
+    @Override public List<ClusterNode> nodes() { return nodes; }
+
+    static List<ClusterNode> parseNodes(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalStateException("duel.cluster.nodes is required when cluster mode is enabled");
+        }
+        List<ClusterNode> out = new ArrayList<>();
+        Set<String> ids = new LinkedHashSet<>();
+        for (String entry : raw.split(",")) {
+            if (entry.isBlank()) continue;
+            int eq = entry.indexOf('=');
+            if (eq <= 0 || eq == entry.length() - 1) {
+                throw new IllegalStateException("invalid duel.cluster.nodes entry (expected id=url): " + entry.trim());
+            }
+            String id = entry.substring(0, eq).trim();
+            if (!ids.add(id)) {
+                throw new IllegalStateException("duplicate node id in duel.cluster.nodes: " + id);
+            }
+            out.add(new ClusterNode(id, entry.substring(eq + 1).trim()));
+        }
+        return List.copyOf(out);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.dueltower.session.dto;
+
+public record EnemyTurnRequest(
+        Long expectedVersion
+) {}
@@ -0,0 +1,19 @@
+package com.example.dueltower.session.dto;
+
+import java.util.List;
+
+/**
+ * 적 턴 자동 진행 결과.
+ * appliedCommands: 수락된 커맨드 수, depthReached/nodesSearched/timedOut: 탐색 정보
+ */
+public record EnemyTurnResponseDto(
+        boolean accepted,
+        List<String> errors,
+        List<EventDto> events,
+        SessionStateDto state,
+        String enemyId,
+        int appliedCommands,
+        int depthReached,
+        long nodesSearched,
+        boolean timedOut
+) {}
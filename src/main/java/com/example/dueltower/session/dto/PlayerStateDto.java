@@ -2,6 +2,11 @@ package com.example.dueltower.session.dto;
 
 import java.util.List;
 
+/**
+ * @param deck      GM에게만 순서대로 채워진다(그 외에는 빈 목록, 장수는 deckCount)
+ * @param hand      GM과 본인에게만 채워진다(그 외에는 빈 목록, 장수는 handCount)
+ * @param deckDefIds 덱 구성(defId 정렬, 순서 정보 없음). GM과 본인에게만 채워진다
+ */
 public record PlayerStateDto(
         String playerId,
         List<String> passiveIds,
@@ -21,5 +26,8 @@ public record PlayerStateDto(
         int fieldLimit,
         int ownedCardCount,
         int maxOwnedCardCount,
-        boolean forgettingRequired
+        boolean forgettingRequired,
+        int deckCount,
+        int handCount,
+        List<String> deckDefIds
 ) {}
@@ -0,0 +1,35 @@
+package com.example.dueltower.session.dto;
+
+import java.util.List;
+
+public record PreviewResponseDto(
+        boolean accepted,
+        List<String> errors,
+        List<EventDto> events,
+        long baseVersion,
+        List<VitalChangeDto> vitals,
+        List<StatusChangeDto> statuses,
+        List<ZoneChangeDto> zones
+) {
+    public record VitalChangeDto(
+            String actorKey,
+            String stat,
+            int before,
+            int after
+    ) {}
+
+    public record StatusChangeDto(
+            String actorKey,
+            String statusId,
+            int before,
+            int after
+    ) {}
+
+    public record ZoneChangeDto(
+            String cardId,
+            String defId,
+            String ownerId,
+            String from,
+            String to
+    ) {}
+}
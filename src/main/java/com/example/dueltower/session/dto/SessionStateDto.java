@@ -2,11 +2,16 @@ package com.example.dueltower.session.dto;
 
 import java.util.Map;
 
+/**
+ * @param stateHash GameState.stateHash()를 16자리 hex로(JS number 정밀도 때문에 문자열). 같은 버전에서 값이 다르면 상태가 어긋난 것이다.
+ * @param seed      GM에게만 보낸다(셔플이 seed로 결정되므로 덱 순서를 되살릴 수 있다). 그 외에는 null
+ */
 public record SessionStateDto(
         String sessionCode,
         String sessionId,
         long version,
-        long seed,
+        String stateHash,
+        Long seed,
         String nodeState,
         Map<String, PlayerStateDto> players,
         CombatStateDto combat,
@@ -0,0 +1,180 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.content.card.service.CardService;
+import com.example.dueltower.content.passive.service.PassiveService;
+import com.example.dueltower.engine.core.sim.BalanceReport;
+import com.example.dueltower.engine.core.sim.BalanceSweep;
+import com.example.dueltower.engine.core.sim.BalanceSweep.Candidate;
+import com.example.dueltower.engine.core.sim.BalanceSweep.ReferenceDeck;
+import com.example.dueltower.engine.core.sim.SimulationConfig;
+import com.example.dueltower.engine.model.CardDefinition;
+import com.example.dueltower.engine.model.CardType;
+import com.example.dueltower.engine.model.PassiveDefinition;
+import com.example.dueltower.session.service.EngineContextFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * duel.balance.enabled=true 일 때 기동 직후 CardService/PassiveService 전체를 기준 덱에 끼워 비교하고 결과를 남긴다.
+ * 전투 조건(인원/스탯/적/정책/seed/병렬도)은 duel.sim.* 값을 그대로 쓴다.
+ *
+ * 결과 행은 끝나는 대로 로그와 CSV(duel.balance.output)에 바로 쓰고, 마지막에 후보별 요약표를 남긴다.
+ * 예) --duel.balance.enabled=true --spring.main.web-application-type=none --duel.balance.output=logs/balance.csv
+ */
+@Component
+@ConditionalOnProperty(name = "duel.balance.enabled", havingValue = "true")
+@Slf4j
+public class BalanceSweepRunner implements ApplicationRunner {
+
+    private final EngineContextFactory contextFactory;
+    private final CardService cardService;
+    private final PassiveService passiveService;
+    private final SimulationConfig base;
+    private final List<ReferenceDeck> decks;
+    private final int copies;
+    private final Set<String> only;
+    private final String output;
+
+    public BalanceSweepRunner(EngineContextFactory contextFactory,
+                              CardService cardService,
+                              PassiveService passiveService,
+                              @Value("${duel.balance.combats:2000}") int combats,
+                              @Value("${duel.balance.copies:3}") int copies,
+                              @Value("${duel.balance.decks:}") String decks,
+                              @Value("${duel.balance.only:}") String only,
+                              @Value("${duel.balance.output:}") String output,
+                              @Value("${duel.sim.players:2}") int players,
+                              @Value("${duel.sim.enemies:2}") int enemies,
+                              @Value("${duel.sim.ex-card:EX901}") String exCard,
+                              @Value("${duel.sim.body:4}") int body,
+                              @Value("${duel.sim.skill:4}") int skill,
+                              @Value("${duel.sim.sense:4}") int sense,
+                              @Value("${duel.sim.will:6}") int will,
+                              @Value("${duel.sim.enemy-hp:60}") int enemyHp,
+                              @Value("${duel.sim.enemy-attack:6}") int enemyAttack,
+                              @Value("${duel.sim.max-rounds:30}") int maxRounds,
+                              @Value("${duel.sim.policy:random}") String policy,
+                              @Value("${duel.sim.seed:1}") long seed,
+                              @Value("${duel.sim.parallelism:0}") int parallelism) {
+        this.contextFactory = contextFactory;
+        this.cardService = cardService;
+        this.passiveService = passiveService;
+        this.copies = Math.max(1, copies);
+        this.only = Set.copyOf(CombatSimRunner.parseList(only));
+        this.output = output.trim();
+
+        String ex = exCard.isBlank() ? null : exCard.trim();
+        this.decks = parseDecks(decks, ex);
+        this.base = new SimulationConfig(
+                combats,
+                players,
+                enemies,
+                this.decks.get(0).cards(),
+                ex,
+                List.of(),
+                body,
+                skill,
+                sense,
+                will,
+                enemyHp,
+                enemyAttack,
+                maxRounds,
+                CombatSimRunner.parsePolicy(policy),
+                seed,
+                parallelism
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<Candidate> candidates = candidates();
+        log.info("balance sweep start candidates={} decks={} combatsPerVariant={} parallelism={}",
+                candidates.size(), decks.size(), base.combats(), base.parallelism());
+
+        BalanceReport report;
+        try (BufferedWriter csv = output.isEmpty() ? null : open(Path.of(output))) {
+            report = BalanceSweep.run(contextFactory.context(), base, decks, candidates, row -> {
+                if (row.error() != null) {
+                    log.warn("balance {} {} deck={} failed: {}", row.kind(), row.id(), row.deck(), row.error());
+                } else {
+                    log.info("balance {} {} deck={} winRate={} dWin={} dMargin={}", row.kind(), row.id(), row.deck(),
+                            String.format("%.3f", row.winRate()), String.format("%+.3f", row.winRateDelta()),
+                            String.format("%+.3f", row.marginDelta()));
+                }
+                if (csv != null) write(csv, row.csv());
+            });
+        }
+        log.info("{}", report.table());
+    }
+
+    /** 토큰 카드는 덱에 넣을 수 없으니 뺀다. EX는 EX 슬롯, 나머지는 덱 끝 copies장(카드별 최대 매수 이하)을 바꾼다. */
+    private List<Candidate> candidates() {
+        List<Candidate> out = new ArrayList<>();
+        for (CardDefinition def : cardService.list()) {
+            if (def.token() || !selected(def.id().value())) continue;
+            if (def.type() == CardType.EX) {
+                out.add(new Candidate(Candidate.Kind.EX, def.id().value(), 1));
+                continue;
+            }
+            Integer max = cardService.maxDeckCopies(def.id());
+            out.add(new Candidate(Candidate.Kind.CARD, def.id().value(), max == null ? copies : Math.min(copies, max)));
+        }
+        for (PassiveDefinition def : passiveService.list()) {
+            if (selected(def.id())) out.add(new Candidate(Candidate.Kind.PASSIVE, def.id(), 0));
+        }
+        return out;
+    }
+
+    private boolean selected(String id) {
+        return only.isEmpty() || only.contains(id);
+    }
+
+    /** "name=C001,C002,...;name2=..." 형식. 비우면 기본 프리셋 덱 1개 */
+    private static List<ReferenceDeck> parseDecks(String raw, String exCard) {
+        if (raw == null || raw.isBlank()) {
+            return List.of(new ReferenceDeck("default", CombatSimRunner.DEFAULT_DECK, exCard));
+        }
+        List<ReferenceDeck> out = new ArrayList<>();
+        for (String part : raw.split(";")) {
+            if (part.isBlank()) continue;
+            int eq = part.indexOf('=');
+            if (eq <= 0) throw new IllegalStateException("invalid duel.balance.decks entry: " + part);
+            out.add(new ReferenceDeck(part.substring(0, eq).trim(), CombatSimRunner.parseList(part.substring(eq + 1)), exCard));
+        }
+        if (out.isEmpty()) throw new IllegalStateException("duel.balance.decks has no deck");
+        return List.copyOf(out);
+    }
+
+    private static BufferedWriter open(Path path) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        BufferedWriter w = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        w.write(BalanceReport.Row.CSV_HEADER);
+        w.newLine();
+        w.flush();
+        return w;
+    }
+
+    private static void write(BufferedWriter w, String line) {
+        try {
+            w.write(line);
+            w.newLine();
+            w.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.engine.core.sim.CombatSimulator;
+import com.example.dueltower.engine.core.sim.SimPolicy;
+import com.example.dueltower.engine.core.sim.SimulationConfig;
+import com.example.dueltower.engine.core.sim.SimulationReport;
+import com.example.dueltower.session.service.EngineContextFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * duel.sim.enabled=true 일 때 기동 직후 전투 시뮬레이션을 1회 돌리고 결과를 로그로 남긴다(세션 없이 엔진만 사용).
+ *
+ * 예) --duel.sim.enabled=true --spring.main.web-application-type=none --duel.sim.combats=20000 --duel.sim.deck=C001,C001,...
+ */
+@Component
+@ConditionalOnProperty(name = "duel.sim.enabled", havingValue = "true")
+@Slf4j
+public class CombatSimRunner implements ApplicationRunner {
+
+    static final List<String> DEFAULT_DECK = List.of(
+            "C001", "C001", "C001",
+            "C002", "C002", "C002",
+            "C003", "C003", "C003",
+            "C004", "C004", "C004"
+    );
+
+    private final EngineContextFactory contextFactory;
+    private final SimulationConfig config;
+
+    public CombatSimRunner(EngineContextFactory contextFactory,
+                           @Value("${duel.sim.combats:10000}") int combats,
+                           @Value("${duel.sim.players:2}") int players,
+                           @Value("${duel.sim.enemies:2}") int enemies,
+                           @Value("${duel.sim.deck:}") String deck,
+                           @Value("${duel.sim.ex-card:EX901}") String exCard,
+                           @Value("${duel.sim.passives:}") String passives,
+                           @Value("${duel.sim.body:4}") int body,
+                           @Value("${duel.sim.skill:4}") int skill,
+                           @Value("${duel.sim.sense:4}") int sense,
+                           @Value("${duel.sim.will:6}") int will,
+                           @Value("${duel.sim.enemy-hp:60}") int enemyHp,
+                           @Value("${duel.sim.enemy-attack:6}") int enemyAttack,
+                           @Value("${duel.sim.max-rounds:30}") int maxRounds,
+                           @Value("${duel.sim.policy:random}") String policy,
+                           @Value("${duel.sim.seed:1}") long seed,
+                           @Value("${duel.sim.parallelism:0}") int parallelism) {
+        this.contextFactory = contextFactory;
+        this.config = new SimulationConfig(
+                combats,
+                players,
+                enemies,
+                parseDeck(deck),
+                exCard.isBlank() ? null : exCard.trim(),
+                parseList(passives),
+                body,
+                skill,
+                sense,
+                will,
+                enemyHp,
+                enemyAttack,
+                maxRounds,
+                parsePolicy(policy),
+                seed,
+                parallelism
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("combat sim start {}", config);
+        SimulationReport report = CombatSimulator.run(contextFactory.context(), config);
+        log.info("{}", report.summary());
+    }
+
+    static SimPolicy parsePolicy(String raw) {
+        String p = raw.trim().toLowerCase(Locale.ROOT);
+        return switch (p) {
+            case "random" -> SimPolicy.RANDOM;
+            case "scripted" -> SimPolicy.SCRIPTED;
+            default -> throw new IllegalStateException("unknown duel.sim.policy: " + raw);
+        };
+    }
+
+    static List<String> parseDeck(String raw) {
+        List<String> deck = parseList(raw);
+        return deck.isEmpty() ? DEFAULT_DECK : deck;
+    }
+
+    /** 쉼표 구분 id 목록(비어 있으면 빈 목록) */
+    static List<String> parseList(String raw) {
+        if (raw == null || raw.isBlank()) return List.of();
+        return Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
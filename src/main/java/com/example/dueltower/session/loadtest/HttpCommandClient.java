@@ -0,0 +1,52 @@
+package com.example.dueltower.session.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 실제 컨트롤러(POST /api/sessions/{code}/command)로 커맨드를 보낸다.
+ * 토큰 헤더만 쓰므로 로그인 세션이 필요 없다.
+ */
+final class HttpCommandClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    record Response(int status, boolean accepted, boolean versionMismatch) {}
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    HttpCommandClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Response send(String code, PlannedCommand cmd, String gmToken, String playerToken) throws IOException, InterruptedException {
+        HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(baseUrl + "/api/sessions/" + code + "/command"))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(cmd.request())));
+        if (gmToken != null) req.header("X-GM-Token", gmToken);
+        if (playerToken != null) req.header("X-Player-Token", playerToken);
+
+        HttpResponse<byte[]> res = client.send(req.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() != 200) return new Response(res.statusCode(), false, false);
+
+        JsonNode body = MAPPER.readTree(res.body());
+        boolean accepted = body.path("accepted").asBoolean(false);
+        boolean mismatch = false;
+        for (JsonNode e : body.path("errors")) {
+            if ("version mismatch".equals(e.asString())) mismatch = true;
+        }
+        return new Response(200, accepted, mismatch);
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.combat.CombatStatuses;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.session.dto.OwnedCardDto;
+import com.example.dueltower.session.runtime.SessionLockListener;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import com.example.dueltower.session.service.SessionService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 인프로세스 부하 하네스.
+ *
+ * 1) SessionService로 세션 N개 생성 + 플레이어 M명 join(프리셋 덱) + 토큰 발급 + 적 배치
+ * 2) 워커 스레드들이 무작위 세션을 골라 합법 커맨드를 계속 넣는다
+ *    - IN_PROCESS: 세션 락 안에서 고르고 SessionRuntime.apply
+ *    - HTTP: 락 안에서 고른 뒤 실제 컨트롤러로 POST(버전 충돌/429도 집계)
+ * 3) 처리량, 지연 백분위, 세션당 힙, 세션 락 경합을 LoadReport로 돌려준다
+ *
+ * 전투가 끝나면 HP/적을 되돌리고 START_COMBAT부터 다시 돈다(GM 리셋 대용).
+ */
+@Slf4j
+public final class LoadHarness {
+
+    public enum Outcome { ACCEPTED, REJECTED, CONFLICT, BUSY, ERROR, IDLE }
+
+    private static final String GM_ID = "loadtest-gm";
+
+    private final SessionService sessionService;
+    private final SessionLockListener lockDelegate;
+    private final LoadTestConfig config;
+
+    private record Table(SessionRuntime rt, Map<String, String> playerTokens) {}
+
+    public LoadHarness(SessionService sessionService, SessionLockListener lockDelegate, LoadTestConfig config) {
+        this.sessionService = sessionService;
+        this.lockDelegate = lockDelegate;
+        this.config = config;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long heapBefore = usedHeapAfterGc();
+        LockContentionRecorder lockStats = new LockContentionRecorder(lockDelegate);
+        List<Table> tables = setUp(lockStats);
+        long heapAfterSetup = usedHeapAfterGc();
+        log.info("loadtest setup done sessions={} players/session={} transport={}",
+                tables.size(), config.playersPerSession(), config.transport());
+
+        HttpCommandClient http = (config.transport() == LoadTestConfig.Transport.HTTP)
+                ? new HttpCommandClient(config.baseUrl())
+                : null;
+
+        long startNs = System.nanoTime();
+        long measureFromNs = startNs + config.warmup().toNanos();
+        long endNs = measureFromNs + config.duration().toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(config.workers());
+        List<Future<WorkerStats>> futures = new ArrayList<>();
+        for (int w = 0; w < config.workers(); w++) {
+            long seed = config.seed() * 31 + w;
+            futures.add(pool.submit(() -> drive(tables, http, new Random(seed), measureFromNs, endNs)));
+        }
+        pool.shutdown();
+
+        WorkerStats total = new WorkerStats();
+        for (Future<WorkerStats> f : futures) {
+            try {
+                total.merge(f.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("load worker failed", e.getCause());
+            }
+        }
+        long heapAfterRun = usedHeapAfterGc();
+
+        Duration measured = config.duration();
+        long[] lat = total.latencies.sorted();
+        return new LoadReport(
+                config.transport(),
+                tables.size(),
+                tables.size() * config.playersPerSession(),
+                measured,
+                total.outcomeMap(),
+                total.outcomes[Outcome.ACCEPTED.ordinal()] / Math.max(0.001, measured.toNanos() / 1e9),
+                percentile(lat, 0.50),
+                percentile(lat, 0.95),
+                percentile(lat, 0.99),
+                (lat.length == 0) ? 0 : lat[lat.length - 1],
+                (heapAfterSetup - heapBefore) / tables.size(),
+                (heapAfterRun - heapBefore) / tables.size(),
+                lockStats.acquisitions(),
+                lockStats.contended(),
+                lockStats.waitPercentileNanos(0.99),
+                lockStats.maxWaitNanos(),
+                lockStats.meanHoldNanos()
+        );
+    }
+
+    private List<Table> setUp(LockContentionRecorder lockStats) {
+        List<OwnedCardDto> owned = null;
+        if (!config.deckCardIds().isEmpty()) {
+            owned = new ArrayList<>();
+            for (String id : config.deckCardIds()) owned.add(new OwnedCardDto(id, false, false, false, null, null));
+        }
+        List<String> deck = config.deckCardIds().isEmpty() ? null : config.deckCardIds();
+
+        List<Table> tables = new ArrayList<>(config.sessions());
+        for (int i = 0; i < config.sessions(); i++) {
+            SessionRuntime rt = sessionService.createSession(GM_ID);
+            Map<String, String> tokens = new LinkedHashMap<>();
+            for (int p = 1; p <= config.playersPerSession(); p++) {
+                String pid = "P" + p;
+                sessionService.join(rt.code(), pid, List.of(), deck, config.exCardId(), owned);
+                tokens.put(pid, sessionService.issuePlayerToken(rt.code(), pid));
+            }
+            rt.withLock(() -> {
+                resetTable(rt.state());
+                rt.changedOutsideEngine();
+                return null;
+            });
+            rt.lockListener(lockStats);
+            tables.add(new Table(rt, Map.copyOf(tokens)));
+        }
+        return tables;
+    }
+
+    private WorkerStats drive(List<Table> tables, HttpCommandClient http, Random rnd, long measureFromNs, long endNs) {
+        WorkerStats stats = new WorkerStats();
+        while (true) {
+            long t0 = System.nanoTime();
+            if (t0 >= endNs) break;
+
+            Table table = tables.get(rnd.nextInt(tables.size()));
+            Outcome outcome = (http == null) ? stepInProcess(table, rnd) : stepHttp(table, http, rnd);
+
+            long t1 = System.nanoTime();
+            if (t0 >= measureFromNs) stats.record(outcome, t1 - t0);
+        }
+        return stats;
+    }
+
+    private Outcome stepInProcess(Table table, Random rnd) {
+        SessionRuntime rt = table.rt();
+        return rt.withLock(() -> {
+            Optional<PlannedCommand> planned = plan(rt, rnd);
+            if (planned.isEmpty()) return Outcome.IDLE;
+            EngineResult res = rt.apply(planned.get().command());
+            return res.accepted() ? Outcome.ACCEPTED : Outcome.REJECTED;
+        });
+    }
+
+    private Outcome stepHttp(Table table, HttpCommandClient http, Random rnd) {
+        SessionRuntime rt = table.rt();
+        Optional<PlannedCommand> planned = rt.withLock(() -> plan(rt, rnd));
+        if (planned.isEmpty()) return Outcome.IDLE;
+
+        PlannedCommand cmd = planned.get();
+        try {
+            HttpCommandClient.Response res = http.send(
+                    rt.code(),
+                    cmd,
+                    rt.gmToken(),
+                    cmd.gm() ? null : table.playerTokens().get(cmd.playerId()));
+            if (res.status() == 429) return Outcome.BUSY;
+            if (res.status() != 200) return Outcome.ERROR;
+            if (res.accepted()) return Outcome.ACCEPTED;
+            return res.versionMismatch() ? Outcome.CONFLICT : Outcome.REJECTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.ERROR;
+        } catch (Exception e) {
+            log.debug("loadtest http failed code={} type={} error={}", rt.code(), cmd.type(), e.toString());
+            return Outcome.ERROR;
+        }
+    }
+
+    /** 세션 락 안에서 호출. 전투가 끝났으면 테이블을 되돌린 뒤 다음 커맨드를 고른다. */
+    private Optional<PlannedCommand> plan(SessionRuntime rt, Random rnd) {
+        GameState state = rt.state();
+        CombatState cs = state.combat();
+        if (cs != null && cs.phase() == CombatPhase.END) {
+            resetTable(state);
+            rt.changedOutsideEngine();
+        }
+        return RandomCommandPicker.pick(state, rt.ctx(), rnd);
+    }
+
+    /** 적을 채우고 모든 HP를 최대로 되돌린다. */
+    void resetTable(GameState state) {
+        for (int i = 1; i <= config.enemiesPerSession(); i++) {
+            EnemyId id = new EnemyId("E" + i);
+            EnemyState es = state.enemies().computeIfAbsent(id, k -> new EnemyState(k, config.enemyHp()));
+            es.hp(es.maxHp());
+        }
+        for (PlayerState ps : state.players().values()) {
+            ps.statusSet(CombatStatuses.BATTLE_INCAPACITATED, 0);
+            ps.statusSet(CombatStatuses.BATTLE_INCAPACITATED_PERSISTENT, 0);
+            ps.refillToMax();
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean mem = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return mem.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static final class WorkerStats {
+        final long[] outcomes = new long[Outcome.values().length];
+        final LongSamples latencies = new LongSamples();
+
+        void record(Outcome o, long nanos) {
+            outcomes[o.ordinal()]++;
+            latencies.add(nanos);
+        }
+
+        void merge(WorkerStats other) {
+            for (int i = 0; i < outcomes.length; i++) outcomes[i] += other.outcomes[i];
+            latencies.addAll(other.latencies);
+        }
+
+        Map<Outcome, Long> outcomeMap() {
+            Map<Outcome, Long> out = new EnumMap<>(Outcome.class);
+            for (Outcome o : Outcome.values()) out.put(o, outcomes[o.ordinal()]);
+            return out;
+        }
+    }
+
+    /** 박싱 없는 long 샘플 버퍼 */
+    private static final class LongSamples {
+        private long[] data = new long[1024];
+        private int size;
+
+        void add(long v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        void addAll(LongSamples other) {
+            for (int i = 0; i < other.size; i++) add(other.data[i]);
+        }
+
+        long[] sorted() {
+            long[] out = Arrays.copyOf(data, size);
+            Arrays.sort(out);
+            return out;
+        }
+    }
+}
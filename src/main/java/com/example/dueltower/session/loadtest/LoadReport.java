@@ -0,0 +1,56 @@
+package com.example.dueltower.session.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 하네스 결과.
+ * 지연 시간은 워커가 본 커맨드 1회(락 대기 + 처리, HTTP면 왕복 포함) 기준이다.
+ */
+public record LoadReport(
+        LoadTestConfig.Transport transport,
+        int sessions,
+        int players,
+        Duration measured,
+        Map<LoadHarness.Outcome, Long> outcomes,
+        double acceptedPerSecond,
+        long latencyP50Nanos,
+        long latencyP95Nanos,
+        long latencyP99Nanos,
+        long latencyMaxNanos,
+        long heapPerSessionAfterSetupBytes,
+        long heapPerSessionAfterRunBytes,
+        long lockAcquisitions,
+        long lockContended,
+        long lockWaitP99Nanos,
+        long lockWaitMaxNanos,
+        long lockMeanHoldNanos
+) {
+    public long total() {
+        long n = 0;
+        for (long v : outcomes.values()) n += v;
+        return n;
+    }
+
+    public String summary() {
+        double contendedPct = (lockAcquisitions == 0) ? 0 : 100.0 * lockContended / lockAcquisitions;
+        return String.format(
+                "load report transport=%s sessions=%d players=%d measured=%ds%n"
+                        + "  commands total=%d %s%n"
+                        + "  throughput accepted=%.1f/s%n"
+                        + "  latency p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms%n"
+                        + "  heap/session setup=%.1fKiB afterRun=%.1fKiB%n"
+                        + "  lock acquisitions=%d contended=%.2f%% waitP99<=%.3fms waitMax=%.3fms meanHold=%.3fms",
+                transport, sessions, players, measured.toSeconds(),
+                total(), outcomes,
+                acceptedPerSecond,
+                ms(latencyP50Nanos), ms(latencyP95Nanos), ms(latencyP99Nanos), ms(latencyMaxNanos),
+                heapPerSessionAfterSetupBytes / 1024.0, heapPerSessionAfterRunBytes / 1024.0,
+                lockAcquisitions, contendedPct, ms(lockWaitP99Nanos), ms(lockWaitMaxNanos), ms(lockMeanHoldNanos)
+        );
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.dueltower.session.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 하네스 설정.
+ *
+ * @param deckCardIds 비어 있으면 SessionService 기본 프리셋 덱
+ * @param exCardId    null이면 기본 EX
+ * @param baseUrl     transport=HTTP일 때 호출할 서버 주소
+ */
+public record LoadTestConfig(
+        int sessions,
+        int playersPerSession,
+        int enemiesPerSession,
+        int enemyHp,
+        int workers,
+        Duration warmup,
+        Duration duration,
+        Transport transport,
+        String baseUrl,
+        List<String> deckCardIds,
+        String exCardId,
+        long seed
+) {
+    public enum Transport { IN_PROCESS, HTTP }
+
+    public LoadTestConfig {
+        if (sessions <= 0) throw new IllegalArgumentException("sessions must be > 0");
+        if (playersPerSession <= 0) throw new IllegalArgumentException("playersPerSession must be > 0");
+        if (enemiesPerSession <= 0) throw new IllegalArgumentException("enemiesPerSession must be > 0");
+        if (workers <= 0) throw new IllegalArgumentException("workers must be > 0");
+        deckCardIds = (deckCardIds == null) ? List.of() : List.copyOf(deckCardIds);
+    }
+}
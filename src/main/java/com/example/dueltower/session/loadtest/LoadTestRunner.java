@@ -0,0 +1,89 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.session.service.SessionMetrics;
+import com.example.dueltower.session.service.SessionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * duel.loadtest.enabled=true 일 때 기동 직후 부하 하네스를 1회 돌리고 결과를 로그로 남긴다.
+ *
+ * 예) 인프로세스(웹 서버 없이):
+ *   --duel.loadtest.enabled=true --spring.main.web-application-type=none --duel.loadtest.sessions=500
+ * 예) 실제 컨트롤러 경유:
+ *   --duel.loadtest.enabled=true --duel.loadtest.transport=http
+ */
+@Component
+@ConditionalOnProperty(name = "duel.loadtest.enabled", havingValue = "true")
+@Slf4j
+public class LoadTestRunner implements ApplicationRunner {
+
+    private final SessionService sessionService;
+    private final SessionMetrics metrics;
+    private final LoadTestConfig config;
+
+    public LoadTestRunner(SessionService sessionService,
+                          SessionMetrics metrics,
+                          @Value("${duel.loadtest.sessions:100}") int sessions,
+                          @Value("${duel.loadtest.players-per-session:2}") int playersPerSession,
+                          @Value("${duel.loadtest.enemies-per-session:2}") int enemiesPerSession,
+                          @Value("${duel.loadtest.enemy-hp:60}") int enemyHp,
+                          @Value("${duel.loadtest.workers:8}") int workers,
+                          @Value("${duel.loadtest.warmup:5s}") Duration warmup,
+                          @Value("${duel.loadtest.duration:30s}") Duration duration,
+                          @Value("${duel.loadtest.transport:in-process}") String transport,
+                          @Value("${duel.loadtest.base-url:http://localhost:${server.port:8080}}") String baseUrl,
+                          @Value("${duel.loadtest.deck:}") String deck,
+                          @Value("${duel.loadtest.ex-card:}") String exCard,
+                          @Value("${duel.loadtest.seed:1}") long seed) {
+        this.sessionService = sessionService;
+        this.metrics = metrics;
+        this.config = new LoadTestConfig(
+                sessions,
+                playersPerSession,
+                enemiesPerSession,
+                enemyHp,
+                workers,
+                warmup,
+                duration,
+                parseTransport(transport),
+                baseUrl,
+                parseDeck(deck),
+                exCard.isBlank() ? null : exCard.trim(),
+                seed
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("loadtest start {}", config);
+        LoadReport report = new LoadHarness(sessionService, metrics, config).run();
+        log.info("{}", report.summary());
+    }
+
+    private static LoadTestConfig.Transport parseTransport(String raw) {
+        String t = raw.trim().toLowerCase(Locale.ROOT);
+        return switch (t) {
+            case "http" -> LoadTestConfig.Transport.HTTP;
+            case "in-process", "inprocess" -> LoadTestConfig.Transport.IN_PROCESS;
+            default -> throw new IllegalStateException("unknown duel.loadtest.transport: " + raw);
+        };
+    }
+
+    private static List<String> parseDeck(String raw) {
+        if (raw == null || raw.isBlank()) return List.of();
+        return Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.session.runtime.SessionLockListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 중 세션 락 대기/점유를 모은다. 기존 리스너(SessionMetrics)로도 그대로 넘긴다.
+ * 대기 시간은 2의 거듭제곱 나노초 버킷 히스토그램(백분위는 버킷 상한 근사).
+ */
+final class LockContentionRecorder implements SessionLockListener {
+
+    /** 이 이상 기다렸으면 경합으로 본다 */
+    static final long CONTENDED_NANOS = 50_000L;
+
+    private final SessionLockListener delegate;
+    private final AtomicLongArray waitBuckets = new AtomicLongArray(64);
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    LockContentionRecorder(SessionLockListener delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void lockReleased(long waitNanos, long holdNanos) {
+        if (delegate != null) delegate.lockReleased(waitNanos, holdNanos);
+        acquisitions.increment();
+        this.holdNanos.add(holdNanos);
+        if (waitNanos >= CONTENDED_NANOS) contended.increment();
+        waitBuckets.incrementAndGet(bucket(waitNanos));
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    long acquisitions() { return acquisitions.sum(); }
+    long contended() { return contended.sum(); }
+    long maxWaitNanos() { return maxWaitNanos.get(); }
+
+    long meanHoldNanos() {
+        long n = acquisitions.sum();
+        return (n == 0) ? 0 : holdNanos.sum() / n;
+    }
+
+    long waitPercentileNanos(double q) {
+        long total = acquisitions.sum();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int b = 0; b < waitBuckets.length(); b++) {
+            seen += waitBuckets.get(b);
+            if (seen >= rank) return (b == 0) ? 0 : (1L << b) - 1;
+        }
+        return maxWaitNanos.get();
+    }
+
+    private static int bucket(long nanos) {
+        return (nanos <= 0) ? 0 : Math.min(63, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+}
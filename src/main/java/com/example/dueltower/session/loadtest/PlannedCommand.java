@@ -0,0 +1,15 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.session.dto.CommandRequest;
+
+/**
+ * 부하 생성기가 고른 커맨드 1개.
+ * - command: 인프로세스(SessionRuntime.apply) 경로
+ * - request: HTTP(/api/sessions/{code}/command) 경로에 보낼 같은 내용의 페이로드
+ * - playerId: X-Player-Token을 붙일 플레이어(GM 커맨드면 null)
+ */
+public record PlannedCommand(GameCommand command, CommandRequest request, String playerId) {
+    public String type() { return request.type(); }
+    public boolean gm() { return playerId == null; }
+}
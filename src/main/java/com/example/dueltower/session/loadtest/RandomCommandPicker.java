@@ -0,0 +1,148 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.engine.command.*;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.action.LegalAction;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.session.dto.CommandRequest;
+import com.example.dueltower.session.dto.TargetRefDto;
+
+import java.util.*;
+
+/**
+ * 현재 상태에서 무작위로 '합법' 커맨드 1개를 고른다(세션 락 안에서 호출).
+ *
+ * - 전투 없음/종료: START_COMBAT
+ * - 플레이어 행동/pending 해소: LegalActionGenerator 결과 중 하나(pending 해소 우선)
+ * - 적 턴: ENEMY_END_TURN
+ */
+public final class RandomCommandPicker {
+    private RandomCommandPicker() {}
+
+    /** END_TURN을 다른 행동보다 먼저 고를 확률(턴/라운드가 계속 돌게 한다) */
+    private static final double END_TURN_BIAS = 0.15;
+
+    public static Optional<PlannedCommand> pick(GameState state, EngineContext ctx, Random rnd) {
+        long v = state.version();
+        CombatState cs = state.combat();
+
+        if (cs == null || cs.phase() == CombatPhase.END) {
+            if (state.players().isEmpty()) return Optional.empty();
+            PlayerId gm = state.players().keySet().iterator().next();
+            return Optional.of(planned(new StartCombatCommand(UUID.randomUUID(), v, gm), request("START_COMBAT", v, gm.value()), null));
+        }
+
+        List<LegalAction> actions = LegalActionGenerator.forAll(state, ctx);
+        if (!actions.isEmpty()) return Optional.of(toPlanned(choose(actions, rnd), v, rnd));
+
+        if (cs.phase() == CombatPhase.MAIN && cs.currentTurnActor() instanceof TargetRef.Enemy e) {
+            return Optional.of(planned(new EnemyEndTurnCommand(UUID.randomUUID(), v, e.id()),
+                    new CommandRequest("ENEMY_END_TURN", null, v, null, e.id().value(), null, null, null, null,
+                            null, null, null, null, null, null),
+                    null));
+        }
+        return Optional.empty();
+    }
+
+    private static LegalAction choose(List<LegalAction> actions, Random rnd) {
+        List<LegalAction> decisions = new ArrayList<>();
+        LegalAction endTurn = null;
+        List<LegalAction> others = new ArrayList<>();
+        for (LegalAction a : actions) {
+            if (a instanceof LegalAction.DiscardToHandLimit
+                    || a instanceof LegalAction.SearchPick
+                    || a instanceof LegalAction.InitiativeTieOrder) decisions.add(a);
+            else if (a instanceof LegalAction.EndTurn) endTurn = a;
+            else others.add(a);
+        }
+        if (!decisions.isEmpty()) return decisions.get(rnd.nextInt(decisions.size()));
+        if (endTurn != null && (others.isEmpty() || rnd.nextDouble() < END_TURN_BIAS)) return endTurn;
+        return others.get(rnd.nextInt(others.size()));
+    }
+
+    private static PlannedCommand toPlanned(LegalAction action, long v, Random rnd) {
+        UUID id = UUID.randomUUID();
+        String pid = action.actor().value();
+
+        if (action instanceof LegalAction.PlayCard a) {
+            return planned(a.toCommand(id, v),
+                    withTargets(request("PLAY_CARD", v, pid), a.cardId().value().toString(), null, a.selection()), pid);
+        }
+        if (action instanceof LegalAction.UseEx a) {
+            return planned(a.toCommand(id, v), withTargets(request("USE_EX", v, pid), null, null, a.selection()), pid);
+        }
+        if (action instanceof LegalAction.UseSummonAction a) {
+            return planned(a.toCommand(id, v),
+                    withTargets(request("USE_SUMMON_ACTION", v, pid), null, a.summonId().value().toString(), a.selection()), pid);
+        }
+        if (action instanceof LegalAction.HandSwap a) {
+            return planned(a.toCommand(id, v),
+                    new CommandRequest("HAND_SWAP", null, v, pid, null, null, List.of(a.cardId().value().toString()), null, null,
+                            null, null, null, null, null, null),
+                    pid);
+        }
+        if (action instanceof LegalAction.DiscardToHandLimit a) {
+            List<CardInstId> chosen = shuffledPrefix(a.discardable(), a.discardCount(), rnd);
+            return planned(a.toCommand(id, v, chosen),
+                    new CommandRequest("DISCARD_TO_HAND_LIMIT", null, v, pid, null, null, ids(chosen), null, null,
+                            null, null, null, null, null, null),
+                    pid);
+        }
+        if (action instanceof LegalAction.SearchPick a) {
+            List<CardInstId> chosen = shuffledPrefix(a.candidates(), a.pickCount(), rnd);
+            return planned(a.toCommand(id, v, chosen),
+                    new CommandRequest("SEARCH_PICK", null, v, pid, null, null, null, null, null,
+                            null, null, null, null, null, ids(chosen)),
+                    pid);
+        }
+        if (action instanceof LegalAction.InitiativeTieOrder a) {
+            List<String> order = shuffledPrefix(a.actorKeys(), a.actorKeys().size(), rnd);
+            return planned(a.toCommand(id, v, order),
+                    new CommandRequest("RESOLVE_INITIATIVE_TIE", null, v, pid, null, null, null, null, null,
+                            null, null, null, a.groupIndex(), order, null),
+                    pid);
+        }
+        return planned(action.toCommand(id, v), request("END_TURN", v, pid), pid);
+    }
+
+    private static <T> List<T> shuffledPrefix(List<T> items, int n, Random rnd) {
+        List<T> copy = new ArrayList<>(items);
+        Collections.shuffle(copy, rnd);
+        return List.copyOf(copy.subList(0, n));
+    }
+
+    private static PlannedCommand planned(GameCommand cmd, CommandRequest req, String playerId) {
+        CommandRequest withId = new CommandRequest(req.type(), cmd.commandId().toString(), req.expectedVersion(),
+                req.playerId(), req.enemyId(), req.count(), req.discardIds(), req.cardId(), req.summonId(),
+                req.targetPlayerIds(), req.targetEnemyIds(), req.targets(), req.tieGroupIndex(),
+                req.orderedActorKeys(), req.selectedIds());
+        return new PlannedCommand(cmd, withId, playerId);
+    }
+
+    private static CommandRequest request(String type, long version, String playerId) {
+        return new CommandRequest(type, null, version, playerId, null, null, null, null, null,
+                null, null, null, null, null, null);
+    }
+
+    private static CommandRequest withTargets(CommandRequest req, String cardId, String summonId, TargetSelection sel) {
+        List<TargetRefDto> targets = new ArrayList<>();
+        for (TargetRef t : sel.targets()) {
+            if (t instanceof TargetRef.Player tp) targets.add(new TargetRefDto(tp.id().value(), null, null, null));
+            else if (t instanceof TargetRef.Enemy te) targets.add(new TargetRefDto(null, te.id().value(), null, null));
+            else if (t instanceof TargetRef.Summon ts) {
+                targets.add(new TargetRefDto(null, null, ts.ownerId().value(), ts.summonId().value().toString()));
+            }
+        }
+        return new CommandRequest(req.type(), null, req.expectedVersion(), req.playerId(), null, null, null,
+                cardId, summonId, null, null, targets, null, null, null);
+    }
+
+    private static List<String> ids(List<CardInstId> ids) {
+        List<String> out = new ArrayList<>(ids.size());
+        for (CardInstId id : ids) out.add(id.value().toString());
+        return out;
+    }
+}
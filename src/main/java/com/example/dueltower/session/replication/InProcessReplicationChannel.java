@@ -0,0 +1,22 @@
+package com.example.dueltower.session.replication;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 JVM의 StandbyStore로 바로 전달하는 채널(테스트/로컬용 stand-in).
+ * 실제 다중 노드 환경에서는 네트워크 구현체를 @Primary 빈으로 등록해서 교체한다.
+ */
+@Component
+public class InProcessReplicationChannel implements ReplicationChannel {
+
+    private final StandbyStore standby;
+
+    public InProcessReplicationChannel(StandbyStore standby) {
+        this.standby = standby;
+    }
+
+    @Override
+    public void send(ReplicationRecord record) {
+        standby.receive(record);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.dueltower.session.replication;
+
+/**
+ * 저널 전송 채널.
+ * - 구현체는 send에서 예외를 밖으로 던지지 않는 편이 좋다(던져도 primary 처리는 계속된다).
+ * - 순서 보장이 필요하다: 같은 세션의 레코드는 보낸 순서대로 도착해야 한다.
+ */
+public interface ReplicationChannel {
+    void send(ReplicationRecord record);
+}
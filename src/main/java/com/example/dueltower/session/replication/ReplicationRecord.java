@@ -0,0 +1,40 @@
+package com.example.dueltower.session.replication;
+
+import com.example.dueltower.engine.command.GameCommand;
+
+import java.util.Map;
+
+/**
+ * primary -> standby로 보내는 저널 레코드.
+ * seq는 세션별 단조 증가. standby는 seq 공백을 발견하면 다음 스냅샷까지 커맨드를 버린다.
+ */
+public sealed interface ReplicationRecord permits ReplicationRecord.Snapshot, ReplicationRecord.CommandApplied,
+        ReplicationRecord.TokensChanged {
+    String code();
+    long seq();
+
+    /** 전체 상태(GameStateCodec) + 세션 메타(토큰 등) */
+    record Snapshot(
+            String code,
+            long seq,
+            long version,
+            String gmId,
+            String gmToken,
+            Map<String, String> playerTokens,
+            byte[] state
+    ) implements ReplicationRecord {
+        public Snapshot {
+            playerTokens = Map.copyOf(playerTokens);
+        }
+    }
+
+    /** 수락된 커맨드 1건. versionAfter/stateHashAfter는 primary에서 적용 후 버전과 GameState.stateHash()(검증용) */
+    record CommandApplied(String code, long seq, long versionAfter, long stateHashAfter, GameCommand command) implements ReplicationRecord {}
+
+    /** 플레이어 토큰만 바뀜(상태는 그대로라 스냅샷을 보내지 않는다) */
+    record TokensChanged(String code, long seq, Map<String, String> playerTokens) implements ReplicationRecord {
+        public TokensChanged {
+            playerTokens = Map.copyOf(playerTokens);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.dueltower.session.replication;
+
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.session.runtime.SessionJournal;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * primary 쪽 저널 송신기.
+ * - attach하면 세션에 SessionJournal을 달고 초기 스냅샷을 보낸다.
+ * - 수락된 커맨드마다 CommandApplied, snapshotInterval개마다 Snapshot을 보낸다.
+ * - 커맨드가 카드/소환수 인스턴스 id 집합을 바꾸면(랜덤 UUID라 재적용으로 재현 불가) 즉시 스냅샷을 보낸다.
+ */
+@Component
+@Slf4j
+public class SessionReplicator {
+
+    private final ReplicationChannel channel;
+    private final boolean enabled;
+    private final int snapshotInterval;
+
+    public SessionReplicator(ReplicationChannel channel,
+                             @Value("${duel.replication.enabled:false}") boolean enabled,
+                             @Value("${duel.replication.snapshot-interval:50}") int snapshotInterval) {
+        this.channel = channel;
+        this.enabled = enabled;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    public boolean enabled() { return enabled; }
+
+    /** 세션 락 안에서 호출한다. */
+    public void attach(SessionRuntime rt) {
+        if (!enabled) return;
+        JournalStream stream = new JournalStream();
+        rt.journal(stream);
+        stream.sendSnapshot(rt);
+    }
+
+    private void send(ReplicationRecord record) {
+        try {
+            channel.send(record);
+        } catch (RuntimeException e) {
+            log.warn("replication send failed code={} seq={} error={}", record.code(), record.seq(), e.toString());
+        }
+    }
+
+    /** 세션별 송신 상태. 항상 세션 락 안에서만 호출되므로 별도 동기화가 없다. */
+    private final class JournalStream implements SessionJournal {
+        private long seq;
+        private int commandsSinceSnapshot;
+        private long idFingerprint;
+
+        @Override
+        public void commandApplied(SessionRuntime rt, GameCommand cmd, EngineResult res) {
+            GameState state = rt.state();
+            if (state.idFingerprint() != idFingerprint || ++commandsSinceSnapshot >= snapshotInterval) {
+                sendSnapshot(rt);
+                return;
+            }
+            send(new ReplicationRecord.CommandApplied(rt.code(), ++seq, state.version(), res.stateHash(), cmd));
+        }
+
+        @Override
+        public void changedOutsideEngine(SessionRuntime rt) {
+            sendSnapshot(rt);
+        }
+
+        @Override
+        public void tokensChanged(SessionRuntime rt) {
+            send(new ReplicationRecord.TokensChanged(rt.code(), ++seq, rt.playerTokens()));
+        }
+
+        void sendSnapshot(SessionRuntime rt) {
+            GameState state = rt.state();
+            idFingerprint = state.idFingerprint();
+            commandsSinceSnapshot = 0;
+            send(new ReplicationRecord.Snapshot(
+                    rt.code(),
+                    ++seq,
+                    state.version(),
+                    rt.gmId(),
+                    rt.gmToken(),
+                    rt.playerTokens(),
+                    GameStateCodec.encode(state)
+            ));
+        }
+    }
+}
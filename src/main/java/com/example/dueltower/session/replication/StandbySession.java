@@ -0,0 +1,108 @@
+package com.example.dueltower.session.replication;
+
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * standby 쪽 세션 1개의 그림자 상태.
+ * - 스냅샷을 받으면 상태를 통째로 교체한다.
+ * - 커맨드 레코드는 자체 GameEngine으로 재적용한다(엔진 결정성에 의존).
+ * - 토큰 레코드는 토큰 목록만 바꾼다.
+ * - seq 공백/재적용 거부/버전 또는 상태 해시 불일치가 생기면 stale로 표시하고 다음 스냅샷까지 커맨드를 버린다.
+ */
+@Slf4j
+public final class StandbySession {
+
+    private final String code;
+    private final EngineContext ctx;
+
+    private GameState shadow;
+    private GameEngine engine;
+    private String gmId;
+    private String gmToken;
+    private Map<String, String> playerTokens = Map.of();
+    private long lastSeq = -1;
+    private boolean stale = true;
+    private volatile Instant lastReceivedAt = Instant.now();
+
+    public StandbySession(String code, EngineContext ctx) {
+        this.code = code;
+        this.ctx = ctx;
+    }
+
+    public synchronized void receive(ReplicationRecord record) {
+        lastReceivedAt = Instant.now();
+        if (record.seq() <= lastSeq) return;
+
+        if (record instanceof ReplicationRecord.Snapshot s) {
+            shadow = GameStateCodec.decode(s.state());
+            engine = new GameEngine();
+            gmId = s.gmId();
+            gmToken = s.gmToken();
+            playerTokens = s.playerTokens();
+            lastSeq = s.seq();
+            stale = false;
+            return;
+        }
+
+        if (stale || shadow == null) return;
+        if (record.seq() != lastSeq + 1) {
+            markStale("seq gap expected=" + (lastSeq + 1) + " got=" + record.seq());
+            return;
+        }
+
+        if (record instanceof ReplicationRecord.TokensChanged t) {
+            playerTokens = t.playerTokens();
+            lastSeq = t.seq();
+            return;
+        }
+
+        ReplicationRecord.CommandApplied c = (ReplicationRecord.CommandApplied) record;
+
+        EngineResult res = engine.process(shadow, ctx, c.command());
+        if (!res.accepted() || shadow.version() != c.versionAfter()) {
+            markStale("replay diverged accepted=" + res.accepted() + " errors=" + res.errors()
+                    + " version=" + shadow.version() + " expected=" + c.versionAfter());
+            return;
+        }
+        if (res.stateHash() != c.stateHashAfter()) {
+            markStale("state hash diverged at version=" + shadow.version()
+                    + " hash=" + Long.toHexString(res.stateHash()) + " expected=" + Long.toHexString(c.stateHashAfter()));
+            return;
+        }
+        lastSeq = c.seq();
+    }
+
+    private void markStale(String reason) {
+        stale = true;
+        log.warn("standby session stale code={} lastSeq={} reason={}", code, lastSeq, reason);
+    }
+
+    public synchronized boolean ready() { return shadow != null; }
+    public synchronized boolean stale() { return stale; }
+    public synchronized long lastSeq() { return lastSeq; }
+    public synchronized GameState shadow() { return shadow; }
+    public Instant lastReceivedAt() { return lastReceivedAt; }
+
+    /**
+     * 그림자 상태로 새 SessionRuntime을 만든다.
+     * stale이어도 마지막으로 일관됐던 시점의 상태이므로 그대로 승격한다(클라이언트는 버전으로 재동기화).
+     */
+    public synchronized SessionRuntime promote() {
+        if (shadow == null) throw new IllegalStateException("standby has no snapshot yet: " + code);
+        if (stale) {
+            log.warn("promoting stale standby code={} version={} lastSeq={}", code, shadow.version(), lastSeq);
+        }
+        SessionRuntime rt = new SessionRuntime(code, gmId, gmToken, shadow, ctx);
+        playerTokens.forEach(rt::restorePlayerToken);
+        return rt;
+    }
+}
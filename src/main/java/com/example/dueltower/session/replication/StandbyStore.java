@@ -0,0 +1,67 @@
+package com.example.dueltower.session.replication;
+
+import com.example.dueltower.session.runtime.SessionRuntime;
+import com.example.dueltower.session.service.EngineContextFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드가 standby로 들고 있는 세션 그림자 목록.
+ * primary가 사라져 세션 요청이 이 노드로 오면 SessionService가 promote로 승격한다.
+ */
+@Component
+@Slf4j
+public class StandbyStore {
+
+    private final EngineContextFactory contextFactory;
+    private final Duration ttl;
+    private final Map<String, StandbySession> sessions = new ConcurrentHashMap<>();
+
+    public StandbyStore(EngineContextFactory contextFactory,
+                        @Value("${duel.session.ttl:30m}") Duration ttl) {
+        this.contextFactory = contextFactory;
+        this.ttl = ttl;
+    }
+
+    public void receive(ReplicationRecord record) {
+        try {
+            sessions.computeIfAbsent(record.code(), code -> new StandbySession(code, contextFactory.context()))
+                    .receive(record);
+        } catch (RuntimeException e) {
+            log.warn("standby receive failed code={} seq={} error={}", record.code(), record.seq(), e.toString());
+        }
+    }
+
+    public StandbySession get(String code) { return sessions.get(code); }
+
+    public int size() { return sessions.size(); }
+
+    /**
+     * 그림자를 꺼내 SessionRuntime으로 승격한다. 없거나 아직 스냅샷이 없으면 null.
+     * 승격된 세션은 standby 목록에서 제거된다.
+     */
+    public SessionRuntime promote(String code) {
+        StandbySession s = sessions.get(code);
+        if (s == null || !s.ready()) return null;
+        if (!sessions.remove(code, s)) return null;
+
+        SessionRuntime rt = s.promote();
+        log.info("standby promoted code={} version={} lastSeq={}", code, rt.state().version(), s.lastSeq());
+        return rt;
+    }
+
+    public void drop(String code) { sessions.remove(code); }
+
+    @Scheduled(fixedDelayString = "${duel.session.cleanup-interval:5m}")
+    public void cleanupExpired() {
+        Instant boundary = Instant.now().minus(ttl);
+        sessions.entrySet().removeIf(e -> e.getValue().lastReceivedAt().isBefore(boundary));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.dueltower.session.runtime;
+
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.GameState;
+
+import java.util.*;
+
+/**
+ * GM 되돌리기용 세션 이력(최근 maxVersions 버전 이상).
+ *
+ * 버전마다 상태 사본을 두지 않고, 복제(SessionReplicator/StandbySession)와 같은 방식으로
+ * 인코딩된 키프레임 + 그 뒤에 수락된 커맨드 로그만 남긴다. 복원은 키프레임 decode 후 커맨드 재적용.
+ * - 키프레임: 엔진 밖 변경, keyframeInterval개 커맨드마다, 그리고 재적용으로 재현되지 않는 커맨드 직후
+ *   (새 카드/소환수 인스턴스 id 생성, 랜덤 correlationId가 붙는 SearchPick 등 pending decision 설정)
+ * - 세션 락 안에서만 호출된다(별도 동기화 없음).
+ */
+public final class SessionHistory {
+
+    private record Keyframe(long version, byte[] state) {}
+
+    private record Step(long versionAfter, long stateHashAfter, GameCommand command) {}
+
+    private final int maxVersions;
+    private final int keyframeInterval;
+    private final Deque<Keyframe> keyframes = new ArrayDeque<>();
+    private final Deque<Step> steps = new ArrayDeque<>();
+    private int stepsSinceKeyframe;
+    private long idFingerprint;
+    private long latestVersion;
+
+    public SessionHistory(int maxVersions, int keyframeInterval) {
+        this.maxVersions = Math.max(1, maxVersions);
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    /** 되돌릴 수 있는 가장 오래된 버전 */
+    public long oldestVersion() {
+        return keyframes.isEmpty() ? latestVersion : keyframes.peekFirst().version();
+    }
+
+    public long latestVersion() { return latestVersion; }
+
+    /** 키프레임 바이트 합(대략적인 이력 메모리) */
+    public long retainedBytes() {
+        long total = 0;
+        for (Keyframe k : keyframes) total += k.state().length;
+        return total;
+    }
+
+    public int keyframeCount() { return keyframes.size(); }
+    public int stepCount() { return steps.size(); }
+
+    void recordKeyframe(GameState state) {
+        keyframes.addLast(new Keyframe(state.version(), GameStateCodec.encode(state)));
+        idFingerprint = state.idFingerprint();
+        stepsSinceKeyframe = 0;
+        latestVersion = state.version();
+        trim();
+    }
+
+    void recordCommand(GameState after, GameCommand cmd, EngineResult res) {
+        if (keyframes.isEmpty()) {
+            recordKeyframe(after);
+            return;
+        }
+        steps.addLast(new Step(after.version(), res.stateHash(), cmd));
+        latestVersion = after.version();
+
+        if (after.idFingerprint() != idFingerprint || ++stepsSinceKeyframe >= keyframeInterval || setsPendingDecision(res.events())) {
+            recordKeyframe(after);
+            return;
+        }
+        trim();
+    }
+
+    /**
+     * version 시점의 상태를 새 GameState로 복원한다. 이력은 바꾸지 않는다.
+     *
+     * @throws IllegalArgumentException 보관 범위 밖 버전
+     * @throws IllegalStateException    재적용이 원래 결과와 어긋난 경우
+     */
+    GameState restore(long version, EngineContext ctx) {
+        if (version < oldestVersion() || version > latestVersion) {
+            throw new IllegalArgumentException("version out of history range: " + version
+                    + " (available " + oldestVersion() + ".." + latestVersion + ")");
+        }
+
+        // 같은 버전에 키프레임이 여러 개면(엔진 밖 변경) 가장 나중 것이 그 버전의 최종 상태다
+        Keyframe base = null;
+        for (Iterator<Keyframe> it = keyframes.descendingIterator(); it.hasNext(); ) {
+            Keyframe k = it.next();
+            if (k.version() <= version) {
+                base = k;
+                break;
+            }
+        }
+        GameState state = GameStateCodec.decode(base.state());
+
+        GameEngine replay = new GameEngine();
+        for (Step step : steps) {
+            if (step.versionAfter() <= base.version()) continue;
+            if (step.versionAfter() > version) break;
+            EngineResult res = replay.process(state, ctx, step.command());
+            if (!res.accepted() || state.version() != step.versionAfter() || res.stateHash() != step.stateHashAfter()) {
+                throw new IllegalStateException("history replay diverged at version " + step.versionAfter()
+                        + " errors=" + res.errors());
+            }
+        }
+        return state;
+    }
+
+    /** version 이후에 수락된 커맨드 id(되돌리면 dedupe에서도 빠져야 한다) */
+    List<UUID> commandIdsAfter(long version) {
+        List<UUID> ids = new ArrayList<>();
+        for (Step step : steps) {
+            if (step.versionAfter() > version) ids.add(step.command().commandId());
+        }
+        return ids;
+    }
+
+    /** version 이후 기록을 버린다(되돌리기 직후, 복원 상태 키프레임을 다시 남기기 전에 호출). */
+    void truncateAfter(long version) {
+        while (!steps.isEmpty() && steps.peekLast().versionAfter() > version) steps.removeLast();
+        while (!keyframes.isEmpty() && keyframes.peekLast().version() > version) keyframes.removeLast();
+        latestVersion = version;
+    }
+
+    /** 두 번째 키프레임이 보관 하한 이하가 되면 첫 키프레임과 그 구간 커맨드를 버린다. */
+    private void trim() {
+        long floor = latestVersion - maxVersions;
+        while (keyframes.size() > 1) {
+            Iterator<Keyframe> it = keyframes.iterator();
+            it.next();
+            Keyframe second = it.next();
+            if (second.version() > floor) break;
+            keyframes.removeFirst();
+            while (!steps.isEmpty() && steps.peekFirst().versionAfter() <= second.version()) steps.removeFirst();
+        }
+    }
+
+    private static boolean setsPendingDecision(List<GameEvent> events) {
+        for (GameEvent e : events) {
+            if (e instanceof GameEvent.PendingDecisionSet) return true;
+        }
+        return false;
+    }
+}
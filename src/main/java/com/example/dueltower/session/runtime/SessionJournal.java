@@ -0,0 +1,21 @@
+package com.example.dueltower.session.runtime;
+
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.core.EngineResult;
+
+/**
+ * 세션 상태 변경 통지(복제 등).
+ * 두 메서드 모두 세션 락을 잡은 상태에서 호출된다.
+ */
+public interface SessionJournal {
+    /** 엔진이 수락한 커맨드 1건(res.stateHash()는 엔진이 이미 계산해 둔 처리 후 해시) */
+    void commandApplied(SessionRuntime rt, GameCommand cmd, EngineResult res);
+
+    /** 엔진을 거치지 않은 상태 변경(참가/덱 편집 등) */
+    void changedOutsideEngine(SessionRuntime rt);
+
+    /** 플레이어 토큰만 바뀜(state는 그대로). 따로 처리하지 않으면 엔진 밖 변경으로 본다. */
+    default void tokensChanged(SessionRuntime rt) {
+        changedOutsideEngine(rt);
+    }
+}
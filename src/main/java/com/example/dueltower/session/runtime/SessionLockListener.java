@@ -0,0 +1,8 @@
+package com.example.dueltower.session.runtime;
+
+/**
+ * 세션 락 계측 콜백. 가장 바깥 락이 풀릴 때 1번 호출된다(재진입은 합산).
+ */
+public interface SessionLockListener {
+    void lockReleased(long waitNanos, long holdNanos);
+}
@@ -5,17 +5,29 @@ import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.EngineResult;
 import com.example.dueltower.engine.core.GameEngine;
 import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.session.dto.SessionStateDto;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
  * 세션 1개당 런타임.
  * - 세션별로 GameEngine 인스턴스를 분리(커맨드 중복처리 Set이 세션 단위가 되게)
- * - apply는 synchronized로 원자 처리
+ * - apply는 세션 락(ReentrantLock, 재진입 가능)으로 원자 처리
+ * - tryWithLock으로 대기 시간을 제한할 수 있다(admission control)
+ * - 보는 쪽(Viewer)별 상태 DTO를 버전마다 한 번만 만든다(projection)
+ * - 세션 state는 변경 추적을 켜 두어 EngineResult.changes에 바뀐 엔티티가 담긴다
  */
 public final class SessionRuntime {
 
@@ -25,11 +37,26 @@ public final class SessionRuntime {
     private final Map<String, String> playerTokensByPlayerId = new ConcurrentHashMap<>();
     private final Map<String, String> playerIdByToken = new ConcurrentHashMap<>();
 
-    private final GameState state;
+    // 되돌리기(rollbackTo)에서만 교체된다. 읽기/쓰기는 세션 락 안에서
+    private volatile GameState state;
     private final EngineContext ctx;
     private final GameEngine engine;
 
-    private final Object lock = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 이 세션에서 처리 중이거나 락을 기다리는 커맨드 수 */
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+    private volatile SessionJournal journal;
+    private volatile SessionHistory history;
+    private volatile SessionLockListener lockListener;
+    // 가장 바깥 락 기준 계측값(락을 잡은 스레드만 읽고 쓴다)
+    private long lockWaitNs;
+    private long lockedAtNs;
+
+    // 락 안에서만 읽고 쓴다: projectedState/projectedVersion과 같을 때만 projections를 재사용
+    private final Map<String, SessionStateDto> projections = new HashMap<>();
+    private GameState projectedState;
+    private long projectedVersion = -1L;
+
     private final Instant createdAt;
     private volatile Instant lastAccessedAt;
 
@@ -38,6 +65,7 @@ public final class SessionRuntime {
         this.gmId = gmId;
         this.gmToken = gmToken;
         this.state = state;
+        state.trackChanges();
         this.ctx = ctx;
         this.engine = new GameEngine();
         this.createdAt = Instant.now();
@@ -60,24 +88,170 @@ public final class SessionRuntime {
         return playerIdByToken.get(token);
     }
 
+    /** playerId -> token (읽기 전용) */
+    public Map<String, String> playerTokens() { return Collections.unmodifiableMap(playerTokensByPlayerId); }
+
+    /** 복제본 승격 시 기존 토큰을 그대로 복원한다. */
+    public void restorePlayerToken(String playerId, String token) {
+        playerTokensByPlayerId.put(playerId, token);
+        playerIdByToken.put(token, playerId);
+    }
+
+    public void journal(SessionJournal journal) { this.journal = journal; }
+    public void lockListener(SessionLockListener listener) { this.lockListener = listener; }
+
+    /** 되돌리기 이력을 켠다(락 안에서). 현재 상태가 첫 키프레임이 된다. */
+    public void history(SessionHistory history) {
+        this.history = history;
+        if (history != null) history.recordKeyframe(state);
+    }
+
+    public SessionHistory history() { return history; }
+
+    /** 커맨드 dedupe 저장소 크기 */
+    public int processedCommandCount() { return engine.processedCommandCount(); }
+
+    /** 엔진 밖에서 state를 바꾼 경우(락 안에서) 호출 */
+    public void changedOutsideEngine() {
+        projections.clear();
+        SessionHistory h = history;
+        if (h != null) h.recordKeyframe(state);
+        SessionJournal j = journal;
+        if (j != null) j.changedOutsideEngine(this);
+    }
+
+    /** 플레이어 토큰만 바꾼 경우(락 안에서) 호출. state는 그대로라 투영 캐시/이력은 건드리지 않는다. */
+    public void tokensChanged() {
+        SessionJournal j = journal;
+        if (j != null) j.tokensChanged(this);
+    }
+
     public GameState state() { return state; }
+
+    /**
+     * 현재 state를 viewer에게 보일 DTO. 같은 state/version이면 역할(GM/플레이어별/관전)마다 한 번만 만든다.
+     * 락 안에서 불러야 한다(project는 캐시에 없을 때만 호출).
+     */
+    public SessionStateDto projection(Viewer viewer, Supplier<SessionStateDto> project) {
+        if (!lock.isHeldByCurrentThread()) throw new IllegalStateException("projection requires the session lock");
+        GameState s = state;
+        if (s != projectedState || s.version() != projectedVersion) {
+            projections.clear();
+            projectedState = s;
+            projectedVersion = s.version();
+        }
+        SessionStateDto dto = projections.get(viewer.key());
+        if (dto == null) {
+            dto = project.get();
+            projections.put(viewer.key(), dto);
+        }
+        return dto;
+    }
     public EngineContext ctx() { return ctx; }
     public Instant createdAt() { return createdAt; }
     public Instant lastAccessedAt() { return lastAccessedAt; }
 
     public void touchAccess() { this.lastAccessedAt = Instant.now(); }
 
+    public AtomicInteger pendingCommands() { return pendingCommands; }
+
     public <T> T withLock(Supplier<T> work) {
-        synchronized (lock) {
+        long requestedAt = System.nanoTime();
+        lock.lock();
+        onLocked(requestedAt);
+        try {
             touchAccess();
             return work.get();
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * timeout 안에 락을 얻으면 work를 실행한다. 못 얻으면 empty.
+     * timeout이 0이면 기다리지 않는다. work는 null을 반환하면 안 된다.
+     */
+    public <T> Optional<T> tryWithLock(long timeout, TimeUnit unit, Supplier<T> work) throws InterruptedException {
+        long requestedAt = System.nanoTime();
+        boolean locked = (timeout <= 0) ? lock.tryLock() : lock.tryLock(timeout, unit);
+        if (!locked) return Optional.empty();
+        onLocked(requestedAt);
+        try {
+            touchAccess();
+            return Optional.of(work.get());
+        } finally {
+            unlock();
         }
     }
 
     public EngineResult apply(GameCommand cmd) {
-        synchronized (lock) {
+        long requestedAt = System.nanoTime();
+        lock.lock();
+        onLocked(requestedAt);
+        try {
             touchAccess();
-            return engine.process(state, ctx, cmd);
+            EngineResult res = engine.process(state, ctx, cmd);
+            if (res.accepted()) {
+                SessionHistory h = history;
+                if (h != null) h.recordCommand(state, cmd, res);
+                SessionJournal j = journal;
+                if (j != null) j.commandApplied(this, cmd, res);
+            }
+            return res;
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * 커맨드 여러 개를 락 한 번 안에서 순서대로 적용한다(적 턴 자동 진행).
+     * 거절된 커맨드에서 멈추고, 그 거절 결과까지 돌려준다.
+     */
+    public List<EngineResult> applyBatch(List<GameCommand> cmds) {
+        return withLock(() -> {
+            List<EngineResult> out = new ArrayList<>(cmds.size());
+            for (GameCommand cmd : cmds) {
+                EngineResult res = apply(cmd);
+                out.add(res);
+                if (!res.accepted()) break;
+            }
+            return out;
+        });
+    }
+
+    /**
+     * GM 되돌리기: 이력에서 version 시점 상태를 복원해 현재 상태로 바꾼다.
+     * 그 뒤에 수락됐던 커맨드 id는 dedupe에서 빠지고, 복제 쪽에는 새 스냅샷이 나간다.
+     *
+     * @throws IllegalStateException    이력이 꺼져 있거나 재적용이 어긋난 경우
+     * @throws IllegalArgumentException 보관 범위 밖 버전
+     */
+    public GameState rollbackTo(long version) {
+        return withLock(() -> {
+            SessionHistory h = history;
+            if (h == null) throw new IllegalStateException("session history is disabled");
+
+            GameState restored = h.restore(version, ctx);
+            engine.forgetCommandIds(h.commandIdsAfter(version));
+            h.truncateAfter(version);
+            restored.trackChanges();
+            state = restored;
+            changedOutsideEngine();
+            return restored;
+        });
+    }
+
+    private void onLocked(long requestedAtNs) {
+        if (lock.getHoldCount() != 1) return;
+        lockedAtNs = System.nanoTime();
+        lockWaitNs = lockedAtNs - requestedAtNs;
+    }
+
+    private void unlock() {
+        SessionLockListener l = lockListener;
+        if (l != null && lock.getHoldCount() == 1) {
+            l.lockReleased(lockWaitNs, System.nanoTime() - lockedAtNs);
         }
+        lock.unlock();
     }
 }
@@ -1,5 +1,6 @@
 package com.example.dueltower.session.runtime;
 
+import com.example.dueltower.engine.core.preview.OutcomePreview;
 import com.example.dueltower.engine.event.GameEvent;
 import com.example.dueltower.engine.model.*;
 import com.example.dueltower.session.dto.*;
@@ -10,16 +11,28 @@ import java.util.*;
 public final class StateMapper {
     private StateMapper() {}
 
+    /** GM용 전체 상태 */
     public static SessionStateDto toDto(String sessionCode, GameState state) {
+        return toDto(sessionCode, state, Viewer.GM);
+    }
+
+    /**
+     * viewer가 볼 수 있는 만큼만 담은 상태.
+     * GM이 아니면 덱 순서와 남의 손패를 빼고(장수만), 카드 인스턴스도 덱/남의 손패에 있는 것은 뺀다.
+     * 본인의 탐색 선택 후보(덱 안의 카드)는 고를 수 있게 남긴다.
+     */
+    public static SessionStateDto toDto(String sessionCode, GameState state, Viewer viewer) {
         int currentRound = (state.combat() == null) ? 0 : state.combat().round();
         Map<String, PlayerStateDto> players = new LinkedHashMap<>();
         for (Map.Entry<Ids.PlayerId, PlayerState> e : state.players().entrySet()) {
-            players.put(e.getKey().value(), toDto(e.getValue(), currentRound, state));
+            players.put(e.getKey().value(), toDto(e.getValue(), currentRound, state, viewer));
         }
 
+        Set<Ids.CardInstId> revealed = revealedCandidates(state, viewer);
         Map<String, CardInstanceDto> cards = new HashMap<>();
         for (Map.Entry<Ids.CardInstId, CardInstance> e : state.cardInstances().entrySet()) {
             CardInstance ci = e.getValue();
+            if (!visible(ci, viewer, revealed)) continue;
             cards.put(e.getKey().value().toString(),
                     new CardInstanceDto(
                             ci.instanceId().value().toString(),
@@ -79,7 +92,8 @@ public final class StateMapper {
                 sessionCode,
                 state.sessionId().value().toString(),
                 state.version(),
-                state.seed(),
+                hashHex(state.stateHash()),
+                viewer.gm() ? state.seed() : null,
                 state.nodeState().name(),
                 players,
                 combat,
@@ -87,7 +101,30 @@ public final class StateMapper {
         );
     }
 
-    private static PlayerStateDto toDto(PlayerState ps, int currentRound, GameState state) {
+    public static String hashHex(long stateHash) {
+        return String.format("%016x", stateHash);
+    }
+
+    private static boolean visible(CardInstance ci, Viewer viewer, Set<Ids.CardInstId> revealed) {
+        if (viewer.gm()) return true;
+        return switch (ci.zone()) {
+            case DECK -> revealed.contains(ci.instanceId());
+            case HAND -> viewer.is(ci.ownerId().value());
+            default -> true;
+        };
+    }
+
+    private static Set<Ids.CardInstId> revealedCandidates(GameState state, Viewer viewer) {
+        if (viewer.role() != Viewer.Role.PLAYER) return Set.of();
+        PlayerState ps = state.player(new Ids.PlayerId(viewer.playerId()));
+        if (ps != null && ps.pendingDecision() instanceof PendingDecision.SearchPick sp) {
+            return new HashSet<>(sp.candidateIds());
+        }
+        return Set.of();
+    }
+
+    private static PlayerStateDto toDto(PlayerState ps, int currentRound, GameState state, Viewer viewer) {
+        boolean self = viewer.gm() || viewer.is(ps.playerId().value());
         PendingDecisionDto pending = null;
         if (ps.pendingDecision() instanceof PendingDecision.DiscardToHandLimit dt) {
             pending = new PendingDecisionDto("DISCARD_TO_HAND_LIMIT", dt.reason(), dt.limit(), null, null, null, null, null, null);
@@ -97,7 +134,7 @@ public final class StateMapper {
                     sp.reason(),
                     null,
                     sp.pickCount(),
-                    sp.candidateIds().stream().map(id -> id.value().toString()).toList(),
+                    self ? sp.candidateIds().stream().map(id -> id.value().toString()).toList() : null,
                     sp.destination().name(),
                     sp.shuffleAfterPick(),
                     null,
@@ -111,8 +148,8 @@ public final class StateMapper {
                 ps.playerId().value(),
                 ps.passiveIds(),
                 mapOwnedCards(ps, state),
-                ps.deck().stream().map(id -> id.value().toString()).toList(),
-                ps.hand().stream().map(id -> id.value().toString()).toList(),
+                viewer.gm() ? ps.deck().stream().map(id -> id.value().toString()).toList() : List.of(),
+                self ? ps.hand().stream().map(id -> id.value().toString()).toList() : List.of(),
                 ps.grave().stream().map(id -> id.value().toString()).toList(),
                 ps.field().stream().map(id -> id.value().toString()).toList(),
                 ps.excluded().stream().map(id -> id.value().toString()).toList(),
@@ -126,10 +163,23 @@ public final class StateMapper {
                 ps.fieldLimit(),
                 ps.ownedCardCount(),
                 ps.maxOwnedCardCount(),
-                ps.forgettingRequired()
+                ps.forgettingRequired(),
+                ps.deck().size(),
+                ps.hand().size(),
+                self ? deckDefIds(ps, state) : List.of()
         );
     }
 
+    private static List<String> deckDefIds(PlayerState ps, GameState state) {
+        List<String> out = new ArrayList<>(ps.deck().size());
+        for (Ids.CardInstId id : ps.deck()) {
+            CardInstance ci = state.card(id);
+            if (ci != null) out.add(ci.defId().value());
+        }
+        Collections.sort(out);
+        return out;
+    }
+
     private static List<OwnedCardDto> mapOwnedCards(PlayerState ps, GameState state) {
         Map<String, Integer> ownedCounts = new LinkedHashMap<>();
         for (var owned : ps.ownedCards()) {
@@ -159,51 +209,133 @@ public final class StateMapper {
                 .toList();
     }
 
+    /**
+     * 미리보기 응답. 존 이동은 상태 투영과 같은 규칙으로 거른다:
+     * 이동 전 존에서 viewer가 못 보던 카드(덱, 남의 손패)는 cardId/defId를 빼고 존/장수만 남긴다.
+     */
+    public static PreviewResponseDto toPreviewDto(OutcomePreview preview, Viewer viewer) {
+        return new PreviewResponseDto(
+                preview.accepted(),
+                preview.errors(),
+                toEventDtos(preview.events()),
+                preview.baseVersion(),
+                preview.vitals().stream()
+                        .map(v -> new PreviewResponseDto.VitalChangeDto(v.actorKey(), v.stat(), v.before(), v.after()))
+                        .toList(),
+                preview.statuses().stream()
+                        .map(s -> new PreviewResponseDto.StatusChangeDto(s.actorKey(), s.statusId(), s.before(), s.after()))
+                        .toList(),
+                preview.zones().stream()
+                        .map(z -> visibleBefore(z, viewer)
+                                ? new PreviewResponseDto.ZoneChangeDto(z.cardId(), z.defId(), z.ownerId(), z.from(), z.to())
+                                : new PreviewResponseDto.ZoneChangeDto(null, null, z.ownerId(), z.from(), z.to()))
+                        .toList()
+        );
+    }
+
+    private static boolean visibleBefore(OutcomePreview.ZoneChange z, Viewer viewer) {
+        if (viewer.gm() || z.from() == null) return true;
+        if (Zone.DECK.name().equals(z.from())) return false;
+        if (Zone.HAND.name().equals(z.from())) return viewer.is(z.ownerId());
+        return true;
+    }
+
+    // 이벤트 타입 태그(응답마다 새로 만들지 않는다)
+    static final String LOG_APPENDED = "LOG_APPENDED";
+    static final String CARDS_MOVED = "CARDS_MOVED";
+    static final String DECK_SHUFFLED = "DECK_SHUFFLED";
+    static final String DECK_REFILLED = "DECK_REFILLED";
+    static final String PENDING_DECISION_SET = "PENDING_DECISION_SET";
+    static final String PENDING_DECISION_CLEARED = "PENDING_DECISION_CLEARED";
+    static final String TURN_ADVANCED = "TURN_ADVANCED";
+    static final String UNKNOWN = "UNKNOWN";
+
+    /**
+     * 응답용 이벤트 목록. 바로 이어지는 같은 종류 이벤트는 합쳐서 보낸다(순서는 그대로).
+     * - 같은 플레이어/출발/도착 존의 CARDS_MOVED: count를 더한 1개
+     * - 연속된 로그 줄: 줄바꿈으로 이은 LOG_APPENDED 1개(lines=합친 줄 수)
+     * 하나뿐인 이벤트의 payload는 예전과 같다.
+     */
     public static List<EventDto> toEventDtos(List<GameEvent> events) {
-        List<EventDto> out = new ArrayList<>(events.size());
-        for (GameEvent ev : events) out.add(toEventDto(ev));
+        int n = events.size();
+        List<EventDto> out = new ArrayList<>(n);
+        int i = 0;
+        while (i < n) {
+            GameEvent ev = events.get(i);
+            int j = i + 1;
+            if (ev instanceof GameEvent.LogAppended first) {
+                while (j < n && events.get(j) instanceof GameEvent.LogAppended) j++;
+                out.add(j - i == 1 ? toEventDto(first) : logBlock(events, i, j));
+            } else if (ev instanceof GameEvent.CardsMoved first) {
+                int count = first.count();
+                while (j < n && events.get(j) instanceof GameEvent.CardsMoved next && sameMove(first, next)) {
+                    count += next.count();
+                    j++;
+                }
+                out.add(cardsMoved(first, count));
+            } else {
+                out.add(toEventDto(ev));
+            }
+            i = j;
+        }
         return out;
     }
 
+    private static boolean sameMove(GameEvent.CardsMoved a, GameEvent.CardsMoved b) {
+        return Objects.equals(a.playerId(), b.playerId())
+                && Objects.equals(a.from(), b.from())
+                && Objects.equals(a.to(), b.to());
+    }
+
+    private static EventDto logBlock(List<GameEvent> events, int from, int to) {
+        StringJoiner lines = new StringJoiner("\n");
+        for (int k = from; k < to; k++) lines.add(((GameEvent.LogAppended) events.get(k)).line());
+        return new EventDto(LOG_APPENDED, Map.of("line", lines.toString(), "lines", to - from));
+    }
+
+    private static EventDto cardsMoved(GameEvent.CardsMoved e, int count) {
+        return new EventDto(CARDS_MOVED, Map.of(
+                "playerId", e.playerId(),
+                "from", e.from(),
+                "to", e.to(),
+                "count", count
+        ));
+    }
+
     private static EventDto toEventDto(GameEvent ev) {
         if (ev instanceof GameEvent.LogAppended e) {
-            return new EventDto("LOG_APPENDED", Map.of("line", e.line()));
+            return new EventDto(LOG_APPENDED, Map.of("line", e.line()));
         }
         if (ev instanceof GameEvent.CardsMoved e) {
-            return new EventDto("CARDS_MOVED", Map.of(
-                    "playerId", e.playerId(),
-                    "from", e.from(),
-                    "to", e.to(),
-                    "count", e.count()
-            ));
+            return cardsMoved(e, e.count());
         }
         if (ev instanceof GameEvent.DeckShuffled e) {
-            return new EventDto("DECK_SHUFFLED", Map.of("playerId", e.playerId()));
+            return new EventDto(DECK_SHUFFLED, Map.of("playerId", e.playerId()));
         }
         if (ev instanceof GameEvent.DeckRefilled e) {
-            return new EventDto("DECK_REFILLED", Map.of("playerId", e.playerId()));
+            return new EventDto(DECK_REFILLED, Map.of("playerId", e.playerId()));
         }
         if (ev instanceof GameEvent.PendingDecisionSet e) {
-            return new EventDto("PENDING_DECISION_SET", Map.of(
+            return new EventDto(PENDING_DECISION_SET, Map.of(
                     "playerId", e.playerId(),
                     "decisionType", e.type(),
                     "reason", e.reason()
             ));
         }
         if (ev instanceof GameEvent.PendingDecisionCleared e) {
-            return new EventDto("PENDING_DECISION_CLEARED", Map.of(
+            return new EventDto(PENDING_DECISION_CLEARED, Map.of(
                     "playerId", e.playerId(),
                     "decisionType", e.type()
             ));
         }
         if (ev instanceof GameEvent.TurnAdvanced e) {
-            return new EventDto("TURN_ADVANCED", Map.of(
+            return new EventDto(TURN_ADVANCED, Map.of(
                     "nextActorKey", e.nextActorKey(),
                     // backward-compatible alias for clients that still read nextPlayerId
                     "nextPlayerId", e.nextActorKey(),
                     "round", e.round()
             ));
         }
-        return new EventDto("UNKNOWN", Map.of("raw", ev.toString()));
+        return new EventDto(UNKNOWN, Map.of("raw", ev.toString()));
     }
 }
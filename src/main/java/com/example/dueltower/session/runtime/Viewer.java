@@ -0,0 +1,35 @@
+package com.example.dueltower.session.runtime;
+
+/**
+ * 상태 DTO를 받는 쪽. 역할마다 보이는 범위가 다르다.
+ * - GM: 전부
+ * - PLAYER: 자기 손패는 보이고, 덱 순서와 다른 플레이어(동료) 손패는 장수만
+ * - SPECTATOR: 덱/손패 모두 장수만
+ *
+ * @param playerId PLAYER일 때만 값이 있다
+ */
+public record Viewer(Role role, String playerId) {
+
+    public enum Role { GM, PLAYER, SPECTATOR }
+
+    public static final Viewer GM = new Viewer(Role.GM, null);
+    public static final Viewer SPECTATOR = new Viewer(Role.SPECTATOR, null);
+
+    public Viewer {
+        if (role == null) throw new IllegalArgumentException("role is required");
+        if ((role == Role.PLAYER) != (playerId != null)) {
+            throw new IllegalArgumentException("playerId must be set only for PLAYER: " + role);
+        }
+    }
+
+    public static Viewer player(String playerId) {
+        return new Viewer(Role.PLAYER, playerId);
+    }
+
+    public boolean gm() { return role == Role.GM; }
+
+    public boolean is(String playerId) { return role == Role.PLAYER && this.playerId.equals(playerId); }
+
+    /** 투영 캐시 키 */
+    String key() { return role == Role.PLAYER ? "P:" + playerId : role.name(); }
+}
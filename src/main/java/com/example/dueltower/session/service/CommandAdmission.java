@@ -0,0 +1,75 @@
+package com.example.dueltower.session.service;
+
+import com.example.dueltower.session.runtime.SessionRuntime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 세션 락을 잡는 요청(/command, /preview, 상태 조회, 참가, 덱 편집, 망각, 되돌리기)의 입장 제어.
+ * - 세션별: 처리 중 + 대기 중 커맨드 수를 max-pending-per-session으로 제한(초과 시 즉시 429)
+ * - 노드 전체: 세션 락을 기다리며 막혀 있는 스레드 수를 max-blocked-threads로 제한
+ *   (락을 바로 얻는 요청은 이 한도를 쓰지 않는다)
+ * - 락 대기는 lock-wait-timeout까지만. 넘기면 429
+ * 한 테이블이 커맨드나 폴링을 쏟아내도 서블릿 스레드를 전부 묶지 못하게 하는 것이 목적이다.
+ */
+@Component
+@Slf4j
+public class CommandAdmission {
+
+    private final int maxPendingPerSession;
+    private final Semaphore blockedThreads;
+    private final Duration lockWaitTimeout;
+    private final Duration retryAfter;
+
+    public CommandAdmission(@Value("${duel.session.admission.max-pending-per-session:8}") int maxPendingPerSession,
+                            @Value("${duel.session.admission.max-blocked-threads:64}") int maxBlockedThreads,
+                            @Value("${duel.session.admission.lock-wait-timeout:2s}") Duration lockWaitTimeout,
+                            @Value("${duel.session.admission.retry-after:1s}") Duration retryAfter) {
+        this.maxPendingPerSession = Math.max(1, maxPendingPerSession);
+        this.blockedThreads = new Semaphore(Math.max(0, maxBlockedThreads));
+        this.lockWaitTimeout = lockWaitTimeout;
+        this.retryAfter = retryAfter;
+    }
+
+    /** 세션 락 안에서 work를 실행한다. 입장 불가면 SessionBusyException(429). */
+    public <T> T admit(SessionRuntime rt, Supplier<T> work) {
+        int pending = rt.pendingCommands().incrementAndGet();
+        try {
+            if (pending > maxPendingPerSession) {
+                log.warn("command rejected: session busy code={} pending={} limit={}", rt.code(), pending, maxPendingPerSession);
+                throw new SessionBusyException("too many pending commands for this session", retryAfter);
+            }
+
+            Optional<T> immediate = rt.tryWithLock(0, TimeUnit.MILLISECONDS, work);
+            if (immediate.isPresent()) return immediate.get();
+
+            if (!blockedThreads.tryAcquire()) {
+                log.warn("command rejected: node busy code={} blockedThreads limit reached", rt.code());
+                throw new SessionBusyException("server is busy", retryAfter);
+            }
+            try {
+                return rt.tryWithLock(lockWaitTimeout.toMillis(), TimeUnit.MILLISECONDS, work)
+                        .orElseThrow(() -> {
+                            log.warn("command rejected: lock wait timeout code={} timeout={}", rt.code(), lockWaitTimeout);
+                            return new SessionBusyException("session is busy", retryAfter);
+                        });
+            } finally {
+                blockedThreads.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionBusyException("interrupted while waiting for session", retryAfter);
+        } finally {
+            rt.pendingCommands().decrementAndGet();
+        }
+    }
+
+    public int blockedThreadsAvailable() { return blockedThreads.availablePermits(); }
+}
@@ -0,0 +1,40 @@
+package com.example.dueltower.session.service;
+
+import com.example.dueltower.content.card.service.CardService;
+import com.example.dueltower.content.keyword.service.KeywordService;
+import com.example.dueltower.content.passive.service.PassiveService;
+import com.example.dueltower.content.status.service.StatusService;
+import com.example.dueltower.engine.core.EngineContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘텐츠 서비스(cdb/sdb/kdb/passive)로부터 세션용 EngineContext를 만든다.
+ * 콘텐츠는 기동 후 바뀌지 않으므로 기동 시 한 번만 만들고(키워드 컴파일, 훅 스캔 포함)
+ * 새 세션, standby 복제 세션, 승격, 시뮬레이터가 모두 같은 인스턴스를 쓴다(EngineContext는 불변).
+ */
+@Component
+public class EngineContextFactory {
+
+    private final EngineContext context;
+
+    public EngineContextFactory(CardService cardService,
+                                StatusService statusService,
+                                KeywordService keywordService,
+                                PassiveService passiveService) {
+        this.context = new EngineContext(
+                cardService.asMap(),
+                cardService.effectsMap(),
+                statusService.defsMap(),
+                statusService.effectsMap(),
+                keywordService.defsMap(),
+                keywordService.effectsMap(),
+                passiveService.defsMap(),
+                passiveService.effectsMap()
+        );
+    }
+
+    /** 공유 컨텍스트 */
+    public EngineContext context() {
+        return context;
+    }
+}
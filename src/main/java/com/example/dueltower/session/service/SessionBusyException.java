@@ -0,0 +1,30 @@
+package com.example.dueltower.session.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * 세션/노드가 바빠서 커맨드를 받지 않을 때(429 + Retry-After).
+ */
+public class SessionBusyException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public SessionBusyException(String reason, Duration retryAfter) {
+        super(TOO_MANY_REQUESTS, reason);
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    public long retryAfterSeconds() { return retryAfterSeconds; }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.dueltower.session.service;
+
+import com.example.dueltower.session.dto.SessionStateDto;
+import com.example.dueltower.session.replication.StandbyStore;
+import com.example.dueltower.session.runtime.SessionLockListener;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 세션/엔진 Micrometer 계측(Actuator /actuator/metrics 로 노출).
+ *
+ * - duel.command.latency{type,outcome}: 커맨드 처리 시간(accepted/rejected/busy)
+ * - duel.command.events{type}: 수락된 커맨드당 이벤트 수
+ * - duel.session.lock.wait / duel.session.lock.hold: 세션 락 대기/점유 시간
+ * - duel.state.projection: StateMapper.toDto 시간
+ * - duel.state.payload.cards: 상태 DTO의 카드 인스턴스 수(페이로드 크기 지표)
+ * - duel.sessions.active / duel.sessions.standby / duel.engine.dedupe.size: 게이지
+ */
+@Component
+public class SessionMetrics implements SessionLockListener {
+
+    public static final String OUTCOME_ACCEPTED = "accepted";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_BUSY = "busy";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer projection;
+    private final DistributionSummary payloadCards;
+
+    // type|outcome -> timer. 태그 조합마다 registry 조회를 반복하지 않도록 캐시
+    private final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> eventSummaries = new ConcurrentHashMap<>();
+
+    public SessionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.lockWait = timer("duel.session.lock.wait").register(registry);
+        this.lockHold = timer("duel.session.lock.hold").register(registry);
+        this.projection = timer("duel.state.projection").register(registry);
+        this.payloadCards = DistributionSummary.builder("duel.state.payload.cards")
+                .baseUnit("cards")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+    }
+
+    /** SessionService의 세션 맵/standby 저장소를 게이지로 등록한다. */
+    public void bindSessions(Map<String, SessionRuntime> sessions, StandbyStore standbyStore) {
+        Gauge.builder("duel.sessions.active", sessions, Map::size).register(registry);
+        Gauge.builder("duel.sessions.standby", standbyStore, StandbyStore::size).register(registry);
+        Gauge.builder("duel.engine.dedupe.size", sessions, SessionMetrics::dedupeSize).register(registry);
+    }
+
+    public void recordCommand(String type, String outcome, long nanos, int events) {
+        commandTimers.computeIfAbsent(type + "|" + outcome, k -> timer("duel.command.latency")
+                        .tags("type", type, "outcome", outcome)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (OUTCOME_ACCEPTED.equals(outcome)) {
+            eventSummaries.computeIfAbsent(type, k -> DistributionSummary.builder("duel.command.events")
+                            .tag("type", type)
+                            .publishPercentiles(PERCENTILES)
+                            .register(registry))
+                    .record(events);
+        }
+    }
+
+    public SessionStateDto project(Supplier<SessionStateDto> mapper) {
+        long start = System.nanoTime();
+        SessionStateDto dto = mapper.get();
+        projection.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        payloadCards.record(dto.cards().size());
+        return dto;
+    }
+
+    @Override
+    public void lockReleased(long waitNanos, long holdNanos) {
+        lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+        lockHold.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer.Builder timer(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram();
+    }
+
+    private static double dedupeSize(Map<String, SessionRuntime> sessions) {
+        long total = 0;
+        for (SessionRuntime rt : sessions.values()) total += rt.processedCommandCount();
+        return total;
+    }
+}
@@ -1,10 +1,7 @@
 package com.example.dueltower.session.service;
 
 import com.example.dueltower.content.card.model.OwnedCard;
-import com.example.dueltower.content.card.service.CardService;
-import com.example.dueltower.content.keyword.service.KeywordService;
 import com.example.dueltower.content.passive.service.PassiveService;
-import com.example.dueltower.content.status.service.StatusService;
 import com.example.dueltower.engine.core.EngineContext;
 import com.example.dueltower.engine.core.ZoneOps;
 import com.example.dueltower.engine.model.*;
@@ -12,7 +9,11 @@ import com.example.dueltower.engine.model.Ids.CardDefId;
 import com.example.dueltower.engine.model.Ids.CardInstId;
 import com.example.dueltower.engine.model.Ids.PlayerId;
 import com.example.dueltower.engine.model.Ids.SessionId;
+import com.example.dueltower.session.cluster.SessionRouter;
 import com.example.dueltower.session.dto.OwnedCardDto;
+import com.example.dueltower.session.replication.SessionReplicator;
+import com.example.dueltower.session.replication.StandbyStore;
+import com.example.dueltower.session.runtime.SessionHistory;
 import com.example.dueltower.session.runtime.SessionRuntime;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,12 +40,16 @@ public class SessionService {
     private static final int MAX_DECK_EDIT_CHANGES = 2;
     private static final Pattern PASSIVE_ID_FORMAT = Pattern.compile("^P\\d{3}$");
 
-    private final CardService cardService;
-    private final StatusService statusService;
-    private final KeywordService keywordService;
+    private final EngineContextFactory contextFactory;
     private final PassiveService passiveService;
+    private final SessionRouter router;
+    private final SessionReplicator replicator;
+    private final StandbyStore standbyStore;
+    private final SessionMetrics metrics;
     private final Duration sessionTtl;
     private final Duration cleanupInterval;
+    private final int historyMaxVersions;
+    private final int historyKeyframeInterval;
 
     // code -> runtime (in-memory)
     private final Map<String, SessionRuntime> sessions = new ConcurrentHashMap<>();
@@ -52,39 +57,48 @@ public class SessionService {
     private final SecureRandom rnd = new SecureRandom();
     private static final char[] CODE_ALPHABET = "ABCDEFGHJKMNPQRSTUVWXYZ23456789".toCharArray();
 
-    public SessionService(CardService cardService,
-                          StatusService statusService,
-                          KeywordService keywordService,
+    public SessionService(EngineContextFactory contextFactory,
                           PassiveService passiveService,
+                          SessionRouter router,
+                          SessionReplicator replicator,
+                          StandbyStore standbyStore,
+                          SessionMetrics metrics,
                           @Value("${duel.session.ttl:30m}") Duration sessionTtl,
-                          @Value("${duel.session.cleanup-interval:5m}") Duration cleanupInterval) {
-        this.cardService = cardService;
-        this.statusService = statusService;
-        this.keywordService = keywordService;
+                          @Value("${duel.session.cleanup-interval:5m}") Duration cleanupInterval,
+                          @Value("${duel.session.history.max-versions:50}") int historyMaxVersions,
+                          @Value("${duel.session.history.keyframe-interval:10}") int historyKeyframeInterval) {
+        this.contextFactory = contextFactory;
         this.passiveService = passiveService;
+        this.router = router;
+        this.replicator = replicator;
+        this.standbyStore = standbyStore;
+        this.metrics = metrics;
         this.sessionTtl = sessionTtl;
         this.cleanupInterval = cleanupInterval;
+        this.historyMaxVersions = historyMaxVersions;
+        this.historyKeyframeInterval = historyKeyframeInterval;
+        metrics.bindSessions(sessions, standbyStore);
     }
 
     public SessionRuntime createSession(String gmId) {
         evictExpiredSessions();
+        EngineContext ctx = contextFactory.context();
         for (int attempt = 0; attempt < 10_000; attempt++) {
             String code = generateCode(8);
+            // 클러스터 모드: 이 노드가 소유하는 코드만 발급(다른 노드로 라우팅되는 코드면 다시 뽑는다)
+            if (!router.isLocal(code)) continue;
+            if (sessions.containsKey(code)) continue;
 
-            EngineContext ctx = new EngineContext(
-                    cardService.asMap(),
-                    cardService.effectsMap(),
-                    statusService.defsMap(),
-                    statusService.effectsMap(),
-                    keywordService.defsMap(),
-                    keywordService.effectsMap(),
-                    passiveService.defsMap(),
-                    passiveService.effectsMap()
-            );
             GameState state = new GameState(new SessionId(UUID.randomUUID()), rnd.nextLong());
             SessionRuntime rt = new SessionRuntime(code, gmId, generateGmToken(), state, ctx);
+            rt.lockListener(metrics);
 
             if (sessions.putIfAbsent(code, rt) == null) {
+                rt.withLock(() -> {
+                    attachHistory(rt);
+                    replicator.attach(rt);
+                    return null;
+                });
                 log.debug("created session code={} gmId={} sessionId={} seed={}",
                         code, gmId, state.sessionId().value(), state.seed());
                 return rt;
@@ -98,9 +112,11 @@ public class SessionService {
     public SessionRuntime get(String code) {
         evictExpiredSessions();
         SessionRuntime rt = sessions.get(code);
+        if (rt == null) rt = promoteStandby(code);
         if (rt == null) throw new ResponseStatusException(NOT_FOUND, "session not found");
         if (isExpired(rt)) {
             sessions.remove(code, rt);
+            standbyStore.drop(code);
             throw new ResponseStatusException(GONE, "session expired");
         }
         rt.touchAccess();
@@ -154,6 +170,7 @@ public class SessionService {
             addCardToEx(state, ps, new CardDefId(normalizeExCardId(presetExCardIdRaw)));
 
             shuffleDeck(state, ps);
+            rt.changedOutsideEngine();
             return state;
         });
     }
@@ -168,7 +185,9 @@ public class SessionService {
             if (!rt.state().players().containsKey(new PlayerId(playerId))) {
                 throw new ResponseStatusException(NOT_FOUND, "player not found");
             }
-            return rt.issuePlayerToken(playerId);
+            String token = rt.issuePlayerToken(playerId);
+            rt.tokensChanged();
+            return token;
         });
     }
 
@@ -213,6 +232,7 @@ public class SessionService {
             validateDeckBuild(deckCardIds, ps.ownedCards(), currentDeckCardIds(ps, state));
             loadDeck(state, ps, deckCardIds);
             shuffleDeck(state, ps);
+            rt.changedOutsideEngine();
             return state;
         });
     }
@@ -270,10 +290,57 @@ public class SessionService {
 
             ownedCards.remove((int) ownedCardIndexRaw);
             ps.ownedCards(ownedCards);
+            rt.changedOutsideEngine();
             return state;
         });
     }
 
+    /**
+     * GM 되돌리기. 보관 범위 밖 버전은 400, 이력이 꺼져 있거나 재적용이 어긋나면 409.
+     * 응답(view)은 되돌린 직후 같은 락 안에서 만든다(사이에 다른 커맨드가 끼면 되돌린 상태가 아닌 것을 보낸다).
+     */
+    public <T> T rollback(String code, long version, Function<SessionRuntime, T> view) {
+        SessionRuntime rt = get(code);
+        try {
+            return rt.withLock(() -> {
+                rt.rollbackTo(version);
+                log.info("session rollback code={} version={}", code, version);
+                return view.apply(rt);
+            });
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("session rollback failed code={} version={} error={}", code, version, e.getMessage());
+            throw new ResponseStatusException(CONFLICT, e.getMessage());
+        }
+    }
+
+    private void attachHistory(SessionRuntime rt) {
+        if (historyMaxVersions <= 0) return;
+        rt.history(new SessionHistory(historyMaxVersions, historyKeyframeInterval));
+    }
+
+    /**
+     * 로컬에 세션이 없지만 standby 그림자가 있으면 승격한다(primary 장애로 라우팅이 이 노드로 넘어온 경우).
+     * 승격된 세션은 이 노드를 primary로 삼아 다시 복제를 시작한다.
+     */
+    private SessionRuntime promoteStandby(String code) {
+        SessionRuntime promoted = standbyStore.promote(code);
+        if (promoted == null) return null;
+        promoted.lockListener(metrics);
+
+        SessionRuntime existing = sessions.putIfAbsent(code, promoted);
+        if (existing != null) return existing;
+
+        promoted.withLock(() -> {
+            attachHistory(promoted);
+            replicator.attach(promoted);
+            return null;
+        });
+        log.info("session promoted from standby code={} version={}", code, promoted.state().version());
+        return promoted;
+    }
+
     private void loadDeck(GameState state, PlayerState ps, List<String> deckCardIds) {
         Set<CardInstId> toDelete = new HashSet<>();
         toDelete.addAll(ps.deck());
@@ -576,6 +643,7 @@ public class SessionService {
             }
 
             if (sessions.remove(entry.getKey(), rt)) {
+                standbyStore.drop(entry.getKey());
                 removed++;
             }
         }
@@ -0,0 +1,74 @@
+package com.example.dueltower.engine;
+
+import com.example.dueltower.content.card.cdb.*;
+import com.example.dueltower.content.card.model.CardBlueprint;
+import com.example.dueltower.content.status.model.StatusBlueprint;
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.status.StatusEffect;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 테스트가 같이 쓰는 최소 콘텐츠/덱 구성.
+ * FILLER는 비용 0, 효과 없음 스킬 카드라 커맨드 흐름(드로우/턴/복제/이력)만 볼 때 쓰고,
+ * 기본 카드(C001~C004, EX901)와 그 카드가 거는 상태(S001/S005/S101/S102)는 실제 전투를 돌려 볼 때 쓴다.
+ */
+public final class TestContent {
+    private TestContent() {}
+
+    public static final CardDefId FILLER = new CardDefId("FILLER");
+
+    /** FILLER 카드 하나만 등록된 컨텍스트 */
+    public static EngineContext fillerContext() {
+        CardEffect filler = new CardEffect() {
+            @Override public String id() { return FILLER.value(); }
+            @Override public void resolve(EffectContext ec) {}
+        };
+        CardDefinition def = new CardDefinition(FILLER, "FILLER", CardType.SKILL, 0, Map.of(), Zone.GRAVE, false, "");
+        return new EngineContext(Map.of(def.id(), def), Map.of(def.id(), filler));
+    }
+
+    /** FILLER 인스턴스 count장을 만들어 덱 맨 아래에 차례로 넣는다 */
+    public static void addFillerDeck(GameState state, PlayerState ps, int count) {
+        for (int i = 0; i < count; i++) {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, FILLER, ps.playerId(), Zone.DECK));
+            ps.deck().addLast(id);
+        }
+    }
+
+    /** 기본 카드 + 상태 블루프린트만 등록된 컨텍스트 */
+    public static EngineContext basicContent() {
+        Map<CardDefId, CardDefinition> defs = new HashMap<>();
+        Map<CardDefId, CardEffect> effects = new HashMap<>();
+        putBasicCards(defs, effects);
+        Map<String, StatusDefinition> statusDefs = new HashMap<>();
+        Map<String, StatusEffect> statusEffects = new HashMap<>();
+        putBasicStatuses(statusDefs, statusEffects);
+        return new EngineContext(defs, effects, statusDefs, statusEffects);
+    }
+
+    /** 카드/패시브를 더 얹어 컨텍스트를 만들 때: 기본 카드 블루프린트를 맵에 넣는다 */
+    public static void putBasicCards(Map<CardDefId, CardDefinition> defs, Map<CardDefId, CardEffect> effects) {
+        for (CardBlueprint bp : List.<CardBlueprint>of(new C001_BasicAttack(), new C002_BasicRecovery(),
+                new C003_BasicGuard(), new C004_BasicCurse(), new EX901_BandageWrap())) {
+            defs.put(bp.defId(), bp.definition());
+            effects.put(bp.defId(), bp);
+        }
+    }
+
+    public static void putBasicStatuses(Map<String, StatusDefinition> statusDefs, Map<String, StatusEffect> statusEffects) {
+        for (StatusBlueprint bp : List.<StatusBlueprint>of(new S001_Shield(), new S005_Taunt(), new S101_Pain(), new S102_Stun())) {
+            statusDefs.put(bp.id(), bp.definition());
+            statusEffects.put(bp.id(), bp);
+        }
+    }
+}
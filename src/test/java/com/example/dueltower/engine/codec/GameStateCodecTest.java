@@ -0,0 +1,241 @@
+package com.example.dueltower.engine.codec;
+
+import com.example.dueltower.content.card.model.OwnedCard;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateCodecTest {
+
+    @Test
+    @DisplayName("encode/decode: 플레이어 존/적/소환수/전투/보류 결정이 모두 복원된다")
+    void roundTripRestoresFullState() {
+        GameState state = sampleState();
+
+        GameState restored = GameStateCodec.decode(GameStateCodec.encode(state));
+
+        assertEquals(state.sessionId(), restored.sessionId());
+        assertEquals(state.seed(), restored.seed());
+        assertEquals(state.version(), restored.version());
+        assertEquals(state.nodeState(), restored.nodeState());
+
+        PlayerState p = state.player(new PlayerId("p1"));
+        PlayerState rp = restored.player(new PlayerId("p1"));
+        assertEquals(List.copyOf(p.deck()), List.copyOf(rp.deck()));
+        assertEquals(p.hand(), rp.hand());
+        assertEquals(p.grave(), rp.grave());
+        assertEquals(p.field(), rp.field());
+        assertEquals(p.excluded(), rp.excluded());
+        assertEquals(p.activeSummons(), rp.activeSummons());
+        assertEquals(p.summonByCard(), rp.summonByCard());
+        assertEquals(p.exCard(), rp.exCard());
+        assertEquals(p.exCooldownUntilRound(), rp.exCooldownUntilRound());
+        assertEquals(p.usedTenacityThisTurn(), rp.usedTenacityThisTurn());
+        assertEquals(p.tenacityDebtThisTurn(), rp.tenacityDebtThisTurn());
+        assertEquals(p.cardsPlayedThisTurn(), rp.cardsPlayedThisTurn());
+        assertEquals(p.pendingDecision(), rp.pendingDecision());
+        assertEquals(p.body(), rp.body());
+        assertEquals(p.will(), rp.will());
+        assertEquals(p.hp(), rp.hp());
+        assertEquals(p.ap(), rp.ap());
+        assertEquals(p.statusValues(), rp.statusValues());
+        assertEquals(p.passiveIds(), rp.passiveIds());
+        assertEquals(p.ownedCards(), rp.ownedCards());
+
+        assertEquals(state.player(new PlayerId("p2")).pendingDecision(), restored.player(new PlayerId("p2")).pendingDecision());
+
+        EnemyState e = state.enemy(new EnemyId("e1"));
+        EnemyState re = restored.enemy(new EnemyId("e1"));
+        assertEquals(e.maxHp(), re.maxHp());
+        assertEquals(e.hp(), re.hp());
+        assertEquals(e.attackPower(), re.attackPower());
+        assertEquals(e.exCard(), re.exCard());
+        assertEquals(e.statusValues(), re.statusValues());
+
+        assertEquals(state.cardInstances().keySet(), restored.cardInstances().keySet());
+        for (CardInstance ci : state.cardInstances().values()) {
+            CardInstance rci = restored.card(ci.instanceId());
+            assertEquals(ci.defId(), rci.defId());
+            assertEquals(ci.ownerId(), rci.ownerId());
+            assertEquals(ci.zone(), rci.zone());
+            assertEquals(ci.counters(), rci.counters());
+            assertEquals(ci.fieldEffectActive(), rci.fieldEffectActive());
+        }
+
+        SummonState s = state.summons().values().iterator().next();
+        SummonState rs = restored.summon(s.id());
+        assertEquals(s.owner(), rs.owner());
+        assertEquals(s.sourceCardId(), rs.sourceCardId());
+        assertEquals(s.hp(), rs.hp());
+        assertEquals(s.maxHp(), rs.maxHp());
+        assertEquals(s.actionCost(), rs.actionCost());
+        assertEquals(s.actionUsedThisTurn(), rs.actionUsedThisTurn());
+        assertEquals(s.statusValues(), rs.statusValues());
+
+        CombatState c = state.combat();
+        CombatState rc = restored.combat();
+        assertEquals(c.round(), rc.round());
+        assertEquals(c.currentTurnIndex(), rc.currentTurnIndex());
+        assertEquals(c.phase(), rc.phase());
+        assertEquals(c.turnOrder(), rc.turnOrder());
+        assertEquals(c.factionStatusValues(CombatState.FactionId.ENEMIES), rc.factionStatusValues(CombatState.FactionId.ENEMIES));
+        assertEquals(List.copyOf(c.initiatives().keySet()), List.copyOf(rc.initiatives().keySet()));
+        assertEquals(c.initiatives(), rc.initiatives());
+        assertEquals(c.initiativeTieGroups(), rc.initiativeTieGroups());
+    }
+
+    @Test
+    @DisplayName("encode: 같은 상태는 같은 바이트로 인코딩된다(HashMap 순서 무관)")
+    void encodingIsCanonical() {
+        GameState state = sampleState();
+        byte[] first = GameStateCodec.encode(state);
+        byte[] second = GameStateCodec.encode(GameStateCodec.decode(first));
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("encode/decode: 상태 스택/카운터/이니셔티브는 넣은 순서 그대로 복원된다(상태 훅 실행 순서)")
+    void countersKeepInsertionOrder() {
+        SessionId sid = new SessionId(UUID.randomUUID());
+        CardInstId cardId = Ids.newCardInstId();
+        List<String> order = List.of("S101", "S001", "S005");
+
+        GameState restored = GameStateCodec.decode(GameStateCodec.encode(counterState(sid, cardId, order)));
+
+        assertEquals(order, List.copyOf(restored.player(new PlayerId("P1")).statusValues().keySet()));
+        assertEquals(order, List.copyOf(restored.card(cardId).counters().keySet()));
+        assertEquals(order, List.copyOf(restored.combat().initiatives().keySet()));
+    }
+
+    private static GameState counterState(SessionId sid, CardInstId cardId, List<String> keys) {
+        GameState state = new GameState(sid, 1L);
+        PlayerState ps = new PlayerState(new PlayerId("P1"));
+        state.players().put(ps.playerId(), ps);
+        CardInstance ci = new CardInstance(cardId, new CardDefId("C001"), ps.playerId(), Zone.GRAVE);
+        state.cardInstances().put(cardId, ci);
+        ps.grave().add(cardId);
+        CombatState cs = new CombatState();
+        state.combat(cs);
+        for (String k : keys) {
+            ps.statusValues().put(k, k.length());
+            ci.counters().put(k, 1);
+            cs.initiatives().put(k, 3);
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("decode: 포맷 버전 불일치/잘린 데이터는 거부한다")
+    void rejectsUnknownVersionAndTruncatedData() {
+        byte[] data = GameStateCodec.encode(sampleState());
+
+        byte[] wrongVersion = data.clone();
+        wrongVersion[4] = (byte) (GameStateCodec.FORMAT_VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(wrongVersion));
+
+        byte[] truncated = Arrays.copyOf(data, data.length - 3);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(truncated));
+    }
+
+    @Test
+    @DisplayName("encode: 비전투 상태(combat=null)도 그대로 복원된다")
+    void roundTripWithoutCombat() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 7L);
+        state.players().put(new PlayerId("solo"), new PlayerState(new PlayerId("solo")));
+
+        GameState restored = GameStateCodec.decode(GameStateCodec.encode(state));
+
+        assertNull(restored.combat());
+        assertEquals(NodeState.NON_COMBAT, restored.nodeState());
+        assertEquals(1, restored.players().size());
+    }
+
+    private static GameState sampleState() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 42L);
+        state.restoreVersion(17);
+
+        PlayerId p1 = new PlayerId("p1");
+        PlayerId p2 = new PlayerId("p2");
+        PlayerState ps = new PlayerState(p1);
+        ps.body(3);
+        ps.skill(2);
+        ps.sense(1);
+        ps.will(6);
+        ps.hp(11);
+        ps.ap(2);
+        ps.passiveIds(List.of("P001", "P002"));
+        ps.ownedCards(List.of(new OwnedCard("C001", true, false, false), new OwnedCard("C003", false, true, true)));
+        ps.statusValues().put("SHIELD", 3);
+        ps.statusValues().put("STUN", 1);
+        ps.exCooldownUntilRound(3);
+        ps.exActivatable(false);
+        ps.usedTenacityThisTurn(true);
+        ps.tenacityDebtThisTurn(2);
+        ps.cardsPlayedThisTurn(2);
+
+        List<CardInstId> deck = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CardInstId id = addCard(state, p1, "C001", Zone.DECK);
+            ps.deck().addLast(id);
+            deck.add(id);
+        }
+        ps.hand().add(addCard(state, p1, "C003", Zone.HAND));
+        ps.grave().add(addCard(state, p1, "C001", Zone.GRAVE));
+        ps.excluded().add(addCard(state, p1, "C001", Zone.EXCLUDED));
+        CardInstId fieldCard = addCard(state, p1, "C004", Zone.FIELD);
+        ps.field().add(fieldCard);
+        state.card(fieldCard).fieldEffectActive(true);
+        state.card(fieldCard).counters().put("charge", 2);
+        CardInstId ex = addCard(state, p1, "EX901", Zone.EX);
+        ps.exCard(ex);
+        ps.pendingDecision(new PendingDecision.SearchPick("search", deck.subList(0, 2), 1, Zone.HAND, true, UUID.randomUUID()));
+
+        SummonState summon = new SummonState(new SummonInstId(UUID.randomUUID()), p1, fieldCard, 4, 6, 2, 1, 1, true);
+        summon.statusSet("TAUNT", 1);
+        state.summons().put(summon.id(), summon);
+        ps.activeSummons().add(summon.id());
+        ps.bindSummon(fieldCard, summon.id());
+        state.players().put(p1, ps);
+
+        PlayerState ps2 = new PlayerState(p2);
+        ps2.pendingDecision(new PendingDecision.InitiativeTieOrder("tie", 0, List.of("P:p1", "P:p2")));
+        state.players().put(p2, ps2);
+
+        EnemyId e1 = new EnemyId("e1");
+        EnemyState es = new EnemyState(e1, 30);
+        es.hp(21);
+        es.ap(2);
+        es.attackPower(4);
+        es.exCard(addCard(state, new PlayerId(e1.value()), "EX901", Zone.EX));
+        es.statusSet("SHIELD", 5);
+        state.enemies().put(e1, es);
+
+        CombatState cs = new CombatState();
+        cs.round(2);
+        cs.currentTurnIndex(1);
+        cs.phase(CombatPhase.MAIN);
+        cs.turnOrder().add(TargetRef.ofPlayer(p1));
+        cs.turnOrder().add(TargetRef.ofEnemy(e1));
+        cs.turnOrder().add(TargetRef.ofSummon(p1, summon.id()));
+        cs.turnOrder().add(TargetRef.ofPlayer(p2));
+        cs.factionStatusValues(CombatState.FactionId.ENEMIES).put("BARRIER", 4);
+        cs.initiatives().put("P:p1", 50);
+        cs.initiatives().put("E:e1", 80);
+        cs.initiatives().put("P:p2", 50);
+        cs.initiativeTieGroups().add(List.of("P:p1", "P:p2"));
+        state.combat(cs);
+        return state;
+    }
+
+    private static CardInstId addCard(GameState state, PlayerId owner, String defId, Zone zone) {
+        CardInstId id = Ids.newCardInstId();
+        state.cardInstances().put(id, new CardInstance(id, new CardDefId(defId), owner, zone));
+        return id;
+    }
+}
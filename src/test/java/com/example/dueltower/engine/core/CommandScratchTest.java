@@ -0,0 +1,107 @@
+package com.example.dueltower.engine.core;
+
+import com.example.dueltower.content.card.cdb.C001_BasicAttack;
+import com.example.dueltower.content.card.model.CardBlueprint;
+import com.example.dueltower.engine.command.PlayCardCommand;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.status.StatusRuntime;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandScratchTest {
+
+    private static final PlayerId P1 = new PlayerId("P1");
+    private static final EnemyId E1 = new EnemyId("E1");
+
+    @Test
+    @DisplayName("같은 상태/컨텍스트면 런타임을 재사용하고, begin과 훅 런타임 요청 때 버퍼를 비운다")
+    void reusesRuntimesAndClearsBuffers() {
+        Fixture fx = new Fixture();
+        CommandScratch scratch = new CommandScratch();
+
+        StatusRuntime rt = scratch.statusHooks(fx.state, fx.ctx);
+        rt.out().add(new GameEvent.LogAppended("x"));
+        assertSame(rt, scratch.statusHooks(fx.state, fx.ctx));
+        assertTrue(rt.out().isEmpty());
+        assertEquals("VALIDATE", rt.source());
+
+        Fixture other = new Fixture();
+        assertNotSame(rt, scratch.statusHooks(other.state, other.ctx));
+        assertSame(other.state, scratch.statusHooks(other.state, other.ctx).state());
+
+        scratch.statusCost(fx.state, fx.ctx).out().add(new GameEvent.LogAppended("y"));
+        scratch.errors().add("e");
+        assertEquals(1, scratch.events().size());
+        scratch.begin();
+        assertTrue(scratch.events().isEmpty());
+        assertTrue(scratch.errors().isEmpty());
+        assertSame(scratch.events(), scratch.passiveCost(fx.state, fx.ctx).out());
+    }
+
+    @Test
+    @DisplayName("scratch 검증은 새로 만드는 검증과 결과가 같고, 엔진이 돌려준 거절 사유는 다음 커맨드에도 남는다")
+    void scratchValidationMatchesFreshValidation() {
+        Fixture fx = new Fixture();
+        CardInstId attack = fx.hand();
+        fx.state.player(P1).ap(0);
+        PlayCardCommand cmd = new PlayCardCommand(UUID.randomUUID(), fx.state.version(), P1, attack,
+                new TargetSelection(List.of(TargetRef.ofEnemy(E1))));
+
+        CommandScratch scratch = new CommandScratch();
+        List<String> fresh = cmd.validate(fx.state, fx.ctx);
+        assertFalse(fresh.isEmpty());
+        for (int i = 0; i < 3; i++) {
+            scratch.begin();
+            assertEquals(fresh, cmd.validate(fx.state, fx.ctx, scratch));
+        }
+
+        GameEngine engine = new GameEngine();
+        EngineResult rejected = engine.process(fx.state, fx.ctx, cmd);
+        assertFalse(rejected.accepted());
+        assertEquals(fresh, rejected.errors());
+
+        fx.state.player(P1).ap(fx.state.player(P1).maxAp());
+        EngineResult accepted = engine.process(fx.state, fx.ctx, new PlayCardCommand(UUID.randomUUID(),
+                fx.state.version(), P1, attack, new TargetSelection(List.of(TargetRef.ofEnemy(E1)))));
+        assertTrue(accepted.accepted(), "errors=" + accepted.errors());
+        assertEquals(fresh, rejected.errors());
+    }
+
+    private static final class Fixture {
+        final GameState state = new GameState(new SessionId(UUID.randomUUID()), 3L);
+        final EngineContext ctx;
+
+        Fixture() {
+            CardBlueprint bp = new C001_BasicAttack();
+            Map<CardDefId, CardDefinition> defs = Map.of(bp.defId(), bp.definition());
+            Map<CardDefId, CardEffect> effects = Map.of(bp.defId(), bp);
+            ctx = new EngineContext(defs, effects, Map.of(), Map.of(), Map.of(), Map.of());
+
+            PlayerState ps = new PlayerState(P1);
+            ps.body(3);
+            state.players().put(P1, ps);
+            state.enemies().put(E1, new EnemyState(E1, 100));
+
+            CombatState cs = new CombatState();
+            cs.turnOrder().add(TargetRef.ofPlayer(P1));
+            cs.turnOrder().add(TargetRef.ofEnemy(E1));
+            cs.phase(CombatPhase.MAIN);
+            state.combat(cs);
+            ps.ap(ps.maxAp());
+        }
+
+        CardInstId hand() {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, new CardDefId("C001"), P1, Zone.HAND));
+            state.player(P1).hand().add(id);
+            return id;
+        }
+    }
+}
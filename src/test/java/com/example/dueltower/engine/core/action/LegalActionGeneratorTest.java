@@ -0,0 +1,243 @@
+package com.example.dueltower.engine.core.action;
+
+import com.example.dueltower.content.card.cdb.*;
+import com.example.dueltower.content.card.model.CardBlueprint;
+import com.example.dueltower.content.keyword.kdb.K010_Tenacity;
+import com.example.dueltower.content.status.model.StatusBlueprint;
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.command.PlayCardCommand;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.keyword.KeywordEffect;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LegalActionGeneratorTest {
+
+    private static final PlayerId P1 = new PlayerId("P1");
+    private static final PlayerId P2 = new PlayerId("P2");
+    private static final EnemyId E1 = new EnemyId("E1");
+    private static final EnemyId E2 = new EnemyId("E2");
+
+    @Test
+    @DisplayName("무작위 진행 중 모든 상태에서 생성 결과는 validate를 통과하고, validate를 통과하는 카드 사용은 빠짐없이 나온다")
+    void matchesCommandValidationDuringRandomPlay() {
+        Fixture fx = new Fixture();
+        Random rnd = new Random(2024);
+        assertTrue(fx.engine.process(fx.state, fx.ctx, new StartCombatCommand(UUID.randomUUID(), 0, P1)).accepted());
+
+        int checkedStates = 0;
+        for (int step = 0; step < 400 && !ended(fx.state); step++) {
+            if (rnd.nextInt(5) == 0) perturb(fx.state, rnd);
+
+            List<LegalAction> actions = LegalActionGenerator.forAll(fx.state, fx.ctx);
+            for (LegalAction a : actions) {
+                GameCommand cmd = a.toCommand(UUID.randomUUID(), fx.state.version());
+                assertEquals(List.of(), cmd.validate(fx.state, fx.ctx), "generated but invalid: " + a);
+            }
+            assertPlayCardsComplete(fx, actions);
+            checkedStates++;
+
+            GameCommand next = actions.isEmpty()
+                    ? enemyEndTurn(fx.state)
+                    : actions.get(rnd.nextInt(actions.size())).toCommand(UUID.randomUUID(), fx.state.version());
+            if (next == null) break;
+            EngineResult res = fx.engine.process(fx.state, fx.ctx, next);
+            assertTrue(res.accepted(), "rejected: " + res.errors());
+        }
+        assertTrue(checkedStates > 50, "checked=" + checkedStates);
+    }
+
+    @Test
+    @DisplayName("도발이 있으면 적 1명 대상 카드는 도발 대상만 고를 수 있다")
+    void tauntRestrictsEnemyOneTargets() {
+        Fixture fx = new Fixture();
+        fx.mainTurn(P1);
+        CardInstId attack = fx.hand(P1, "C001");
+        fx.state.enemy(E2).statusSet(S005_Taunt.ID, 1);
+
+        List<TargetSelection> targets = playSelections(LegalActionGenerator.forPlayer(fx.state, fx.ctx, P1), attack);
+
+        assertEquals(List.of(new TargetSelection(List.of(TargetRef.ofEnemy(E2)))), targets);
+    }
+
+    @Test
+    @DisplayName("AP가 모자라도 집념 카드는 턴당 1장 빚으로 낼 수 있고, 기절이면 스킬 카드를 낼 수 없다")
+    void tenacityDebtAndStun() {
+        Fixture fx = new Fixture();
+        fx.mainTurn(P1);
+        PlayerState ps = fx.state.player(P1);
+        CardInstId normal = fx.hand(P1, "C001");
+        CardInstId tenacity = fx.hand(P1, "C001T");
+        ps.ap(0);
+
+        List<LegalAction> actions = LegalActionGenerator.forPlayer(fx.state, fx.ctx, P1);
+        assertTrue(playSelections(actions, normal).isEmpty());
+        assertTrue(actions.stream().anyMatch(a -> a instanceof LegalAction.PlayCard pc
+                && pc.cardId().equals(tenacity) && pc.apDebt()));
+
+        ps.usedTenacityThisTurn(true);
+        assertTrue(playSelections(LegalActionGenerator.forPlayer(fx.state, fx.ctx, P1), tenacity).isEmpty());
+
+        ps.usedTenacityThisTurn(false);
+        ps.ap(ps.maxAp());
+        ps.statusSet(S102_Stun.ID, 1);
+        List<LegalAction> stunned = LegalActionGenerator.forPlayer(fx.state, fx.ctx, P1);
+        assertTrue(stunned.stream().noneMatch(a -> a instanceof LegalAction.PlayCard));
+        assertTrue(stunned.stream().anyMatch(a -> a instanceof LegalAction.EndTurn));
+    }
+
+    @Test
+    @DisplayName("pending decision이 있으면 그 해소 행동만 낸다")
+    void pendingDecisionOnly() {
+        Fixture fx = new Fixture();
+        fx.mainTurn(P1);
+        PlayerState ps = fx.state.player(P1);
+        for (int i = 0; i < 8; i++) fx.hand(P1, "C002");
+        ps.pendingDecision(new PendingDecision.DiscardToHandLimit("test", 6));
+
+        List<LegalAction> actions = LegalActionGenerator.forPlayer(fx.state, fx.ctx, P1);
+
+        assertEquals(1, actions.size());
+        LegalAction.DiscardToHandLimit d = assertInstanceOf(LegalAction.DiscardToHandLimit.class, actions.get(0));
+        assertEquals(2, d.discardCount());
+        assertEquals(8, d.discardable().size());
+    }
+
+    /** 현재 턴 플레이어의 (손패 카드 x 대상) 중 전체 validate를 통과하는 조합이 생성 결과에 있는지 확인 */
+    private static void assertPlayCardsComplete(Fixture fx, List<LegalAction> actions) {
+        CombatState cs = fx.state.combat();
+        if (cs == null || cs.phase() != CombatPhase.MAIN) return;
+        if (!(cs.currentTurnActor() instanceof TargetRef.Player p)) return;
+
+        List<TargetSelection> universe = new ArrayList<>();
+        universe.add(TargetSelection.empty());
+        for (PlayerState ps : fx.state.players().values()) {
+            if (ps.hp() > 0) universe.add(new TargetSelection(List.of(TargetRef.ofPlayer(ps.playerId()))));
+        }
+        for (EnemyState es : fx.state.enemies().values()) {
+            if (es.hp() > 0) universe.add(new TargetSelection(List.of(TargetRef.ofEnemy(es.enemyId()))));
+        }
+
+        for (CardInstId cardId : fx.state.player(p.id()).hand()) {
+            List<TargetSelection> generated = playSelections(actions, cardId);
+            for (TargetSelection sel : universe) {
+                boolean valid = new PlayCardCommand(UUID.randomUUID(), fx.state.version(), p.id(), cardId, sel)
+                        .validate(fx.state, fx.ctx).isEmpty();
+                if (!valid) continue;
+                assertTrue(generated.contains(sel) || generated.contains(TargetSelection.empty()),
+                        "missing play " + fx.state.card(cardId).defId().value() + " -> " + sel);
+            }
+        }
+    }
+
+    private static List<TargetSelection> playSelections(List<LegalAction> actions, CardInstId cardId) {
+        List<TargetSelection> out = new ArrayList<>();
+        for (LegalAction a : actions) {
+            if (a instanceof LegalAction.PlayCard pc && pc.cardId().equals(cardId)) out.add(pc.selection());
+        }
+        return out;
+    }
+
+    private static void perturb(GameState state, Random rnd) {
+        EnemyState e2 = state.enemy(E2);
+        e2.statusSet(S005_Taunt.ID, rnd.nextBoolean() ? 1 : 0);
+        for (PlayerState ps : state.players().values()) {
+            ps.ap(rnd.nextInt(ps.maxAp() + 1));
+            ps.statusSet(S102_Stun.ID, rnd.nextInt(4) == 0 ? 1 : 0);
+        }
+    }
+
+    private static GameCommand enemyEndTurn(GameState state) {
+        CombatState cs = state.combat();
+        if (cs != null && cs.phase() == CombatPhase.MAIN && cs.currentTurnActor() instanceof TargetRef.Enemy e) {
+            return new com.example.dueltower.engine.command.EnemyEndTurnCommand(UUID.randomUUID(), state.version(), e.id());
+        }
+        return null;
+    }
+
+    private static boolean ended(GameState state) {
+        return state.combat() != null && state.combat().phase() == CombatPhase.END;
+    }
+
+    private static final class Fixture {
+        final GameState state = new GameState(new SessionId(UUID.randomUUID()), 99L);
+        final GameEngine engine = new GameEngine();
+        final EngineContext ctx;
+
+        Fixture() {
+            Map<CardDefId, CardDefinition> defs = new HashMap<>();
+            Map<CardDefId, CardEffect> effects = new HashMap<>();
+            for (CardBlueprint bp : List.<CardBlueprint>of(new C001_BasicAttack(), new C002_BasicRecovery(),
+                    new C003_BasicGuard(), new C004_BasicCurse(), new EX901_BandageWrap())) {
+                defs.put(bp.defId(), bp.definition());
+                effects.put(bp.defId(), bp);
+            }
+            // 집념 키워드가 붙은 기본 공격
+            CardBlueprint attack = new C001_BasicAttack();
+            CardDefinition base = attack.definition();
+            CardDefId tenacityId = new CardDefId("C001T");
+            defs.put(tenacityId, new CardDefinition(tenacityId, "집념 공격", base.type(), 3,
+                    Map.of(K010_Tenacity.ID, 1), base.resolveTo(), false, ""));
+            effects.put(tenacityId, attack);
+
+            Map<String, StatusDefinition> statusDefs = new HashMap<>();
+            Map<String, com.example.dueltower.engine.core.effect.status.StatusEffect> statusEffects = new HashMap<>();
+            for (StatusBlueprint bp : List.<StatusBlueprint>of(new S001_Shield(), new S005_Taunt(), new S101_Pain(), new S102_Stun())) {
+                statusDefs.put(bp.id(), bp.definition());
+                statusEffects.put(bp.id(), bp);
+            }
+            K010_Tenacity tenacity = new K010_Tenacity();
+            Map<String, KeywordDefinition> keywordDefs = Map.of(tenacity.id(), tenacity.definition());
+            Map<String, KeywordEffect> keywordEffects = Map.of(tenacity.id(), tenacity);
+            ctx = new EngineContext(defs, effects, statusDefs, statusEffects, keywordDefs, keywordEffects);
+
+            for (PlayerId pid : List.of(P1, P2)) {
+                PlayerState ps = new PlayerState(pid);
+                state.players().put(pid, ps);
+                for (String def : List.of("C001", "C001", "C002", "C002", "C003", "C003", "C004", "C004", "C001T", "C001", "C002", "C003")) {
+                    deck(pid, def);
+                }
+                CardInstId ex = Ids.newCardInstId();
+                state.cardInstances().put(ex, new CardInstance(ex, new CardDefId("EX901"), pid, Zone.EX));
+                ps.exCard(ex);
+            }
+            state.enemies().put(E1, new EnemyState(E1, 400));
+            state.enemies().put(E2, new EnemyState(E2, 400));
+        }
+
+        void deck(PlayerId pid, String def) {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, new CardDefId(def), pid, Zone.DECK));
+            state.player(pid).deck().addLast(id);
+        }
+
+        CardInstId hand(PlayerId pid, String def) {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, new CardDefId(def), pid, Zone.HAND));
+            state.player(pid).hand().add(id);
+            return id;
+        }
+
+        void mainTurn(PlayerId pid) {
+            CombatState cs = new CombatState();
+            cs.turnOrder().add(TargetRef.ofPlayer(pid));
+            cs.currentTurnIndex(0);
+            cs.phase(CombatPhase.MAIN);
+            cs.round(1);
+            state.combat(cs);
+            PlayerState ps = state.player(pid);
+            ps.ap(ps.maxAp());
+        }
+    }
+}
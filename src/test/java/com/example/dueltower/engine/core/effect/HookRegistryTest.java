@@ -0,0 +1,57 @@
+package com.example.dueltower.engine.core.effect;
+
+import com.example.dueltower.content.passive.pdb.P001_BasicPassive;
+import com.example.dueltower.content.status.sdb.S001_Shield;
+import com.example.dueltower.engine.core.effect.passive.PassiveEffect;
+import com.example.dueltower.engine.core.effect.passive.PassiveHook;
+import com.example.dueltower.engine.core.effect.status.StatusEffect;
+import com.example.dueltower.engine.core.effect.status.StatusHook;
+import com.example.dueltower.engine.core.effect.status.StatusRuntime;
+import com.example.dueltower.engine.model.TargetRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HookRegistryTest {
+
+    @Test
+    @DisplayName("훅 목록의 메서드 이름/파라미터가 효과 인터페이스의 default 메서드와 일치한다")
+    void hooksMatchInterfaces() throws Exception {
+        for (StatusHook h : StatusHook.values()) {
+            assertTrue(StatusEffect.class.getMethod(h.method(), h.params()).isDefault(), h.name());
+        }
+        for (PassiveHook h : PassiveHook.values()) {
+            assertTrue(PassiveEffect.class.getMethod(h.method(), h.params()).isDefault(), h.name());
+        }
+    }
+
+    @Test
+    @DisplayName("재정의한 훅에만 등록되고, 아무도 재정의하지 않은 훅은 비어 있다")
+    void registersOnlyOverriddenHooks() {
+        StatusEffect turnEndOnly = new StatusEffect() {
+            @Override public String id() { return "T_TICK"; }
+            @Override public void onTurnEnd(StatusRuntime rt, TargetRef owner, int stacks) {}
+        };
+        S001_Shield shield = new S001_Shield();
+
+        HookRegistry<StatusHook> hooks = HookRegistry.scan(StatusHook.class, StatusEffect.class,
+                Map.of(shield.id(), shield, turnEndOnly.id(), turnEndOnly));
+
+        assertTrue(hooks.has(StatusHook.INCOMING_DAMAGE, shield.id()));
+        assertFalse(hooks.has(StatusHook.INCOMING_DAMAGE, turnEndOnly.id()));
+        assertEquals(Set.of(turnEndOnly.id()), hooks.ids(StatusHook.TURN_END));
+        assertFalse(hooks.any(StatusHook.COST));
+        assertFalse(hooks.any(StatusHook.VALIDATE_USE_EX));
+
+        P001_BasicPassive passive = new P001_BasicPassive();
+        HookRegistry<PassiveHook> passiveHooks = HookRegistry.scan(PassiveHook.class, PassiveEffect.class,
+                Map.of(passive.id(), passive));
+        for (PassiveHook h : PassiveHook.values()) {
+            assertFalse(passiveHooks.any(h), h.name()); // 기본 패시브는 아무 훅도 재정의하지 않는다
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.dueltower.engine.core.effect.card;
+
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldEffectOpsTest {
+
+    private static final PlayerId P1 = new PlayerId("p1");
+
+    /** 턴 시작 훅이 불린 카드 순서를 남기는 필드 카드 3종 */
+    private final List<CardInstId> calls = new ArrayList<>();
+
+    private EngineContext content() {
+        Map<CardDefId, CardDefinition> defs = new HashMap<>();
+        Map<CardDefId, CardEffect> effects = new HashMap<>();
+        for (String id : List.of("T_A", "T_B", "T_C")) {
+            CardDefId defId = new CardDefId(id);
+            defs.put(defId, new CardDefinition(defId, id, CardType.SKILL, 0, Map.of(), Zone.FIELD, false, ""));
+            effects.put(defId, new CardEffect() {
+                @Override public String id() { return id; }
+                @Override public void resolve(EffectContext ec) {}
+                @Override public void onTurnStart(EffectContext ec, CardInstId sourceCardId) { calls.add(sourceCardId); }
+            });
+        }
+        return new EngineContext(defs, effects);
+    }
+
+    private static CardInstId put(GameState state, PlayerState ps, String defId, long uuid) {
+        CardInstId id = new CardInstId(new UUID(0, uuid));
+        state.cardInstances().put(id, new CardInstance(id, new CardDefId(defId), P1, Zone.FIELD));
+        ps.field().add(id);
+        return id;
+    }
+
+    @Test
+    @DisplayName("진입 순서와 관계없이 정의 id → 인스턴스 id 순으로 턴 훅을 부르고, 이탈한 카드는 빠진다")
+    void keepsOrderAcrossEnterAndLeave() {
+        EngineContext ctx = content();
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        PlayerState ps = new PlayerState(P1);
+        state.players().put(P1, ps);
+        List<GameEvent> out = new ArrayList<>();
+
+        CardInstId c4 = put(state, ps, "T_C", 4);
+        CardInstId b2 = put(state, ps, "T_B", 2);
+        CardInstId a3 = put(state, ps, "T_A", 3);
+        CardInstId b1 = put(state, ps, "T_B", 1);
+        for (CardInstId id : List.of(c4, b2, a3, b1)) FieldEffectOps.onEnterField(state, ctx, ps, id, out, "T");
+        FieldEffectOps.onEnterField(state, ctx, ps, b2, out, "T"); // 이미 활성이면 무시
+
+        FieldEffectOps.onTurnStart(state, ctx, ps, out, "T");
+        assertEquals(List.of(a3, b1, b2, c4), calls);
+
+        FieldEffectOps.onLeaveField(state, ctx, ps, b1, out, "T");
+        calls.clear();
+        FieldEffectOps.onTurnStart(state, ctx, ps, out, "T");
+        assertEquals(List.of(a3, b2, c4), calls);
+        assertEquals(List.of(a3, b2, c4), Arrays.asList(ps.activeFieldCards()));
+
+        // 디코드한 상태는 목록이 없으므로 필드에서 다시 만든다(같은 순서)
+        GameState decoded = GameStateCodec.decode(GameStateCodec.encode(state));
+        assertNull(decoded.player(P1).activeFieldCards());
+        calls.clear();
+        FieldEffectOps.onTurnStart(decoded, ctx, decoded.player(P1), out, "T");
+        assertEquals(List.of(a3, b2, c4), calls);
+    }
+
+    @Test
+    @DisplayName("fork한 상태에서 진입/이탈해도 원본의 활성 목록은 그대로다")
+    void forkDoesNotLeak() {
+        EngineContext ctx = content();
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        PlayerState ps = new PlayerState(P1);
+        state.players().put(P1, ps);
+        List<GameEvent> out = new ArrayList<>();
+
+        CardInstId a = put(state, ps, "T_A", 1);
+        FieldEffectOps.onEnterField(state, ctx, ps, a, out, "T");
+
+        GameState fork = state.fork();
+        FieldEffectOps.onLeaveField(fork, ctx, fork.player(P1), a, out, "T");
+
+        assertEquals(0, fork.player(P1).activeFieldCards().length);
+        assertEquals(List.of(a), Arrays.asList(ps.activeFieldCards()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.dueltower.engine.core.effect.keyword;
+
+import com.example.dueltower.content.keyword.kdb.K008_Accurate;
+import com.example.dueltower.content.keyword.kdb.K009_Penetration;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.model.CardDefinition;
+import com.example.dueltower.engine.model.CardType;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Zone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordBindingTest {
+
+    @Test
+    @DisplayName("정의 순서대로, 값이 0이거나 구현이 없는 키워드는 빼고 묶는다")
+    void compileSkipsAbsentAndUnknown() {
+        K008_Accurate accurate = new K008_Accurate();
+        K009_Penetration penetration = new K009_Penetration();
+        Map<String, KeywordEffect> effects = Map.of(accurate.id(), accurate, penetration.id(), penetration);
+
+        Map<String, Integer> keywords = new LinkedHashMap<>();
+        keywords.put(" " + penetration.id() + " ", null);
+        keywords.put("없는키워드", 1);
+        keywords.put(accurate.id(), 0);
+        keywords.put(accurate.id() + " ", 2);
+
+        KeywordBinding[] b = KeywordBinding.compile(keywords, effects);
+        assertEquals(2, b.length);
+        assertSame(penetration, b[0].effect());
+        assertEquals(new KeywordRuntime(penetration.id(), 1), b[0].runtime());
+        assertSame(accurate, b[1].effect());
+        assertEquals(2, b[1].runtime().value());
+
+        assertSame(KeywordBinding.NONE, KeywordBinding.compile(Map.of(), effects));
+        assertSame(KeywordBinding.NONE, KeywordBinding.compile(Map.of("없는키워드", 1), effects));
+    }
+
+    @Test
+    @DisplayName("컨텍스트는 카드 정의마다 바인딩을 한 번 만들어 같은 배열을 돌려준다")
+    void contextCachesPerDefinition() {
+        K009_Penetration penetration = new K009_Penetration();
+        CardDefId plain = new CardDefId("T_PLAIN");
+        CardDefId pierce = new CardDefId("T_PIERCE");
+        Map<CardDefId, CardDefinition> defs = new HashMap<>();
+        defs.put(plain, new CardDefinition(plain, "plain", CardType.SKILL, 1, Map.of(), Zone.GRAVE, false, ""));
+        defs.put(pierce, new CardDefinition(pierce, "pierce", CardType.SKILL, 1,
+                Map.of(penetration.id(), 1), Zone.GRAVE, false, ""));
+        Map<CardDefId, CardEffect> effects = new HashMap<>();
+
+        EngineContext ctx = new EngineContext(defs, effects, Map.of(), Map.of(),
+                Map.of(), Map.of(penetration.id(), penetration), Map.of(), Map.of());
+
+        assertEquals(0, ctx.keywordBindings(plain).length);
+        assertSame(penetration, ctx.keywordBindings(pierce)[0].effect());
+        assertSame(ctx.keywordBindings(pierce), ctx.keywordBindings(pierce));
+        assertThrows(IllegalArgumentException.class, () -> ctx.keywordBindings(new CardDefId("NOPE")));
+    }
+}
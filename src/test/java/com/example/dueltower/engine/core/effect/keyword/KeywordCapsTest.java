@@ -0,0 +1,48 @@
+package com.example.dueltower.engine.core.effect.keyword;
+
+import com.example.dueltower.content.keyword.kdb.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordCapsTest {
+
+    @Test
+    @DisplayName("값이 0이 아닌 키워드만 비트로 세우고, 소환 수치는 하한을 적용해 뽑아 둔다")
+    void compileBitsAndSummonParams() {
+        KeywordCaps caps = KeywordCaps.compile(Map.of(
+                K004_Summon.ID, 1,
+                K003_Installed.ID, 0,
+                K011_Critical.ID, 3,
+                K901_SummonHp.ID, 0,
+                K902_SummonAttackPower.ID, 4,
+                K903_SummonHealingPower.ID, -2,
+                K904_Action.ID, 2
+        ), Map.of());
+
+        assertTrue(caps.has(KeywordCaps.SUMMON));
+        assertTrue(caps.has(KeywordCaps.CRITICAL));
+        assertFalse(caps.has(KeywordCaps.INSTALLED));
+        assertFalse(caps.has(KeywordCaps.INSTALLED | KeywordCaps.PENETRATION));
+        assertEquals(1, caps.summonHp());
+        assertEquals(4, caps.summonAttack());
+        assertEquals(0, caps.summonHeal());
+        assertEquals(2, caps.summonActionCost());
+        assertEquals(3, caps.critical());
+
+        assertSame(KeywordCaps.NONE, KeywordCaps.compile(Map.of(), Map.of()));
+    }
+
+    @Test
+    @DisplayName("부동 비트는 부동 효과 구현이 등록된 경우에만 선다")
+    void immovableNeedsEffect() {
+        K006_Immovable immovable = new K006_Immovable();
+        Map<String, Integer> kws = Map.of(K006_Immovable.ID, 1);
+
+        assertFalse(KeywordCaps.compile(kws, Map.of()).has(KeywordCaps.IMMOVABLE));
+        assertTrue(KeywordCaps.compile(kws, Map.of(immovable.id(), immovable)).has(KeywordCaps.IMMOVABLE));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.dueltower.engine.core.effect.passive;
+
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassiveChainTest {
+
+    private static final PlayerId P1 = new PlayerId("p1");
+
+    /** 우선순위 10: 코스트 x2, 우선순위 20: 코스트 +1, 우선순위 30: 아무 훅도 없음 */
+    private static EngineContext content() {
+        PassiveEffect doubled = new PassiveEffect() {
+            @Override public String id() { return "T_DOUBLE"; }
+            @Override public int onCost(PassiveRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, int currentCost) {
+                return currentCost * 2;
+            }
+        };
+        PassiveEffect plusOne = new PassiveEffect() {
+            @Override public String id() { return "T_PLUS"; }
+            @Override public int onCost(PassiveRuntime rt, TargetRef actor, CardInstance ci, CardDefinition def, int currentCost) {
+                return currentCost + 1;
+            }
+        };
+        PassiveEffect idle = () -> "T_IDLE";
+        return new EngineContext(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of("T_DOUBLE", new PassiveDefinition("T_DOUBLE", "double", 10, ""),
+                        "T_PLUS", new PassiveDefinition("T_PLUS", "plus", 20, ""),
+                        "T_IDLE", new PassiveDefinition("T_IDLE", "idle", 30, "")),
+                Map.of("T_DOUBLE", doubled, "T_PLUS", plusOne, "T_IDLE", idle));
+    }
+
+    private static GameState stateWith(List<String> passives) {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        PlayerState ps = new PlayerState(P1);
+        ps.passiveIds(passives);
+        state.players().put(P1, ps);
+        return state;
+    }
+
+    @Test
+    @DisplayName("등록 순서와 관계없이 우선순위 순으로 훅을 재정의한 패시브만 체인에 담는다")
+    void ordersByPriority() {
+        EngineContext ctx = content();
+        GameState state = stateWith(List.of("T_PLUS", "T_DOUBLE"));
+        int cost = PassiveOps.modifiedCost(state, ctx, TargetRef.ofPlayer(P1), null, null, 1, new ArrayList<>(), "TEST");
+        assertEquals(3, cost); // (1 * 2) + 1
+
+        PassiveChain chain = PassiveChain.of(ctx, state.player(P1));
+        assertEquals(2, chain.effects(PassiveHook.COST).length);
+        assertEquals(0, chain.effects(PassiveHook.TURN_START).length);
+    }
+
+    @Test
+    @DisplayName("체인은 플레이어마다 한 번 만들어 재사용하고, fork는 공유하며, 패시브가 바뀌거나 컨텍스트가 다르면 다시 만든다")
+    void cachesPerPlayer() {
+        EngineContext ctx = content();
+        GameState state = stateWith(List.of("T_PLUS", "T_IDLE"));
+        PlayerState ps = state.player(P1);
+
+        PassiveChain first = PassiveChain.of(ctx, ps);
+        assertSame(first, PassiveChain.of(ctx, ps));
+        assertSame(first, PassiveChain.of(ctx, state.fork().player(P1)));
+        assertNotSame(first, PassiveChain.of(content(), ps));
+
+        ps.passiveIds(List.of("T_DOUBLE"));
+        PassiveChain changed = PassiveChain.of(ctx, ps);
+        assertNotSame(first, changed);
+        assertEquals(4, PassiveOps.modifiedCost(state, ctx, TargetRef.ofPlayer(P1), null, null, 2, new ArrayList<>(), "TEST"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.dueltower.engine.core.plan;
+
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.combat.DamageOps;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyTurnPlannerTest {
+
+    private static final PlayerId P1 = new PlayerId("P1");
+    private static final PlayerId P2 = new PlayerId("P2");
+    private static final EnemyId E1 = new EnemyId("E1");
+
+    private static final CardDefId JAB = new CardDefId("T_JAB");       // 코스트 1, 6 피해
+    private static final CardDefId SMASH = new CardDefId("T_SMASH");   // 코스트 2, 10 피해
+    private static final CardDefId FLICK = new CardDefId("T_FLICK");   // 코스트 0, 1 피해, 손패로 돌아온다
+
+    @Test
+    @DisplayName("한 수 앞만 보면 큰 카드를 고르지만, 깊이 탐색은 작은 카드 2장으로 플레이어를 쓰러뜨린다")
+    void findsTwoStepKnockout() {
+        Fixture fx = new Fixture(2);
+        fx.enemyHand(JAB);
+        fx.enemyHand(JAB);
+        fx.enemyHand(SMASH);
+        long hashBefore = fx.state.stateHash();
+        long versionBefore = fx.state.version();
+
+        EnemyTurnPlan plan = EnemyTurnPlanner.plan(fx.state, fx.ctx, Duration.ofSeconds(5), 4);
+
+        assertEquals(hashBefore, fx.state.stateHash(), "planner must not touch base");
+        assertEquals(versionBefore, fx.state.version());
+        assertFalse(plan.timedOut());
+        assertEquals(2, plan.actions().size(), "plan=" + plan.actions());
+        assertTrue(plan.endsTurn());
+
+        GameEngine engine = new GameEngine();
+        for (GameCommand cmd : plan.toCommands()) {
+            EngineResult res = engine.process(fx.state, fx.ctx, cmd);
+            assertTrue(res.accepted(), "rejected: " + res.errors());
+        }
+        assertEquals(0, fx.state.player(P1).hp());
+        assertEquals(30, fx.state.player(P2).hp());
+        assertFalse(fx.state.combat().currentTurnActor() instanceof TargetRef.Enemy);
+    }
+
+    @Test
+    @DisplayName("탐색 공간이 커도 시간 예산 안에 끊고, 찾은 순서는 그대로 제출할 수 있다")
+    void respectsBudget() {
+        Fixture fx = new Fixture(0);
+        fx.enemyHand(FLICK);
+        fx.enemyHand(JAB);
+        fx.state.enemy(E1).ap(40);
+        for (PlayerId pid : List.of(P1, P2)) {
+            fx.state.player(pid).body(40);
+            fx.state.player(pid).hp(fx.state.player(pid).maxHp());
+        }
+
+        // 예산이 0이면 루트만 보고 바로 끊는다
+        EnemyTurnPlan none = EnemyTurnPlanner.plan(fx.state, fx.ctx, Duration.ZERO, 500);
+        assertTrue(none.timedOut());
+        assertEquals(1, none.nodesSearched());
+        assertEquals(0, none.depthReached());
+
+        EnemyTurnPlan plan = EnemyTurnPlanner.plan(fx.state, fx.ctx, Duration.ofMillis(50), 500);
+        assertTrue(plan.timedOut());
+        assertTrue(plan.nodesSearched() > 1 && plan.nodesSearched() < 1_000_000, "nodes=" + plan.nodesSearched());
+        assertTrue(plan.depthReached() >= 1);
+        assertFalse(plan.actions().isEmpty());
+
+        GameEngine engine = new GameEngine();
+        for (GameCommand cmd : plan.toCommands()) {
+            assertTrue(engine.process(fx.state, fx.ctx, cmd).accepted());
+        }
+    }
+
+    @Test
+    @DisplayName("적 턴이 아니면 계획하지 않는다")
+    void rejectsWhenNotEnemyTurn() {
+        Fixture fx = new Fixture(2);
+        fx.state.combat().currentTurnIndex(1);
+        assertThrows(IllegalArgumentException.class,
+                () -> EnemyTurnPlanner.plan(fx.state, fx.ctx, Duration.ofMillis(50), 3));
+    }
+
+    /** 플레이어 1명에게 고정 피해 */
+    private record FixedStrike(CardDefId defId, int damage) implements CardEffect {
+        @Override public String id() { return defId.value(); }
+
+        @Override
+        public List<String> validate(EffectContext ec) {
+            List<TargetRef> targets = ec.selection().targets();
+            if (targets.size() != 1 || !(targets.get(0) instanceof TargetRef.Player p)) return List.of("one player target");
+            PlayerState ps = ec.state().player(p.id());
+            return (ps == null || ps.hp() <= 0) ? List.of("target down") : List.of();
+        }
+
+        @Override
+        public void resolve(EffectContext ec) {
+            DamageOps.apply(ec.state(), ec.ctx(), ec.out(), TargetRef.ofEnemy(new EnemyId(ec.actor().value())),
+                    ec.actor().value(), TargetRef.ofPlayer(ec.selection().requireOnePlayer()), damage);
+        }
+    }
+
+    private static final class Fixture {
+        final GameState state = new GameState(new SessionId(UUID.randomUUID()), 7L);
+        final EngineContext ctx;
+
+        Fixture(int enemyAp) {
+            Map<CardDefId, CardDefinition> defs = new HashMap<>();
+            Map<CardDefId, CardEffect> effects = new HashMap<>();
+            card(defs, effects, JAB, 1, 6, Zone.GRAVE);
+            card(defs, effects, SMASH, 2, 10, Zone.GRAVE);
+            card(defs, effects, FLICK, 0, 1, Zone.HAND);
+            ctx = new EngineContext(defs, effects);
+
+            for (PlayerId pid : List.of(P1, P2)) {
+                PlayerState ps = new PlayerState(pid);
+                ps.body(6); // maxHp 33
+                state.players().put(pid, ps);
+            }
+            state.player(P1).hp(12);
+            state.player(P2).hp(30);
+
+            EnemyState es = new EnemyState(E1, 100);
+            es.ap(enemyAp);
+            state.enemies().put(E1, es);
+
+            CombatState cs = new CombatState();
+            cs.turnOrder().add(TargetRef.ofEnemy(E1));
+            cs.turnOrder().add(TargetRef.ofPlayer(P1));
+            cs.turnOrder().add(TargetRef.ofPlayer(P2));
+            cs.currentTurnIndex(0);
+            cs.phase(CombatPhase.MAIN);
+            cs.round(1);
+            state.combat(cs);
+        }
+
+        private static void card(Map<CardDefId, CardDefinition> defs, Map<CardDefId, CardEffect> effects,
+                                 CardDefId id, int cost, int damage, Zone resolveTo) {
+            defs.put(id, new CardDefinition(id, id.value(), CardType.SKILL, cost, Map.of(), resolveTo, false, ""));
+            effects.put(id, new FixedStrike(id, damage));
+        }
+
+        void enemyHand(CardDefId def) {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, def, new PlayerId(E1.value()), Zone.HAND));
+        }
+    }
+}
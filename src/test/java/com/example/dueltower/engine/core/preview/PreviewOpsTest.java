@@ -0,0 +1,129 @@
+package com.example.dueltower.engine.core.preview;
+
+import com.example.dueltower.content.card.cdb.*;
+import com.example.dueltower.content.card.model.CardBlueprint;
+import com.example.dueltower.content.status.model.StatusBlueprint;
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.PlayCardCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.status.StatusEffect;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreviewOpsTest {
+
+    private static final PlayerId P1 = new PlayerId("P1");
+    private static final EnemyId E1 = new EnemyId("E1");
+
+    @Test
+    @DisplayName("공격 카드 미리보기: 적 HP/내 AP/카드 존 변화를 돌려주고 원본 상태는 그대로다")
+    void previewsAttackWithoutTouchingState() {
+        Fixture fx = new Fixture();
+        CardInstId attack = fx.hand("C001");
+        byte[] before = GameStateCodec.encode(fx.state);
+        PlayerState ps = fx.state.player(P1);
+        int apBefore = ps.ap();
+
+        PlayCardCommand cmd = new PlayCardCommand(UUID.randomUUID(), fx.state.version(), P1, attack,
+                new TargetSelection(List.of(TargetRef.ofEnemy(E1))));
+        OutcomePreview preview = PreviewOps.preview(fx.state, fx.ctx, cmd);
+
+        assertTrue(preview.accepted(), "errors=" + preview.errors());
+        assertEquals(fx.state.version(), preview.baseVersion());
+        assertArrayEquals(before, GameStateCodec.encode(fx.state));
+
+        OutcomePreview.VitalChange enemyHp = vital(preview, "E:E1", OutcomePreview.HP);
+        assertEquals(100, enemyHp.before());
+        assertTrue(enemyHp.after() < 100);
+        OutcomePreview.VitalChange ap = vital(preview, "P:P1", OutcomePreview.AP);
+        assertEquals(apBefore, ap.before());
+        assertTrue(ap.after() < apBefore);
+
+        OutcomePreview.ZoneChange moved = preview.zones().stream()
+                .filter(z -> z.cardId().equals(attack.value().toString()))
+                .findFirst().orElseThrow();
+        assertEquals("HAND", moved.from());
+        assertNotEquals("HAND", moved.to());
+        assertFalse(preview.events().isEmpty());
+
+        // 미리보기는 dedupe에 남지 않으므로 같은 커맨드를 실제로 보낼 수 있다
+        GameEngine engine = new GameEngine();
+        assertTrue(engine.process(fx.state, fx.ctx, cmd).accepted());
+        assertEquals(enemyHp.after(), fx.state.enemy(E1).hp());
+    }
+
+    @Test
+    @DisplayName("미리보기도 검증/버전 규칙을 그대로 따른다")
+    void rejectedPreviewCarriesErrors() {
+        Fixture fx = new Fixture();
+        CardInstId attack = fx.hand("C001");
+
+        OutcomePreview stale = PreviewOps.preview(fx.state, fx.ctx, new PlayCardCommand(UUID.randomUUID(),
+                fx.state.version() + 1, P1, attack, new TargetSelection(List.of(TargetRef.ofEnemy(E1)))));
+        assertFalse(stale.accepted());
+        assertEquals(List.of("version mismatch"), stale.errors());
+
+        fx.state.player(P1).ap(0);
+        OutcomePreview noAp = PreviewOps.preview(fx.state, fx.ctx, new PlayCardCommand(UUID.randomUUID(),
+                fx.state.version(), P1, attack, new TargetSelection(List.of(TargetRef.ofEnemy(E1)))));
+        assertFalse(noAp.accepted());
+        assertFalse(noAp.errors().isEmpty());
+        assertTrue(noAp.vitals().isEmpty());
+    }
+
+    private static OutcomePreview.VitalChange vital(OutcomePreview preview, String actorKey, String stat) {
+        return preview.vitals().stream()
+                .filter(v -> v.actorKey().equals(actorKey) && v.stat().equals(stat))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no " + stat + " change for " + actorKey + ": " + preview.vitals()));
+    }
+
+    private static final class Fixture {
+        final GameState state = new GameState(new SessionId(UUID.randomUUID()), 5L);
+        final EngineContext ctx;
+
+        Fixture() {
+            Map<CardDefId, CardDefinition> defs = new HashMap<>();
+            Map<CardDefId, CardEffect> effects = new HashMap<>();
+            for (CardBlueprint bp : List.<CardBlueprint>of(new C001_BasicAttack(), new C002_BasicRecovery())) {
+                defs.put(bp.defId(), bp.definition());
+                effects.put(bp.defId(), bp);
+            }
+            Map<String, StatusDefinition> statusDefs = new HashMap<>();
+            Map<String, StatusEffect> statusEffects = new HashMap<>();
+            for (StatusBlueprint bp : List.<StatusBlueprint>of(new S001_Shield(), new S005_Taunt())) {
+                statusDefs.put(bp.id(), bp.definition());
+                statusEffects.put(bp.id(), bp);
+            }
+            ctx = new EngineContext(defs, effects, statusDefs, statusEffects, Map.of(), Map.of());
+
+            PlayerState ps = new PlayerState(P1);
+            ps.body(3);
+            state.players().put(P1, ps);
+            state.enemies().put(E1, new EnemyState(E1, 100));
+
+            CombatState cs = new CombatState();
+            cs.turnOrder().add(TargetRef.ofPlayer(P1));
+            cs.turnOrder().add(TargetRef.ofEnemy(E1));
+            cs.phase(CombatPhase.MAIN);
+            state.combat(cs);
+            ps.ap(ps.maxAp());
+        }
+
+        CardInstId hand(String def) {
+            CardInstId id = Ids.newCardInstId();
+            state.cardInstances().put(id, new CardInstance(id, new CardDefId(def), P1, Zone.HAND));
+            state.player(P1).hand().add(id);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.content.passive.pdb.P001_BasicPassive;
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.effect.EffectContext;
+import com.example.dueltower.engine.core.effect.card.CardEffect;
+import com.example.dueltower.engine.core.effect.passive.PassiveEffect;
+import com.example.dueltower.engine.core.effect.status.StatusEffect;
+import com.example.dueltower.engine.core.sim.BalanceReport.Row;
+import com.example.dueltower.engine.core.sim.BalanceSweep.Candidate;
+import com.example.dueltower.engine.core.sim.BalanceSweep.ReferenceDeck;
+import com.example.dueltower.engine.model.CardDefinition;
+import com.example.dueltower.engine.model.CardType;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.PassiveDefinition;
+import com.example.dueltower.engine.model.StatusDefinition;
+import com.example.dueltower.engine.model.Zone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceSweepTest {
+
+    private static final List<String> DECK = List.of(
+            "C001", "C001", "C001", "C002", "C002", "C002",
+            "C003", "C003", "C003", "C004", "C004", "C004");
+    private static final List<String> GUARD_HEAVY = List.of(
+            "C001", "C001", "C003", "C003", "C003", "C003",
+            "C003", "C003", "C002", "C002", "C004", "C004");
+
+    private static final List<ReferenceDeck> DECKS = List.of(
+            new ReferenceDeck("basic", DECK, "EX901"),
+            new ReferenceDeck("guard", GUARD_HEAVY, "EX901"));
+
+    private static final List<Candidate> CANDIDATES = List.of(
+            new Candidate(Candidate.Kind.CARD, "C001", 3),
+            new Candidate(Candidate.Kind.CARD, "C003", 3),
+            new Candidate(Candidate.Kind.CARD, "T_BLANK", 3),
+            new Candidate(Candidate.Kind.EX, "EX901", 1),
+            new Candidate(Candidate.Kind.PASSIVE, P001_BasicPassive.ID, 0),
+            new Candidate(Candidate.Kind.CARD, "NO_SUCH_CARD", 3));
+
+    @Test
+    @DisplayName("후보 x 기준 덱마다 1행씩 끝나는 대로 흘려보내고, 워커 수와 관계없이 결과가 같다")
+    void streamsRowsDeterministically() {
+        EngineContext ctx = content();
+        List<Row> streamed = Collections.synchronizedList(new ArrayList<>());
+        BalanceReport parallel = BalanceSweep.run(ctx, config(300, 3), DECKS, CANDIDATES, streamed::add);
+        BalanceReport serial = BalanceSweep.run(ctx, config(300, 1), DECKS, CANDIDATES, r -> {});
+
+        assertEquals(DECKS.size() * (CANDIDATES.size() + 1), streamed.size());
+        assertEquals(new HashSet<>(parallel.rows()), new HashSet<>(streamed));
+        assertEquals(Candidate.Kind.BASELINE, parallel.rows().get(0).kind());
+        assertEquals(serial.rows(), parallel.rows());
+
+        // 기준 전투와 같은 덱을 그대로 쓰는 EX 후보는 차이가 0이다(같은 seed)
+        for (Row r : parallel.rows()) {
+            if (r.kind() == Candidate.Kind.EX) assertEquals(0.0, r.winRateDelta(), 1e-12, r.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("아무 효과 없는 카드를 끼운 변형이 가장 약하게 나오고, 실패한 후보는 오류 행으로 남는다")
+    void ranksCandidates() {
+        BalanceReport report = BalanceSweep.run(content(), config(300, 0), DECKS, CANDIDATES, r -> {});
+
+        Map<String, BalanceReport.Summary> byId = new HashMap<>();
+        for (BalanceReport.Summary s : report.byCandidate()) byId.put(s.id(), s);
+
+        List<BalanceReport.Summary> ranked = report.byCandidate();
+        for (int i = 1; i < ranked.size(); i++) {
+            assertTrue(ranked.get(i - 1).meanWinRateDelta() >= ranked.get(i).meanWinRateDelta());
+        }
+        assertTrue(byId.get("T_BLANK").meanWinRateDelta() < 0, report.table());
+        assertTrue(byId.get("C001").meanWinRateDelta() > byId.get("T_BLANK").meanWinRateDelta(), report.table());
+        assertTrue(byId.get("C001").meanMarginDelta() > byId.get("T_BLANK").meanMarginDelta(), report.table());
+        assertTrue(byId.get("C001").meanDeltaStdErr() > 0);
+        assertEquals(2, byId.get("NO_SUCH_CARD").failures());
+        assertEquals(2, report.baselines().size());
+        assertTrue(report.rows().stream()
+                .filter(r -> r.kind() == Candidate.Kind.CARD && r.id().equals("C001") && r.error() == null)
+                .allMatch(r -> r.plays() > 0));
+
+        String table = report.table();
+        assertTrue(table.startsWith("balance report rows=" + DECKS.size() * (CANDIDATES.size() + 1) + " decks=2"), table);
+        for (ReferenceDeck d : DECKS) assertTrue(table.contains("baseline " + d.name() + " winRate="), table);
+        assertTrue(table.lines().anyMatch(l -> l.contains("NO_SUCH_CARD") && l.endsWith(" failures=2")), table);
+    }
+
+    @Test
+    @DisplayName("카드 후보는 기준 덱 끝에서부터 바꿔 끼우고, 패시브 후보는 플레이어 패시브로 들어간다")
+    void variantSubstitution() {
+        SimulationConfig base = config(10, 1);
+        ReferenceDeck deck = DECKS.get(0);
+
+        SimulationConfig card = BalanceSweep.variant(base, deck, new Candidate(Candidate.Kind.CARD, "C002", 2));
+        assertEquals(DECK.subList(0, 10), card.playerDeck().subList(0, 10));
+        assertEquals(List.of("C002", "C002"), card.playerDeck().subList(10, 12));
+
+        SimulationConfig passive = BalanceSweep.variant(base, deck, new Candidate(Candidate.Kind.PASSIVE, "P001", 0));
+        assertEquals(List.of("P001"), passive.playerPassives());
+        assertEquals(DECK, passive.playerDeck());
+    }
+
+    private static SimulationConfig config(int combats, int parallelism) {
+        return new SimulationConfig(combats, 2, 2, DECK, "EX901", List.of(), 4, 4, 4, 6,
+                160, 14, 30, SimPolicy.SCRIPTED, 11L, parallelism);
+    }
+
+    private static EngineContext content() {
+        Map<CardDefId, CardDefinition> defs = new HashMap<>();
+        Map<CardDefId, CardEffect> effects = new HashMap<>();
+        TestContent.putBasicCards(defs, effects);
+        // 아무 효과 없는 0코스트 카드(비교 하한)
+        CardDefId blank = new CardDefId("T_BLANK");
+        defs.put(blank, new CardDefinition(blank, "빈 카드", CardType.SKILL, 0, Map.of(), Zone.GRAVE, false, ""));
+        effects.put(blank, new CardEffect() {
+            @Override public String id() { return blank.value(); }
+            @Override public void resolve(EffectContext ec) {}
+        });
+        Map<String, StatusDefinition> statusDefs = new HashMap<>();
+        Map<String, StatusEffect> statusEffects = new HashMap<>();
+        TestContent.putBasicStatuses(statusDefs, statusEffects);
+        P001_BasicPassive passive = new P001_BasicPassive();
+        Map<String, PassiveDefinition> passiveDefs = Map.of(passive.id(), passive.definition());
+        Map<String, PassiveEffect> passiveEffects = Map.of(passive.id(), passive);
+        return new EngineContext(defs, effects, statusDefs, statusEffects, Map.of(), Map.of(), passiveDefs, passiveEffects);
+    }
+}
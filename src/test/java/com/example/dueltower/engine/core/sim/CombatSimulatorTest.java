@@ -0,0 +1,72 @@
+package com.example.dueltower.engine.core.sim;
+
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.core.EngineContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatSimulatorTest {
+
+    private static final List<String> DECK = List.of(
+            "C001", "C001", "C001", "C002", "C002", "C002",
+            "C003", "C003", "C003", "C004", "C004", "C004");
+
+    @Test
+    @DisplayName("같은 seed면 워커 수와 관계없이 결과가 같고, 모든 전투가 승/패/시간 초과 중 하나로 끝난다")
+    void deterministicAcrossParallelism() {
+        EngineContext ctx = TestContent.basicContent();
+        SimulationReport serial = CombatSimulator.run(ctx, config(400, SimPolicy.RANDOM, 1));
+        SimulationReport parallel = CombatSimulator.run(ctx, config(400, SimPolicy.RANDOM, 4));
+
+        assertEquals(400, serial.combats());
+        assertEquals(serial.combats(), serial.wins() + serial.losses() + serial.timeouts());
+        assertEquals(serial.wins(), parallel.wins());
+        assertEquals(serial.losses(), parallel.losses());
+        assertEquals(serial.timeouts(), parallel.timeouts());
+        assertEquals(serial.avgRounds(), parallel.avgRounds());
+        assertEquals(serial.cards(), parallel.cards());
+        assertEquals(serial.playerStatusUptime(), parallel.playerStatusUptime());
+        assertEquals(serial.enemyStatusUptime(), parallel.enemyStatusUptime());
+    }
+
+    @Test
+    @DisplayName("카드별 피해와 상태 유지율을 모으고, 적 일격도 카드로 집계된다")
+    void collectsCardDamageAndStatusUptime() {
+        SimulationReport r = CombatSimulator.run(TestContent.basicContent(), config(200, SimPolicy.SCRIPTED, 0));
+
+        assertTrue(r.wins() > 0, r.summary());
+        assertTrue(r.avgRounds() >= 1, r.summary());
+        assertTrue(r.cards().get("C001").damage() > 0, r.summary());
+        assertTrue(r.cards().get(EnemyStrike.ID.value()).damage() > 0, r.summary());
+        assertEquals(0, r.cards().get("C003").damage(), "방어 카드는 상대 HP를 깎지 않는다");
+        // 기본 방어(보호막), 기본 저주(고통)
+        assertTrue(r.playerStatusUptime().getOrDefault(S001_Shield.ID, 0.0) > 0, r.summary());
+        assertTrue(r.enemyStatusUptime().getOrDefault(S101_Pain.ID, 0.0) > 0, r.summary());
+    }
+
+    @Test
+    @DisplayName("큰 배치도 같은 설정으로 다시 돌리면 같은 결과가 나오고, 판 수가 빠짐없이 집계된다")
+    void largeBatchIsRepeatable() {
+        EngineContext ctx = TestContent.basicContent();
+        SimulationReport first = CombatSimulator.run(ctx, config(3000, SimPolicy.SCRIPTED, 0));
+        SimulationReport second = CombatSimulator.run(ctx, config(3000, SimPolicy.SCRIPTED, 0));
+
+        assertEquals(3000, first.combats());
+        assertEquals(first.combats(), first.wins() + first.losses() + first.timeouts());
+        assertEquals(first.wins(), second.wins());
+        assertEquals(first.losses(), second.losses());
+        assertEquals(first.timeouts(), second.timeouts());
+        assertEquals(first.avgRounds(), second.avgRounds());
+        assertEquals(first.cards(), second.cards());
+    }
+
+    private static SimulationConfig config(int combats, SimPolicy policy, int parallelism) {
+        return new SimulationConfig(combats, 2, 2, DECK, "EX901", List.of(), 4, 4, 4, 6,
+                60, 6, 30, policy, 7L, parallelism);
+    }
+}
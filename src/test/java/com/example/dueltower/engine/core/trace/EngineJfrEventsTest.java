@@ -0,0 +1,75 @@
+package com.example.dueltower.engine.core.trace;
+
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.command.DrawCommand;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineJfrEventsTest {
+
+    @Test
+    @DisplayName("JFR 녹화 중이면 커맨드 처리/드로우 이벤트를 남긴다(거절 사유 포함)")
+    void recordsCommandAndDrawEvents() throws Exception {
+        EngineContext ctx = TestContent.fillerContext();
+        GameState state = state();
+        GameEngine engine = new GameEngine();
+        UUID drawId = UUID.randomUUID();
+
+        List<RecordedEvent> recorded;
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandProcessEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(DrawEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+
+            assertTrue(engine.process(state, ctx, new StartCombatCommand(UUID.randomUUID(), state.version(), new PlayerId("P1"))).accepted());
+            assertTrue(engine.process(state, ctx, new DrawCommand(drawId, state.version(), new PlayerId("P1"), 2)).accepted());
+            assertFalse(engine.process(state, ctx, new DrawCommand(drawId, state.version(), new PlayerId("P1"), 2)).accepted());
+
+            recording.stop();
+            Path file = Files.createTempFile("duel-engine", ".jfr");
+            try {
+                recording.dump(file);
+                recorded = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        List<RecordedEvent> commands = recorded.stream()
+                .filter(e -> e.getEventType().getName().equals("dueltower.engine.Command"))
+                .toList();
+        assertEquals(3, commands.size());
+        assertTrue(commands.stream().anyMatch(e -> e.getString("commandType").equals("DrawCommand")
+                && e.getBoolean("accepted") && e.getInt("eventCount") >= 0));
+        assertTrue(commands.stream().anyMatch(e -> !e.getBoolean("accepted")
+                && "duplicate command".equals(e.getString("rejectReason"))));
+
+        assertTrue(recorded.stream()
+                .filter(e -> e.getEventType().getName().equals("dueltower.engine.Draw"))
+                .anyMatch(e -> e.getInt("requested") == 2 && e.getInt("drawn") == 2 && "P1".equals(e.getString("player"))));
+    }
+
+    private static GameState state() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 7L);
+        PlayerState ps = new PlayerState(new PlayerId("P1"));
+        state.players().put(ps.playerId(), ps);
+        state.enemies().put(new EnemyId("E1"), new EnemyState(new EnemyId("E1"), 30));
+        TestContent.addFillerDeck(state, ps, 20);
+        return state;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliveCountsTest {
+
+    private static final PlayerId P1 = new PlayerId("p1");
+    private static final PlayerId P2 = new PlayerId("p2");
+    private static final EnemyId E1 = new EnemyId("e1");
+
+    private static GameState state() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        state.players().put(P1, new PlayerState(P1));
+        state.players().put(P2, new PlayerState(P2));
+        state.enemies().put(E1, new EnemyState(E1, 10));
+        return state;
+    }
+
+    @Test
+    @DisplayName("hp와 [전투 불능] 스택이 바뀔 때마다 진영별 생존 수가 따라 바뀐다(맵을 직접 고쳐도)")
+    void tracksHpAndIncapacitation() {
+        GameState state = state();
+        assertEquals(2, state.alive().players());
+        assertEquals(1, state.alive().enemies());
+
+        state.player(P1).hp(0);
+        assertEquals(1, state.alive().players());
+        state.player(P1).hp(5);
+        assertEquals(2, state.alive().players());
+
+        state.player(P2).statusValues().put(PlayerState.BATTLE_INCAPACITATED, 1);
+        state.player(P2).statusAdd(PlayerState.BATTLE_INCAPACITATED_PERSISTENT, 1);
+        assertEquals(1, state.alive().players());
+        state.player(P2).statusSet(PlayerState.BATTLE_INCAPACITATED, 0);
+        assertEquals(1, state.alive().players());
+        state.player(P2).statusValues().clear();
+        assertEquals(2, state.alive().players());
+
+        state.enemy(E1).hp(0);
+        assertEquals(0, state.alive().enemies());
+        state.enemy(E1).maxHp(20);
+        assertEquals(0, state.alive().enemies());
+    }
+
+    @Test
+    @DisplayName("맵에서 빼거나 바꾸면 집계에서도 빠지고, 빠진 엔티티를 고쳐도 집계는 그대로다")
+    void detachesOnRemove() {
+        GameState state = state();
+        PlayerState removed = state.players().remove(P1);
+        assertEquals(1, state.alive().players());
+        removed.hp(0);
+        removed.hp(3);
+        assertEquals(1, state.alive().players());
+
+        PlayerState dead = new PlayerState(P2);
+        dead.hp(0);
+        state.players().put(P2, dead);
+        assertEquals(0, state.alive().players());
+
+        Iterator<EnemyState> it = state.enemies().values().iterator();
+        it.next();
+        it.remove();
+        assertEquals(0, state.alive().enemies());
+    }
+
+    @Test
+    @DisplayName("fork/디코드한 상태는 자기 집계를 따로 갖는다")
+    void forkAndDecodeRecount() {
+        GameState state = state();
+        state.player(P1).hp(0);
+
+        GameState fork = state.fork();
+        assertEquals(1, fork.alive().players());
+        fork.player(P2).hp(0);
+        fork.enemy(E1).hp(0);
+        assertEquals(0, fork.alive().players());
+        assertEquals(1, state.alive().players());
+        assertEquals(1, state.alive().enemies());
+
+        GameState decoded = GameStateCodec.decode(GameStateCodec.encode(state));
+        assertEquals(1, decoded.alive().players());
+        assertEquals(1, decoded.alive().enemies());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.content.card.model.OwnedCard;
+import com.example.dueltower.engine.model.Ids.CardDefId;
+import com.example.dueltower.engine.model.Ids.CardInstId;
+import com.example.dueltower.engine.model.Ids.EnemyId;
+import com.example.dueltower.engine.model.Ids.PlayerId;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeTrackerTest {
+
+    private static final PlayerId P1 = new PlayerId("p1");
+    private static final PlayerId P2 = new PlayerId("p2");
+    private static final EnemyId E1 = new EnemyId("e1");
+
+    private static GameState state() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        state.players().put(P1, new PlayerState(P1));
+        state.players().put(P2, new PlayerState(P2));
+        state.enemies().put(E1, new EnemyState(E1, 10));
+        return state;
+    }
+
+    @Test
+    @DisplayName("추적을 켜지 않았거나 첫 publish면 FULL, 그 뒤로는 바뀐 것이 없으면 빈 변경분이다")
+    void fullUntilBaselineExists() {
+        GameState state = state();
+        assertSame(ChangeSet.FULL, state.publishChanges());
+        assertSame(ChangeSet.FULL, state.publishChanges());
+
+        state.trackChanges();
+        assertTrue(state.publishChanges().full());
+        ChangeSet none = state.publishChanges();
+        assertTrue(none.isEmpty(), none.toString());
+        assertFalse(none.player(P1));
+
+        // fork는 추적을 이어받지 않는다
+        assertFalse(state.fork().tracksChanges());
+    }
+
+    @Test
+    @DisplayName("setter, 존 리스트/상태 맵 직접 수정, 엔티티 추가/삭제, 전투 시작을 엔티티 id 단위로 잡는다")
+    void reportsTouchedEntities() {
+        GameState state = state();
+        state.trackChanges();
+        CardInstId gone = Ids.newCardInstId();
+        state.cardInstances().put(gone, new CardInstance(gone, new CardDefId("C001"), P2, Zone.GRAVE));
+        state.publishChanges();
+
+        state.player(P1).ap(1);
+        state.enemy(E1).statusValues().put("S001", 2);
+        CardInstId drawn = Ids.newCardInstId();
+        state.cardInstances().put(drawn, new CardInstance(drawn, new CardDefId("C001"), P2, Zone.HAND));
+        state.player(P2).hand().add(drawn);
+        state.cardInstances().remove(gone);
+
+        ChangeSet c = state.publishChanges();
+        assertFalse(c.full());
+        assertEquals(Set.of(P1, P2), c.players());
+        assertEquals(Set.of(E1), c.enemies());
+        assertEquals(Set.of(drawn, gone), c.cards());
+        assertFalse(c.combat());
+        assertFalse(c.node());
+
+        state.combat(new CombatState());
+        ChangeSet started = state.publishChanges();
+        assertTrue(started.combat());
+        assertTrue(started.node());
+        assertTrue(started.players().isEmpty());
+
+        state.card(drawn).zone(Zone.GRAVE);
+        assertEquals(Set.of(drawn), state.publishChanges().cards());
+        assertTrue(state.publishChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("상태에서 빠진 엔티티는 그 뒤로 바꿔도 변경분에 들어가지 않는다")
+    void ignoresDetachedEntities() {
+        GameState state = state();
+        state.trackChanges();
+        state.publishChanges();
+
+        PlayerState removed = state.players().remove(P2);
+        assertEquals(Set.of(P2), state.publishChanges().players());
+
+        removed.ap(1);
+        removed.hand().add(Ids.newCardInstId());
+        assertTrue(state.publishChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("엔진 밖에서 보유 카드만 바꿔도(망각 등) 다음 변경분에 그 플레이어가 들어간다")
+    void reportsOwnedCardsChangedOutsideEngine() {
+        GameState state = state();
+        state.player(P1).ownedCards(List.of(new OwnedCard("C001", false, false, false), new OwnedCard("C002", false, false, false)));
+        state.trackChanges();
+        state.publishChanges();
+
+        state.player(P1).ownedCards(List.of(new OwnedCard("C002", false, false, false)));
+        ChangeSet c = state.publishChanges();
+        assertEquals(Set.of(P1), c.players());
+        assertTrue(c.cards().isEmpty());
+        assertTrue(state.publishChanges().isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.EnemyEndTurnCommand;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.action.LegalAction;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateForkTest {
+
+    private static final List<String> DECK = List.of(
+            "C001", "C001", "C001", "C001", "C002", "C002", "C002", "C003", "C003", "C003",
+            "C004", "C004", "C001", "C002", "C003", "C004", "C001", "C002", "C003", "C001");
+
+    @Test
+    @DisplayName("fork: 원본과 같은 상태를 만들고, 사본을 고쳐도 원본은 그대로다")
+    void forkIsEqualAndIndependent() {
+        Fixture fx = new Fixture(2, 2);
+        fx.advance(new Random(7), 40);
+        byte[] before = GameStateCodec.encode(fx.state);
+
+        GameState fork = fx.state.fork();
+        assertArrayEquals(before, GameStateCodec.encode(fork));
+
+        PlayerState ps = fork.players().values().iterator().next();
+        ps.hp(1);
+        ps.statusAdd(S101_Pain.ID, 3);
+        ps.hand().clear();
+        ps.deck().clear();
+        fork.enemies().values().iterator().next().hp(0);
+        CardInstance ci = fork.cardInstances().values().iterator().next();
+        ci.zone(Zone.EXCLUDED);
+        ci.counters().put("x", 1);
+        fork.combat().round(99);
+        fork.combat().turnOrder().clear();
+        fork.combat().factionStatusValues(CombatState.FactionId.PLAYERS).put("F", 1);
+        fork.bumpVersion();
+
+        assertArrayEquals(before, GameStateCodec.encode(fx.state));
+    }
+
+    @Test
+    @DisplayName("fork: 같은 커맨드를 원본과 사본에 적용하면 같은 결과가 된다")
+    void forkReplaysDeterministically() {
+        Fixture fx = new Fixture(2, 2);
+        fx.advance(new Random(11), 20);
+        GameState fork = fx.state.fork();
+        // 커맨드 ID dedupe는 엔진 인스턴스 단위라 사본은 별도 엔진으로 처리한다
+        GameEngine forkEngine = new GameEngine();
+
+        Random rnd = new Random(3);
+        for (int i = 0; i < 60; i++) {
+            GameCommand cmd = Fixture.pick(fx.state, fx.ctx, rnd);
+            if (cmd == null) break;
+            boolean a = fx.engine.process(fx.state, fx.ctx, cmd).accepted();
+            boolean b = forkEngine.process(fork, fx.ctx, cmd).accepted();
+            assertEquals(a, b);
+        }
+        assertArrayEquals(GameStateCodec.encode(fx.state), GameStateCodec.encode(fork));
+    }
+
+    @Test
+    @DisplayName("4인 80장 상태에서 fork마다 커맨드를 처리해도 원본은 그대로이고, 새 fork는 원본과 같은 바이트다")
+    void repeatedForksStayIsolated() {
+        Fixture fx = new Fixture(4, 3);
+        fx.advance(new Random(5), 12);
+        byte[] before = GameStateCodec.encode(fx.state);
+        long hash = fx.state.stateHash();
+        Random rnd = new Random(9);
+
+        for (int i = 0; i < 200; i++) {
+            GameState fork = fx.state.fork();
+            assertArrayEquals(before, GameStateCodec.encode(fork));
+            GameCommand cmd = Fixture.pick(fork, fx.ctx, rnd);
+            if (cmd != null) fx.engine.process(fork, fx.ctx, cmd);
+        }
+        assertArrayEquals(before, GameStateCodec.encode(fx.state));
+        assertEquals(hash, fx.state.stateHash());
+    }
+
+    private static final class Fixture {
+        final GameState state = new GameState(new SessionId(UUID.randomUUID()), 123L);
+        final GameEngine engine = new GameEngine();
+        final EngineContext ctx;
+
+        Fixture(int players, int enemies) {
+            ctx = TestContent.basicContent();
+
+            for (int p = 1; p <= players; p++) {
+                PlayerId pid = new PlayerId("P" + p);
+                PlayerState ps = new PlayerState(pid);
+                ps.body(2);
+                ps.will(6);
+                state.players().put(pid, ps);
+                for (String def : DECK) {
+                    CardInstId id = Ids.newCardInstId();
+                    state.cardInstances().put(id, new CardInstance(id, new CardDefId(def), pid, Zone.DECK));
+                    ps.deck().addLast(id);
+                }
+                CardInstId ex = Ids.newCardInstId();
+                state.cardInstances().put(ex, new CardInstance(ex, new CardDefId("EX901"), pid, Zone.EX));
+                ps.exCard(ex);
+            }
+            for (int e = 1; e <= enemies; e++) {
+                EnemyId eid = new EnemyId("E" + e);
+                state.enemies().put(eid, new EnemyState(eid, 100_000));
+            }
+            PlayerId first = state.players().keySet().iterator().next();
+            assertTrue(engine.process(state, ctx, new StartCombatCommand(UUID.randomUUID(), 0, first)).accepted());
+        }
+
+        void advance(Random rnd, int steps) {
+            for (int i = 0; i < steps; i++) {
+                GameCommand cmd = pick(state, ctx, rnd);
+                if (cmd == null) return;
+                assertTrue(engine.process(state, ctx, cmd).accepted());
+            }
+        }
+
+        /** 합법 행동 중 하나(없으면 적 턴 종료). 전투가 끝났으면 null. */
+        static GameCommand pick(GameState state, EngineContext ctx, Random rnd) {
+            CombatState cs = state.combat();
+            if (cs == null || cs.phase() == CombatPhase.END) return null;
+            List<LegalAction> actions = LegalActionGenerator.forAll(state, ctx);
+            if (!actions.isEmpty()) {
+                return actions.get(rnd.nextInt(actions.size())).toCommand(UUID.randomUUID(), state.version());
+            }
+            if (cs.phase() == CombatPhase.MAIN && cs.currentTurnActor() instanceof TargetRef.Enemy e) {
+                return new EnemyEndTurnCommand(UUID.randomUUID(), state.version(), e.id());
+            }
+            return null;
+        }
+    }
+}
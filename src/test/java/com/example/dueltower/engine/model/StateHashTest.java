@@ -0,0 +1,216 @@
+package com.example.dueltower.engine.model;
+
+import com.example.dueltower.content.card.model.OwnedCard;
+import com.example.dueltower.content.status.sdb.*;
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.EnemyEndTurnCommand;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.core.action.LegalAction;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateHashTest {
+
+    private static final List<String> DECK = List.of(
+            "C001", "C001", "C001", "C002", "C002", "C002",
+            "C003", "C003", "C003", "C004", "C004", "C004");
+
+    @Test
+    @DisplayName("증분 해시는 매 커맨드 뒤에 디코딩으로 새로 만든 상태/fork의 해시와 같다")
+    void incrementalMatchesRebuiltState() {
+        EngineContext ctx = TestContent.basicContent();
+        Random rnd = new Random(17);
+        int checked = 0;
+        for (int game = 0; game < 5; game++) {
+            GameState state = newState(rnd.nextLong());
+            GameEngine engine = new GameEngine();
+            assertTrue(engine.process(state, ctx, new StartCombatCommand(UUID.randomUUID(), 0, new PlayerId("P1"))).accepted());
+
+            for (int step = 0; step < 200; step++) {
+                GameCommand cmd = pick(state, ctx, rnd);
+                if (cmd == null) break;
+                EngineResult res = engine.process(state, ctx, cmd);
+                assertTrue(res.accepted(), "rejected: " + res.errors());
+
+                long h = state.stateHash();
+                assertEquals(h, res.stateHash());
+                assertEquals(h, GameStateCodec.decode(GameStateCodec.encode(state)).stateHash(), "step " + step);
+                assertEquals(h, state.fork().stateHash());
+                checked++;
+            }
+        }
+        assertTrue(checked > 200, "checked=" + checked);
+    }
+
+    @Test
+    @DisplayName("HP/AP, 상태 스택, 카드 존, 덱 순서, 턴 정보가 하나만 바뀌어도 해시가 달라지고 되돌리면 같아진다")
+    void detectsSingleFieldChanges() {
+        EngineContext ctx = TestContent.basicContent();
+        GameState state = newState(3L);
+        assertTrue(new GameEngine().process(state, ctx, new StartCombatCommand(UUID.randomUUID(), 0, new PlayerId("P1"))).accepted());
+        long base = state.stateHash();
+
+        PlayerState ps = state.player(new PlayerId("P1"));
+        EnemyState es = state.enemy(new EnemyId("E1"));
+        CardInstance ci = state.card(ps.hand().get(0));
+        CombatState cs = state.combat();
+
+        assertChangesAndRestores(state, base, () -> ps.hp(ps.hp() - 1), () -> ps.hp(ps.hp() + 1));
+        assertChangesAndRestores(state, base, () -> ps.ap(ps.ap() - 1), () -> ps.ap(ps.ap() + 1));
+        assertChangesAndRestores(state, base, () -> es.statusAdd(S101_Pain.ID, 2), () -> es.statusAdd(S101_Pain.ID, -2));
+        assertChangesAndRestores(state, base, () -> ci.counters().put("x", 1), () -> ci.counters().remove("x"));
+        assertChangesAndRestores(state, base, () -> ci.zone(Zone.GRAVE), () -> ci.zone(Zone.HAND));
+        assertChangesAndRestores(state, base, () -> ps.usedTenacityThisTurn(true), () -> ps.usedTenacityThisTurn(false));
+        assertChangesAndRestores(state, base,
+                () -> cs.factionStatusValues(CombatState.FactionId.PLAYERS).put(S001_Shield.ID, 3),
+                () -> cs.factionStatusValues(CombatState.FactionId.PLAYERS).entrySet().removeIf(e -> e.getKey().equals(S001_Shield.ID)));
+        assertChangesAndRestores(state, base, () -> cs.round(cs.round() + 1), () -> cs.round(cs.round() - 1));
+        assertChangesAndRestores(state, base,
+                () -> ps.pendingDecision(new PendingDecision.DiscardToHandLimit("test", 6)),
+                () -> ps.pendingDecision(null));
+
+        // 덱 맨 위 두 장 순서 바꾸기
+        assertChangesAndRestores(state, base, () -> swapTop(ps.deck()), () -> swapTop(ps.deck()));
+
+        // 보유 카드(순서/강화 여부)와 카드→소환수 맵
+        List<OwnedCard> owned = List.copyOf(ps.ownedCards());
+        assertChangesAndRestores(state, base,
+                () -> ps.ownedCards(List.of(new OwnedCard("C001", true, false, false))),
+                () -> ps.ownedCards(owned));
+        CardInstId source = ps.hand().get(0);
+        assertChangesAndRestores(state, base,
+                () -> ps.bindSummon(source, new SummonInstId(UUID.randomUUID())),
+                () -> ps.unbindSummon(source));
+    }
+
+    @Test
+    @DisplayName("존을 앞/뒤/가운데 어디로 고치든, 엔티티를 뺐다 다시 넣든 내용이 같으면 해시와 id 지문이 같다")
+    void hashDependsOnlyOnContent() {
+        EngineContext ctx = TestContent.basicContent();
+        GameState state = newState(4L);
+        assertTrue(new GameEngine().process(state, ctx, new StartCombatCommand(UUID.randomUUID(), 0, new PlayerId("P1"))).accepted());
+        long base = state.stateHash();
+        long ids = state.idFingerprint();
+        PlayerState ps = state.player(new PlayerId("P1"));
+
+        // 덱 가운데 카드를 맨 뒤로 옮겼다가, 덱을 맨 앞부터 거꾸로 다시 쌓는다
+        List<CardInstId> order = new ArrayList<>(ps.deck());
+        CardInstId mid = order.get(order.size() / 2);
+        ps.deck().remove(mid);
+        ps.deck().addLast(mid);
+        assertNotEquals(base, state.stateHash());
+        ps.deck().clear();
+        for (int i = order.size() - 1; i >= 0; i--) ps.deck().addFirst(order.get(i));
+        assertEquals(base, state.stateHash());
+
+        // 패 가운데 넣고 빼기
+        assertChangesAndRestores(state, base, () -> ps.hand().add(1, mid), () -> ps.hand().remove(1));
+
+        // 카드 인스턴스를 맵에서 빼 둔 동안 바뀐 것도 다시 넣으면 반영된다
+        CardInstId cid = ps.hand().get(0);
+        CardInstance ci = state.cardInstances().remove(cid);
+        assertNotEquals(base, state.stateHash());
+        assertNotEquals(ids, state.idFingerprint());
+        ci.counters().put("x", 1);
+        state.cardInstances().put(cid, ci);
+        assertEquals(ids, state.idFingerprint());
+        assertNotEquals(base, state.stateHash());
+        ci.counters().remove("x");
+        assertEquals(base, state.stateHash());
+
+        CombatState cs = state.combat();
+        state.combat(null);
+        assertNotEquals(base, state.stateHash());
+        state.combat(cs);
+        assertEquals(base, state.stateHash());
+        assertEquals(ids, state.fork().idFingerprint());
+    }
+
+    @Test
+    @DisplayName("같은 커맨드를 재적용한 상태는 매 단계 같은 해시를 내고, 어긋나면 그 커맨드에서 바로 드러난다")
+    void replayDivergenceIsDetectedImmediately() {
+        EngineContext ctx = TestContent.basicContent();
+        GameState primary = newState(9L);
+        GameEngine primaryEngine = new GameEngine();
+        assertTrue(primaryEngine.process(primary, ctx, new StartCombatCommand(UUID.randomUUID(), 0, new PlayerId("P1"))).accepted());
+
+        GameState replica = GameStateCodec.decode(GameStateCodec.encode(primary));
+        GameEngine replicaEngine = new GameEngine();
+        Random rnd = new Random(5);
+
+        for (int step = 0; step < 30; step++) {
+            GameCommand cmd = pick(primary, ctx, rnd);
+            if (cmd == null) break;
+            EngineResult a = primaryEngine.process(primary, ctx, cmd);
+            EngineResult b = replicaEngine.process(replica, ctx, cmd);
+            assertEquals(a.stateHash(), b.stateHash(), "step " + step);
+        }
+
+        // 복제본에만 엔진 밖 변경(HP 1 차이)이 생기면 버전은 같아도 해시가 다르다
+        replica.enemy(new EnemyId("E1")).hp(replica.enemy(new EnemyId("E1")).hp() - 1);
+        assertEquals(primary.version(), replica.version());
+        assertNotEquals(primary.stateHash(), replica.stateHash());
+    }
+
+    private static void assertChangesAndRestores(GameState state, long base, Runnable change, Runnable revert) {
+        change.run();
+        assertNotEquals(base, state.stateHash());
+        revert.run();
+        assertEquals(base, state.stateHash());
+    }
+
+    private static void swapTop(Deque<CardInstId> deck) {
+        CardInstId a = deck.pollFirst();
+        CardInstId b = deck.pollFirst();
+        deck.addFirst(a);
+        deck.addFirst(b);
+    }
+
+    private static GameCommand pick(GameState state, EngineContext ctx, Random rnd) {
+        CombatState cs = state.combat();
+        if (cs == null || cs.phase() == CombatPhase.END) return null;
+        List<LegalAction> actions = LegalActionGenerator.forAll(state, ctx);
+        if (!actions.isEmpty()) {
+            return actions.get(rnd.nextInt(actions.size())).toCommand(UUID.randomUUID(), state.version());
+        }
+        if (cs.phase() == CombatPhase.MAIN && cs.currentTurnActor() instanceof TargetRef.Enemy e) {
+            return new EnemyEndTurnCommand(UUID.randomUUID(), state.version(), e.id());
+        }
+        return null;
+    }
+
+    private static GameState newState(long seed) {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), seed);
+        for (int p = 1; p <= 2; p++) {
+            PlayerId pid = new PlayerId("P" + p);
+            PlayerState ps = new PlayerState(pid);
+            ps.body(3);
+            ps.will(6);
+            state.players().put(pid, ps);
+            for (String def : DECK) {
+                CardInstId id = Ids.newCardInstId();
+                state.cardInstances().put(id, new CardInstance(id, new CardDefId(def), pid, Zone.DECK));
+                ps.deck().addLast(id);
+            }
+            CardInstId ex = Ids.newCardInstId();
+            state.cardInstances().put(ex, new CardInstance(ex, new CardDefId("EX901"), pid, Zone.EX));
+            ps.exCard(ex);
+        }
+        for (int e = 1; e <= 2; e++) {
+            EnemyId eid = new EnemyId("E" + e);
+            state.enemies().put(eid, new EnemyState(eid, 80));
+        }
+        return state;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.dueltower.session.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final List<ClusterNode> THREE_NODES = List.of(
+            new ClusterNode("node-1", "http://n1:9009"),
+            new ClusterNode("node-2", "http://n2:9009"),
+            new ClusterNode("node-3", "http://n3:9009")
+    );
+
+    @Test
+    @DisplayName("같은 노드 구성이면 어느 인스턴스에서 만들어도 같은 소유 노드를 돌려준다")
+    void ownerIsDeterministicAcrossInstances() {
+        ConsistentHashRing a = new ConsistentHashRing(THREE_NODES, 128);
+        ConsistentHashRing b = new ConsistentHashRing(List.of(THREE_NODES.get(2), THREE_NODES.get(0), THREE_NODES.get(1)), 128);
+
+        for (String code : codes(500)) {
+            assertEquals(a.ownerOf(code), b.ownerOf(code));
+        }
+    }
+
+    @Test
+    @DisplayName("세션 코드가 노드들에 고르게 분산된다")
+    void distributesCodesAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE_NODES, 128);
+        Map<String, Integer> counts = new HashMap<>();
+        for (String code : codes(3000)) counts.merge(ring.ownerOf(code).id(), 1, Integer::sum);
+
+        assertEquals(3, counts.size());
+        for (int c : counts.values()) {
+            assertTrue(c > 600 && c < 1400, "unbalanced distribution: " + counts);
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 새 노드로 가는 코드만 이동한다")
+    void addingNodeOnlyMovesKeysToNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(THREE_NODES, 128);
+        List<ClusterNode> grown = new ArrayList<>(THREE_NODES);
+        ClusterNode added = new ClusterNode("node-4", "http://n4:9009");
+        grown.add(added);
+        ConsistentHashRing after = new ConsistentHashRing(grown, 128);
+
+        int moved = 0;
+        List<String> codes = codes(2000);
+        for (String code : codes) {
+            ClusterNode o1 = before.ownerOf(code);
+            ClusterNode o2 = after.ownerOf(code);
+            if (!o1.equals(o2)) {
+                moved++;
+                assertEquals(added, o2, "keys may only move to the new node");
+            }
+        }
+        assertTrue(moved > 0 && moved < codes.size() / 2, "moved=" + moved);
+    }
+
+    @Test
+    @DisplayName("정적 노드 목록 파싱: id=url 목록, 중복/형식 오류는 거부")
+    void parsesStaticNodeList() {
+        List<ClusterNode> nodes = StaticClusterMembership.parseNodes("node-1=http://a:9009/, node-2=http://b:9010");
+        assertEquals(List.of(new ClusterNode("node-1", "http://a:9009"), new ClusterNode("node-2", "http://b:9010")), nodes);
+
+        assertThrows(IllegalStateException.class, () -> StaticClusterMembership.parseNodes("node-1=http://a,node-1=http://b"));
+        assertThrows(IllegalStateException.class, () -> StaticClusterMembership.parseNodes("node-1"));
+        assertThrows(IllegalStateException.class, () -> new StaticClusterMembership(true, "node-9", "node-1=http://a"));
+    }
+
+    @Test
+    @DisplayName("세션 경로에서만 코드를 추출한다")
+    void extractsSessionCodeFromPath() {
+        assertEquals("ABCD2345", SessionForwardingFilter.sessionCodeOf("/api/sessions/ABCD2345"));
+        assertEquals("ABCD2345", SessionForwardingFilter.sessionCodeOf("/api/sessions/ABCD2345/command"));
+        assertNull(SessionForwardingFilter.sessionCodeOf("/api/sessions"));
+        assertNull(SessionForwardingFilter.sessionCodeOf("/api/sessions/"));
+        assertNull(SessionForwardingFilter.sessionCodeOf("/api/auth/me"));
+    }
+
+    private static List<String> codes(int n) {
+        Random rnd = new Random(1234);
+        char[] alphabet = "ABCDEFGHJKMNPQRSTUVWXYZ23456789".toCharArray();
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            StringBuilder sb = new StringBuilder(8);
+            for (int j = 0; j < 8; j++) sb.append(alphabet[rnd.nextInt(alphabet.length)]);
+            out.add(sb.toString());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.dueltower.session.loadtest;
+
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.core.GameEngine;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomCommandPickerTest {
+
+    @Test
+    @DisplayName("고른 커맨드는 엔진에서 모두 수락되고 턴/라운드가 진행된다")
+    void pickedCommandsAreAcceptedAndAdvanceTurns() {
+        EngineContext ctx = TestContent.fillerContext();
+        GameState state = state();
+        GameEngine engine = new GameEngine();
+        Random rnd = new Random(42);
+        Set<String> types = new HashSet<>();
+
+        for (int i = 0; i < 300; i++) {
+            PlannedCommand planned = RandomCommandPicker.pick(state, ctx, rnd).orElseThrow();
+            EngineResult res = engine.process(state, ctx, planned.command());
+            assertTrue(res.accepted(), planned.type() + " rejected: " + res.errors());
+            assertEquals(planned.command().commandId().toString(), planned.request().commandId());
+            types.add(planned.type());
+        }
+
+        assertTrue(types.contains("START_COMBAT"));
+        assertTrue(types.contains("PLAY_CARD"));
+        assertTrue(types.contains("END_TURN"));
+        assertTrue(types.contains("ENEMY_END_TURN"));
+        assertTrue(state.combat().round() > 1, "round=" + state.combat().round());
+    }
+
+    @Test
+    @DisplayName("플레이어 커맨드는 토큰용 playerId, 적 커맨드는 GM 커맨드로 표시한다")
+    void marksActorForAuthHeaders() {
+        EngineContext ctx = TestContent.fillerContext();
+        GameState state = state();
+        GameEngine engine = new GameEngine();
+        Random rnd = new Random(7);
+
+        PlannedCommand start = RandomCommandPicker.pick(state, ctx, rnd).orElseThrow();
+        assertEquals("START_COMBAT", start.type());
+        assertTrue(start.gm());
+        engine.process(state, ctx, start.command());
+
+        for (int i = 0; i < 50; i++) {
+            PlannedCommand c = RandomCommandPicker.pick(state, ctx, rnd).orElseThrow();
+            if (c.type().startsWith("ENEMY_")) assertTrue(c.gm());
+            else assertEquals(c.request().playerId(), c.playerId());
+            engine.process(state, ctx, c.command());
+        }
+    }
+
+    private static GameState state() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 3L);
+        for (String pid : List.of("P1", "P2")) {
+            PlayerState ps = new PlayerState(new PlayerId(pid));
+            state.players().put(ps.playerId(), ps);
+            TestContent.addFillerDeck(state, ps, 12);
+        }
+        state.enemies().put(new EnemyId("E1"), new EnemyState(new EnemyId("E1"), 1000));
+        return state;
+    }
+}
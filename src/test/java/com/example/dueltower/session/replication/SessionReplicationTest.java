@@ -0,0 +1,124 @@
+package com.example.dueltower.session.replication;
+
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.EngineResult;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionReplicationTest {
+
+    @Test
+    @DisplayName("attach 후 수락된 커맨드를 standby가 재적용해서 primary와 같은 상태가 된다")
+    void standbyReplaysAcceptedCommands() {
+        Fixture fx = new Fixture(50);
+
+        EngineResult res = fx.rt.withLock(() -> fx.rt.apply(
+                new StartCombatCommand(UUID.randomUUID(), fx.rt.state().version(), new PlayerId("P1"))));
+
+        assertTrue(res.accepted());
+        assertInstanceOf(ReplicationRecord.Snapshot.class, fx.sent.get(0));
+        assertInstanceOf(ReplicationRecord.CommandApplied.class, fx.sent.get(1));
+        assertFalse(fx.standby.stale());
+        assertArrayEquals(GameStateCodec.encode(fx.rt.state()), GameStateCodec.encode(fx.standby.shadow()));
+    }
+
+    @Test
+    @DisplayName("seq 공백이 생기면 stale이 되고 다음 스냅샷으로 복구된다")
+    void seqGapMarksStaleUntilNextSnapshot() {
+        Fixture fx = new Fixture(50);
+        fx.dropNext = true;
+        fx.rt.withLock(() -> fx.rt.apply(new StartCombatCommand(UUID.randomUUID(), fx.rt.state().version(), new PlayerId("P1"))));
+
+        fx.standby.receive(new ReplicationRecord.CommandApplied("ABCD2345", 3, fx.rt.state().version() + 1, 0L, null));
+        assertTrue(fx.standby.stale());
+        assertEquals(0, fx.standby.shadow().version(), "gap 이후 커맨드는 적용하지 않는다");
+
+        fx.rt.withLock(() -> {
+            fx.rt.issuePlayerToken("P1");
+            fx.rt.changedOutsideEngine();
+            return null;
+        });
+
+        assertFalse(fx.standby.stale());
+        assertArrayEquals(GameStateCodec.encode(fx.rt.state()), GameStateCodec.encode(fx.standby.shadow()));
+    }
+
+    @Test
+    @DisplayName("토큰 발급은 스냅샷 없이 토큰 레코드만 보내고, standby 토큰에 반영된다")
+    void tokensChangeSendsTokenRecordOnly() {
+        Fixture fx = new Fixture(50);
+        String token = fx.rt.withLock(() -> {
+            String t = fx.rt.issuePlayerToken("P1");
+            fx.rt.tokensChanged();
+            return t;
+        });
+
+        assertEquals(2, fx.sent.size());
+        assertInstanceOf(ReplicationRecord.TokensChanged.class, fx.sent.get(1));
+        assertFalse(fx.standby.stale());
+        assertEquals(1, fx.standby.lastSeq() - fx.sent.get(0).seq());
+        assertEquals("P1", fx.standby.promote().findPlayerIdByToken(token));
+    }
+
+    @Test
+    @DisplayName("promote: 그림자 상태와 GM/플레이어 토큰으로 새 SessionRuntime을 만든다")
+    void promoteRestoresStateAndTokens() {
+        Fixture fx = new Fixture(1);
+        String token = fx.rt.withLock(() -> {
+            String t = fx.rt.issuePlayerToken("P1");
+            fx.rt.tokensChanged();
+            return t;
+        });
+        fx.rt.withLock(() -> fx.rt.apply(new StartCombatCommand(UUID.randomUUID(), fx.rt.state().version(), new PlayerId("P1"))));
+
+        SessionRuntime promoted = fx.standby.promote();
+
+        assertEquals(fx.rt.code(), promoted.code());
+        assertEquals(fx.rt.gmToken(), promoted.gmToken());
+        assertEquals("P1", promoted.findPlayerIdByToken(token));
+        assertEquals(fx.rt.state().version(), promoted.state().version());
+        assertArrayEquals(GameStateCodec.encode(fx.rt.state()), GameStateCodec.encode(promoted.state()));
+    }
+
+    private static final class Fixture {
+        final List<ReplicationRecord> sent = new ArrayList<>();
+        final StandbySession standby;
+        final SessionRuntime rt;
+        boolean dropNext;
+
+        Fixture(int snapshotInterval) {
+            EngineContext ctx = TestContent.fillerContext();
+            standby = new StandbySession("ABCD2345", ctx);
+
+            GameState state = new GameState(new SessionId(UUID.randomUUID()), 11L);
+            PlayerState ps = new PlayerState(new PlayerId("P1"));
+            state.players().put(ps.playerId(), ps);
+            state.enemies().put(new EnemyId("E1"), new EnemyState(new EnemyId("E1"), 30));
+            TestContent.addFillerDeck(state, ps, 10);
+
+            rt = new SessionRuntime("ABCD2345", "gm", "gm-token", state, ctx);
+            SessionReplicator replicator = new SessionReplicator(record -> {
+                sent.add(record);
+                if (dropNext) {
+                    dropNext = false;
+                    return;
+                }
+                standby.receive(record);
+            }, true, snapshotInterval);
+            rt.withLock(() -> {
+                replicator.attach(rt);
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.dueltower.session.runtime;
+
+import com.example.dueltower.engine.TestContent;
+import com.example.dueltower.engine.codec.GameStateCodec;
+import com.example.dueltower.engine.command.EnemyEndTurnCommand;
+import com.example.dueltower.engine.command.GameCommand;
+import com.example.dueltower.engine.command.StartCombatCommand;
+import com.example.dueltower.engine.core.EngineContext;
+import com.example.dueltower.engine.core.action.LegalAction;
+import com.example.dueltower.engine.core.action.LegalActionGenerator;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHistoryTest {
+
+    @Test
+    @DisplayName("rollbackTo: 보관 범위 안 어느 버전으로든 그때와 같은 상태가 된다")
+    void rollbackRestoresEveryRetainedVersion() {
+        Map<Long, byte[]> seen = new HashMap<>();
+        Fixture fx = new Fixture(100, 4);
+        seen.put(0L, fx.beforeCombat);
+        fx.play(new Random(1), 30, seen);
+
+        long latest = fx.rt.state().version();
+        SessionHistory h = fx.rt.history();
+        assertTrue(h.keyframeCount() < latest, "keyframes=" + h.keyframeCount() + " versions=" + latest);
+
+        for (long v = latest; v >= h.oldestVersion(); v--) {
+            GameState restored = h.restore(v, fx.rt.ctx());
+            assertArrayEquals(seen.get(v), GameStateCodec.encode(restored), "version " + v);
+        }
+    }
+
+    @Test
+    @DisplayName("rollbackTo: 되돌린 뒤 취소된 커맨드 id는 dedupe에서 빠지고 이력은 되돌린 시점부터 다시 쌓인다")
+    void rollbackResetsDedupeAndHistory() {
+        Fixture fx = new Fixture(100, 4);
+        fx.play(new Random(2), 5, new HashMap<>());
+        long target = fx.rt.state().version();
+        byte[] atTarget = GameStateCodec.encode(fx.rt.state());
+        int dedupeAtTarget = fx.rt.processedCommandCount();
+
+        GameCommand undone = fx.next(new Random(3));
+        assertTrue(fx.rt.apply(undone).accepted());
+        fx.play(new Random(4), 6, new HashMap<>());
+
+        GameState restored = fx.rt.rollbackTo(target);
+
+        assertSame(restored, fx.rt.state());
+        assertArrayEquals(atTarget, GameStateCodec.encode(fx.rt.state()));
+        assertEquals(dedupeAtTarget, fx.rt.processedCommandCount());
+        assertEquals(target, fx.rt.history().latestVersion());
+
+        // 같은 commandId를 다시 보내도 duplicate로 막히지 않는다
+        assertTrue(fx.rt.apply(undone).accepted());
+        assertThrows(IllegalArgumentException.class, () -> fx.rt.rollbackTo(target + 5));
+    }
+
+    @Test
+    @DisplayName("이력은 maxVersions 이상만 남기고 오래된 키프레임/커맨드는 버린다")
+    void trimsOldVersions() {
+        Fixture fx = new Fixture(6, 3);
+        fx.play(new Random(5), 40, new HashMap<>());
+
+        SessionHistory h = fx.rt.history();
+        long latest = fx.rt.state().version();
+        assertTrue(h.oldestVersion() <= latest - 6, "oldest=" + h.oldestVersion());
+        assertTrue(h.oldestVersion() > 0, "old keyframes must be dropped");
+        assertTrue(h.stepCount() <= latest - h.oldestVersion());
+        assertThrows(IllegalArgumentException.class, () -> fx.rt.rollbackTo(0));
+        assertDoesNotThrow(() -> fx.rt.rollbackTo(latest - 6));
+    }
+
+    private static final class Fixture {
+        final SessionRuntime rt;
+        final byte[] beforeCombat;
+
+        Fixture(int maxVersions, int keyframeInterval) {
+            GameState state = new GameState(new SessionId(UUID.randomUUID()), 21L);
+            for (String p : List.of("P1", "P2")) {
+                PlayerState ps = new PlayerState(new PlayerId(p));
+                state.players().put(ps.playerId(), ps);
+                TestContent.addFillerDeck(state, ps, 12);
+            }
+            state.enemies().put(new EnemyId("E1"), new EnemyState(new EnemyId("E1"), 30));
+
+            beforeCombat = GameStateCodec.encode(state);
+            rt = new SessionRuntime("ABCD2345", "gm", "gm-token", state, TestContent.fillerContext());
+            rt.withLock(() -> {
+                rt.history(new SessionHistory(maxVersions, keyframeInterval));
+                return null;
+            });
+            assertTrue(rt.apply(new StartCombatCommand(UUID.randomUUID(), 0, new PlayerId("P1"))).accepted());
+        }
+
+        void play(Random rnd, int commands, Map<Long, byte[]> seen) {
+            seen.put(rt.state().version(), GameStateCodec.encode(rt.state()));
+            for (int i = 0; i < commands; i++) {
+                GameCommand cmd = next(rnd);
+                assertTrue(rt.apply(cmd).accepted());
+                seen.put(rt.state().version(), GameStateCodec.encode(rt.state()));
+            }
+        }
+
+        GameCommand next(Random rnd) {
+            GameState state = rt.state();
+            List<LegalAction> actions = LegalActionGenerator.forAll(state, rt.ctx());
+            if (!actions.isEmpty()) {
+                return actions.get(rnd.nextInt(actions.size())).toCommand(UUID.randomUUID(), state.version());
+            }
+            TargetRef actor = state.combat().currentTurnActor();
+            return new EnemyEndTurnCommand(UUID.randomUUID(), state.version(), ((TargetRef.Enemy) actor).id());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.dueltower.session.runtime;
+
+import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRuntimeLockTimingTest {
+
+    @Test
+    @DisplayName("재진입 락은 가장 바깥 락이 풀릴 때 한 번만 계측한다")
+    void reportsOnlyOutermostLock() throws Exception {
+        SessionRuntime rt = new SessionRuntime("ABCD2345", "gm", "token", new GameState(new SessionId(UUID.randomUUID()), 1L), null);
+        List<long[]> samples = new ArrayList<>();
+        rt.lockListener((wait, hold) -> samples.add(new long[]{wait, hold}));
+
+        rt.withLock(() -> rt.withLock(() -> {
+            sleep(5);
+            return null;
+        }));
+        rt.tryWithLock(0, TimeUnit.MILLISECONDS, () -> "x");
+
+        assertEquals(2, samples.size());
+        assertTrue(samples.get(0)[1] >= TimeUnit.MILLISECONDS.toNanos(5), "hold time should include nested work");
+        assertTrue(samples.get(0)[0] >= 0);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.dueltower.session.runtime;
+
+import com.example.dueltower.engine.core.preview.OutcomePreview;
+import com.example.dueltower.engine.event.GameEvent;
+import com.example.dueltower.engine.model.*;
+import com.example.dueltower.engine.model.Ids.*;
+import com.example.dueltower.session.dto.EventDto;
+import com.example.dueltower.session.dto.PlayerStateDto;
+import com.example.dueltower.session.dto.PreviewResponseDto;
+import com.example.dueltower.session.dto.SessionStateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateMapperTest {
+
+    @Test
+    @DisplayName("연속된 로그 줄과 같은 경로의 카드 이동은 하나로 합치고, 다른 이벤트를 사이에 두면 합치지 않는다")
+    void compactsAdjacentEvents() {
+        List<EventDto> out = StateMapper.toEventDtos(List.of(
+                new GameEvent.CardsMoved("P1", "DECK", "HAND", 1),
+                new GameEvent.CardsMoved("P1", "DECK", "HAND", 2),
+                new GameEvent.CardsMoved("P1", "HAND", "GRAVE", 1),
+                new GameEvent.LogAppended("a"),
+                new GameEvent.LogAppended("b"),
+                new GameEvent.LogAppended("c"),
+                new GameEvent.DeckShuffled("P1"),
+                new GameEvent.CardsMoved("P1", "DECK", "HAND", 1),
+                new GameEvent.LogAppended("d")
+        ));
+
+        assertEquals(List.of(
+                new EventDto("CARDS_MOVED", Map.of("playerId", "P1", "from", "DECK", "to", "HAND", "count", 3)),
+                new EventDto("CARDS_MOVED", Map.of("playerId", "P1", "from", "HAND", "to", "GRAVE", "count", 1)),
+                new EventDto("LOG_APPENDED", Map.of("line", "a\nb\nc", "lines", 3)),
+                new EventDto("DECK_SHUFFLED", Map.of("playerId", "P1")),
+                new EventDto("CARDS_MOVED", Map.of("playerId", "P1", "from", "DECK", "to", "HAND", "count", 1)),
+                new EventDto("LOG_APPENDED", Map.of("line", "d"))
+        ), out);
+    }
+
+    @Test
+    @DisplayName("다른 플레이어의 카드 이동은 이어져 있어도 합치지 않는다")
+    void keepsMovesOfDifferentPlayers() {
+        List<EventDto> out = StateMapper.toEventDtos(List.of(
+                new GameEvent.CardsMoved("P1", "DECK", "HAND", 1),
+                new GameEvent.CardsMoved("P2", "DECK", "HAND", 1)
+        ));
+
+        assertEquals(2, out.size());
+        assertEquals("P2", out.get(1).payload().get("playerId"));
+        assertTrue(StateMapper.toEventDtos(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("투영: GM은 전부, 플레이어는 자기 손패와 탐색 후보만, 관전은 덱/손패 장수만 본다")
+    void projectsPerViewer() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        PlayerState p1 = new PlayerState(new PlayerId("P1"));
+        PlayerState p2 = new PlayerState(new PlayerId("P2"));
+        state.players().put(p1.playerId(), p1);
+        state.players().put(p2.playerId(), p2);
+        CardInstId p1Deck = card(state, p1, Zone.DECK);
+        CardInstId p1Candidate = card(state, p1, Zone.DECK);
+        CardInstId p1Hand = card(state, p1, Zone.HAND);
+        CardInstId p2Hand = card(state, p2, Zone.HAND);
+        CardInstId p2Grave = card(state, p2, Zone.GRAVE);
+        p1.pendingDecision(new PendingDecision.SearchPick("search", List.of(p1Candidate), 1, Zone.HAND, false, UUID.randomUUID()));
+
+        SessionStateDto gm = StateMapper.toDto("CODE", state, Viewer.GM);
+        assertEquals(StateMapper.toDto("CODE", state), gm);
+        assertEquals(List.of(id(p1Deck), id(p1Candidate)), gm.players().get("P1").deck());
+        assertEquals(5, gm.cards().size());
+        assertEquals(1L, gm.seed());
+
+        SessionStateDto self = StateMapper.toDto("CODE", state, Viewer.player("P1"));
+        PlayerStateDto me = self.players().get("P1");
+        PlayerStateDto mate = self.players().get("P2");
+        assertNull(self.seed());
+        assertEquals(List.of(), me.deck());
+        assertEquals(2, me.deckCount());
+        assertEquals(List.of("C001", "C001"), me.deckDefIds());
+        assertEquals(List.of(), mate.deckDefIds());
+        assertEquals(List.of(id(p1Hand)), me.hand());
+        assertEquals(List.of(id(p1Candidate)), me.pendingDecision().candidateIds());
+        assertEquals(List.of(), mate.hand());
+        assertEquals(1, mate.handCount());
+        assertEquals(List.of(id(p2Grave)), mate.grave());
+        assertEquals(Set.of(id(p1Candidate), id(p1Hand), id(p2Grave)), self.cards().keySet());
+
+        SessionStateDto mateView = StateMapper.toDto("CODE", state, Viewer.player("P2"));
+        assertNull(mateView.players().get("P1").pendingDecision().candidateIds());
+        assertEquals(Set.of(id(p2Hand), id(p2Grave)), mateView.cards().keySet());
+
+        SessionStateDto spectator = StateMapper.toDto("CODE", state, Viewer.SPECTATOR);
+        assertEquals(List.of(), spectator.players().get("P2").hand());
+        assertEquals(Set.of(id(p2Grave)), spectator.cards().keySet());
+    }
+
+    @Test
+    @DisplayName("미리보기 존 이동: 덱에서 나오거나 남의 손패에서 나오는 카드는 id/defId를 숨긴다")
+    void filtersPreviewZonesPerViewer() {
+        OutcomePreview preview = new OutcomePreview(true, List.of(), List.of(), 3L, List.of(), List.of(), List.of(
+                new OutcomePreview.ZoneChange("a", "C001", "P1", "DECK", "HAND"),
+                new OutcomePreview.ZoneChange("b", "C002", "P1", "HAND", "GRAVE"),
+                new OutcomePreview.ZoneChange("c", "C003", "P2", "HAND", "GRAVE"),
+                new OutcomePreview.ZoneChange("d", "C004", "P2", "GRAVE", "HAND")
+        ));
+
+        List<PreviewResponseDto.ZoneChangeDto> self = StateMapper.toPreviewDto(preview, Viewer.player("P1")).zones();
+        assertEquals(new PreviewResponseDto.ZoneChangeDto(null, null, "P1", "DECK", "HAND"), self.get(0));
+        assertEquals("C002", self.get(1).defId());
+        assertNull(self.get(2).cardId());
+        assertEquals("C004", self.get(3).defId());
+
+        List<PreviewResponseDto.ZoneChangeDto> gm = StateMapper.toPreviewDto(preview, Viewer.GM).zones();
+        assertEquals("a", gm.get(0).cardId());
+        assertEquals("C003", gm.get(2).defId());
+    }
+
+    @Test
+    @DisplayName("투영 캐시: 같은 버전이면 역할마다 한 번만 만들고, 버전이 바뀌거나 엔진 밖에서 바뀌면 다시 만든다")
+    void cachesProjectionPerVersionAndRole() {
+        GameState state = new GameState(new SessionId(UUID.randomUUID()), 1L);
+        SessionRuntime rt = new SessionRuntime("CODE", "gm", "token", state, null);
+        int[] built = {0};
+        Function<Viewer, SessionStateDto> project = v -> rt.projection(v, () -> {
+            built[0]++;
+            return StateMapper.toDto(rt.code(), rt.state(), v);
+        });
+
+        assertThrows(IllegalStateException.class, () -> project.apply(Viewer.GM));
+        rt.withLock(() -> {
+            SessionStateDto first = project.apply(Viewer.GM);
+            assertSame(first, project.apply(Viewer.GM));
+            project.apply(Viewer.player("P1"));
+            project.apply(Viewer.player("P1"));
+            project.apply(Viewer.SPECTATOR);
+            assertEquals(3, built[0]);
+
+            state.bumpVersion();
+            assertNotSame(first, project.apply(Viewer.GM));
+            assertEquals(4, built[0]);
+
+            rt.changedOutsideEngine();
+            project.apply(Viewer.GM);
+            assertEquals(5, built[0]);
+            return null;
+        });
+    }
+
+    private static CardInstId card(GameState state, PlayerState owner, Zone zone) {
+        CardInstId id = Ids.newCardInstId();
+        state.cardInstances().put(id, new CardInstance(id, new CardDefId("C001"), owner.playerId(), zone));
+        switch (zone) {
+            case DECK -> owner.deck().add(id);
+            case HAND -> owner.hand().add(id);
+            case GRAVE -> owner.grave().add(id);
+            default -> throw new IllegalArgumentException(zone.name());
+        }
+        return id;
+    }
+
+    private static String id(CardInstId id) {
+        return id.value().toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.dueltower.session.service;
+
+import com.example.dueltower.engine.model.GameState;
+import com.example.dueltower.engine.model.Ids.SessionId;
+import com.example.dueltower.session.runtime.SessionRuntime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandAdmissionTest {
+
+    @Test
+    @DisplayName("락이 비어 있으면 바로 실행하고 pending 카운트를 되돌린다")
+    void runsImmediatelyWhenLockIsFree() {
+        CommandAdmission admission = new CommandAdmission(1, 0, Duration.ofMillis(50), Duration.ofSeconds(1));
+        SessionRuntime rt = runtime();
+
+        assertEquals("ok", admission.admit(rt, () -> "ok"));
+        assertEquals(0, rt.pendingCommands().get());
+    }
+
+    @Test
+    @DisplayName("세션별 pending 한도를 넘으면 기다리지 않고 429 + Retry-After")
+    void rejectsWhenSessionPendingLimitExceeded() throws Exception {
+        CommandAdmission admission = new CommandAdmission(1, 8, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        SessionRuntime rt = runtime();
+
+        try (Holder holder = Holder.hold(admission, rt)) {
+            long start = System.nanoTime();
+            SessionBusyException ex = assertThrows(SessionBusyException.class, () -> admission.admit(rt, () -> "never"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000, "must fail fast");
+            assertEquals(3, ex.retryAfterSeconds());
+        }
+        assertEquals(0, rt.pendingCommands().get());
+    }
+
+    @Test
+    @DisplayName("노드 전체 blocked 스레드 한도가 0이면 락 대기 없이 429")
+    void rejectsWhenGlobalBlockedThreadCapReached() throws Exception {
+        CommandAdmission admission = new CommandAdmission(8, 0, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        SessionRuntime rt = runtime();
+
+        try (Holder holder = Holder.hold(admission, rt)) {
+            assertThrows(SessionBusyException.class, () -> admission.admit(rt, () -> "never"));
+        }
+        assertEquals(0, admission.blockedThreadsAvailable());
+    }
+
+    @Test
+    @DisplayName("락 대기 시간이 넘으면 429, blocked 슬롯은 반납된다")
+    void rejectsAfterLockWaitTimeout() throws Exception {
+        CommandAdmission admission = new CommandAdmission(8, 2, Duration.ofMillis(50), Duration.ofSeconds(1));
+        SessionRuntime rt = runtime();
+
+        try (Holder holder = Holder.hold(admission, rt)) {
+            assertThrows(SessionBusyException.class, () -> admission.admit(rt, () -> "never"));
+        }
+        assertEquals(2, admission.blockedThreadsAvailable());
+        assertEquals("after", admission.admit(rt, () -> "after"));
+    }
+
+    private static SessionRuntime runtime() {
+        return new SessionRuntime("ABCD2345", "gm", "token", new GameState(new SessionId(UUID.randomUUID()), 1L), null);
+    }
+
+    /** 다른 스레드에서 세션 락을 잡고 있는다. */
+    private static final class Holder implements AutoCloseable {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Thread thread;
+
+        private Holder(Thread thread) { this.thread = thread; }
+
+        static Holder hold(CommandAdmission admission, SessionRuntime rt) throws InterruptedException {
+            CountDownLatch locked = new CountDownLatch(1);
+            Holder[] self = new Holder[1];
+            Thread t = new Thread(() -> admission.admit(rt, () -> {
+                locked.countDown();
+                try {
+                    self[0].release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "held";
+            }));
+            self[0] = new Holder(t);
+            t.start();
+            locked.await();
+            return self[0];
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            release.countDown();
+            thread.join();
+        }
+    }
+}